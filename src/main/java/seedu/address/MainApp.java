@@ -1,6 +1,9 @@
 package seedu.address;
 
+import java.io.File;
 import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -14,9 +17,11 @@ import seedu.address.commons.core.Config;
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
+import seedu.address.commons.events.model.MoviePlannerChangedEvent;
 import seedu.address.commons.events.ui.ExitAppRequestEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.SecurityUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.email.Email;
 import seedu.address.email.EmailManager;
@@ -28,12 +33,17 @@ import seedu.address.model.MoviePlanner;
 import seedu.address.model.ReadOnlyMoviePlanner;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.BinaryMoviePlannerStorage;
+import seedu.address.storage.EncryptedMoviePlannerStorage;
+import seedu.address.storage.JournalMoviePlannerStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
-import seedu.address.storage.MoviePlannerStorage;
+import seedu.address.storage.MappedScreeningArchive;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.XmlAdaptedTheater;
 import seedu.address.storage.XmlMoviePlannerStorage;
+import seedu.address.storage.XmlStreamMoviePlannerStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -53,6 +63,8 @@ public class MainApp extends Application {
     protected Config config;
     protected UserPrefs userPrefs;
     protected Email email;
+    /** The screening archive attached to the data, if past screenings are archived. */
+    protected MappedScreeningArchive screeningArchive;
 
 
     @Override
@@ -64,23 +76,90 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        MoviePlannerStorage moviePlannerStorage = new XmlMoviePlannerStorage(userPrefs.getMoviePlannerFilePath(),
-                userPrefs.getEncryptedMoviePlannerFilePath());
-        storage = new StorageManager(moviePlannerStorage, userPrefsStorage);
+        EncryptedMoviePlannerStorage moviePlannerStorage = initMoviePlannerStorage(config, userPrefs);
+        // journaled edits are saved as they are made, as they cannot be coalesced
+        long saveDebounceMillis = config.isJournalEnabled() ? 0 : config.getSaveDebounceMillis();
+        storage = new StorageManager(moviePlannerStorage, userPrefsStorage, saveDebounceMillis);
 
         initLogging(config);
+        SecurityUtil.init(config);
+        XmlAdaptedTheater.setLazyLoadingEnabled(config.isLazyScreeningLoadingEnabled());
 
         email = new EmailManager();
 
-        model = initModelManager(storage, userPrefs, email);
+        model = initModelManager(storage, userPrefs, email, moviePlannerStorage.isEncrypted());
 
-        logic = new LogicManager(model);
+        logic = new LogicManager(model, getMaxUndoDepth(config));
 
         ui = new UiManager(logic, config, userPrefs);
 
         initEventsCenter();
     }
 
+    /**
+     * Returns the maximum undo depth in {@code config}, or the default if it is not positive.
+     */
+    private int getMaxUndoDepth(Config config) {
+        if (config.getMaxUndoDepth() < 1) {
+            logger.warning("Invalid maximum undo depth " + config.getMaxUndoDepth() + ", using the default instead");
+            return Config.DEFAULT_MAX_UNDO_DEPTH;
+        }
+        return config.getMaxUndoDepth();
+    }
+
+    /**
+     * Returns the number of backups of the data file to keep in {@code config}, or the default if it is negative.
+     */
+    private int getBackupCount(Config config) {
+        if (config.getBackupCount() < 0) {
+            logger.warning("Invalid backup count " + config.getBackupCount() + ", using the default instead");
+            return Config.DEFAULT_BACKUP_COUNT;
+        }
+        return config.getBackupCount();
+    }
+
+    /**
+     * Returns a {@code MoviePlannerStorage} for the data file in {@code userPrefs}, which journals edits to it
+     * if journaling is enabled in {@code config}, or keeps it as a binary snapshot if binary storage is enabled,
+     * and which saves only encrypted data once it has been encrypted.
+     */
+    private EncryptedMoviePlannerStorage initMoviePlannerStorage(Config config, UserPrefs userPrefs) {
+        int backupCount = getBackupCount(config);
+        XmlMoviePlannerStorage moviePlannerStorage;
+        if (config.isJournalEnabled()) {
+            moviePlannerStorage = new JournalMoviePlannerStorage(userPrefs.getMoviePlannerFilePath(),
+                    userPrefs.getEncryptedMoviePlannerFilePath(), config.getFsyncPolicy(), backupCount,
+                    config.getJournalCompactionThreshold());
+        } else if (config.isBinaryStorageEnabled()) {
+            moviePlannerStorage = initBinaryMoviePlannerStorage(config, userPrefs, backupCount);
+        } else {
+            moviePlannerStorage = new XmlStreamMoviePlannerStorage(userPrefs.getMoviePlannerFilePath(),
+                    userPrefs.getEncryptedMoviePlannerFilePath(), config.getFsyncPolicy(), backupCount);
+        }
+        return new EncryptedMoviePlannerStorage(moviePlannerStorage,
+                MappedScreeningArchive.getArchiveFilePath(userPrefs.getMoviePlannerFilePath()));
+    }
+
+    /**
+     * Returns a {@code BinaryMoviePlannerStorage} for a snapshot of the data file in {@code userPrefs}.
+     * If there is no snapshot yet, it is imported from the data file.
+     */
+    private BinaryMoviePlannerStorage initBinaryMoviePlannerStorage(Config config, UserPrefs userPrefs,
+                                                                    int backupCount) {
+        String xmlFilePath = userPrefs.getMoviePlannerFilePath();
+        BinaryMoviePlannerStorage moviePlannerStorage = new BinaryMoviePlannerStorage(
+                BinaryMoviePlannerStorage.toSnapshotFilePath(xmlFilePath), userPrefs.getEncryptedMoviePlannerFilePath(),
+                config.getFsyncPolicy(), backupCount, config.isBinaryStorageCompressed());
+        if (!new File(moviePlannerStorage.getMoviePlannerFilePath()).exists() && new File(xmlFilePath).exists()) {
+            try {
+                moviePlannerStorage.importFromXml(xmlFilePath);
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Could not import " + xmlFilePath + " into a snapshot: " + e.getMessage());
+            }
+        }
+        return moviePlannerStorage;
+    }
+
     private String getApplicationParameter(String parameterName) {
         Map<String, String> applicationParameters = getParameters().getNamed();
         return applicationParameters.get(parameterName);
@@ -90,8 +169,9 @@ public class MainApp extends Application {
      * Returns a {@code ModelManager} with the data from {@code storage}'s movie planner and {@code userPrefs}. <br>
      * The data from the sample movie planner will be used instead if {@code storage}'s movie planner is not found,
      * or an empty movie planner will be used instead if errors occur when reading {@code storage}'s movie planner.
+     * Past screenings are not archived while the data is encrypted, as the archive is not encrypted.
      */
-    private Model initModelManager(Storage storage, UserPrefs userPrefs, Email email) {
+    private Model initModelManager(Storage storage, UserPrefs userPrefs, Email email, boolean isDataEncrypted) {
         Optional<ReadOnlyMoviePlanner> moviePlannerOptional;
         ReadOnlyMoviePlanner initialData;
         try {
@@ -104,13 +184,39 @@ public class MainApp extends Application {
             logger.warning("Data file not in the correct format. Will be starting with an empty MoviePlanner");
             initialData = new MoviePlanner();
         } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty MoviePlanner");
+            logger.warning("Problem while reading from the file: " + e.getMessage()
+                    + ". Will be starting with an empty MoviePlanner");
             initialData = new MoviePlanner();
         }
 
+        if (config.getScreeningArchiveAgeDays() > 0 && !isDataEncrypted) {
+            archivePastScreenings(storage, initialData, userPrefs);
+        }
+
         return new ModelManager(initialData, userPrefs, email);
     }
 
+    /**
+     * Moves the screenings in {@code moviePlanner} which are older than the screening archive age in the config
+     * into the screening archive of the data file in {@code userPrefs}, from which they are read as they are needed.
+     */
+    private void archivePastScreenings(Storage storage, ReadOnlyMoviePlanner moviePlanner, UserPrefs userPrefs) {
+        File archiveFile = new File(MappedScreeningArchive.getArchiveFilePath(userPrefs.getMoviePlannerFilePath()));
+        LocalDateTime cutoff = LocalDate.now().minusDays(config.getScreeningArchiveAgeDays()).atStartOfDay();
+        try {
+            Optional<MappedScreeningArchive> archive = MappedScreeningArchive.archiveScreenings(archiveFile,
+                    moviePlanner, cutoff, config.getFsyncPolicy());
+            if (archive.isPresent() && archive.get().attachTo(moviePlanner)) {
+                screeningArchive = archive.get();
+                storage.saveMoviePlanner(moviePlanner);
+            }
+        } catch (DataConversionException e) {
+            logger.warning("Screening archive not in the correct format. Past screenings will not be archived");
+        } catch (IOException e) {
+            logger.warning("Problem while archiving past screenings: " + e.getMessage());
+        }
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -169,7 +275,8 @@ public class MainApp extends Application {
                     + "Using default user prefs");
             initializedPrefs = new UserPrefs();
         } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty MoviePlanner");
+            logger.warning("Problem while reading from the file: " + e.getMessage()
+                    + ". Will be starting with an empty MoviePlanner");
             initializedPrefs = new UserPrefs();
         }
 
@@ -197,15 +304,32 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping Movie Planner ] =============================");
         ui.stop();
+        storage.stop();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        SecurityUtil.clearKeyCache();
         Platform.exit();
         System.exit(0);
     }
 
+    /**
+     * Keeps the names of the cinemas in the screening archive in step with the renamed and deleted cinemas.
+     */
+    @Subscribe
+    public void handleMoviePlannerChangedEvent(MoviePlannerChangedEvent event) {
+        if (screeningArchive == null) {
+            return;
+        }
+        try {
+            screeningArchive.updateCinemaNames(event.data, config.getFsyncPolicy());
+        } catch (IOException e) {
+            logger.warning("Problem while updating the cinemas in the screening archive: " + e.getMessage());
+        }
+    }
+
     @Subscribe
     public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
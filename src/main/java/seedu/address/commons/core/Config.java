@@ -3,17 +3,38 @@ package seedu.address.commons.core;
 import java.util.Objects;
 import java.util.logging.Level;
 
+import seedu.address.commons.util.FileUtil.SyncPolicy;
+
 /**
  * Config values used by the app
  */
 public class Config {
 
     public static final String DEFAULT_CONFIG_FILE = "config.json";
+    public static final int DEFAULT_MAX_UNDO_DEPTH = 100;
+    public static final long DEFAULT_SAVE_DEBOUNCE_MILLIS = 500;
+    public static final int DEFAULT_JOURNAL_COMPACTION_THRESHOLD = 1000;
+    public static final SyncPolicy DEFAULT_FSYNC_POLICY = SyncPolicy.FILE;
+    public static final int DEFAULT_BACKUP_COUNT = 3;
+    public static final int DEFAULT_KEY_DERIVATION_ITERATIONS = 65536;
+    public static final int DEFAULT_ENCRYPTION_KEY_SIZE = 128;
 
     // Config values customizable through config file
     private String appTitle = "MoVie Planner";
     private Level logLevel = Level.INFO;
     private String userPrefsFilePath = "preferences.json";
+    private int maxUndoDepth = DEFAULT_MAX_UNDO_DEPTH;
+    private long saveDebounceMillis = DEFAULT_SAVE_DEBOUNCE_MILLIS;
+    private boolean journalEnabled = false;
+    private int journalCompactionThreshold = DEFAULT_JOURNAL_COMPACTION_THRESHOLD;
+    private SyncPolicy fsyncPolicy = DEFAULT_FSYNC_POLICY;
+    private int backupCount = DEFAULT_BACKUP_COUNT;
+    private int keyDerivationIterations = DEFAULT_KEY_DERIVATION_ITERATIONS;
+    private int encryptionKeySize = DEFAULT_ENCRYPTION_KEY_SIZE;
+    private boolean binaryStorageEnabled = false;
+    private boolean binaryStorageCompressed = true;
+    private int screeningArchiveAgeDays = 0;
+    private boolean lazyScreeningLoadingEnabled = false;
 
     public String getAppTitle() {
         return appTitle;
@@ -39,6 +60,106 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public int getMaxUndoDepth() {
+        return maxUndoDepth;
+    }
+
+    public void setMaxUndoDepth(int maxUndoDepth) {
+        this.maxUndoDepth = maxUndoDepth;
+    }
+
+    public long getSaveDebounceMillis() {
+        return saveDebounceMillis;
+    }
+
+    public void setSaveDebounceMillis(long saveDebounceMillis) {
+        this.saveDebounceMillis = saveDebounceMillis;
+    }
+
+    public boolean isJournalEnabled() {
+        return journalEnabled;
+    }
+
+    public void setJournalEnabled(boolean journalEnabled) {
+        this.journalEnabled = journalEnabled;
+    }
+
+    public int getJournalCompactionThreshold() {
+        return journalCompactionThreshold;
+    }
+
+    public void setJournalCompactionThreshold(int journalCompactionThreshold) {
+        this.journalCompactionThreshold = journalCompactionThreshold;
+    }
+
+    public SyncPolicy getFsyncPolicy() {
+        return fsyncPolicy;
+    }
+
+    public void setFsyncPolicy(SyncPolicy fsyncPolicy) {
+        this.fsyncPolicy = fsyncPolicy;
+    }
+
+    public int getBackupCount() {
+        return backupCount;
+    }
+
+    public void setBackupCount(int backupCount) {
+        this.backupCount = backupCount;
+    }
+
+    public int getKeyDerivationIterations() {
+        return keyDerivationIterations;
+    }
+
+    public void setKeyDerivationIterations(int keyDerivationIterations) {
+        this.keyDerivationIterations = keyDerivationIterations;
+    }
+
+    public int getEncryptionKeySize() {
+        return encryptionKeySize;
+    }
+
+    public void setEncryptionKeySize(int encryptionKeySize) {
+        this.encryptionKeySize = encryptionKeySize;
+    }
+
+    public boolean isBinaryStorageEnabled() {
+        return binaryStorageEnabled;
+    }
+
+    public void setBinaryStorageEnabled(boolean binaryStorageEnabled) {
+        this.binaryStorageEnabled = binaryStorageEnabled;
+    }
+
+    public boolean isBinaryStorageCompressed() {
+        return binaryStorageCompressed;
+    }
+
+    public void setBinaryStorageCompressed(boolean binaryStorageCompressed) {
+        this.binaryStorageCompressed = binaryStorageCompressed;
+    }
+
+    /**
+     * Returns the number of days after which screenings are moved into the screening archive,
+     * or 0 if screenings are never archived.
+     */
+    public int getScreeningArchiveAgeDays() {
+        return screeningArchiveAgeDays;
+    }
+
+    public void setScreeningArchiveAgeDays(int screeningArchiveAgeDays) {
+        this.screeningArchiveAgeDays = screeningArchiveAgeDays;
+    }
+
+    public boolean isLazyScreeningLoadingEnabled() {
+        return lazyScreeningLoadingEnabled;
+    }
+
+    public void setLazyScreeningLoadingEnabled(boolean lazyScreeningLoadingEnabled) {
+        this.lazyScreeningLoadingEnabled = lazyScreeningLoadingEnabled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -52,12 +173,26 @@ public class Config {
 
         return Objects.equals(appTitle, o.appTitle)
                 && Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && maxUndoDepth == o.maxUndoDepth
+                && saveDebounceMillis == o.saveDebounceMillis
+                && journalEnabled == o.journalEnabled
+                && journalCompactionThreshold == o.journalCompactionThreshold
+                && fsyncPolicy == o.fsyncPolicy
+                && backupCount == o.backupCount
+                && keyDerivationIterations == o.keyDerivationIterations
+                && encryptionKeySize == o.encryptionKeySize
+                && binaryStorageEnabled == o.binaryStorageEnabled
+                && binaryStorageCompressed == o.binaryStorageCompressed
+                && screeningArchiveAgeDays == o.screeningArchiveAgeDays
+                && lazyScreeningLoadingEnabled == o.lazyScreeningLoadingEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath);
+        return Objects.hash(appTitle, logLevel, userPrefsFilePath, maxUndoDepth, saveDebounceMillis, journalEnabled,
+                journalCompactionThreshold, fsyncPolicy, backupCount, keyDerivationIterations, encryptionKeySize,
+                binaryStorageEnabled, binaryStorageCompressed, screeningArchiveAgeDays, lazyScreeningLoadingEnabled);
     }
 
     @Override
@@ -66,6 +201,18 @@ public class Config {
         sb.append("App title : " + appTitle);
         sb.append("\nCurrent log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nMaximum undo depth : " + maxUndoDepth);
+        sb.append("\nSave debounce interval (ms) : " + saveDebounceMillis);
+        sb.append("\nJournal enabled : " + journalEnabled);
+        sb.append("\nJournal compaction threshold : " + journalCompactionThreshold);
+        sb.append("\nFsync policy : " + fsyncPolicy);
+        sb.append("\nBackup count : " + backupCount);
+        sb.append("\nKey derivation iterations : " + keyDerivationIterations);
+        sb.append("\nEncryption key size : " + encryptionKeySize);
+        sb.append("\nBinary storage enabled : " + binaryStorageEnabled);
+        sb.append("\nBinary storage compressed : " + binaryStorageCompressed);
+        sb.append("\nScreening archive age (days) : " + screeningArchiveAgeDays);
+        sb.append("\nLazy screening loading enabled : " + lazyScreeningLoadingEnabled);
         return sb.toString();
     }
 
@@ -11,9 +11,13 @@ public class Messages {
     public static final String MESSAGE_INVALID_MOVIE_DISPLAYED_INDEX = "The movie index provided is invalid";
     public static final String MESSAGE_CINEMAS_LISTED_OVERVIEW = "%1$d cinemas listed!";
     public static final String MESSAGE_MOVIES_LISTED_OVERVIEW = "%1$d movies listed!";
+    public static final String MESSAGE_CINEMAS_PREVIEW = "%1$d cinemas match";
+    public static final String MESSAGE_MOVIES_PREVIEW = "%1$d movies match";
     public static final String MESSAGE_INVALID_THEATER_NUMBER = "The theater number provided is invalid";
     public static final String MESSAGE_INVALID_SCREEN_DATE_TIME = "Please provide a valid date and time"
             + " in the form DD/MM/YYYY HH/mm. With the minutes being in 5 minutes interval. E.g. 05/05/2015 23:05";
+    public static final String MESSAGE_INVALID_DATE = "Please provide a valid date in the form DD/MM/YYYY."
+            + " E.g. 05/05/2015";
     public static final String MESSAGE_INVALID_YEAR = "Please provide a valid year. The year provided should be between"
             + " 2000 and 2030, inclusive of year 2000 and 2030.";
     public static final String MESSAGE_INVALID_SCREENING = "Please ensure that there is no conflict of screening"
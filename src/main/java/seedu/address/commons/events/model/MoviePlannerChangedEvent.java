@@ -1,15 +1,25 @@
 package seedu.address.commons.events.model;
 
+import java.util.List;
+
 import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.MoviePlannerEdit;
 import seedu.address.model.ReadOnlyMoviePlanner;
 
 /** Indicates the MoviePlanner in the model has changed*/
 public class MoviePlannerChangedEvent extends BaseEvent {
 
     public final ReadOnlyMoviePlanner data;
+    /** The edits made to {@code data} since the previous event, or null if they are not known. */
+    public final List<MoviePlannerEdit> edits;
 
     public MoviePlannerChangedEvent(ReadOnlyMoviePlanner data) {
+        this(data, null);
+    }
+
+    public MoviePlannerChangedEvent(ReadOnlyMoviePlanner data, List<MoviePlannerEdit> edits) {
         this.data = data;
+        this.edits = edits;
     }
 
     @Override
@@ -1,14 +1,20 @@
 package seedu.address.commons.events.storage;
 
 import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.ReadOnlyMoviePlanner;
 //@@author tinyjy94
 /**
  * Indicates a request for encryption
  */
 public class EncryptionRequestEvent extends BaseEvent {
+    private final ReadOnlyMoviePlanner moviePlanner;
     private final String password;
 
-    public EncryptionRequestEvent(String password) {
+    /**
+     * Requests {@code moviePlanner}, the MoviePlanner in memory, to be encrypted with {@code password}.
+     */
+    public EncryptionRequestEvent(ReadOnlyMoviePlanner moviePlanner, String password) {
+        this.moviePlanner = moviePlanner;
         this.password = password;
     }
 
@@ -17,6 +23,10 @@ public class EncryptionRequestEvent extends BaseEvent {
         return password;
     }
 
+    public ReadOnlyMoviePlanner getMoviePlanner() {
+        return moviePlanner;
+    }
+
     public String getPassword() {
         return password;
     }
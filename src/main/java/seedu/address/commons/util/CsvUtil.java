@@ -0,0 +1,91 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Helper functions for handling comma-separated values.
+ */
+public class CsvUtil {
+
+    public static final String MESSAGE_UNCLOSED_QUOTE = "A quoted field is not closed";
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final String ESCAPED_QUOTE = "\"\"";
+
+    /**
+     * Splits a row of comma-separated values into its fields.
+     * A field may be enclosed in double quotes to contain commas, and a double quote in such a field is written
+     * twice. Whitespace around a field is kept.
+     *   <br>examples:<pre>
+     *       splitRow("a,b") == ["a", "b"]
+     *       splitRow("\"a,b\",c") == ["a,b", "c"]
+     *       splitRow("\"say \"\"hi\"\"\",") == ["say \"hi\"", ""]
+     *       </pre>
+     * @throws IllegalValueException if a quoted field is not closed.
+     */
+    public static List<String> splitRow(String row) throws IllegalValueException {
+        requireNonNull(row);
+        List<String> fields = new ArrayList<>();
+        int fieldStart = 0;
+        while (true) {
+            int fieldEnd;
+            if (fieldStart < row.length() && row.charAt(fieldStart) == QUOTE) {
+                StringBuilder field = new StringBuilder();
+                fieldEnd = readQuotedField(row, fieldStart + 1, field);
+                fields.add(field.toString());
+            } else {
+                fieldEnd = row.indexOf(SEPARATOR, fieldStart);
+                fieldEnd = fieldEnd == -1 ? row.length() : fieldEnd;
+                fields.add(row.substring(fieldStart, fieldEnd));
+            }
+            if (fieldEnd >= row.length()) {
+                return fields;
+            }
+            fieldStart = fieldEnd + 1;
+        }
+    }
+
+    /**
+     * Appends the quoted field which starts at {@code start}, just after its opening quote, to {@code field}.
+     * Returns the index of the separator after the closing quote, or the length of {@code row} if there is none.
+     * Anything between the closing quote and the separator is kept as part of the field.
+     */
+    private static int readQuotedField(String row, int start, StringBuilder field) throws IllegalValueException {
+        int i = start;
+        while (true) {
+            int quote = row.indexOf(QUOTE, i);
+            if (quote == -1) {
+                throw new IllegalValueException(MESSAGE_UNCLOSED_QUOTE);
+            }
+            field.append(row, i, quote);
+            if (row.startsWith(ESCAPED_QUOTE, quote)) {
+                field.append(QUOTE);
+                i = quote + ESCAPED_QUOTE.length();
+                continue;
+            }
+            int separator = row.indexOf(SEPARATOR, quote + 1);
+            separator = separator == -1 ? row.length() : separator;
+            field.append(row, quote + 1, separator);
+            return separator;
+        }
+    }
+
+    /**
+     * Returns {@code field} as a field of comma-separated values, enclosed in double quotes if it contains a comma,
+     * a double quote or a line break.
+     */
+    public static String toField(String field) {
+        requireNonNull(field);
+        if (field.indexOf(SEPARATOR) == -1 && field.indexOf(QUOTE) == -1
+                && field.indexOf('\n') == -1 && field.indexOf('\r') == -1) {
+            return field;
+        }
+        return QUOTE + field.replace(String.valueOf(QUOTE), ESCAPED_QUOTE) + QUOTE;
+    }
+}
@@ -2,9 +2,17 @@ package seedu.address.commons.util;
 
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +20,28 @@ import java.nio.file.Files;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    /**
+     * How much of a file written by {@link #writeAtomically(File, ContentWriter, SyncPolicy)} is forced to disk
+     * before the method returns. Forcing more survives more kinds of crashes, but makes writing slower.
+     */
+    public enum SyncPolicy {
+        /** Nothing is forced: the file survives the app crashing, but not the operating system crashing. */
+        NONE,
+        /** The file's contents are forced to disk before it replaces the previous file. */
+        FILE,
+        /** As {@code FILE}, and the directory is forced too, so that the replacement itself is on disk. */
+        FILE_AND_DIRECTORY
+    }
+
+    /**
+     * Writes the content of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
 
     public static boolean isFileExists(File file) {
         return file.exists() && file.isFile();
@@ -80,6 +110,59 @@ public class FileUtil {
         Files.write(file.toPath(), content.getBytes(CHARSET));
     }
 
+    /**
+     * Replaces the contents of {@code file} with those written by {@code content}, creating the file and its
+     * parent directories if they are missing.
+     * The contents are written to a temporary file beside {@code file}, which then replaces {@code file} in one
+     * step, so {@code file} holds either its old or its new contents even if writing fails midway.
+     *
+     * @throws IOException if the contents cannot be written, in which case {@code file} is left unchanged.
+     */
+    public static void writeAtomically(File file, ContentWriter content, SyncPolicy syncPolicy) throws IOException {
+        createParentDirsOfFile(file);
+        Path target = file.toPath();
+        Path temp = target.resolveSibling(target.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+                content.writeTo(out);
+                out.flush();
+                if (syncPolicy != SyncPolicy.NONE) {
+                    channel.force(true);
+                }
+            }
+            moveReplacing(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        if (syncPolicy == SyncPolicy.FILE_AND_DIRECTORY) {
+            forceDirectory(target.toAbsolutePath().getParent());
+        }
+    }
+
+    /**
+     * Moves {@code source} to {@code target}, replacing {@code target} in one step if the file system can.
+     */
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory} to disk, on platforms which allow directories to be opened.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ioe) {
+            // directories cannot be opened on some platforms, such as Windows
+        }
+    }
+
     /**
      * Converts a string to a platform-specific file path
      * @param pathWithForwardSlash A String representing a file path but using '/' as the separator
@@ -1,14 +1,28 @@
 package seedu.address.commons.util;
 
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.Key;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
 import java.security.spec.InvalidKeySpecException;
-import java.security.spec.KeySpec;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.logging.Logger;
 
 import javax.crypto.BadPaddingException;
@@ -17,15 +31,20 @@ import javax.crypto.IllegalBlockSizeException;
 import javax.crypto.NoSuchPaddingException;
 import javax.crypto.SecretKey;
 import javax.crypto.SecretKeyFactory;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.PBEKeySpec;
 import javax.crypto.spec.SecretKeySpec;
 
 import com.google.common.eventbus.Subscribe;
+import com.google.common.io.ByteStreams;
 
 import seedu.address.MainApp;
+import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.storage.DecryptionRequestEvent;
 import seedu.address.commons.events.storage.EncryptionRequestEvent;
+import seedu.address.commons.util.FileUtil.SyncPolicy;
 //@@author tinyjy94
 /**
  * Contains encryption and decryption functions
@@ -33,31 +52,77 @@ import seedu.address.commons.events.storage.EncryptionRequestEvent;
 public class SecurityUtil {
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
-    private static final int AES_Key_Size = 128;
-    private static final int iteration = 65536;
+    private static final int LEGACY_KEY_SIZE = 128;
+    private static final int LEGACY_ITERATIONS = 65536;
+    private static final List<Integer> KEY_SIZES = Arrays.asList(128, 192, 256);
+
+    private static final String CIPHER_TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final String LEGACY_CIPHER_TRANSFORMATION = "AES/ECB/PKCS5Padding";
+    private static final int LEGACY_BLOCK_SIZE = 16;
+    private static final byte[] HEADER_MAGIC = {'M', 'P', 'E', 'N'};
+    private static final byte HEADER_VERSION_WITHOUT_KEY_DERIVATION = 1;
+    private static final byte HEADER_VERSION = 2;
+    private static final int SALT_SIZE = 16;
+    private static final int NONCE_PREFIX_SIZE = 7;
+    private static final int TAG_SIZE = 16;
+    private static final int SEGMENT_SIZE = 64 * 1024;
+    private static final SecureRandom random = new SecureRandom();
+
+    /** Derived keys, by the password, salt and cost they were derived with. Wiped by {@link #clearKeyCache()}. */
+    private static final Map<KeyDerivation, byte[]> derivedKeys = new HashMap<>();
+    /** The salt to encrypt with for each password and cost, so that its derived key can be reused. */
+    private static final Map<KeyDerivation, byte[]> encryptionSalts = new HashMap<>();
+
+    private static volatile int iterations = Config.DEFAULT_KEY_DERIVATION_ITERATIONS;
+    private static volatile int keySize = Config.DEFAULT_ENCRYPTION_KEY_SIZE;
+
+    /**
+     * Initializes the cost of deriving keys for files encrypted from now on (specified in the {@code config} object).
+     * Files that are already encrypted are decrypted with the cost recorded in their header.
+     */
+    public static synchronized void init(Config config) {
+        if (config.getKeyDerivationIterations() < 1 || !KEY_SIZES.contains(config.getEncryptionKeySize())) {
+            logger.warning("Invalid key derivation settings, using the defaults instead");
+            iterations = Config.DEFAULT_KEY_DERIVATION_ITERATIONS;
+            keySize = Config.DEFAULT_ENCRYPTION_KEY_SIZE;
+            return;
+        }
+        iterations = config.getKeyDerivationIterations();
+        keySize = config.getEncryptionKeySize();
+    }
+
+    /**
+     * Wipes the keys derived in this session.
+     */
+    public static synchronized void clearKeyCache() {
+        for (byte[] key : derivedKeys.values()) {
+            Arrays.fill(key, (byte) 0);
+        }
+        for (KeyDerivation derivation : derivedKeys.keySet()) {
+            derivation.wipe();
+        }
+        for (KeyDerivation derivation : encryptionSalts.keySet()) {
+            derivation.wipe();
+        }
+        derivedKeys.clear();
+        encryptionSalts.clear();
+    }
 
     public static void encrypt(String filepath, String encryptedFilePath, String password) {
         encrypt(new File(filepath), new File(encryptedFilePath), password);
     }
 
     /**
-     * Encrypts the given file using AES key using Key given.
+     * Encrypts the given file with AES-GCM using a key derived from {@code password} and a random salt.
+     * The file is encrypted in segments of {@code SEGMENT_SIZE} bytes, so any file size takes constant memory.
      */
     public static void encrypt(File inputFile, File outputFile, String password) {
         try {
-            Key pw = generateKey(password);
-            Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
-            cipher.init(Cipher.ENCRYPT_MODE, pw);
-            processFile(cipher, inputFile, outputFile);
-        } catch (InvalidKeyException ike) {
-            logger.severe("Invalid key length provided " + StringUtil.getDetails(ike));
-            throw new AssertionError("Invalid key length.");
-        } catch (NoSuchAlgorithmException nsae) {
-            logger.severe("Invalid algorithm provided " + StringUtil.getDetails(nsae));
-            throw new AssertionError("Invalid algorithm.");
-        } catch (NoSuchPaddingException bpe) {
-            logger.severe("Invalid padding provided " + StringUtil.getDetails(bpe));
-            throw new AssertionError("Invalid padding.");
+            FileUtil.writeAtomically(outputFile, out -> {
+                try (InputStream in = new BufferedInputStream(new FileInputStream(inputFile))) {
+                    encryptStream(in, out, password);
+                }
+            }, SyncPolicy.FILE);
         } catch (IOException e) {
             logger.severe("File does not exist " + StringUtil.getDetails(e));
             throw new AssertionError("Invalid file provided.");
@@ -69,63 +134,244 @@ public class SecurityUtil {
     }
 
     /**
-     * Decrypts the given file using AES key using Key given.
+     * Decrypts the given file using a key derived from {@code password}.
+     * {@code outputFile} is only replaced once the whole of {@code inputFile} has been decrypted and authenticated.
+     * Files encrypted before files had a header are decrypted with the AES/ECB key from {@link #generateKey(String)}.
+     *
+     * @throws IOException if {@code inputFile} cannot be read, or if the password is wrong or the file was modified
      */
     public static void decrypt(File inputFile, File outputFile, String password) throws IOException {
+        if (!hasHeader(inputFile) && inputFile.length() % LEGACY_BLOCK_SIZE != 0) {
+            // user decrypt from plaintext
+            logger.info("File is in plain text, no decryption required.");
+            return;
+        }
+        FileUtil.writeAtomically(outputFile, out -> {
+            try (InputStream in = new BufferedInputStream(new FileInputStream(inputFile))) {
+                decryptStream(in, out, password);
+            }
+        }, SyncPolicy.FILE);
+    }
+
+    /**
+     * Returns true if {@code password} is the one {@code encryptedFile} was encrypted with.
+     * Only the first segment is decrypted, except for files encrypted before files had a header.
+     *
+     * @throws IOException if {@code encryptedFile} cannot be read
+     */
+    public static boolean isPasswordCorrect(File encryptedFile, String password) throws IOException {
+        try (InputStream in = new BufferedInputStream(new FileInputStream(encryptedFile))) {
+            if (!readHeaderMagic(in)) {
+                decryptLegacyStream(in, ByteStreams.nullOutputStream(), password);
+                return true;
+            }
+            in.reset();
+            newDecryptingStream(in, password).read();
+            return true;
+        } catch (WrongPasswordException wpe) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns a stream which encrypts the bytes written to it with {@code password}, and writes them to {@code out}
+     * in the same format as {@link #encrypt(File, File, String)}.
+     * Closing the returned stream writes the last segment and flushes {@code out}, but leaves {@code out} open.
+     */
+    public static OutputStream newEncryptingStream(OutputStream out, String password) throws IOException {
+        requireAllNonNull(out, password);
+        Header header = Header.create(getEncryptionSalt(password));
+        Key key = generateKey(password, header.salt, header.iterations, header.keySize);
+        header.writeTo(out);
+        return new EncryptingOutputStream(out, header, key);
+    }
+
+    /**
+     * Returns a stream of the decrypted contents of {@code in}, which holds a file encrypted with {@code password}
+     * by {@link #encrypt(File, File, String)} or {@link #newEncryptingStream(OutputStream, String)}.
+     * Each segment is authenticated before any of it is returned.
+     *
+     * @throws IOException if {@code in} is not in that format. The returned stream throws {@code IOException}s if
+     *     the password is wrong or the file was modified.
+     */
+    public static InputStream newDecryptingStream(InputStream in, String password) throws IOException {
+        requireAllNonNull(in, password);
+        byte[] magic = new byte[HEADER_MAGIC.length];
+        if (readFully(in, magic) < magic.length || !Arrays.equals(magic, HEADER_MAGIC)) {
+            throw new IOException("Data is not in the encrypted file format");
+        }
+        Header header = Header.readFrom(in);
+        Key key = generateKey(password, header.salt, header.iterations, header.keySize);
+        return new DecryptingInputStream(in, header, key);
+    }
+
+    /**
+     * Writes a header followed by the encrypted segments of {@code in} to {@code out}.
+     */
+    private static void encryptStream(InputStream in, OutputStream out, String password) throws IOException {
+        try (OutputStream encrypted = newEncryptingStream(out, password)) {
+            ByteStreams.copy(in, encrypted);
+        }
+    }
+
+    /**
+     * Writes the decrypted contents of {@code in}, read from the start of the file, to {@code out}.
+     */
+    private static void decryptStream(InputStream in, OutputStream out, String password) throws IOException {
+        if (!readHeaderMagic(in)) {
+            decryptLegacyStream(in, out, password);
+            return;
+        }
+        // the magic number is read again by newDecryptingStream
+        in.reset();
+        ByteStreams.copy(newDecryptingStream(in, password), out);
+    }
+
+    /**
+     * Encrypts or decrypts the first {@code length} bytes of {@code input}, the segment at {@code segmentIndex},
+     * into {@code output}.
+     * The header and the segment's position are authenticated, so segments cannot be reordered or dropped.
+     *
+     * @return the number of bytes written to {@code output}
+     * @throws IOException if the segment cannot be authenticated
+     */
+    private static int processSegment(int mode, Key key, Header header, int segmentIndex, boolean isLastSegment,
+                                      byte[] input, int length, byte[] output) throws IOException {
         try {
-            Key pw = generateKey(password);
-            Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
-            cipher.init(Cipher.DECRYPT_MODE, pw);
-            processFile(cipher, inputFile, outputFile); //decrypt takes in encrypted file as input
+            Cipher cipher = Cipher.getInstance(CIPHER_TRANSFORMATION);
+            cipher.init(mode, key, new GCMParameterSpec(TAG_SIZE * Byte.SIZE,
+                    header.getSegmentNonce(segmentIndex, isLastSegment)));
+            cipher.updateAAD(header.bytes);
+            return cipher.doFinal(input, 0, length, output, 0);
+        } catch (ShortBufferException | IllegalBlockSizeException | BadPaddingException e) {
+            // a wrong key, or a modified, reordered or truncated segment all fail authentication
+            throw new WrongPasswordException(e);
         } catch (InvalidKeyException ike) {
             logger.severe("Invalid key length provided " + StringUtil.getDetails(ike));
             throw new AssertionError("Invalid key length.");
         } catch (NoSuchAlgorithmException nsae) {
             logger.severe("Invalid algorithm provided " + StringUtil.getDetails(nsae));
             throw new AssertionError("Invalid algorithm.");
-        } catch (NoSuchPaddingException bpe) {
-            logger.severe("Invalid padding provided " + StringUtil.getDetails(bpe));
+        } catch (NoSuchPaddingException nspe) {
+            logger.severe("Invalid padding provided " + StringUtil.getDetails(nspe));
             throw new AssertionError("Invalid padding.");
+        } catch (InvalidAlgorithmParameterException iape) {
+            logger.severe("Invalid nonce provided " + StringUtil.getDetails(iape));
+            throw new AssertionError("Invalid nonce.");
         }
     }
 
     /**
-     * Encrypts or decrypts the {@code inputFile} and write out into the same {@code inputFile} based on cipher given.
+     * Decrypts {@code in}, a file encrypted with AES/ECB before files had a header, into {@code out}.
      */
-    private static void processFile(Cipher cipher, File inputFile, File outputFile) throws IOException {
-
+    private static void decryptLegacyStream(InputStream in, OutputStream out, String password) throws IOException {
         try {
-            byte[] inputByteArray = new byte[(int) inputFile.length()];
-            FileInputStream fis = new FileInputStream(inputFile); //create file input stream
-            fis.read(inputByteArray); //reads from fis to byte[]
-
-            byte[] outputBytes = cipher.doFinal(inputByteArray); //encrypt or decrypt the byte[]
-            FileOutputStream fos = new FileOutputStream(outputFile);
-            fos.write(outputBytes);
+            Cipher cipher = Cipher.getInstance(LEGACY_CIPHER_TRANSFORMATION);
+            cipher.init(Cipher.DECRYPT_MODE, generateKey(password));
+            byte[] buffer = new byte[SEGMENT_SIZE];
+            int length;
+            while ((length = in.read(buffer)) != -1) {
+                out.write(cipher.update(buffer, 0, length));
+            }
+            out.write(cipher.doFinal());
+        } catch (IllegalBlockSizeException | BadPaddingException e) {
+            throw new WrongPasswordException(e);
+        } catch (InvalidKeyException ike) {
+            logger.severe("Invalid key length provided " + StringUtil.getDetails(ike));
+            throw new AssertionError("Invalid key length.");
+        } catch (NoSuchAlgorithmException nsae) {
+            logger.severe("Invalid algorithm provided " + StringUtil.getDetails(nsae));
+            throw new AssertionError("Invalid algorithm.");
+        } catch (NoSuchPaddingException nspe) {
+            logger.severe("Invalid padding provided " + StringUtil.getDetails(nspe));
+            throw new AssertionError("Invalid padding.");
+        }
+    }
 
-            fis.close();
-            fos.close();
+    /**
+     * Returns true if {@code file} starts with the header of the segmented AES-GCM format.
+     */
+    private static boolean hasHeader(File file) throws IOException {
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            return readHeaderMagic(in);
+        }
+    }
 
-        } catch (BadPaddingException bpe) {
-            logger.severe("Bad padding provided" + StringUtil.getDetails(bpe));
-            throw new AssertionError("Bad padding provided");
-        } catch (IllegalBlockSizeException ibse) {
-            // user decrypt from plaintext
-            logger.info("File is in plain text, no decryption required." + StringUtil.getDetails(ibse));
+    /**
+     * Reads the magic number that starts the header of the segmented AES-GCM format from {@code in}.
+     * If {@code in} does not start with it, {@code in} is reset to where it was.
+     *
+     * @return true if {@code in} started with the magic number
+     */
+    private static boolean readHeaderMagic(InputStream in) throws IOException {
+        in.mark(HEADER_MAGIC.length);
+        byte[] magic = new byte[HEADER_MAGIC.length];
+        if (readFully(in, magic) == magic.length && Arrays.equals(magic, HEADER_MAGIC)) {
+            return true;
         }
+        in.reset();
+        return false;
+    }
+
+    /**
+     * Reads from {@code in} until {@code buffer} is full or the end of {@code in} is reached.
+     *
+     * @return the number of bytes read
+     */
+    private static int readFully(InputStream in, byte[] buffer) throws IOException {
+        return ByteStreams.read(in, buffer, 0, buffer.length);
     }
 
     /**
      * Generate a secret AES key
      */
     public static Key generateKey(String password) {
-        try {
-            byte[] inputByte = new byte[16];
-            KeySpec spec = new PBEKeySpec(password.toCharArray(), inputByte, iteration, AES_Key_Size);
+        return generateKey(password, new byte[SALT_SIZE], LEGACY_ITERATIONS, LEGACY_KEY_SIZE);
+    }
+
+    /**
+     * Returns the AES key derived from {@code password} and {@code salt} with the given cost.
+     * Keys are derived once per session, as deriving a key takes far longer than encrypting a data file.
+     */
+    private static synchronized Key generateKey(String password, byte[] salt, int iterations, int keySize) {
+        KeyDerivation derivation = new KeyDerivation(password, salt, iterations, keySize);
+        byte[] key = derivedKeys.get(derivation);
+        if (key == null) {
+            key = deriveKey(password, salt, iterations, keySize);
+            derivedKeys.put(derivation, key);
+        } else {
+            derivation.wipe();
+        }
+        return new SecretKeySpec(key, "AES");
+    }
 
+    /**
+     * Returns the salt to encrypt with {@code password}.
+     * The salt is chosen at random once per session, so that the key derived from it can be reused. Files are
+     * still encrypted with different nonces, as each header has a random nonce prefix.
+     */
+    private static synchronized byte[] getEncryptionSalt(String password) {
+        KeyDerivation derivation = new KeyDerivation(password, null, iterations, keySize);
+        byte[] salt = encryptionSalts.get(derivation);
+        if (salt == null) {
+            salt = new byte[SALT_SIZE];
+            random.nextBytes(salt);
+            encryptionSalts.put(derivation, salt);
+        } else {
+            derivation.wipe();
+        }
+        return salt.clone();
+    }
+
+    /**
+     * Derives an AES key of {@code keySize} bits from {@code password} and {@code salt} with PBKDF2.
+     */
+    private static byte[] deriveKey(String password, byte[] salt, int iterations, int keySize) {
+        PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, iterations, keySize);
+        try {
             SecretKeyFactory factory = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256");
             SecretKey secretkey = factory.generateSecret(spec);
-            return new SecretKeySpec(secretkey.getEncoded(), "AES");
+            return secretkey.getEncoded();
 
         } catch (NoSuchAlgorithmException nsae) {
             logger.severe("Invalid algorithm provided " + StringUtil.getDetails(nsae));
@@ -133,6 +379,8 @@ public class SecurityUtil {
         } catch (InvalidKeySpecException ikse) {
             logger.severe("Invalid key specifications provided " + StringUtil.getDetails(ikse));
             throw new AssertionError("Invalid key specifications.");
+        } finally {
+            spec.clearPassword();
         }
     }
 
@@ -146,4 +394,264 @@ public class SecurityUtil {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
     }
 
+    /**
+     * Encrypts the bytes written to it a segment at a time. A segment is only written once it is known whether it is
+     * the last, that is, once it is full and more bytes are written, or once the stream is closed.
+     */
+    private static class EncryptingOutputStream extends OutputStream {
+        private final OutputStream out;
+        private final Header header;
+        private final Key key;
+        private final byte[] segment = new byte[SEGMENT_SIZE];
+        private final byte[] encryptedSegment = new byte[SEGMENT_SIZE + TAG_SIZE];
+        private int length;
+        private int segmentIndex;
+        private boolean isClosed;
+
+        EncryptingOutputStream(OutputStream out, Header header, Key key) {
+            this.out = out;
+            this.header = header;
+            this.key = key;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int count) throws IOException {
+            if (isClosed) {
+                throw new IOException("Stream closed");
+            }
+            while (count > 0) {
+                if (length == SEGMENT_SIZE) {
+                    writeSegment(false);
+                }
+                int copied = Math.min(count, SEGMENT_SIZE - length);
+                System.arraycopy(bytes, offset, segment, length, copied);
+                length += copied;
+                offset += copied;
+                count -= copied;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!isClosed) {
+                isClosed = true;
+                writeSegment(true);
+                out.flush();
+            }
+        }
+
+        /**
+         * Encrypts the buffered bytes as the next segment, and writes it out.
+         */
+        private void writeSegment(boolean isLastSegment) throws IOException {
+            int encryptedLength = processSegment(Cipher.ENCRYPT_MODE, key, header, segmentIndex++, isLastSegment,
+                    segment, length, encryptedSegment);
+            out.write(encryptedSegment, 0, encryptedLength);
+            length = 0;
+        }
+    }
+
+    /**
+     * Decrypts the segments read from a stream one at a time. The segment after the current one is read ahead, to
+     * find out whether the current one is the last.
+     */
+    private static class DecryptingInputStream extends InputStream {
+        private final InputStream in;
+        private final Header header;
+        private final Key key;
+        private byte[] current = new byte[SEGMENT_SIZE + TAG_SIZE];
+        private byte[] next = new byte[SEGMENT_SIZE + TAG_SIZE];
+        private final byte[] segment = new byte[SEGMENT_SIZE];
+        private int nextLength;
+        private int position;
+        private int length;
+        private int segmentIndex;
+        private boolean isLastSegmentRead;
+
+        DecryptingInputStream(InputStream in, Header header, Key key) throws IOException {
+            this.in = in;
+            this.header = header;
+            this.key = key;
+            nextLength = readFully(in, next);
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int count) throws IOException {
+            if (count == 0) {
+                return 0;
+            }
+            while (position == length) {
+                if (isLastSegmentRead) {
+                    return -1;
+                }
+                readSegment();
+            }
+            int copied = Math.min(count, length - position);
+            System.arraycopy(segment, position, bytes, offset, copied);
+            position += copied;
+            return copied;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+
+        /**
+         * Reads and decrypts the next segment, reading ahead the one after it.
+         */
+        private void readSegment() throws IOException {
+            byte[] swap = current;
+            current = next;
+            next = swap;
+            int currentLength = nextLength;
+            nextLength = currentLength == current.length ? readFully(in, next) : 0;
+            isLastSegmentRead = nextLength == 0;
+            length = processSegment(Cipher.DECRYPT_MODE, key, header, segmentIndex++, isLastSegmentRead,
+                    current, currentLength, segment);
+            position = 0;
+        }
+    }
+
+    /**
+     * The header of an encrypted file: the magic number, the format version, the cost and salt of the key, and the
+     * prefix of the nonce of each segment.
+     */
+    private static class Header {
+        private final byte[] bytes;
+        private final int iterations;
+        private final int keySize;
+        private final byte[] salt;
+        private final byte[] noncePrefix;
+
+        private Header(byte version, int iterations, int keySize, byte[] salt, byte[] noncePrefix) {
+            this.iterations = iterations;
+            this.keySize = keySize;
+            this.salt = salt;
+            this.noncePrefix = noncePrefix;
+            ByteBuffer header = ByteBuffer.allocate(HEADER_MAGIC.length + 1 + 2 * Integer.BYTES + SALT_SIZE
+                    + NONCE_PREFIX_SIZE);
+            header.put(HEADER_MAGIC).put(version);
+            if (version != HEADER_VERSION_WITHOUT_KEY_DERIVATION) {
+                header.putInt(iterations).putInt(keySize);
+            }
+            header.put(salt).put(noncePrefix);
+            bytes = Arrays.copyOf(header.array(), header.position());
+        }
+
+        /**
+         * Returns a header with the current key derivation cost, {@code salt} and a new random nonce prefix.
+         */
+        static Header create(byte[] salt) {
+            byte[] noncePrefix = new byte[NONCE_PREFIX_SIZE];
+            random.nextBytes(noncePrefix);
+            return new Header(HEADER_VERSION, SecurityUtil.iterations, SecurityUtil.keySize, salt, noncePrefix);
+        }
+
+        /**
+         * Reads the rest of a header from {@code in}, which has just been read past the magic number.
+         */
+        static Header readFrom(InputStream in) throws IOException {
+            DataInputStream data = new DataInputStream(in);
+            byte version = data.readByte();
+            int iterations = LEGACY_ITERATIONS;
+            int keySize = LEGACY_KEY_SIZE;
+            if (version == HEADER_VERSION) {
+                iterations = data.readInt();
+                keySize = data.readInt();
+            } else if (version != HEADER_VERSION_WITHOUT_KEY_DERIVATION) {
+                throw new IOException("Unsupported encrypted file version: " + version);
+            }
+            if (iterations < 1 || !KEY_SIZES.contains(keySize)) {
+                throw new IOException("Unsupported key derivation in encrypted file header");
+            }
+            byte[] salt = new byte[SALT_SIZE];
+            byte[] noncePrefix = new byte[NONCE_PREFIX_SIZE];
+            data.readFully(salt);
+            data.readFully(noncePrefix);
+            return new Header(version, iterations, keySize, salt, noncePrefix);
+        }
+
+        void writeTo(OutputStream out) throws IOException {
+            out.write(bytes);
+        }
+
+        /**
+         * Returns the nonce of the segment at {@code segmentIndex}.
+         * The last segment has a different nonce, so that a file cut short at a segment boundary is detected.
+         */
+        byte[] getSegmentNonce(int segmentIndex, boolean isLastSegment) {
+            return ByteBuffer.allocate(NONCE_PREFIX_SIZE + Integer.BYTES + 1)
+                    .put(noncePrefix).putInt(segmentIndex).put((byte) (isLastSegment ? 1 : 0)).array();
+        }
+    }
+
+    /**
+     * Identifies a key derivation by a hash of its password, its salt and its cost, so that the password itself
+     * does not have to be kept.
+     */
+    private static final class KeyDerivation {
+        private final byte[] passwordHash;
+        private final byte[] salt;
+        private final int iterations;
+        private final int keySize;
+
+        KeyDerivation(String password, byte[] salt, int iterations, int keySize) {
+            try {
+                passwordHash = MessageDigest.getInstance("SHA-256").digest(password.getBytes(StandardCharsets.UTF_8));
+            } catch (NoSuchAlgorithmException nsae) {
+                logger.severe("Invalid algorithm provided " + StringUtil.getDetails(nsae));
+                throw new AssertionError("Invalid algorithm.");
+            }
+            this.salt = salt == null ? new byte[0] : salt.clone();
+            this.iterations = iterations;
+            this.keySize = keySize;
+        }
+
+        void wipe() {
+            Arrays.fill(passwordHash, (byte) 0);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof KeyDerivation // instanceof handles nulls
+                    && Arrays.equals(passwordHash, ((KeyDerivation) other).passwordHash)
+                    && Arrays.equals(salt, ((KeyDerivation) other).salt)
+                    && iterations == ((KeyDerivation) other).iterations
+                    && keySize == ((KeyDerivation) other).keySize);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(Arrays.hashCode(passwordHash), Arrays.hashCode(salt), iterations, keySize);
+        }
+    }
+
+    /**
+     * Signals that a file could not be decrypted because the password is wrong, or because the file was modified.
+     */
+    private static class WrongPasswordException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        WrongPasswordException(Throwable cause) {
+            super("Wrong password, or the encrypted file was modified", cause);
+        }
+    }
 }
@@ -4,6 +4,12 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -12,9 +18,35 @@ import javax.xml.bind.Unmarshaller;
 
 /**
  * Helps with reading from and writing to XML files.
+ *
+ * Building a {@code JAXBContext} is slow, so one is built per class and shared by all threads. Marshallers and
+ * unmarshallers are not thread-safe, so each thread reuses its own.
  */
 public class XmlUtil {
 
+    private static final ConcurrentMap<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Map<Class<?>, Marshaller>> marshallers = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<Class<?>, Unmarshaller>> unmarshallers =
+            ThreadLocal.withInitial(HashMap::new);
+
+    /**
+     * Returns the {@code JAXBContext} for {@code type}, building it on first use.
+     *
+     * @throws JAXBException Thrown if {@code type} cannot be bound to xml.
+     */
+    public static JAXBContext getContext(Class<?> type) throws JAXBException {
+        requireNonNull(type);
+        JAXBContext context = contexts.get(type);
+        if (context == null) {
+            context = JAXBContext.newInstance(type);
+            JAXBContext existingContext = contexts.putIfAbsent(type, context);
+            if (existingContext != null) {
+                context = existingContext;
+            }
+        }
+        return context;
+    }
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -36,10 +68,20 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
+        return ((T) getUnmarshaller(classToConvert).unmarshal(file));
+    }
 
-        return ((T) um.unmarshal(file));
+    /**
+     * Returns the xml data read from {@code in} as an object of the specified type.
+     *
+     * @throws JAXBException Thrown if the data is empty or does not conform the schema
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T getDataFromStream(InputStream in, Class<T> classToConvert) throws JAXBException {
+        requireNonNull(in);
+        requireNonNull(classToConvert);
+
+        return ((T) getUnmarshaller(classToConvert).unmarshal(in));
     }
 
     /**
@@ -60,11 +102,47 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
-        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        getMarshaller(data.getClass()).marshal(data, file);
+    }
+
+    /**
+     * Writes the data to {@code out} in xml format, leaving {@code out} open.
+     *
+     * @throws JAXBException Thrown if there is an error during converting the data
+     *                       into xml and writing to {@code out}.
+     */
+    public static <T> void saveDataToStream(OutputStream out, T data) throws JAXBException {
+        requireNonNull(out);
+        requireNonNull(data);
+
+        getMarshaller(data.getClass()).marshal(data, out);
+    }
 
-        m.marshal(data, file);
+    /**
+     * Returns this thread's unmarshaller for {@code type}.
+     */
+    private static Unmarshaller getUnmarshaller(Class<?> type) throws JAXBException {
+        Map<Class<?>, Unmarshaller> threadUnmarshallers = unmarshallers.get();
+        Unmarshaller unmarshaller = threadUnmarshallers.get(type);
+        if (unmarshaller == null) {
+            unmarshaller = getContext(type).createUnmarshaller();
+            threadUnmarshallers.put(type, unmarshaller);
+        }
+        return unmarshaller;
+    }
+
+    /**
+     * Returns this thread's marshaller for {@code type}, which writes formatted output.
+     */
+    private static Marshaller getMarshaller(Class<?> type) throws JAXBException {
+        Map<Class<?>, Marshaller> threadMarshallers = marshallers.get();
+        Marshaller marshaller = threadMarshallers.get(type);
+        if (marshaller == null) {
+            marshaller = getContext(type).createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+            threadMarshallers.put(type, marshaller);
+        }
+        return marshaller;
     }
 
 }
@@ -0,0 +1,187 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.commands.AddScreeningCommand;
+import seedu.address.model.cinema.Cinema;
+import seedu.address.model.cinema.Theater;
+import seedu.address.model.movie.Movie;
+import seedu.address.model.screening.Screening;
+
+/**
+ * Plans screenings of movies in the theaters of a cinema over a range of dates, around the screenings the theaters
+ * already have. Every screening starts and ends within the opening hours of its date, and its end is calculated in
+ * the same way as for {@code AddScreeningCommand}.
+ *
+ * The screenings of each movie are first shared out among the theater days it can be screened on, always to the
+ * theater day with the most free time left, longest movies first. Each theater day is then filled independently,
+ * placing its screenings one after another from the opening time, so the theater days are filled in parallel.
+ */
+public class AutoScheduler {
+
+    public static final LocalTime OPENING_TIME = LocalTime.of(10, 0);
+    /** The time by which the screenings of a day must end, which is the start of the next day */
+    public static final LocalTime CLOSING_TIME = LocalTime.MIDNIGHT;
+
+    private static final int MINUTES_USED_IN_ROUNDING_OFF = 5;
+
+    private final Cinema cinema;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final Map<Movie, Integer> screeningCounts;
+
+    /**
+     * Creates an AutoScheduler which plans {@code screeningCounts} screenings of each movie in the theaters of
+     * {@code cinema}, from {@code startDate} to {@code endDate} inclusive.
+     */
+    public AutoScheduler(Cinema cinema, LocalDate startDate, LocalDate endDate, Map<Movie, Integer> screeningCounts) {
+        requireNonNull(cinema);
+        requireNonNull(startDate);
+        requireNonNull(endDate);
+        requireNonNull(screeningCounts);
+        checkArgument(!endDate.isBefore(startDate), "The end date should not be before the start date");
+        this.cinema = cinema;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.screeningCounts = new LinkedHashMap<>(screeningCounts);
+    }
+
+    /**
+     * Returns the planned screenings, sorted by theater, then by screening date time. Screenings which do not fit
+     * are left out.
+     */
+    public List<Screening> schedule() {
+        List<TheaterDay> theaterDays = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            for (Theater theater : cinema.getTheaters()) {
+                theaterDays.add(new TheaterDay(theater, date));
+            }
+        }
+        shareOut(theaterDays);
+
+        return theaterDays.parallelStream()
+                .map(TheaterDay::fill)
+                .flatMap(List::stream)
+                .sorted(Comparator.comparingInt((Screening screening) -> screening.getTheater().getTheaterNumber())
+                        .thenComparing(Screening::getScreeningDateTime))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Assigns the screenings of every movie to the theater days in {@code theaterDays}. Longer movies are assigned
+     * first, and each screening goes to the theater day on or after the release date of its movie with the most
+     * free time left, as long as the screening fits in that time.
+     */
+    private void shareOut(List<TheaterDay> theaterDays) {
+        List<Movie> movies = new ArrayList<>(screeningCounts.keySet());
+        movies.sort(Comparator.comparing(AutoScheduler::getRunningTime).reversed());
+
+        Comparator<TheaterDay> mostFreeTimeFirst = Comparator.comparing((TheaterDay theaterDay) -> theaterDay.freeTime)
+                .reversed()
+                .thenComparing(theaterDay -> theaterDay.date)
+                .thenComparingInt(theaterDay -> theaterDay.theater.getTheaterNumber());
+        for (Movie movie : movies) {
+            Duration runningTime = getRunningTime(movie);
+            LocalDate releaseDate = movie.getStartDate().toLocalDate();
+            PriorityQueue<TheaterDay> candidates = new PriorityQueue<>(mostFreeTimeFirst);
+            for (TheaterDay theaterDay : theaterDays) {
+                if (!theaterDay.date.isBefore(releaseDate)) {
+                    candidates.add(theaterDay);
+                }
+            }
+
+            for (int i = screeningCounts.get(movie); i > 0 && !candidates.isEmpty(); i--) {
+                TheaterDay theaterDay = candidates.poll();
+                if (theaterDay.freeTime.compareTo(runningTime) < 0) {
+                    break;
+                }
+                theaterDay.assign(movie, runningTime);
+                candidates.add(theaterDay);
+            }
+        }
+    }
+
+    /**
+     * Returns the time taken by a screening of {@code movie}, including the preparation after it.
+     */
+    private static Duration getRunningTime(Movie movie) {
+        LocalDateTime start = LocalDate.MIN.atTime(OPENING_TIME);
+        return Duration.between(start, AddScreeningCommand.getEndTime(movie, start));
+    }
+
+    /**
+     * Returns {@code dateTime} rounded up to the next time screenings may start at.
+     */
+    private static LocalDateTime roundUp(LocalDateTime dateTime) {
+        int excessMinutes = dateTime.getMinute() % MINUTES_USED_IN_ROUNDING_OFF;
+        if (excessMinutes == 0 && dateTime.getSecond() == 0 && dateTime.getNano() == 0) {
+            return dateTime;
+        }
+        return dateTime.withSecond(0).withNano(0).plusMinutes(MINUTES_USED_IN_ROUNDING_OFF - excessMinutes);
+    }
+
+    /**
+     * The screenings planned for a theater on a date.
+     */
+    private static class TheaterDay {
+        private final Theater theater;
+        private final LocalDate date;
+        private final List<Movie> assignedMovies = new ArrayList<>();
+        /** The opening hours of the date, less the running time of the existing and assigned screenings */
+        private Duration freeTime;
+
+        TheaterDay(Theater theater, LocalDate date) {
+            this.theater = theater;
+            this.date = date;
+            LocalDateTime opening = date.atTime(OPENING_TIME);
+            LocalDateTime closing = date.plusDays(1).atTime(CLOSING_TIME);
+            freeTime = Duration.between(opening, closing);
+            for (Screening screening : theater.screeningsOn(date)) {
+                freeTime = freeTime.minus(Duration.between(screening.getScreeningDateTime(),
+                        screening.getScreeningEndDateTime()));
+            }
+        }
+
+        void assign(Movie movie, Duration runningTime) {
+            assignedMovies.add(movie);
+            freeTime = freeTime.minus(runningTime);
+        }
+
+        /**
+         * Places the assigned screenings one after another from the opening time, skipping over existing
+         * screenings, and returns those which fit before the closing time.
+         */
+        List<Screening> fill() {
+            List<Screening> screenings = new ArrayList<>();
+            LocalDateTime closing = date.plusDays(1).atTime(CLOSING_TIME);
+            LocalDateTime next = date.atTime(OPENING_TIME);
+            for (Movie movie : assignedMovies) {
+                LocalDateTime start = next;
+                LocalDateTime end = AddScreeningCommand.getEndTime(movie, start);
+                while (!end.isAfter(closing) && theater.overlaps(start, end)) {
+                    start = start.plusMinutes(MINUTES_USED_IN_ROUNDING_OFF);
+                    end = AddScreeningCommand.getEndTime(movie, start);
+                }
+                if (end.isAfter(closing)) {
+                    continue;
+                }
+                screenings.add(new Screening(movie.getName().toString(), theater, start, end));
+                next = roundUp(end);
+            }
+            return screenings;
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package seedu.address.logic;
 
+import java.util.List;
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -20,6 +23,24 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Parses all the commands, then executes them in order as a single command which is saved, shown and undone
+     * once. Nothing is executed if any command cannot be parsed, and no changes are kept if any command fails.
+     * @param commandTexts The commands to execute, one per element.
+     * @return the result of the batch execution.
+     * @throws CommandException If an error occurs during the execution of any command.
+     * @throws ParseException If an error occurs during the parsing of any command.
+     */
+    CommandResult executeBatch(List<String> commandTexts) throws CommandException, ParseException;
+
+    /**
+     * Previews the result of a command finding cinemas or movies without executing it, so the filtered lists and the
+     * command history are left as they are. May be called from any thread.
+     * @param commandText The command as being typed by the user.
+     * @return the preview, or an empty {@code Optional} if the command is not one to preview or cannot be parsed.
+     */
+    Optional<String> preview(String commandText);
+
     /** Returns an unmodifiable view of the filtered list of cinemas */
     ObservableList<Cinema> getFilteredCinemaList();
 
@@ -1,10 +1,14 @@
 package seedu.address.logic;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.ComponentManager;
+import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -16,6 +20,8 @@ import seedu.address.model.movie.Movie;
 
 /**
  * The main LogicManager of the app.
+ * Commands are executed and previewed while holding the lock of the LogicManager, so that a preview running on a
+ * background thread never sees the model, or its lazily built search indexes, half way through a change.
  */
 public class LogicManager extends ComponentManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
@@ -26,26 +32,59 @@ public class LogicManager extends ComponentManager implements Logic {
     private final UndoRedoStack undoRedoStack;
 
     public LogicManager(Model model) {
+        this(model, Config.DEFAULT_MAX_UNDO_DEPTH);
+    }
+
+    public LogicManager(Model model, int maxUndoDepth) {
         this.model = model;
         history = new CommandHistory();
         moviePlannerParser = new MoviePlannerParser();
-        undoRedoStack = new UndoRedoStack();
+        undoRedoStack = new UndoRedoStack(maxUndoDepth);
     }
 
     @Override
-    public CommandResult execute(String commandText) throws CommandException, ParseException {
+    public synchronized CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
         try {
             Command command = moviePlannerParser.parseCommand(commandText);
-            command.setData(model, history, undoRedoStack);
-            CommandResult result = command.execute();
-            undoRedoStack.push(command);
-            return result;
+            return executeCommand(command);
         } finally {
             history.add(commandText);
         }
     }
 
+    @Override
+    public synchronized CommandResult executeBatch(List<String> commandTexts) throws CommandException, ParseException {
+        logger.info("----------------[BATCH COMMAND][" + commandTexts.size() + " lines]");
+        BatchCommand command = moviePlannerParser.parseBatch(commandTexts);
+        return executeCommand(command);
+    }
+
+    /**
+     * Executes {@code command} and adds it to the undo stack if it succeeds.
+     */
+    private CommandResult executeCommand(Command command) throws CommandException {
+        command.setData(model, history, undoRedoStack);
+        CommandResult result = command.execute();
+        undoRedoStack.push(command);
+        return result;
+    }
+
+    @Override
+    public synchronized Optional<String> preview(String commandText) {
+        Optional<Command> command;
+        try {
+            command = moviePlannerParser.parsePreviewedCommand(commandText);
+        } catch (ParseException pe) {
+            return Optional.empty();
+        }
+        if (!command.isPresent()) {
+            return Optional.empty();
+        }
+        command.get().setData(model, history, undoRedoStack);
+        return command.get().preview();
+    }
+
     @Override
     public ObservableList<Cinema> getFilteredCinemaList() {
         return model.getFilteredCinemaList();
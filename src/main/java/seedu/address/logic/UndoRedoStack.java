@@ -1,7 +1,10 @@
 package seedu.address.logic;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.util.Stack;
 
+import seedu.address.commons.core.Config;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.UndoCommand;
@@ -9,20 +12,31 @@ import seedu.address.logic.commands.UndoableCommand;
 
 /**
  * Maintains the undo-stack (the stack of commands that can be undone) and the redo-stack (the stack of
- * commands that can be undone).
+ * commands that can be undone). At most {@code maxUndoDepth} commands are kept; pushing another command
+ * discards the oldest one.
  */
 public class UndoRedoStack {
+    public static final String MESSAGE_MAX_UNDO_DEPTH_CONSTRAINTS = "Maximum undo depth should be positive";
+
+    private final int maxUndoDepth;
     private Stack<UndoableCommand> undoStack;
     private Stack<UndoableCommand> redoStack;
 
     public UndoRedoStack() {
+        this(Config.DEFAULT_MAX_UNDO_DEPTH);
+    }
+
+    public UndoRedoStack(int maxUndoDepth) {
+        checkArgument(maxUndoDepth > 0, MESSAGE_MAX_UNDO_DEPTH_CONSTRAINTS);
+        this.maxUndoDepth = maxUndoDepth;
         undoStack = new Stack<>();
         redoStack = new Stack<>();
     }
 
     /**
-     * Pushes {@code command} onto the undo-stack if it is of type {@code UndoableCommand}. Clears the redo-stack
-     * if {@code command} is not of type {@code UndoCommand} or {@code RedoCommand}.
+     * Pushes {@code command} onto the undo-stack if it is of type {@code UndoableCommand}, discarding the oldest
+     * command if the undo-stack is full. Clears the redo-stack if {@code command} is not of type
+     * {@code UndoCommand} or {@code RedoCommand}.
      */
     public void push(Command command) {
         if (!(command instanceof UndoCommand) && !(command instanceof RedoCommand)) {
@@ -33,6 +47,9 @@ public class UndoRedoStack {
             return;
         }
 
+        if (undoStack.size() == maxUndoDepth) {
+            undoStack.remove(0);
+        }
         undoStack.add((UndoableCommand) command);
     }
 
@@ -8,15 +8,11 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_SCREENING_DATE_TIME;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.List;
 
-import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
-import seedu.address.commons.events.ui.ReloadBrowserPanelEvent;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.cinema.Cinema;
 import seedu.address.model.cinema.Theater;
@@ -90,7 +86,7 @@ public class AddScreeningCommand extends UndoableCommand {
 
         try {
             model.updateCinema(cinema, updatedCinema);
-            EventsCenter.getInstance().post(new ReloadBrowserPanelEvent(updatedCinema, toAddScreeningEndDateTime));
+            model.reloadSchedule(updatedCinema, toAddScreeningEndDateTime);
         } catch (DuplicateCinemaException dce) {
             throw new CommandException(AddCommand.MESSAGE_DUPLICATE_CINEMA);
         } catch (CinemaNotFoundException cnfe) {
@@ -117,49 +113,13 @@ public class AddScreeningCommand extends UndoableCommand {
     }
 
     /**
-     * Creates and returns a {@code Cinema} with the new screening
+     * Creates and returns a {@code Cinema} with the new screening.
+     * Every theater other than the one screening the movie is shared with the original cinema.
      */
     private Cinema generateUpdatedCinema(Screening newScreening) {
-        ArrayList<Theater> updatedTheaterList = generateUpdatedTheaterList(newScreening);
-        return new Cinema(cinema.getName(), cinema.getPhone(), cinema.getEmail(),
-                cinema.getAddress(), updatedTheaterList);
-    }
-
-
-    /**
-     * Generates and returns an updated list of theaters
-     */
-    public ArrayList<Theater> generateUpdatedTheaterList(Screening newScreening) {
-        ArrayList<Theater> updatedTheaterList = new ArrayList<>();
-
-        for (Theater t : cinema.getTheaters()) {
-            // adding screening to this theater
-            if (t.equals(theater)) {
-                Theater theaterToBeUpdated = new Theater(t.getTheaterNumber());
-                ArrayList<Screening> updatedScreeningList = new ArrayList<>();
-
-                addScreeningsToExistingTheater(t, theaterToBeUpdated, updatedScreeningList, newScreening);
-                updatedTheaterList.add(theaterToBeUpdated);
-            } else {
-                updatedTheaterList.add(t);
-            }
-        }
-        return updatedTheaterList;
-    }
-
-    /**
-     * Populates the list of screenings in a theater in the given list with new Screening
-     */
-    private void addScreeningsToExistingTheater(Theater theater, Theater updatedTheater,
-                                                ArrayList<Screening> screeningList, Screening newScreening) {
-        for (Screening s : theater.getScreeningList()) {
-            screeningList.add(s);
-        }
-
+        Theater updatedTheater = theater.withScreening(newScreening);
         newScreening.setTheater(updatedTheater);
-        screeningList.add(newScreening);
-        updatedTheater.setScreeningList(screeningList);
-        updatedTheater.sortScreeningList();
+        return cinema.withTheater(updatedTheater);
     }
 
     /**
@@ -171,10 +131,9 @@ public class AddScreeningCommand extends UndoableCommand {
         movie = getValidMovie();
         cinema = getValidCinema();
         theater = getValidTheater(cinema);
-        ArrayList<Screening> screeningList = theater.getScreeningList();
-        toAddScreeningEndDateTime = getEndTime();
+        toAddScreeningEndDateTime = getEndTime(movie, toAddScreeningDateTime);
 
-        return isSlotAvailable(screeningList) && canAddMovie(movie);
+        return !theater.overlaps(toAddScreeningDateTime, toAddScreeningEndDateTime) && canAddMovie(movie);
     }
 
     /**
@@ -233,128 +192,14 @@ public class AddScreeningCommand extends UndoableCommand {
         return toAddDate.equals(releaseDate) || toAddDate.isAfter(releaseDate);
     }
 
-    /**
-     * Checks that the screening can fit into the schedule of the theater.
-     * @param screeningList list of screenings
-     * @return true if the screening can fit into the schedule
-     */
-    private boolean isSlotAvailable(ArrayList<Screening> screeningList) {
-        int totalScreeningsWithSameDate = getTotalScreeningsWithSameDate(screeningList);
-
-        if (totalScreeningsWithSameDate == 0) {
-            return true;
-        } else if (totalScreeningsWithSameDate == 1) {
-            return hasNoConflictWithOneOtherScreening(screeningList);
-        } else {
-            return hasNoConflictWithBeforeAndAfter(totalScreeningsWithSameDate, screeningList);
-        }
-    }
-
-    /**
-     * Checks that the screening does not conflict with one other screening
-     * @param screeningList list of screenings
-     * @return true if no conflict
-     */
-    private boolean hasNoConflictWithOneOtherScreening(ArrayList<Screening> screeningList) {
-        for (Screening s: screeningList) {
-            if (isSameScreeningDate(toAddScreeningDateTime, s)) {
-                return isScreenTimeOnOrBefore(s) || isScreenTimeOnOrAfter(s);
-            }
-        }
-        return false;
-    }
-
-    /**
-     * Checks that the screening does not conflict with the screening before or screening after it
-     * @param totalScreenings number of screenings with the same date
-     * @param screeningList list of screenings
-     * @return true if no conflict
-     */
-    private boolean hasNoConflictWithBeforeAndAfter(int totalScreenings, ArrayList<Screening> screeningList) {
-        int count = 0;
-        boolean hasNoConflict = false;
-        Screening screeningBefore = screeningList.get(0);
-
-        if (isSameScreeningDate(toAddScreeningDateTime, screeningBefore)) {
-            count++;
-        }
-
-        for (int i = 1; i < screeningList.size(); i++) {
-            Screening currentScreening = screeningList.get(i);
-            if (hasNoConflict == true) {
-                break;
-            }
-
-            //first screening
-            if (count == 1 && isScreenTimeOnOrBefore(screeningBefore)) {
-                return true;
-            } else if (isSameScreeningDate(toAddScreeningDateTime, currentScreening)) {
-                count++;
-                // last screening
-                if (count == totalScreenings && isScreenTimeOnOrAfter(currentScreening)) {
-                    return true;
-                // screening in between
-                } else {
-                    hasNoConflict = isScreenTimeOnOrAfter(screeningBefore)
-                            && isScreenTimeOnOrBefore(currentScreening);
-                }
-            }
-            screeningBefore = currentScreening;
-        }
-        return hasNoConflict;
-    }
-
-    /**
-     * Checks that the start time of the screening toAdd is on or after the end time of the screening before it
-     * @return true if the start time of the screening is on or after the end time of the screening before it
-     */
-    private boolean isScreenTimeOnOrAfter(Screening screeningBefore) {
-        LocalTime toAddTime = toAddScreeningDateTime.toLocalTime();
-        LocalTime screeningBeforeTime = screeningBefore.getScreeningEndDateTime().toLocalTime();
-        return toAddTime.isAfter(screeningBeforeTime) || toAddTime.equals(screeningBeforeTime);
-    }
-
-    /**
-     * Checks that the end time of the screening toAdd is on or before the start time of the screening after it
-     * @return true if the end time of the screening is before the start time of the screening after it
-     */
-    private boolean isScreenTimeOnOrBefore(Screening screeningAfter) {
-        LocalTime toAddTime = toAddScreeningEndDateTime.toLocalTime();
-        LocalTime screeningAfterTime = screeningAfter.getScreeningDateTime().toLocalTime();
-        return toAddTime.isBefore(screeningAfterTime) || toAddTime.equals(screeningAfterTime);
-    }
-
-    /**
-     * Checks if two screenings have the same date
-     * @return true if both screenings have the same date
-     */
-    private boolean isSameScreeningDate(LocalDateTime screeningDateTime, Screening s2) {
-        return screeningDateTime.toLocalDate().equals(s2.getScreeningDateTime().toLocalDate());
-    }
-
-    /**
-     * Calculates the total number of screenings with the same screening date
-     * @param screeningList list of screenings
-     * @return total number of screenings
-     */
-    private int getTotalScreeningsWithSameDate(ArrayList<Screening> screeningList) {
-        int count = 0;
-        for (Screening s: screeningList) {
-            if (isSameScreeningDate(toAddScreeningDateTime, s)) {
-                count++;
-            }
-        }
-        return count;
-    }
-
     /**
      * Calculates the time needed to screen a movie.
      * Elements used in calculations are movie's duration, preparation delay and rounding off to nearest 5 minutes
-     * @return endTime time where the screening will end
+     * @return endTime time where the screening of {@code movie} starting at {@code screeningDateTime} will end
      */
-    private LocalDateTime getEndTime() {
+    public static LocalDateTime getEndTime(Movie movie, LocalDateTime screeningDateTime) {
         int movieDuration = Integer.parseInt(movie.getDuration().toString());
-        LocalDateTime endTime = toAddScreeningDateTime.plusMinutes(movieDuration).plusMinutes(PREPARATION_DELAY);
+        LocalDateTime endTime = screeningDateTime.plusMinutes(movieDuration).plusMinutes(PREPARATION_DELAY);
 
         if (endTime.getMinute() % MINUTES_USED_IN_ROUNDING_OFF != 0) {
             LocalDateTime roundedTime = endTime;
@@ -0,0 +1,176 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CINEMA_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MOVIE_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STARTDATE;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.AutoScheduler;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.cinema.Cinema;
+import seedu.address.model.cinema.Theater;
+import seedu.address.model.cinema.exceptions.CinemaNotFoundException;
+import seedu.address.model.cinema.exceptions.DuplicateCinemaException;
+import seedu.address.model.movie.Movie;
+import seedu.address.model.screening.Screening;
+
+/**
+ * Fills the theaters of a cinema with screenings of movies over a range of dates, without overlapping the screenings
+ * the theaters already have.
+ */
+public class AutoScheduleCommand extends UndoableCommand {
+
+    public static final String COMMAND_WORD = "autoschedule";
+    public static final String COMMAND_ALIAS = "auto";
+
+    /** The longest range of dates which can be scheduled at once */
+    public static final int MAX_DAYS_SCHEDULED = 366;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Schedules screenings of movies in the theaters of a cinema from the start date to the end date. "
+            + "Each movie is given with the number of screenings wanted. Screenings are scheduled between "
+            + AutoScheduler.OPENING_TIME + " and midnight, on or after the release date of the movie.\n"
+            + "Parameters: "
+            + PREFIX_CINEMA_INDEX + "CINEMA_INDEX "
+            + PREFIX_STARTDATE + "START_DATE "
+            + "[" + PREFIX_END_DATE + "END_DATE] "
+            + PREFIX_MOVIE_INDEX + "MOVIE_INDEX:SCREENINGS...\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_CINEMA_INDEX + "1 "
+            + PREFIX_STARTDATE + "01/05/2018 "
+            + PREFIX_END_DATE + "31/05/2018 "
+            + PREFIX_MOVIE_INDEX + "1:200 "
+            + PREFIX_MOVIE_INDEX + "2:120";
+
+    public static final String MESSAGE_SUCCESS = "Scheduled %1$d screenings in %2$s";
+    public static final String MESSAGE_SUCCESS_WITH_UNSCHEDULED = "Scheduled %1$d screenings in %2$s. "
+            + "%3$d screenings did not fit and were not scheduled";
+
+    private final Index cinemaIndex;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final Map<Index, Integer> screeningCounts;
+
+    /**
+     * Creates an AutoScheduleCommand to schedule {@code screeningCounts} screenings of the movie at each index in the
+     * cinema at {@code cinemaIndex}, from {@code startDate} to {@code endDate} inclusive.
+     */
+    public AutoScheduleCommand(Index cinemaIndex, LocalDate startDate, LocalDate endDate,
+                               Map<Index, Integer> screeningCounts) {
+        requireNonNull(cinemaIndex);
+        requireNonNull(startDate);
+        requireNonNull(endDate);
+        requireNonNull(screeningCounts);
+        this.cinemaIndex = cinemaIndex;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.screeningCounts = new LinkedHashMap<>(screeningCounts);
+    }
+
+    @Override
+    protected CommandResult executeUndoableCommand() throws CommandException {
+        requireNonNull(model);
+        Cinema cinema = getCinema();
+        Map<Movie, Integer> movieCounts = getMovieCounts();
+
+        List<Screening> screenings = new AutoScheduler(cinema, startDate, endDate, movieCounts).schedule();
+        Cinema updatedCinema = addScreenings(cinema, screenings, movieCounts);
+        try {
+            model.updateCinema(cinema, updatedCinema);
+            model.reloadSchedule(updatedCinema, startDate.atTime(AutoScheduler.OPENING_TIME));
+        } catch (DuplicateCinemaException dce) {
+            throw new CommandException(AddCommand.MESSAGE_DUPLICATE_CINEMA);
+        } catch (CinemaNotFoundException cnfe) {
+            throw new AssertionError("The target cinema cannot be missing");
+        }
+
+        int wantedCount = movieCounts.values().stream().mapToInt(Integer::intValue).sum();
+        if (screenings.size() == wantedCount) {
+            return new CommandResult(String.format(MESSAGE_SUCCESS, screenings.size(), cinema.getName()));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS_WITH_UNSCHEDULED, screenings.size(), cinema.getName(),
+                wantedCount - screenings.size()));
+    }
+
+    /**
+     * Returns the cinema at {@code cinemaIndex} in the last shown cinema list.
+     */
+    private Cinema getCinema() throws CommandException {
+        List<Cinema> lastShownCinemaList = model.getFilteredCinemaList();
+        if (cinemaIndex.getZeroBased() >= lastShownCinemaList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_CINEMA_DISPLAYED_INDEX);
+        }
+        return lastShownCinemaList.get(cinemaIndex.getZeroBased());
+    }
+
+    /**
+     * Returns the number of screenings wanted of each movie, looking the movies up in the last shown movie list.
+     */
+    private Map<Movie, Integer> getMovieCounts() throws CommandException {
+        List<Movie> lastShownMovieList = model.getFilteredMovieList();
+        Map<Movie, Integer> movieCounts = new LinkedHashMap<>();
+        for (Map.Entry<Index, Integer> screeningCount : screeningCounts.entrySet()) {
+            int movieIndex = screeningCount.getKey().getZeroBased();
+            if (movieIndex >= lastShownMovieList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_MOVIE_DISPLAYED_INDEX);
+            }
+            movieCounts.merge(lastShownMovieList.get(movieIndex), screeningCount.getValue(), Integer::sum);
+        }
+        return movieCounts;
+    }
+
+    /**
+     * Returns {@code cinema} with {@code screenings} added to its theaters, and adds the screenings to their movies.
+     * Every theater without new screenings is shared with the original cinema.
+     */
+    private Cinema addScreenings(Cinema cinema, List<Screening> screenings, Map<Movie, Integer> movieCounts) {
+        Map<String, Movie> movies = new HashMap<>();
+        for (Movie movie : movieCounts.keySet()) {
+            movies.put(movie.getName().toString(), movie);
+        }
+
+        Cinema updatedCinema = cinema;
+        int start = 0;
+        while (start < screenings.size()) {
+            Theater theater = screenings.get(start).getTheater();
+            int end = start;
+            while (end < screenings.size() && screenings.get(end).getTheater() == theater) {
+                end++;
+            }
+            List<Screening> theaterScreenings = new ArrayList<>(screenings.subList(start, end));
+            Theater updatedTheater = theater.withScreenings(theaterScreenings);
+            for (Screening screening : theaterScreenings) {
+                screening.setTheater(updatedTheater);
+                movies.get(screening.getMovieName()).addScreening(screening);
+            }
+            updatedCinema = updatedCinema.withTheater(updatedTheater);
+            start = end;
+        }
+        return updatedCinema;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) { // short circuit if same object
+            return true;
+        }
+        if (!(other instanceof AutoScheduleCommand)) { // instanceof handles nulls
+            return false;
+        }
+        AutoScheduleCommand otherCommand = (AutoScheduleCommand) other;
+        return cinemaIndex.equals(otherCommand.cinemaIndex)
+                && startDate.equals(otherCommand.startDate)
+                && endDate.equals(otherCommand.endDate)
+                && screeningCounts.equals(otherCommand.screeningCounts);
+    }
+}
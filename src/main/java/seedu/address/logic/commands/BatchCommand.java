@@ -0,0 +1,94 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.MoviePlannerChange;
+
+/**
+ * Executes a list of commands as a single command. The MoviePlanner is only saved and shown once all the commands
+ * have been executed, and the commands are undone and redone together.
+ */
+public class BatchCommand extends UndoableCommand {
+
+    public static final String COMMAND_WORD = "batch";
+    public static final String COMMAND_ALIAS = "source";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Executes the commands in a file, one command per line, as a single command. "
+            + "Blank lines and lines starting with # are ignored.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/schedule.txt";
+
+    public static final String MESSAGE_SUCCESS = "Executed %1$d commands";
+    public static final String MESSAGE_INVALID_LINE = "Line %1$d of the batch is invalid: %2$s";
+    public static final String MESSAGE_NOT_BATCHABLE =
+            "Only commands which can be undone, other than batch, and searches can be part of a batch";
+    public static final String MESSAGE_COMMAND_FAILED = "Command %1$d of the batch failed, no changes were made: %2$s";
+
+    private final List<Command> commands;
+
+    /**
+     * Creates a BatchCommand to execute {@code commands} in order.
+     */
+    public BatchCommand(List<Command> commands) {
+        requireNonNull(commands);
+        this.commands = new ArrayList<>(commands);
+    }
+
+    @Override
+    public void setData(Model model, CommandHistory history, UndoRedoStack undoRedoStack) {
+        super.setData(model, history, undoRedoStack);
+        for (Command command : commands) {
+            command.setData(model, history, undoRedoStack);
+        }
+    }
+
+    /**
+     * Executes the commands in order. If any command fails, the changes made by the commands before it are reverted.
+     */
+    @Override
+    protected CommandResult executeUndoableCommand() throws CommandException {
+        requireNonNull(model);
+        model.startBatchUpdate();
+        model.startRecordingChanges();
+        boolean isSuccessful = false;
+        try {
+            for (int i = 0; i < commands.size(); i++) {
+                executeCommand(i);
+            }
+            isSuccessful = true;
+        } finally {
+            List<MoviePlannerChange> changes = model.stopRecordingChanges();
+            if (!isSuccessful) {
+                model.undoChanges(changes);
+            }
+            model.endBatchUpdate();
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commands.size()));
+    }
+
+    /**
+     * Executes the command at {@code index}, reporting its position in the batch if it fails.
+     */
+    private void executeCommand(int index) throws CommandException {
+        try {
+            commands.get(index).execute();
+        } catch (CommandException ce) {
+            throw new CommandException(String.format(MESSAGE_COMMAND_FAILED, index + 1, ce.getMessage()));
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BatchCommand // instanceof handles nulls
+                && commands.equals(((BatchCommand) other).commands));
+    }
+}
@@ -1,5 +1,8 @@
 package seedu.address.logic.commands;
 
+import java.util.List;
+import java.util.Optional;
+
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.events.BaseEvent;
@@ -12,6 +15,9 @@ import seedu.address.model.Model;
  * Represents a command with hidden internal logic and the ability to be executed.
  */
 public abstract class Command {
+    /** The number of matches named in a preview. */
+    public static final int PREVIEW_SIZE = 3;
+
     protected Model model;
     protected CommandHistory history;
     protected UndoRedoStack undoRedoStack;
@@ -36,6 +42,23 @@ public abstract class Command {
         return String.format(Messages.MESSAGE_MOVIES_LISTED_OVERVIEW, displaySize);
     }
 
+    /**
+     * Constructs a preview of the matches of a query, naming the first {@code PREVIEW_SIZE} of them.
+     *
+     * @param countFormat message naming the number of matches
+     * @param matchCount the number of matches
+     * @param firstMatches the names of the first matches, at most {@code PREVIEW_SIZE} of them
+     * @return preview of the matches
+     */
+    public static String getMessageForPreview(String countFormat, int matchCount, List<String> firstMatches) {
+        String message = String.format(countFormat, matchCount);
+        if (firstMatches.isEmpty()) {
+            return message;
+        }
+        String ellipsis = matchCount > firstMatches.size() ? ", ..." : "";
+        return message + ": " + String.join(", ", firstMatches) + ellipsis;
+    }
+
     /**
      * Executes the command and returns the result message.
      *
@@ -44,6 +67,16 @@ public abstract class Command {
      */
     public abstract CommandResult execute() throws CommandException;
 
+    /**
+     * Returns a preview of the result of the command, without executing it or changing the model. Called off the
+     * JavaFX application thread while the user is still typing the command.
+     *
+     * @return preview of the result, or an empty {@code Optional} if the command has no preview
+     */
+    public Optional<String> preview() {
+        return Optional.empty();
+    }
+
     /**
      * Provides any needed dependencies to the command.
      * Commands making use of any of these should override this method to gain
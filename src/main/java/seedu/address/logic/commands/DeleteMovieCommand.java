@@ -2,14 +2,20 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.cinema.Cinema;
+import seedu.address.model.cinema.Theater;
+import seedu.address.model.cinema.exceptions.CinemaNotFoundException;
+import seedu.address.model.cinema.exceptions.DuplicateCinemaException;
 import seedu.address.model.movie.Movie;
 import seedu.address.model.movie.exceptions.MovieNotFoundException;
+import seedu.address.model.screening.Screening;
 //@@author slothhy
 /**
  * Deletes a movie identified using it's last displayed index from the movie planner.
@@ -38,16 +44,46 @@ public class DeleteMovieCommand extends UndoableCommand {
     @Override
     public CommandResult executeUndoableCommand() {
         requireNonNull(movieToDelete);
+        model.startBatchUpdate();
         try {
-            movieToDelete.deleteScreenings();
+            deleteScreenings();
             model.deleteMovie(movieToDelete);
         } catch (MovieNotFoundException mnfe) {
             throw new AssertionError("The target movie cannot be missing");
+        } finally {
+            model.endBatchUpdate();
         }
 
         return new CommandResult(String.format(MESSAGE_DELETE_MOVIE_SUCCESS, movieToDelete));
     }
 
+    /**
+     * Deletes the screenings of the movie from every cinema, updating each cinema which screens it.
+     */
+    private void deleteScreenings() {
+        String movieName = movieToDelete.getName().toString();
+        for (Cinema cinema : new ArrayList<>(model.getMoviePlanner().getCinemaList())) {
+            Cinema updatedCinema = cinema;
+            for (Theater theater : cinema.getTheaters()) {
+                Theater updatedTheater = theater;
+                for (Screening screening : theater.getScreeningList()) {
+                    if (screening.getMovieName().equals(movieName)) {
+                        updatedTheater = updatedTheater.withoutScreening(screening);
+                    }
+                }
+                updatedCinema = updatedTheater == theater ? updatedCinema : updatedCinema.withTheater(updatedTheater);
+            }
+
+            if (updatedCinema != cinema) {
+                try {
+                    model.updateCinema(cinema, updatedCinema);
+                } catch (DuplicateCinemaException | CinemaNotFoundException e) {
+                    throw new AssertionError("Deleting screenings should not change the cinema itself", e);
+                }
+            }
+        }
+    }
+
     @Override
     protected void preprocessUndoableCommand() throws CommandException {
         List<Movie> lastShownList = model.getFilteredMovieList();
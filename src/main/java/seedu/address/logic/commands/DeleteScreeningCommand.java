@@ -6,14 +6,11 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NUMOFTHEATERS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SCREENING_DATE_TIME;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
-import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
-import seedu.address.commons.events.ui.ReloadBrowserPanelEvent;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.cinema.Cinema;
 import seedu.address.model.cinema.Theater;
@@ -74,7 +71,7 @@ public class DeleteScreeningCommand extends UndoableCommand {
 
         try {
             model.updateCinema(cinema, updatedCinema);
-            EventsCenter.getInstance().post(new ReloadBrowserPanelEvent(updatedCinema, toDeleteScreeningDateTime));
+            model.reloadSchedule(updatedCinema, toDeleteScreeningDateTime);
         } catch (CinemaNotFoundException cnfe) {
             throw new AssertionError("The target cinema cannot be missing");
         } catch (DuplicateCinemaException dce) {
@@ -103,56 +100,15 @@ public class DeleteScreeningCommand extends UndoableCommand {
      * Returns a valid screening if it's found
      */
     private Screening getValidScreening(Theater theater) throws CommandException {
-        Screening screening = null;
-        for (Screening s : theater.getScreeningList()) {
-            if (s.getScreeningDateTime().equals(toDeleteScreeningDateTime)) {
-                screening = s;
-            }
-        }
-        return screening;
+        return theater.getScreeningAt(toDeleteScreeningDateTime).orElse(null);
     }
 
     /**
-     * Creates and returns a {@code Cinema} with the screening removed
+     * Creates and returns a {@code Cinema} with the screening removed.
+     * Every theater other than {@code theater} is shared with the original cinema.
      */
     private Cinema generateUpdatedCinema(Theater theater) {
-        ArrayList<Theater> updatedTheaterList = generateUpdatedTheaterList(theater);
-        return new Cinema(cinema.getName(), cinema.getPhone(), cinema.getEmail(),
-                cinema.getAddress(), updatedTheaterList);
-    }
-
-    /**
-     * Generates and returns an updated list of theaters, with the screening removed
-     */
-    public ArrayList<Theater> generateUpdatedTheaterList(Theater theater) {
-        ArrayList<Theater> updatedTheaterList = new ArrayList<>();
-
-        for (Theater t : cinema.getTheaters()) {
-            if (t.equals(theater)) {
-                Theater theaterToBeUpdated = new Theater(t.getTheaterNumber());
-                ArrayList<Screening> updatedScreeningList = new ArrayList<>();
-
-                addScreeningsToExistingTheater(t, theaterToBeUpdated, updatedScreeningList);
-                updatedTheaterList.add(theaterToBeUpdated);
-            } else {
-                updatedTheaterList.add(t);
-            }
-        }
-        return updatedTheaterList;
-    }
-
-    /**
-     * Populates the list of screenings in a theater in the given list
-     */
-    private void addScreeningsToExistingTheater(Theater theater, Theater updatedTheater,
-                                                ArrayList<Screening> screeningList) {
-        for (Screening s : theater.getScreeningList()) {
-            if (!s.equals(toDelete)) {
-                screeningList.add(s);
-            }
-        }
-        updatedTheater.setScreeningList(screeningList);
-        updatedTheater.sortScreeningList();
+        return cinema.withTheater(theater.withoutScreening(toDelete));
     }
 
     /**
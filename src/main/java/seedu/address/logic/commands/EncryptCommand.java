@@ -28,7 +28,7 @@ public class EncryptCommand extends Command {
     @Override
     public CommandResult execute() {
         //user request to encrypt
-        raise(new EncryptionRequestEvent(password));
+        raise(new EncryptionRequestEvent(model.getMoviePlanner(), password));
         return new CommandResult(MESSAGE_SUCCESS);
     }
 }
@@ -1,10 +1,21 @@
 package seedu.address.logic.commands;
 
-import seedu.address.model.cinema.NameContainsKeywordsPredicate;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.model.cinema.Cinema;
+import seedu.address.model.cinema.CinemaQuery;
 
 /**
- * Finds and lists all cinemas in movie planner whose name contains any of the argument keywords.
- * Keyword matching is case sensitive.
+ * Finds and lists all cinemas in movie planner whose name contains any of the argument keywords, whose address
+ * contains every address keyword and whose phone starts with the phone prefix.
+ * Keyword matching is case insensitive.
  */
 public class FindCommand extends Command {
 
@@ -12,26 +23,47 @@ public class FindCommand extends Command {
     public static final String COMMAND_ALIAS = "f";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all cinemas whose names contain any of "
-            + "the specified keywords (case-sensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "the specified keywords, whose addresses contain all of the specified address keywords and whose "
+            + "phones start with the specified digits (case-insensitive), "
+            + "and displays them as a list with index numbers.\n"
+            + "Parameters: [KEYWORD]... "
+            + "[" + PREFIX_ADDRESS + "ADDRESS_KEYWORDS] "
+            + "[" + PREFIX_PHONE + "PHONE_PREFIX]\n"
+            + "Example: " + COMMAND_WORD + " cathay shaws "
+            + PREFIX_ADDRESS + "tampines "
+            + PREFIX_PHONE + "65";
 
-    private final NameContainsKeywordsPredicate predicate;
+    private final CinemaQuery query;
 
-    public FindCommand(NameContainsKeywordsPredicate predicate) {
-        this.predicate = predicate;
+    public FindCommand(CinemaQuery query) {
+        this.query = query;
     }
 
     @Override
     public CommandResult execute() {
-        model.updateFilteredCinemaList(predicate);
+        model.updateFilteredCinemaList(query);
         return new CommandResult(getMessageForCinemaListShownSummary(model.getFilteredCinemaList().size()));
     }
 
+    /**
+     * Returns the number of cinemas matching the query and the names of the first few, in alphabetical order, as
+     * found by the search index of the movie planner. The filtered cinema list is left as it is.
+     */
+    @Override
+    public Optional<String> preview() {
+        Set<Cinema> matches = model.getMoviePlanner().findCinemas(query);
+        List<String> firstMatches = matches.stream()
+                .map(cinema -> cinema.getName().fullName)
+                .sorted(String.CASE_INSENSITIVE_ORDER)
+                .limit(PREVIEW_SIZE)
+                .collect(Collectors.toList());
+        return Optional.of(getMessageForPreview(Messages.MESSAGE_CINEMAS_PREVIEW, matches.size(), firstMatches));
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && this.predicate.equals(((FindCommand) other).predicate)); // state check
+                && this.query.equals(((FindCommand) other).query)); // state check
     }
 }
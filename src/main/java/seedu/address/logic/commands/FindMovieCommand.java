@@ -1,19 +1,19 @@
 package seedu.address.logic.commands;
 
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIKE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STARTDATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
-import java.util.function.Predicate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import seedu.address.commons.core.Messages;
 import seedu.address.model.movie.Movie;
-import seedu.address.model.movie.NameAndStartDateAndTagContainsKeywordsPredicate;
-import seedu.address.model.movie.NameAndStartDateContainsKeywordsPredicate;
-import seedu.address.model.movie.NameAndTagContainsKeywordsPredicate;
-import seedu.address.model.movie.NameContainsKeywordsPredicate;
-import seedu.address.model.movie.StartDateAndTagContainsKeywordsPredicate;
-import seedu.address.model.movie.StartDateContainsKeywordsPredicate;
-import seedu.address.model.movie.TagContainsKeywordsPredicate;
+import seedu.address.model.movie.MovieQuery;
 //@@author slothhy
 /**
  * Finds and lists all movies in movie planner whose name contains any of the argument keywords.
@@ -30,53 +30,54 @@ public class FindMovieCommand extends Command {
             + "[" + PREFIX_NAME + "KEYWORDS] "
             + "[" + PREFIX_STARTDATE + "STARTDATE] "
             + "[" + PREFIX_TAG + "TAG] "
+            + "[" + PREFIX_LIKE + "KEYWORDS]\n"
+            + "Keywords given with " + PREFIX_LIKE + " match the start of words in movie names and tolerate typos, "
+            + "and the movies found are listed closest match first.\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_NAME + "avenger horror nemo "
             + PREFIX_STARTDATE + "20/10/2015 "
-            + PREFIX_TAG + "superhero";
-
-    private final Predicate<Movie> predicate;
-
-    public  FindMovieCommand(NameContainsKeywordsPredicate predicate) {
-        this.predicate = predicate;
-    }
-
-    public FindMovieCommand(NameAndStartDateContainsKeywordsPredicate predicate) {
-        this.predicate = predicate;
-    }
-
-    public FindMovieCommand(NameAndStartDateAndTagContainsKeywordsPredicate predicate) {
-        this.predicate = predicate;
-    }
-
-    public FindMovieCommand(NameAndTagContainsKeywordsPredicate predicate) {
-        this.predicate = predicate;
-    }
-
-    public  FindMovieCommand(StartDateContainsKeywordsPredicate predicate) {
-        this.predicate = predicate;
-    }
+            + PREFIX_TAG + "superhero\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_LIKE + "avengrs infin";
 
-    public FindMovieCommand(StartDateAndTagContainsKeywordsPredicate predicate) {
-        this.predicate = predicate;
-    }
+    private final MovieQuery query;
 
-    public FindMovieCommand(TagContainsKeywordsPredicate predicate) {
-        this.predicate = predicate;
+    public FindMovieCommand(MovieQuery query) {
+        this.query = query;
     }
 
-
     @Override
     public CommandResult execute() {
-        model.updateFilteredMovieList(predicate);
+        model.updateFilteredMovieList(query);
         return new CommandResult(getMessageForMovieListShownSummary(model.getFilteredMovieList().size()));
     }
 
+    /**
+     * Returns the number of movies matching the query and the names of the first few, closest match first if the
+     * query is ranked and in alphabetical order otherwise, as found by the search index of the movie planner.
+     * The filtered movie list is left as it is.
+     */
+    @Override
+    public Optional<String> preview() {
+        Set<Movie> matches = model.getMoviePlanner().findMovies(query);
+        Comparator<Movie> byName = Comparator.comparing(movie -> movie.getName().movieName,
+                String.CASE_INSENSITIVE_ORDER);
+        Comparator<Movie> order = query.isRanked()
+                ? Comparator.<Movie>comparingInt(query::distanceTo).thenComparing(byName)
+                : byName;
+        List<String> firstMatches = matches.stream()
+                .sorted(order)
+                .limit(PREVIEW_SIZE)
+                .map(movie -> movie.getName().movieName)
+                .collect(Collectors.toList());
+        return Optional.of(getMessageForPreview(Messages.MESSAGE_MOVIES_PREVIEW, matches.size(), firstMatches));
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindMovieCommand // instanceof handles nulls
-                && this.predicate.equals(((FindMovieCommand) other).predicate)); // state check
+                && this.query.equals(((FindMovieCommand) other).query)); // state check
     }
 
 }
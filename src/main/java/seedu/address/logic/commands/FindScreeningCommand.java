@@ -0,0 +1,73 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import seedu.address.model.screening.ScheduledScreening;
+
+/**
+ * Lists the screenings in every cinema which start in a time window.
+ */
+public class FindScreeningCommand extends Command {
+
+    public static final String COMMAND_WORD = "findscreening";
+    public static final String COMMAND_ALIAS = "fs";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the screenings in every cinema which start from the first date time, up to but excluding "
+            + "the second date time. If the second date time is left out, the screenings until the end of the day "
+            + "are listed.\n"
+            + "Parameters: "
+            + PREFIX_FROM + "DATE_TIME "
+            + "[" + PREFIX_TO + "DATE_TIME]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_FROM + "13/04/2018 19:00 "
+            + PREFIX_TO + "13/04/2018 20:00";
+
+    public static final String MESSAGE_SCREENINGS_LISTED = "%1$d screenings listed!";
+    public static final String MESSAGE_MORE_SCREENINGS = "... and %1$d more";
+
+    /** The most screenings listed in the result */
+    public static final int MAX_SCREENINGS_LISTED = 100;
+
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+
+    /**
+     * Creates a FindScreeningCommand to list the screenings which start in {@code [from, to)}.
+     */
+    public FindScreeningCommand(LocalDateTime from, LocalDateTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public CommandResult execute() {
+        List<ScheduledScreening> screenings = model.getScreeningsStartingBetween(from, to);
+
+        StringBuilder result = new StringBuilder(String.format(MESSAGE_SCREENINGS_LISTED, screenings.size()));
+        for (ScheduledScreening screening : screenings.subList(0, Math.min(screenings.size(),
+                MAX_SCREENINGS_LISTED))) {
+            result.append('\n').append(screening);
+        }
+        if (screenings.size() > MAX_SCREENINGS_LISTED) {
+            result.append('\n').append(String.format(MESSAGE_MORE_SCREENINGS,
+                    screenings.size() - MAX_SCREENINGS_LISTED));
+        }
+        return new CommandResult(result.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FindScreeningCommand // instanceof handles nulls
+                && from.equals(((FindScreeningCommand) other).from)
+                && to.equals(((FindScreeningCommand) other).to));
+    }
+}
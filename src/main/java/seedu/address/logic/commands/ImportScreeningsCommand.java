@@ -0,0 +1,418 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.FileUtil.SyncPolicy;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.model.cinema.Cinema;
+import seedu.address.model.cinema.Theater;
+import seedu.address.model.cinema.exceptions.CinemaNotFoundException;
+import seedu.address.model.cinema.exceptions.DuplicateCinemaException;
+import seedu.address.model.movie.Movie;
+import seedu.address.model.screening.Screening;
+
+/**
+ * Adds the screenings listed in a CSV file to the cinemas. Rows which cannot be added are listed in an error report
+ * beside the file, and all the other screenings are added in a single update.
+ */
+public class ImportScreeningsCommand extends UndoableCommand {
+
+    public static final String COMMAND_WORD = "importscreenings";
+    public static final String COMMAND_ALIAS = "is";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Adds the screenings in a CSV file, one screening per row. "
+            + "Each row holds the cinema name, theater number, movie name and screening date time, "
+            + "and the first row may be a header.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/screenings.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d screenings";
+    public static final String MESSAGE_SUCCESS_WITH_REJECTIONS = "Imported %1$d screenings. "
+            + "%2$d rows were rejected, the reasons are listed in %3$s";
+    public static final String MESSAGE_FILE_UNREADABLE = "The file %1$s cannot be read";
+    public static final String MESSAGE_REPORT_UNWRITABLE = "The error report %1$s cannot be written, "
+            + "no screenings were imported";
+    public static final String MESSAGE_REPORT_UNDELETABLE = "The error report %1$s of an earlier import cannot be "
+            + "deleted, no screenings were imported";
+
+    public static final String MESSAGE_INVALID_ROW = "A row should hold the cinema name, theater number, "
+            + "movie name and screening date time";
+    public static final String MESSAGE_UNKNOWN_CINEMA = "There is no cinema named %1$s";
+    public static final String MESSAGE_AMBIGUOUS_CINEMA = "There are several cinemas named %1$s";
+    public static final String MESSAGE_UNKNOWN_MOVIE = "There is no movie named %1$s";
+    public static final String MESSAGE_BEFORE_RELEASE = "The screening is before the release date of the movie";
+    public static final String MESSAGE_CONFLICT = "The screening overlaps another screening in the theater";
+
+    /** Appended to the path of the imported file to give the path of its error report */
+    public static final String REPORT_FILE_SUFFIX = ".rejected.csv";
+    public static final String REPORT_HEADER = "line,reason,row";
+
+    private static final String HEADER_FIRST_FIELD = "cinema";
+    private static final int FIELD_COUNT = 4;
+    private static final DateTimeFormatter ROW_DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/uuuu HH:mm");
+
+    private final File file;
+
+    /**
+     * Creates an ImportScreeningsCommand to add the screenings in {@code file}.
+     */
+    public ImportScreeningsCommand(File file) {
+        requireNonNull(file);
+        this.file = file;
+    }
+
+    /**
+     * Returns the error report of the screenings imported from {@code file}.
+     */
+    public static File getReportFile(File file) {
+        return new File(file.getPath() + REPORT_FILE_SUFFIX);
+    }
+
+    @Override
+    protected CommandResult executeUndoableCommand() throws CommandException {
+        requireNonNull(model);
+        Map<String, Cinema> cinemas = new HashMap<>();
+        Set<String> ambiguousCinemaNames = new HashSet<>();
+        for (Cinema cinema : model.getMoviePlanner().getCinemaList()) {
+            if (cinemas.putIfAbsent(cinema.getName().toString(), cinema) != null) {
+                ambiguousCinemaNames.add(cinema.getName().toString());
+            }
+        }
+        Map<String, ImportedMovie> movies = new HashMap<>();
+        for (Movie movie : model.getMoviePlanner().getMovieList()) {
+            movies.putIfAbsent(movie.getName().toString(), new ImportedMovie(movie));
+        }
+
+        Map<Theater, TheaterImport> imports = new IdentityHashMap<>();
+        List<Rejection> rejections = new ArrayList<>();
+        readScreenings(cinemas, ambiguousCinemaNames, movies, imports, rejections);
+
+        List<TheaterImport> theaterImports = new ArrayList<>(imports.values());
+        for (TheaterImport theaterImport : theaterImports) {
+            theaterImport.removeConflicts(rejections);
+        }
+
+        File reportFile = getReportFile(file);
+        if (rejections.isEmpty()) {
+            deleteReport(reportFile);
+        } else {
+            writeReport(reportFile, rejections);
+        }
+
+        int importedCount = addScreenings(theaterImports);
+        if (rejections.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_SUCCESS, importedCount));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS_WITH_REJECTIONS, importedCount, rejections.size(),
+                reportFile.getPath()));
+    }
+
+    /**
+     * Reads the rows of the file one at a time, grouping the screenings which can be resolved by their theater in
+     * {@code imports} and adding the rows which cannot to {@code rejections}.
+     */
+    private void readScreenings(Map<String, Cinema> cinemas, Set<String> ambiguousCinemaNames,
+                                Map<String, ImportedMovie> movies, Map<Theater, TheaterImport> imports,
+                                List<Rejection> rejections)
+            throws CommandException {
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            String row;
+            while ((row = reader.readLine()) != null) {
+                lineNumber++;
+                if (row.trim().isEmpty() || lineNumber == 1 && isHeader(row)) {
+                    continue;
+                }
+                try {
+                    readScreening(row, lineNumber, cinemas, ambiguousCinemaNames, movies, imports);
+                } catch (IllegalValueException ive) {
+                    rejections.add(new Rejection(lineNumber, ive.getMessage(), row));
+                }
+            }
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_FILE_UNREADABLE, file.getPath()));
+        }
+    }
+
+    /**
+     * Returns true if {@code row} is a header rather than a screening, i.e. it names the cinema column and has no
+     * theater number.
+     */
+    private static boolean isHeader(String row) {
+        try {
+            List<String> fields = CsvUtil.splitRow(row);
+            return fields.size() > 1 && fields.get(0).trim().toLowerCase().startsWith(HEADER_FIRST_FIELD)
+                    && !Theater.isValidTheater(fields.get(1).trim());
+        } catch (IllegalValueException ive) {
+            return false;
+        }
+    }
+
+    /**
+     * Resolves the screening in {@code row} and adds it to the screenings imported into its theater. A row naming
+     * one of {@code ambiguousCinemaNames}, which several cinemas share, cannot be resolved.
+     * @throws IllegalValueException if the screening cannot be resolved, or cannot be added to its theater.
+     */
+    private static void readScreening(String row, int lineNumber, Map<String, Cinema> cinemas,
+                                      Set<String> ambiguousCinemaNames, Map<String, ImportedMovie> movies,
+                                      Map<Theater, TheaterImport> imports)
+            throws IllegalValueException {
+        List<String> fields = CsvUtil.splitRow(row);
+        if (fields.size() != FIELD_COUNT) {
+            throw new IllegalValueException(MESSAGE_INVALID_ROW);
+        }
+
+        String cinemaName = fields.get(0).trim();
+        Cinema cinema = cinemas.get(cinemaName);
+        if (cinema == null) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_CINEMA, cinemaName));
+        }
+        if (ambiguousCinemaNames.contains(cinemaName)) {
+            throw new IllegalValueException(String.format(MESSAGE_AMBIGUOUS_CINEMA, cinemaName));
+        }
+        int theaterIndex = ParserUtil.parseTheaterNumber(fields.get(1)) - 1;
+        if (theaterIndex >= cinema.getTheaters().size()) {
+            throw new IllegalValueException(Messages.MESSAGE_INVALID_THEATER_NUMBER);
+        }
+        Theater theater = cinema.getTheaters().get(theaterIndex);
+        String movieName = fields.get(2).trim();
+        ImportedMovie movie = movies.get(movieName);
+        if (movie == null) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_MOVIE, movieName));
+        }
+
+        LocalDateTime start;
+        try {
+            start = ParserUtil.parseScreeningDateTime(fields.get(3));
+        } catch (DateTimeParseException dtpe) {
+            throw new IllegalValueException(Messages.MESSAGE_INVALID_SCREEN_DATE_TIME);
+        }
+        if (start.toLocalDate().isBefore(movie.releaseDate)) {
+            throw new IllegalValueException(MESSAGE_BEFORE_RELEASE);
+        }
+        LocalDateTime end = AddScreeningCommand.getEndTime(movie.movie, start);
+        if (theater.overlaps(start, end)) {
+            throw new IllegalValueException(MESSAGE_CONFLICT);
+        }
+
+        imports.computeIfAbsent(theater, unused -> new TheaterImport(cinema, theater))
+                .add(new ImportedScreening(lineNumber, movie.movie, start, end));
+    }
+
+    /**
+     * Writes {@code rejections}, in the order of their rows, to {@code reportFile}.
+     */
+    private static void writeReport(File reportFile, List<Rejection> rejections) throws CommandException {
+        rejections.sort(Comparator.comparingInt(rejection -> rejection.lineNumber));
+        try {
+            FileUtil.writeAtomically(reportFile, out -> {
+                Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+                writer.write(REPORT_HEADER);
+                writer.write(System.lineSeparator());
+                for (Rejection rejection : rejections) {
+                    writer.write(rejection.lineNumber + "," + CsvUtil.toField(rejection.reason) + ","
+                            + CsvUtil.toField(rejection.row));
+                    writer.write(System.lineSeparator());
+                }
+                writer.flush();
+            }, SyncPolicy.NONE);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_REPORT_UNWRITABLE, reportFile.getPath()));
+        }
+    }
+
+    /**
+     * Deletes the error report left by an earlier import of the file, if any, as it no longer applies.
+     */
+    private static void deleteReport(File reportFile) throws CommandException {
+        try {
+            Files.deleteIfExists(reportFile.toPath());
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_REPORT_UNDELETABLE, reportFile.getPath()));
+        }
+    }
+
+    /**
+     * Adds the screenings in {@code theaterImports} to their theaters, updating each cinema once, and returns the
+     * number of screenings added. The schedule of each updated cinema is reloaded on the date of its first imported
+     * screening.
+     */
+    private int addScreenings(List<TheaterImport> theaterImports) throws CommandException {
+        Map<Cinema, Cinema> updatedCinemas = new LinkedHashMap<>();
+        Map<Cinema, LocalDateTime> firstStarts = new HashMap<>();
+        int importedCount = 0;
+        for (TheaterImport theaterImport : theaterImports) {
+            if (theaterImport.screenings.isEmpty()) {
+                continue;
+            }
+            Cinema updatedCinema = updatedCinemas.getOrDefault(theaterImport.cinema, theaterImport.cinema);
+            updatedCinemas.put(theaterImport.cinema, updatedCinema.withTheater(theaterImport.toUpdatedTheater()));
+            // the screenings of a theater import are sorted by start once its conflicts are removed
+            LocalDateTime start = theaterImport.screenings.get(0).start;
+            LocalDateTime firstStart = firstStarts.get(theaterImport.cinema);
+            if (firstStart == null || start.isBefore(firstStart)) {
+                firstStarts.put(theaterImport.cinema, start);
+            }
+            importedCount += theaterImport.screenings.size();
+        }
+
+        model.startBatchUpdate();
+        try {
+            for (Map.Entry<Cinema, Cinema> update : updatedCinemas.entrySet()) {
+                model.updateCinema(update.getKey(), update.getValue());
+                model.reloadSchedule(update.getValue(), firstStarts.get(update.getKey()));
+            }
+        } catch (DuplicateCinemaException dce) {
+            throw new CommandException(AddCommand.MESSAGE_DUPLICATE_CINEMA);
+        } catch (CinemaNotFoundException cnfe) {
+            throw new AssertionError("The target cinema cannot be missing");
+        } finally {
+            model.endBatchUpdate();
+        }
+        return importedCount;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportScreeningsCommand // instanceof handles nulls
+                && file.equals(((ImportScreeningsCommand) other).file));
+    }
+
+    /**
+     * A movie which screenings may be imported for, with its release date.
+     */
+    private static class ImportedMovie {
+        private final Movie movie;
+        private final LocalDate releaseDate;
+
+        ImportedMovie(Movie movie) {
+            this.movie = movie;
+            this.releaseDate = movie.getStartDate().toLocalDate();
+        }
+    }
+
+    /**
+     * A screening read from a row of the file.
+     */
+    private static class ImportedScreening {
+        private final int lineNumber;
+        private final Movie movie;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+
+        ImportedScreening(int lineNumber, Movie movie, LocalDateTime start, LocalDateTime end) {
+            this.lineNumber = lineNumber;
+            this.movie = movie;
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    /**
+     * The screenings imported into a theater, which do not overlap the screenings already in it.
+     */
+    private static class TheaterImport {
+        private final Cinema cinema;
+        private final Theater theater;
+        private List<ImportedScreening> screenings = new ArrayList<>();
+
+        TheaterImport(Cinema cinema, Theater theater) {
+            this.cinema = cinema;
+            this.theater = theater;
+        }
+
+        void add(ImportedScreening screening) {
+            screenings.add(screening);
+        }
+
+        /**
+         * Sorts the screenings by start and sweeps through them, moving each screening which overlaps an earlier
+         * one to {@code rejections}.
+         */
+        void removeConflicts(List<Rejection> rejections) {
+            screenings.sort(Comparator.comparing((ImportedScreening screening) -> screening.start)
+                    .thenComparingInt(screening -> screening.lineNumber));
+            List<ImportedScreening> kept = new ArrayList<>(screenings.size());
+            LocalDateTime lastEnd = LocalDateTime.MIN;
+            for (ImportedScreening screening : screenings) {
+                if (screening.start.isBefore(lastEnd)) {
+                    rejections.add(new Rejection(screening.lineNumber, MESSAGE_CONFLICT, toRow(screening)));
+                    continue;
+                }
+                kept.add(screening);
+                lastEnd = screening.end;
+            }
+            screenings = kept;
+        }
+
+        /**
+         * Returns a row of the file describing {@code screening}. The rows of the screenings are not kept as they are
+         * read, to keep large imports small.
+         */
+        private String toRow(ImportedScreening screening) {
+            return CsvUtil.toField(cinema.getName().toString()) + "," + theater.getTheaterNumber() + ","
+                    + CsvUtil.toField(screening.movie.getName().toString()) + ","
+                    + screening.start.format(ROW_DATE_TIME_FORMATTER);
+        }
+
+        /**
+         * Returns a copy of the theater with the imported screenings, which are also added to their movies.
+         */
+        Theater toUpdatedTheater() {
+            List<Screening> newScreenings = new ArrayList<>(screenings.size());
+            for (ImportedScreening screening : screenings) {
+                newScreenings.add(new Screening(screening.movie.getName().toString(), theater, screening.start,
+                        screening.end));
+            }
+            Theater updatedTheater = theater.withScreenings(newScreenings);
+            for (int i = 0; i < newScreenings.size(); i++) {
+                newScreenings.get(i).setTheater(updatedTheater);
+                screenings.get(i).movie.addScreening(newScreenings.get(i));
+            }
+            return updatedTheater;
+        }
+    }
+
+    /**
+     * A row of the file which was not imported, and the reason why.
+     */
+    private static class Rejection {
+        private final int lineNumber;
+        private final String reason;
+        private final String row;
+
+        Rejection(int lineNumber, String reason, String row) {
+            this.lineNumber = lineNumber;
+            this.reason = reason;
+            this.row = row;
+        }
+    }
+}
@@ -4,26 +4,19 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CINEMAS;
 
+import java.util.List;
+
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.model.MoviePlanner;
-import seedu.address.model.ReadOnlyMoviePlanner;
+import seedu.address.model.MoviePlannerChange;
 
 /**
  * Represents a command which can be undone and redone.
  */
 public abstract class UndoableCommand extends Command {
-    private ReadOnlyMoviePlanner previousMoviePlanner;
+    private List<MoviePlannerChange> changes;
 
     protected abstract CommandResult executeUndoableCommand() throws CommandException;
 
-    /**
-     * Stores the current state of {@code model#moviePlanner}.
-     */
-    private void saveMoviePlannerSnapshot() {
-        requireNonNull(model);
-        this.previousMoviePlanner = new MoviePlanner(model.getMoviePlanner());
-    }
-
     /**
      * This method is called before the execution of {@code UndoableCommand}.
      * {@code UndoableCommand}s that require this preprocessing step should override this method.
@@ -31,35 +24,51 @@ public abstract class UndoableCommand extends Command {
     protected void preprocessUndoableCommand() throws CommandException {}
 
     /**
-     * Reverts the MoviePlanner to the state before this command
-     * was executed and updates the filtered cinema list to
-     * show all cinemas.
+     * Reverts the changes this command made to the MoviePlanner and
+     * updates the filtered cinema list to show all cinemas.
      */
     protected final void undo() {
-        requireAllNonNull(model, previousMoviePlanner);
-        model.resetData(previousMoviePlanner);
+        requireAllNonNull(model, changes);
+        model.undoChanges(changes);
         model.updateFilteredCinemaList(PREDICATE_SHOW_ALL_CINEMAS);
     }
 
     /**
-     * Executes the command and updates the filtered cinema
-     * list to show all cinemas.
+     * Applies the changes this command made to the MoviePlanner again, executing
+     * the command if it has not been executed before, and updates the filtered
+     * cinema list to show all cinemas.
      */
     protected final void redo() {
         requireNonNull(model);
-        try {
-            executeUndoableCommand();
-        } catch (CommandException ce) {
-            throw new AssertionError("The command has been successfully executed previously; "
-                    + "it should not fail now");
+        if (changes == null) {
+            try {
+                executeAndRecordChanges();
+            } catch (CommandException ce) {
+                throw new AssertionError("The command has been successfully executed previously; "
+                        + "it should not fail now");
+            }
+        } else {
+            model.redoChanges(changes);
         }
         model.updateFilteredCinemaList(PREDICATE_SHOW_ALL_CINEMAS);
     }
 
+    /**
+     * Executes the command, recording the changes it makes to the MoviePlanner.
+     */
+    private CommandResult executeAndRecordChanges() throws CommandException {
+        model.startRecordingChanges();
+        try {
+            return executeUndoableCommand();
+        } finally {
+            changes = model.stopRecordingChanges();
+        }
+    }
+
     @Override
     public final CommandResult execute() throws CommandException {
-        saveMoviePlannerSnapshot();
+        requireNonNull(model);
         preprocessUndoableCommand();
-        return executeUndoableCommand();
+        return executeAndRecordChanges();
     }
 }
@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -12,11 +13,27 @@ import java.util.Optional;
  * Values for a given key are stored in a list, and the insertion ordering is maintained.
  * Keys are unique, but the list of argument values may contain duplicate argument values, i.e. the same argument value
  * can be inserted multiple times for the same prefix.
+ * Arguments found by {@code ArgumentTokenizer} are kept as positions in the tokenized string, and are only trimmed and
+ * copied out of it when they are read.
  */
 public class ArgumentMultimap {
 
     /** Prefixes mapped to their respective arguments**/
-    private final Map<Prefix, List<String>> argMultimap = new HashMap<>();
+    private final Map<Prefix, List<Argument>> argMultimap = new HashMap<>();
+
+    /** The string which the argument positions refer to */
+    private final String argsString;
+
+    public ArgumentMultimap() {
+        this("");
+    }
+
+    /**
+     * Creates an empty map whose arguments may be given as positions in {@code argsString}.
+     */
+    ArgumentMultimap(String argsString) {
+        this.argsString = argsString;
+    }
 
     /**
      * Associates the specified argument value with {@code prefix} key in this map.
@@ -26,17 +43,34 @@ public class ArgumentMultimap {
      * @param argValue Argument value to be associated with the specified prefix key
      */
     public void put(Prefix prefix, String argValue) {
-        List<String> argValues = getAllValues(prefix);
-        argValues.add(argValue);
-        argMultimap.put(prefix, argValues);
+        putArgument(prefix, new Argument(argValue));
+    }
+
+    /**
+     * Associates the argument value found between {@code startPosition} (inclusive) and {@code endPosition}
+     * (exclusive) of the tokenized string with {@code prefix} key in this map. Leading and trailing whitespaces
+     * of the value will be discarded.
+     */
+    void put(Prefix prefix, int startPosition, int endPosition) {
+        putArgument(prefix, new Argument(startPosition, endPosition));
+    }
+
+    /**
+     * Appends {@code argument} to the list of arguments of {@code prefix}.
+     */
+    private void putArgument(Prefix prefix, Argument argument) {
+        argMultimap.computeIfAbsent(prefix, unused -> new ArrayList<>(1)).add(argument);
     }
 
     /**
      * Returns the last value of {@code prefix}.
      */
     public Optional<String> getValue(Prefix prefix) {
-        List<String> values = getAllValues(prefix);
-        return values.isEmpty() ? Optional.empty() : Optional.of(values.get(values.size() - 1));
+        List<Argument> arguments = argMultimap.get(prefix);
+        if (arguments == null) {
+            return Optional.empty();
+        }
+        return Optional.of(arguments.get(arguments.size() - 1).getValue());
     }
 
     /**
@@ -45,10 +79,11 @@ public class ArgumentMultimap {
      * Modifying the returned list will not affect the underlying data structure of the ArgumentMultimap.
      */
     public List<String> getAllValues(Prefix prefix) {
-        if (!argMultimap.containsKey(prefix)) {
-            return new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        for (Argument argument : argMultimap.getOrDefault(prefix, Collections.emptyList())) {
+            values.add(argument.getValue());
         }
-        return new ArrayList<>(argMultimap.get(prefix));
+        return values;
     }
 
     /**
@@ -57,4 +92,30 @@ public class ArgumentMultimap {
     public String getPreamble() {
         return getValue(new Prefix("")).orElse("");
     }
+
+    /**
+     * Represents an argument value, either given directly or as its position in the tokenized string.
+     */
+    private class Argument {
+        private final int startPosition;
+        private final int endPosition;
+        private String value;
+
+        Argument(String value) {
+            this(0, 0);
+            this.value = value;
+        }
+
+        Argument(int startPosition, int endPosition) {
+            this.startPosition = startPosition;
+            this.endPosition = endPosition;
+        }
+
+        String getValue() {
+            if (value == null) {
+                value = argsString.substring(startPosition, endPosition).trim();
+            }
+            return value;
+        }
+    }
 }
@@ -1,7 +1,10 @@
 package seedu.address.logic.parser;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -13,6 +16,9 @@ import java.util.List;
  */
 public class ArgumentTokenizer {
 
+    /** Matchers for the sets of prefixes tokenized so far, as every parser tokenizes with a fixed set */
+    private static final Map<List<Prefix>, PrefixMatcher> matchers = new ConcurrentHashMap<>();
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
@@ -22,128 +28,79 @@ public class ArgumentTokenizer {
      * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
+        PrefixMatcher matcher = matchers.computeIfAbsent(Arrays.asList(prefixes), PrefixMatcher::new);
+        return extractArguments(argsString, matcher);
     }
 
     /**
-     * Finds all zero-based prefix positions in the given arguments string.
+     * Scans {@code argsString} once from left to right and returns an {@code ArgumentMultimap} object that maps the
+     * prefixes found by {@code matcher} to the positions of their respective arguments. A prefix is only recognized
+     * if there is a whitespace before it, and its argument runs until the next recognized prefix.
      *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        for (Prefix prefix : prefixes) {
-            positions.addAll(findPrefixPositions(argsString, prefix));
-        }
-
-        return positions;
-    }
-
-    /**
-     * {@see findAllPrefixPositions}
+     * E.g if {@code argsString} = "e/hip/900" and the prefix is "p/", there are no arguments as there is no
+     * whitespace before "p/". However, if {@code argsString} = "e/hi p/900", the argument of "p/" is "900".
      */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
-        }
-
-        return positions;
-    }
-
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
-    }
-
-    /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
-     */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
-        ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+    private static ArgumentMultimap extractArguments(String argsString, PrefixMatcher matcher) {
+        ArgumentMultimap argMultimap = new ArgumentMultimap(argsString);
+        Prefix argPrefix = new Prefix("");
+        int valueStartPos = 0;
+
+        for (int i = 1; i < argsString.length(); i++) {
+            if (argsString.charAt(i - 1) != ' ') {
+                continue;
+            }
+            Prefix prefix = matcher.match(argsString, i);
+            if (prefix != null) {
+                argMultimap.put(argPrefix, valueStartPos, i);
+                argPrefix = prefix;
+                valueStartPos = i + prefix.getPrefix().length();
+                i = valueStartPos - 1;
+            }
         }
+        argMultimap.put(argPrefix, valueStartPos, argsString.length());
 
         return argMultimap;
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
+     * Matches a fixed set of prefixes at a given position of a string. The prefixes are grouped by their first
+     * character so that each position is only compared against the prefixes which can start there.
      */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim();
-    }
-
-    /**
-     * Represents a prefix's position in an arguments string.
-     */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
-        }
-
-        int getStartPosition() {
-            return this.startPosition;
+    private static class PrefixMatcher {
+        /** Prefixes grouped by their first character, longest first, for the characters below 128 */
+        private final Prefix[][] asciiPrefixes = new Prefix[128][];
+        /** Prefixes which start with any other character, longest first */
+        private final Prefix[] otherPrefixes;
+
+        PrefixMatcher(List<Prefix> prefixes) {
+            Prefix[] sorted = prefixes.stream()
+                    .filter(prefix -> !prefix.getPrefix().isEmpty())
+                    .distinct()
+                    .sorted(Comparator.comparingInt((Prefix prefix) -> prefix.getPrefix().length()).reversed())
+                    .toArray(Prefix[]::new);
+            for (char c = 0; c < asciiPrefixes.length; c++) {
+                final char firstChar = c;
+                asciiPrefixes[c] = Arrays.stream(sorted)
+                        .filter(prefix -> prefix.getPrefix().charAt(0) == firstChar)
+                        .toArray(Prefix[]::new);
+            }
+            otherPrefixes = Arrays.stream(sorted)
+                    .filter(prefix -> prefix.getPrefix().charAt(0) >= asciiPrefixes.length)
+                    .toArray(Prefix[]::new);
         }
 
-        Prefix getPrefix() {
-            return this.prefix;
+        /**
+         * Returns the longest prefix which occurs in {@code s} at {@code index}, or null if there is none.
+         */
+        Prefix match(String s, int index) {
+            char firstChar = s.charAt(index);
+            Prefix[] candidates = firstChar < asciiPrefixes.length ? asciiPrefixes[firstChar] : otherPrefixes;
+            for (Prefix candidate : candidates) {
+                if (s.startsWith(candidate.getPrefix(), index)) {
+                    return candidate;
+                }
+            }
+            return null;
         }
     }
 
@@ -0,0 +1,88 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CINEMA_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MOVIE_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STARTDATE;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.AutoScheduleCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new AutoScheduleCommand object
+ */
+public class AutoScheduleCommandParser implements Parser<AutoScheduleCommand> {
+
+    public static final String MESSAGE_INVALID_SCREENING_COUNT = "A movie should be given as MOVIE_INDEX:SCREENINGS, "
+            + "where SCREENINGS is a positive number of screenings";
+    public static final String MESSAGE_INVALID_DATE_RANGE = "The end date should not be before the start date, "
+            + "and at most " + AutoScheduleCommand.MAX_DAYS_SCHEDULED + " days can be scheduled at once";
+
+    private static final String SCREENING_COUNT_SEPARATOR = ":";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AutoScheduleCommand
+     * and returns an AutoScheduleCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public AutoScheduleCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CINEMA_INDEX, PREFIX_STARTDATE,
+                PREFIX_END_DATE, PREFIX_MOVIE_INDEX);
+
+        List<String> movies = argMultimap.getAllValues(PREFIX_MOVIE_INDEX);
+        if (!argMultimap.getValue(PREFIX_CINEMA_INDEX).isPresent()
+                || !argMultimap.getValue(PREFIX_STARTDATE).isPresent()
+                || movies.isEmpty() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AutoScheduleCommand.MESSAGE_USAGE));
+        }
+
+        try {
+            Index cinemaIndex = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_CINEMA_INDEX).get());
+            LocalDate startDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_STARTDATE).get());
+            LocalDate endDate = argMultimap.getValue(PREFIX_END_DATE).isPresent()
+                    ? ParserUtil.parseDate(argMultimap.getValue(PREFIX_END_DATE).get())
+                    : startDate;
+            if (endDate.isBefore(startDate)
+                    || ChronoUnit.DAYS.between(startDate, endDate) >= AutoScheduleCommand.MAX_DAYS_SCHEDULED) {
+                throw new ParseException(MESSAGE_INVALID_DATE_RANGE);
+            }
+
+            Map<Index, Integer> screeningCounts = new LinkedHashMap<>();
+            for (String movie : movies) {
+                parseScreeningCount(movie, screeningCounts);
+            }
+            return new AutoScheduleCommand(cinemaIndex, startDate, endDate, screeningCounts);
+        } catch (IllegalValueException ive) {
+            throw new ParseException(ive.getMessage(), ive);
+        }
+    }
+
+    /**
+     * Parses {@code movie}, given as MOVIE_INDEX:SCREENINGS, and adds its number of screenings to
+     * {@code screeningCounts}.
+     * @throws IllegalValueException if the movie index or the number of screenings is invalid.
+     */
+    private static void parseScreeningCount(String movie, Map<Index, Integer> screeningCounts)
+            throws IllegalValueException {
+        int separator = movie.indexOf(SCREENING_COUNT_SEPARATOR);
+        if (separator == -1) {
+            throw new IllegalValueException(MESSAGE_INVALID_SCREENING_COUNT);
+        }
+        Index movieIndex = ParserUtil.parseIndex(movie.substring(0, separator));
+        String screeningCount = movie.substring(separator + 1).trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(screeningCount)) {
+            throw new IllegalValueException(MESSAGE_INVALID_SCREENING_COUNT);
+        }
+        screeningCounts.merge(movieIndex, Integer.parseInt(screeningCount), Integer::sum);
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.util.List;
+
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new BatchCommand object
+ */
+public class BatchCommandParser implements Parser<BatchCommand> {
+
+    public static final String MESSAGE_FILE_UNREADABLE = "The file %1$s cannot be read";
+
+    private final MoviePlannerParser moviePlannerParser;
+
+    /**
+     * Creates a BatchCommandParser which parses the commands in a file with {@code moviePlannerParser}.
+     */
+    public BatchCommandParser(MoviePlannerParser moviePlannerParser) {
+        this.moviePlannerParser = moviePlannerParser;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BatchCommand
+     * and returns a BatchCommand object for execution. Every command in the file is parsed before any is executed.
+     * @throws ParseException if the user input does not conform the expected format, the file cannot be read,
+     *     or any command in the file is invalid
+     */
+    public BatchCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String filePath = args.trim();
+        if (filePath.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+        }
+
+        List<String> commandTexts;
+        try {
+            commandTexts = Files.readAllLines(Paths.get(filePath), StandardCharsets.UTF_8);
+        } catch (IOException | InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_FILE_UNREADABLE, filePath), e);
+        }
+        return moviePlannerParser.parseBatch(commandTexts);
+    }
+}
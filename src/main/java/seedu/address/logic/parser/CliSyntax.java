@@ -14,10 +14,14 @@ public class CliSyntax {
     public static final Prefix PREFIX_DURATION = new Prefix("d/");
     public static final Prefix PREFIX_RATING = new Prefix("r/");
     public static final Prefix PREFIX_STARTDATE = new Prefix("sd/");
+    public static final Prefix PREFIX_LIKE = new Prefix("like/");
+    public static final Prefix PREFIX_END_DATE = new Prefix("ed/");
     public static final Prefix PREFIX_NUMOFTHEATERS = new Prefix("th/");
     public static final Prefix PREFIX_CINEMA_INDEX = new Prefix("c/");
     public static final Prefix PREFIX_MOVIE_INDEX = new Prefix("m/");
     public static final Prefix PREFIX_SCREENING_DATE_TIME = new Prefix("h/");
+    public static final Prefix PREFIX_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_TO = new Prefix("to/");
     public static final Prefix PREFIX_EMAIL_MESSAGE = new Prefix("msg/");
     public static final Prefix PREFIX_EMAIL_SUBJECT = new Prefix("subj/");
     public static final Prefix PREFIX_EMAIL_LOGIN = new Prefix("lgn/");
@@ -6,15 +6,9 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PASSWORD;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.security.GeneralSecurityException;
-import java.security.Key;
-import java.security.NoSuchAlgorithmException;
 import java.util.stream.Stream;
 
-import javax.crypto.Cipher;
-
 import seedu.address.commons.util.SecurityUtil;
 import seedu.address.logic.commands.DecryptCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -39,22 +33,12 @@ public class DecryptCommandParser implements Parser<DecryptCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, DecryptCommand.MESSAGE_USAGE));
         } else {
             try {
-                Key pw = SecurityUtil.generateKey(password);
-
                 UserPrefs pref = new UserPrefs();
-                Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
-                cipher.init(Cipher.DECRYPT_MODE, pw);
                 File inputFile = new File(pref.getEncryptedMoviePlannerFilePath());
-                byte[] inputByteArray = new byte[(int) inputFile.length()];
-                FileInputStream fis = new FileInputStream(inputFile); //create file input stream
-                fis.read(inputByteArray);
-                cipher.doFinal(inputByteArray);
-
-            } catch (NoSuchAlgorithmException e) {
-                e.printStackTrace();
-            } catch (GeneralSecurityException e) {
-                throw new ParseException(String.format(DecryptCommand.MESSAGE_WRONGPASSWORD,
-                        DecryptCommand.MESSAGE_USAGE));
+                if (!SecurityUtil.isPasswordCorrect(inputFile, password)) {
+                    throw new ParseException(String.format(DecryptCommand.MESSAGE_WRONGPASSWORD,
+                            DecryptCommand.MESSAGE_USAGE));
+                }
             } catch (IOException e) {
                 throw new ParseException(String.format(MESSAGE_ENCRYPTED_FILE_NOT_FOUND, DecryptCommand.MESSAGE_USAGE));
             }
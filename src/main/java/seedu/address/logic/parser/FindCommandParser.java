@@ -1,33 +1,55 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.cinema.NameContainsKeywordsPredicate;
+import seedu.address.model.cinema.CinemaQuery;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    public static final String MESSAGE_INVALID_PHONE_PREFIX = "Phone prefixes should only contain numbers";
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns an FindCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
-        if (trimmedArgs.isEmpty()) {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_ADDRESS, PREFIX_PHONE);
+
+        List<String> nameKeywords = splitKeywords(argMultimap.getPreamble());
+        List<String> addressKeywords = splitKeywords(argMultimap.getValue(PREFIX_ADDRESS).orElse(""));
+        String phonePrefix = argMultimap.getValue(PREFIX_PHONE).orElse("").trim();
+        if (nameKeywords.isEmpty() && addressKeywords.isEmpty() && phonePrefix.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
+        if (!phonePrefix.matches("\\d*")) {
+            throw new ParseException(MESSAGE_INVALID_PHONE_PREFIX);
+        }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        return new FindCommand(new CinemaQuery(nameKeywords, addressKeywords, phonePrefix));
+    }
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+    /**
+     * Returns the whitespace separated keywords in {@code value}.
+     */
+    private static List<String> splitKeywords(String value) {
+        String trimmedValue = value.trim();
+        if (trimmedValue.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Arrays.asList(trimmedValue.split("\\s+"));
     }
 
 }
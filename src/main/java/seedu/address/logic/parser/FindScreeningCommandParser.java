@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_SCREEN_DATE_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.FindScreeningCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new FindScreeningCommand object
+ */
+public class FindScreeningCommandParser implements Parser<FindScreeningCommand> {
+
+    public static final String MESSAGE_INVALID_TIME_WINDOW = "The second date time should be after the first";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindScreeningCommand
+     * and returns a FindScreeningCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindScreeningCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO);
+
+        if (!argMultimap.getValue(PREFIX_FROM).isPresent() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindScreeningCommand.MESSAGE_USAGE));
+        }
+
+        try {
+            LocalDateTime from = ParserUtil.parseScreeningDateTime(argMultimap.getValue(PREFIX_FROM).get());
+            LocalDateTime to = argMultimap.getValue(PREFIX_TO).isPresent()
+                    ? ParserUtil.parseScreeningDateTime(argMultimap.getValue(PREFIX_TO).get())
+                    : from.toLocalDate().plusDays(1).atStartOfDay();
+            if (!to.isAfter(from)) {
+                throw new ParseException(MESSAGE_INVALID_TIME_WINDOW);
+            }
+            return new FindScreeningCommand(from, to);
+        } catch (IllegalValueException ive) {
+            throw new ParseException(ive.getMessage(), ive);
+        } catch (DateTimeParseException dtpe) {
+            throw new ParseException(MESSAGE_INVALID_SCREEN_DATE_TIME, dtpe);
+        }
+    }
+}
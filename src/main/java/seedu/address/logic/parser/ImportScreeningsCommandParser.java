@@ -0,0 +1,30 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.File;
+
+import seedu.address.logic.commands.ImportScreeningsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportScreeningsCommand object
+ */
+public class ImportScreeningsCommandParser implements Parser<ImportScreeningsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportScreeningsCommand
+     * and returns an ImportScreeningsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ImportScreeningsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String filePath = args.trim();
+        if (filePath.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportScreeningsCommand.MESSAGE_USAGE));
+        }
+        return new ImportScreeningsCommand(new File(filePath));
+    }
+}
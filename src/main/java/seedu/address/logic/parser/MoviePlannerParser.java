@@ -3,13 +3,16 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddMovieCommand;
 import seedu.address.logic.commands.AddScreeningCommand;
 import seedu.address.logic.commands.AddTheaterCommand;
+import seedu.address.logic.commands.AutoScheduleCommand;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DecryptCommand;
@@ -23,13 +26,16 @@ import seedu.address.logic.commands.EncryptCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindMovieCommand;
+import seedu.address.logic.commands.FindScreeningCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.ImportScreeningsCommand;
 import seedu.address.logic.commands.JumpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.SelectCommand;
 import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.UndoableCommand;
 
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -39,9 +45,19 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class MoviePlannerParser {
 
     /**
-     * Used for initial separation of command word and args.
+     * Characters which end the command word.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    private static final String COMMAND_WORD_DELIMITERS = " \t\n\u000B\f\r";
+
+    /**
+     * Characters which may not appear in the arguments of a command.
+     */
+    private static final String LINE_TERMINATORS = "\n\r\u0085\u2028\u2029";
+
+    /**
+     * Starts a line of a batch which is not a command.
+     */
+    private static final String BATCH_COMMENT_MARKER = "#";
 
     /**
      * Parses user input into command for execution.
@@ -51,13 +67,14 @@ public class MoviePlannerParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        final int commandWordEnd = indexOfAny(trimmedInput, COMMAND_WORD_DELIMITERS, 0);
+        if (commandWordEnd == 0 || indexOfAny(trimmedInput, LINE_TERMINATORS, commandWordEnd) < trimmedInput.length()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        final String commandWord = trimmedInput.substring(0, commandWordEnd);
+        final String arguments = trimmedInput.substring(commandWordEnd);
         switch (commandWord) {
 
         case AddCommand.COMMAND_ALIAS:
@@ -76,6 +93,10 @@ public class MoviePlannerParser {
         case AddTheaterCommand.COMMAND_WORD:
             return new AddTheaterCommandParser().parse(arguments);
 
+        case AutoScheduleCommand.COMMAND_ALIAS:
+        case AutoScheduleCommand.COMMAND_WORD:
+            return new AutoScheduleCommandParser().parse(arguments);
+
         case EditCommand.COMMAND_ALIAS:
         case EditCommand.COMMAND_WORD:
             return new EditCommandParser().parse(arguments);
@@ -120,6 +141,10 @@ public class MoviePlannerParser {
         case FindMovieCommand.COMMAND_WORD:
             return new FindMovieCommandParser().parse(arguments);
 
+        case FindScreeningCommand.COMMAND_ALIAS:
+        case FindScreeningCommand.COMMAND_WORD:
+            return new FindScreeningCommandParser().parse(arguments);
+
         case EncryptCommand.COMMAND_ALIAS:
         case EncryptCommand.COMMAND_WORD:
             return new EncryptCommandParser().parse(arguments);
@@ -151,9 +176,102 @@ public class MoviePlannerParser {
         case RedoCommand.COMMAND_WORD:
             return new RedoCommand();
 
+        case ImportScreeningsCommand.COMMAND_ALIAS:
+        case ImportScreeningsCommand.COMMAND_WORD:
+            return new ImportScreeningsCommandParser().parse(arguments);
+
+        case BatchCommand.COMMAND_ALIAS:
+        case BatchCommand.COMMAND_WORD:
+            return new BatchCommandParser(this).parse(arguments);
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
     }
 
+    /**
+     * Parses user input into a command whose result can be previewed while it is being typed, which is a command
+     * finding cinemas or movies. Other commands are left unparsed, as parsing some of them reads files.
+     *
+     * @param userInput full user input string
+     * @return the command based on the user input, or an empty {@code Optional} if it is not a command to preview
+     * @throws ParseException if the user input is a command to preview but does not conform the expected format
+     */
+    public Optional<Command> parsePreviewedCommand(String userInput) throws ParseException {
+        final String trimmedInput = userInput.trim();
+        final String commandWord = trimmedInput.substring(0, indexOfAny(trimmedInput, COMMAND_WORD_DELIMITERS, 0));
+        switch (commandWord) {
+
+        case FindCommand.COMMAND_ALIAS:
+        case FindCommand.COMMAND_WORD:
+        case FindMovieCommand.COMMAND_ALIAS:
+        case FindMovieCommand.COMMAND_WORD:
+            return Optional.of(parseCommand(userInput));
+
+        default:
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Parses each of {@code commandTexts} into a command and returns a command which executes them all in order.
+     * Blank command texts and comments, which start with {@code #}, are skipped.
+     *
+     * @param commandTexts the commands to execute, one per line
+     * @return the command executing all the given commands
+     * @throws ParseException if any command text does not conform the expected format, or is a command which
+     *     cannot be part of a batch
+     * @see #isBatchable(Command)
+     */
+    public BatchCommand parseBatch(List<String> commandTexts) throws ParseException {
+        List<Command> commands = new ArrayList<>();
+        for (int i = 0; i < commandTexts.size(); i++) {
+            String commandText = commandTexts.get(i).trim();
+            if (commandText.isEmpty() || commandText.startsWith(BATCH_COMMENT_MARKER)) {
+                continue;
+            }
+
+            Command command;
+            try {
+                command = parseCommand(commandText);
+            } catch (ParseException pe) {
+                throw new ParseException(String.format(BatchCommand.MESSAGE_INVALID_LINE, i + 1, pe.getMessage()), pe);
+            }
+            if (!isBatchable(command)) {
+                throw new ParseException(String.format(BatchCommand.MESSAGE_INVALID_LINE, i + 1,
+                        BatchCommand.MESSAGE_NOT_BATCHABLE));
+            }
+            commands.add(command);
+        }
+        return new BatchCommand(commands);
+    }
+
+    /**
+     * Returns true if {@code command} can be part of a batch: only commands whose changes can be undone, other than
+     * batches themselves, and searches, which change nothing but the lists shown, can be. Any other command, such as
+     * undo, redo, encrypt or exit, has effects the batch cannot revert if a later command of the batch fails.
+     */
+    private static boolean isBatchable(Command command) {
+        if (command instanceof UndoableCommand) {
+            return !(command instanceof BatchCommand);
+        }
+        return command instanceof FindCommand
+                || command instanceof FindMovieCommand
+                || command instanceof FindScreeningCommand
+                || command instanceof ListCommand
+                || command instanceof HistoryCommand;
+    }
+
+    /**
+     * Returns the index of the first character of {@code s} at or after {@code fromIndex} which is one of
+     * {@code chars}, or the length of {@code s} if there is none.
+     */
+    private static int indexOfAny(String s, String chars, int fromIndex) {
+        for (int i = fromIndex; i < s.length(); i++) {
+            if (chars.indexOf(s.charAt(i)) != -1) {
+                return i;
+            }
+        }
+        return s.length();
+    }
 }
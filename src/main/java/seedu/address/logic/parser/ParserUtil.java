@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -41,6 +42,11 @@ public class ParserUtil {
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
     private static final int MINUTES_USED_IN_ROUNDING_OFF = 5;
     private static final String DATE_TIME_FORMAT = "dd/MM/uuuu HH:mm";
+    private static final DateTimeFormatter DATE_TIME_FORMATTER =
+            DateTimeFormatter.ofPattern(DATE_TIME_FORMAT).withResolverStyle(ResolverStyle.STRICT);
+    private static final String DATE_FORMAT = "dd/MM/uuuu";
+    private static final DateTimeFormatter DATE_FORMATTER =
+            DateTimeFormatter.ofPattern(DATE_FORMAT).withResolverStyle(ResolverStyle.STRICT);
     private static final int START_YEAR_LIMIT = 2000;
     private static final int END_YEAR_LIMIT = 2030;
 
@@ -337,8 +343,7 @@ public class ParserUtil {
             throws IllegalValueException, DateTimeParseException {
         requireNonNull(dateTime);
         String trimmedDateTime = dateTime.trim();
-        DateTimeFormatter dtf = DateTimeFormatter.ofPattern(DATE_TIME_FORMAT).withResolverStyle(ResolverStyle.STRICT);
-        LocalDateTime screeningDateTime = LocalDateTime.parse(trimmedDateTime, dtf);
+        LocalDateTime screeningDateTime = LocalDateTime.parse(trimmedDateTime, DATE_TIME_FORMATTER);
 
         if (screeningDateTime.getYear() > END_YEAR_LIMIT || screeningDateTime.getYear() < START_YEAR_LIMIT) {
             throw new IllegalValueException(Messages.MESSAGE_INVALID_YEAR);
@@ -350,6 +355,26 @@ public class ParserUtil {
         return screeningDateTime;
     }
 
+    /**
+     * Parses {@code String date} in the form DD/MM/YYYY into a {@code LocalDate}.
+     * Leading and trailing whitespaces will be trimmed.
+     * @throws IllegalValueException if the given {@code String date} is invalid or its year is out of range.
+     */
+    public static LocalDate parseDate(String date) throws IllegalValueException {
+        requireNonNull(date);
+        LocalDate parsedDate;
+        try {
+            parsedDate = LocalDate.parse(date.trim(), DATE_FORMATTER);
+        } catch (DateTimeParseException dtpe) {
+            throw new IllegalValueException(Messages.MESSAGE_INVALID_DATE, dtpe);
+        }
+
+        if (parsedDate.getYear() > END_YEAR_LIMIT || parsedDate.getYear() < START_YEAR_LIMIT) {
+            throw new IllegalValueException(Messages.MESSAGE_INVALID_YEAR);
+        }
+        return parsedDate;
+    }
+
     //@@author
     /**
      * Parses a {@code Optional<String> emailMessage} into an {@code String}
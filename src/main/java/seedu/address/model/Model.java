@@ -1,5 +1,7 @@
 package seedu.address.model;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javax.mail.AuthenticationFailedException;
@@ -11,11 +13,14 @@ import seedu.address.email.exceptions.EmailMessageEmptyException;
 import seedu.address.email.exceptions.EmailRecipientsEmptyException;
 import seedu.address.email.message.MessageDraft;
 import seedu.address.model.cinema.Cinema;
+import seedu.address.model.cinema.CinemaQuery;
 import seedu.address.model.cinema.exceptions.CinemaNotFoundException;
 import seedu.address.model.cinema.exceptions.DuplicateCinemaException;
 import seedu.address.model.movie.Movie;
+import seedu.address.model.movie.MovieQuery;
 import seedu.address.model.movie.exceptions.DuplicateMovieException;
 import seedu.address.model.movie.exceptions.MovieNotFoundException;
+import seedu.address.model.screening.ScheduledScreening;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.exceptions.TagNotFoundException;
 
@@ -33,6 +38,36 @@ public interface Model {
     /** Returns the MoviePlanner */
     ReadOnlyMoviePlanner getMoviePlanner();
 
+    /** Starts recording the changes made to the MoviePlanner. Recordings may be nested. */
+    void startRecordingChanges();
+
+    /** Stops the latest recording of changes and returns the changes made since it started. */
+    List<MoviePlannerChange> stopRecordingChanges();
+
+    /**
+     * Starts a batch update, during which the events raised for changes to the MoviePlanner are held back.
+     * Batch updates may be nested.
+     */
+    void startBatchUpdate();
+
+    /**
+     * Ends the latest batch update. Once the outermost batch update ends, a single event is raised for all the
+     * changes made during it.
+     */
+    void endBatchUpdate();
+
+    /** Reloads the schedule of {@code cinema} shown in the browser panel, on the date of {@code dateTime}. */
+    void reloadSchedule(Cinema cinema, LocalDateTime dateTime);
+
+    /** Returns the screenings in every cinema which start in {@code [from, to)}, sorted by screening date time. */
+    List<ScheduledScreening> getScreeningsStartingBetween(LocalDateTime from, LocalDateTime to);
+
+    /** Reverts {@code changes}, which must be the most recent changes made to the MoviePlanner. */
+    void undoChanges(List<MoviePlannerChange> changes);
+
+    /** Applies {@code changes} again, after they have been reverted by {@link #undoChanges(List)}. */
+    void redoChanges(List<MoviePlannerChange> changes);
+
     /** Returns the email Manager Component */
     Email getEmailManager();
 
@@ -67,6 +102,13 @@ public interface Model {
      */
     void updateFilteredCinemaList(Predicate<Cinema> predicate);
 
+    /**
+     * Updates the filter of the filtered cinema list to show the cinemas which match {@code query}, looking them up
+     * in the cinema search index instead of testing every cinema.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    void updateFilteredCinemaList(CinemaQuery query);
+
     /**Movie Section */
 
     /** Deletes the given movie. */
@@ -91,6 +133,13 @@ public interface Model {
      */
     void updateFilteredMovieList(Predicate<Movie> predicate);
 
+    /**
+     * Updates the filter of the filtered movie list to show the movies which match {@code query}, looking them up
+     * in the movie search index instead of testing every movie.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    void updateFilteredMovieList(MovieQuery query);
+
     /**
      * Sends email based on input recipient
      *
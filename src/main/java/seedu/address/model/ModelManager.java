@@ -3,14 +3,23 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javax.mail.AuthenticationFailedException;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.MoviePlannerChangedEvent;
@@ -23,11 +32,14 @@ import seedu.address.email.exceptions.EmailMessageEmptyException;
 import seedu.address.email.exceptions.EmailRecipientsEmptyException;
 import seedu.address.email.message.MessageDraft;
 import seedu.address.model.cinema.Cinema;
+import seedu.address.model.cinema.CinemaQuery;
 import seedu.address.model.cinema.exceptions.CinemaNotFoundException;
 import seedu.address.model.cinema.exceptions.DuplicateCinemaException;
 import seedu.address.model.movie.Movie;
+import seedu.address.model.movie.MovieQuery;
 import seedu.address.model.movie.exceptions.DuplicateMovieException;
 import seedu.address.model.movie.exceptions.MovieNotFoundException;
+import seedu.address.model.screening.ScheduledScreening;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.exceptions.TagNotFoundException;
 
@@ -42,6 +54,18 @@ public class ModelManager extends ComponentManager implements Model {
     private final MoviePlanner moviePlanner;
     private final FilteredList<Cinema> filteredCinemas;
     private final FilteredList<Movie> filteredMovies;
+    /** The filtered movies, ranked if the latest movie query ranks the movies it matches. */
+    private final SortedList<Movie> rankedMovies;
+    /** The tags of {@code moviePlanner}, referenced so that this view of them keeps reporting changes. */
+    private final ObservableList<Tag> tags;
+    /** The edits made to {@code moviePlanner} since the last {@code MoviePlannerChangedEvent} was raised. */
+    private final List<MoviePlannerEdit> pendingEdits = new ArrayList<>();
+    /** The number of batch updates in progress. */
+    private int batchDepth;
+    /** Whether {@code moviePlanner} has changed during the batch update in progress. */
+    private boolean hasBatchedChanges;
+    /** The latest browser panel reload held back during the batch update in progress, if any. */
+    private ReloadBrowserPanelEvent batchedReload;
 
     /**
      * Initializes a ModelManager with the given moviePlanner and userPrefs.
@@ -54,8 +78,19 @@ public class ModelManager extends ComponentManager implements Model {
 
         this.moviePlanner = new MoviePlanner(moviePlanner);
         this.email = email;
-        filteredCinemas = new FilteredList<>(this.moviePlanner.getCinemaList());
-        filteredMovies = new FilteredList<>(this.moviePlanner.getMovieList());
+        ObservableList<Cinema> cinemas = this.moviePlanner.getCinemaList();
+        ObservableList<Movie> movies = this.moviePlanner.getMovieList();
+        filteredCinemas = new FilteredList<>(cinemas);
+        filteredMovies = new FilteredList<>(movies);
+        rankedMovies = new SortedList<>(filteredMovies);
+        tags = this.moviePlanner.getTagList();
+
+        cinemas.addListener((ListChangeListener<Cinema>) change ->
+                pendingEdits.addAll(MoviePlannerEdit.of(MoviePlannerEdit.ListType.CINEMAS, change)));
+        movies.addListener((ListChangeListener<Movie>) change ->
+                pendingEdits.addAll(MoviePlannerEdit.of(MoviePlannerEdit.ListType.MOVIES, change)));
+        tags.addListener((ListChangeListener<Tag>) change ->
+                pendingEdits.addAll(MoviePlannerEdit.of(MoviePlannerEdit.ListType.TAGS, change)));
     }
 
     public ModelManager() {
@@ -66,7 +101,7 @@ public class ModelManager extends ComponentManager implements Model {
     public void resetData(ReadOnlyMoviePlanner newData) {
         moviePlanner.resetData(newData);
         indicateMoviePlannerChanged();
-        raise(new ReloadBrowserPanelEvent(moviePlanner));
+        reloadBrowserPanel(new ReloadBrowserPanelEvent(moviePlanner));
     }
 
     @Override
@@ -74,14 +109,86 @@ public class ModelManager extends ComponentManager implements Model {
         return moviePlanner;
     }
 
+    @Override
+    public void startRecordingChanges() {
+        moviePlanner.startRecordingChanges();
+    }
+
+    @Override
+    public List<MoviePlannerChange> stopRecordingChanges() {
+        return moviePlanner.stopRecordingChanges();
+    }
+
+    @Override
+    public void undoChanges(List<MoviePlannerChange> changes) {
+        moviePlanner.undoChanges(changes);
+        indicateMoviePlannerChanged();
+        reloadBrowserPanel(new ReloadBrowserPanelEvent(moviePlanner));
+    }
+
+    @Override
+    public void redoChanges(List<MoviePlannerChange> changes) {
+        moviePlanner.redoChanges(changes);
+        indicateMoviePlannerChanged();
+        reloadBrowserPanel(new ReloadBrowserPanelEvent(moviePlanner));
+    }
+
+    @Override
+    public void startBatchUpdate() {
+        batchDepth++;
+    }
+
+    @Override
+    public void endBatchUpdate() {
+        assert batchDepth > 0 : "No batch update is in progress";
+        batchDepth--;
+        if (batchDepth > 0) {
+            return;
+        }
+        if (hasBatchedChanges) {
+            hasBatchedChanges = false;
+            indicateMoviePlannerChanged();
+        }
+        if (batchedReload != null) {
+            ReloadBrowserPanelEvent reload = batchedReload;
+            batchedReload = null;
+            raise(reload);
+        }
+    }
+
+    @Override
+    public void reloadSchedule(Cinema cinema, LocalDateTime dateTime) {
+        reloadBrowserPanel(new ReloadBrowserPanelEvent(cinema, dateTime));
+    }
+
+    @Override
+    public List<ScheduledScreening> getScreeningsStartingBetween(LocalDateTime from, LocalDateTime to) {
+        return moviePlanner.getScreeningsStartingBetween(from, to);
+    }
+
     @Override
     public Email getEmailManager() {
         return email;
     }
 
-    /** Raises an event to indicate the model has changed */
+    /** Raises an event to indicate the model has changed, or holds it back until the batch update ends */
     private void indicateMoviePlannerChanged() {
-        raise(new MoviePlannerChangedEvent(moviePlanner));
+        if (batchDepth > 0) {
+            hasBatchedChanges = true;
+            return;
+        }
+        List<MoviePlannerEdit> edits = new ArrayList<>(pendingEdits);
+        pendingEdits.clear();
+        raise(new MoviePlannerChangedEvent(moviePlanner, edits));
+    }
+
+    /** Raises {@code event} to reload the browser panel, or holds it back until the batch update ends */
+    private void reloadBrowserPanel(ReloadBrowserPanelEvent event) {
+        if (batchDepth > 0) {
+            batchedReload = event;
+            return;
+        }
+        raise(event);
     }
 
     @Override
@@ -137,7 +244,7 @@ public class ModelManager extends ComponentManager implements Model {
 
         moviePlanner.updateCinema(target, editedCinema);
         indicateMoviePlannerChanged();
-        raise(new ReloadBrowserPanelEvent(moviePlanner));
+        reloadBrowserPanel(new ReloadBrowserPanelEvent(moviePlanner));
     }
 
     @Override
@@ -149,7 +256,7 @@ public class ModelManager extends ComponentManager implements Model {
     public synchronized void deleteMovie(Movie target) throws MovieNotFoundException {
         moviePlanner.removeMovie(target);
         indicateMoviePlannerChanged();
-        raise(new ReloadBrowserPanelEvent(moviePlanner));
+        reloadBrowserPanel(new ReloadBrowserPanelEvent(moviePlanner));
     }
 
     @Override
@@ -185,6 +292,14 @@ public class ModelManager extends ComponentManager implements Model {
         filteredCinemas.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredCinemaList(CinemaQuery query) {
+        requireNonNull(query);
+        IndexedQuery<Cinema> predicate = new IndexedQuery<>(query, moviePlanner.findCinemas(query));
+        filteredCinemas.setPredicate(predicate);
+        predicate.isApplied = true;
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -206,12 +321,47 @@ public class ModelManager extends ComponentManager implements Model {
     //=========== Filtered Movie List Accessors =============================================================
     @Override
     public ObservableList<Movie> getFilteredMovieList() {
-        return FXCollections.unmodifiableObservableList(filteredMovies);
+        return FXCollections.unmodifiableObservableList(rankedMovies);
     }
 
     @Override
     public void updateFilteredMovieList(Predicate<Movie> predicate) {
         requireNonNull(predicate);
+        rankedMovies.setComparator(null);
         filteredMovies.setPredicate(predicate);
     }
+
+    @Override
+    public void updateFilteredMovieList(MovieQuery query) {
+        requireNonNull(query);
+        IndexedQuery<Movie> predicate = new IndexedQuery<>(query, moviePlanner.findMovies(query));
+        rankedMovies.setComparator(null);
+        filteredMovies.setPredicate(predicate);
+        predicate.isApplied = true;
+        if (query.isRanked()) {
+            Map<Movie, Integer> distances = new IdentityHashMap<>();
+            rankedMovies.setComparator(Comparator.comparingInt(movie ->
+                    distances.computeIfAbsent(movie, query::distanceTo)));
+        }
+    }
+
+    /**
+     * Accepts the items which a query was found to match through a search index. Once the filtered list has been
+     * filtered, items which enter it by being added or edited are tested against the query.
+     */
+    private static class IndexedQuery<T> implements Predicate<T> {
+        private final Predicate<T> query;
+        private final Set<T> matches;
+        private boolean isApplied = false;
+
+        IndexedQuery(Predicate<T> query, Set<T> matches) {
+            this.query = query;
+            this.matches = matches;
+        }
+
+        @Override
+        public boolean test(T item) {
+            return matches.contains(item) || isApplied && query.test(item);
+        }
+    }
 }
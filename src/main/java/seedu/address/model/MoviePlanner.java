@@ -2,7 +2,12 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -14,14 +19,21 @@ import java.util.stream.Collectors;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.cinema.Cinema;
+import seedu.address.model.cinema.CinemaQuery;
+import seedu.address.model.cinema.CinemaSearchIndex;
 import seedu.address.model.cinema.Theater;
 import seedu.address.model.cinema.UniqueCinemaList;
 import seedu.address.model.cinema.exceptions.CinemaNotFoundException;
 import seedu.address.model.cinema.exceptions.DuplicateCinemaException;
 import seedu.address.model.movie.Movie;
+import seedu.address.model.movie.MovieQuery;
+import seedu.address.model.movie.MovieSearchIndex;
 import seedu.address.model.movie.UniqueMovieList;
 import seedu.address.model.movie.exceptions.DuplicateMovieException;
 import seedu.address.model.movie.exceptions.MovieNotFoundException;
+import seedu.address.model.screening.ScheduledScreening;
+import seedu.address.model.screening.Screening;
+import seedu.address.model.screening.ScreeningTimeIndex;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.UniqueTagList;
 import seedu.address.model.tag.exceptions.TagNotFoundException;
@@ -37,6 +49,17 @@ public class MoviePlanner implements ReadOnlyMoviePlanner {
     private final UniqueMovieList movies;
     private final UniqueTagList tags;
     private ArrayList<Theater> theaters;
+    /** The screenings of every cinema by screening date time, or null if it has not been needed yet. */
+    private ScreeningTimeIndex screeningIndex;
+    /** The cinemas by the words in their names and addresses and by their phones, or null if not needed yet. */
+    private CinemaSearchIndex cinemaIndex;
+    /** The movies by the words in their names and start dates and by their tags, or null if not needed yet. */
+    private MovieSearchIndex movieIndex;
+
+    /** The changes made since {@link #startRecordingChanges()} was called, or null if not recording. */
+    private List<MoviePlannerChange> recordedChanges;
+    /** The number of changes recorded when each recording still in progress was started, the latest first. */
+    private final Deque<Integer> recordingStarts = new ArrayDeque<>();
 
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -68,6 +91,8 @@ public class MoviePlanner implements ReadOnlyMoviePlanner {
 
     public void setCinemas(List<Cinema> cinemas) throws DuplicateCinemaException {
         this.cinemas.setCinemas(cinemas);
+        screeningIndex = null;
+        cinemaIndex = null;
     }
 
     public void setTheaters(ArrayList<Theater> theaters) {
@@ -76,6 +101,7 @@ public class MoviePlanner implements ReadOnlyMoviePlanner {
 
     public void setMovies(List<Movie> movies) throws DuplicateMovieException {
         this.movies.setMovies(movies);
+        movieIndex = null;
     }
 
     public void setTags(Set<Tag> tags) {
@@ -87,6 +113,19 @@ public class MoviePlanner implements ReadOnlyMoviePlanner {
      */
     public void resetData(ReadOnlyMoviePlanner newData) {
         requireNonNull(newData);
+        if (isRecordingChanges()) {
+            // Replacing all data has no smaller inverse than the data itself.
+            MoviePlanner previousData = new MoviePlanner(this);
+            MoviePlanner replacementData = new MoviePlanner(newData);
+            recordChange(() -> replaceData(replacementData), () -> replaceData(previousData));
+        }
+        replaceData(newData);
+    }
+
+    /**
+     * Replaces the existing data of this {@code MoviePlanner} with {@code newData}, without recording the change.
+     */
+    private void replaceData(ReadOnlyMoviePlanner newData) {
         setTags(new HashSet<>(newData.getTagList()));
         setTheaters(new ArrayList<>(newData.getTheaterList()));
         List<Cinema> syncedCinemaList = newData.getCinemaList();
@@ -111,7 +150,8 @@ public class MoviePlanner implements ReadOnlyMoviePlanner {
      * @throws DuplicateCinemaException if an equivalent Cinema already exists.
      */
     public void addCinema(Cinema c) throws DuplicateCinemaException {
-        cinemas.add(c);
+        addToCinemas(c);
+        recordChange(() -> addToCinemas(c), () -> removeFromCinemas(c));
     }
 
     /**
@@ -126,7 +166,9 @@ public class MoviePlanner implements ReadOnlyMoviePlanner {
     public void updateCinema(Cinema target, Cinema editedCinema)
             throws DuplicateCinemaException, CinemaNotFoundException {
         requireNonNull(editedCinema);
-        cinemas.setCinema(target, editedCinema);
+        Cinema previousCinema = replaceInCinemas(target, editedCinema);
+        recordChange(() -> replaceInCinemas(previousCinema, editedCinema), () ->
+                replaceInCinemas(editedCinema, previousCinema));
     }
 
     /**
@@ -156,11 +198,67 @@ public class MoviePlanner implements ReadOnlyMoviePlanner {
      * @throws CinemaNotFoundException if the {@code key} is not in this {@code MoviePlanner}.
      */
     public boolean removeCinema(Cinema key) throws CinemaNotFoundException {
-        if (cinemas.remove(key)) {
-            return true;
-        } else {
+        int index = cinemas.indexOf(key);
+        if (index == -1) {
             throw new CinemaNotFoundException();
         }
+        Cinema removedCinema = cinemas.asObservableList().get(index);
+        removeFromCinemas(removedCinema);
+        recordChange(() -> removeFromCinemas(removedCinema), () -> addToCinemas(index, removedCinema));
+        return true;
+    }
+
+    /**
+     * Adds {@code cinema} to the end of the cinema list and to the cinema search index, and its screenings to the
+     * screening index.
+     */
+    private void addToCinemas(Cinema cinema) throws DuplicateCinemaException {
+        addToCinemas(cinemas.asObservableList().size(), cinema);
+    }
+
+    /**
+     * Adds {@code cinema} to the cinema list at {@code index} and to the cinema search index, and its screenings to
+     * the screening index.
+     */
+    private void addToCinemas(int index, Cinema cinema) throws DuplicateCinemaException {
+        cinemas.add(index, cinema);
+        if (screeningIndex != null) {
+            screeningIndex.add(cinema);
+        }
+        if (cinemaIndex != null) {
+            cinemaIndex.add(cinema);
+        }
+    }
+
+    /**
+     * Removes {@code cinema} from the cinema list and from the cinema search index, and its screenings from the
+     * screening index.
+     */
+    private void removeFromCinemas(Cinema cinema) throws CinemaNotFoundException {
+        cinemas.remove(cinema);
+        if (screeningIndex != null) {
+            screeningIndex.remove(cinema);
+        }
+        if (cinemaIndex != null) {
+            cinemaIndex.remove(cinema);
+        }
+    }
+
+    /**
+     * Replaces {@code target} in the cinema list with {@code editedCinema}, updating the cinema search index and
+     * the screening index.
+     * @return the cinema which was replaced.
+     */
+    private Cinema replaceInCinemas(Cinema target, Cinema editedCinema)
+            throws DuplicateCinemaException, CinemaNotFoundException {
+        Cinema previousCinema = cinemas.setCinema(target, editedCinema);
+        if (screeningIndex != null) {
+            screeningIndex.update(previousCinema, editedCinema);
+        }
+        if (cinemaIndex != null) {
+            cinemaIndex.update(previousCinema, editedCinema);
+        }
+        return previousCinema;
     }
 
     /**
@@ -219,7 +317,12 @@ public class MoviePlanner implements ReadOnlyMoviePlanner {
                                         .stream()
                                         .flatMap(movie -> movie.getTags().stream())
                                         .collect(Collectors.toSet());
-        tags.setTags(tagsOfMovies);
+        for (Tag tag : new ArrayList<>(tags.asObservableList())) {
+            if (!tagsOfMovies.contains(tag)) {
+                tags.remove(tag);
+                recordChange(() -> tags.remove(tag), () -> tags.add(tag));
+            }
+        }
     }
 
 
@@ -232,11 +335,14 @@ public class MoviePlanner implements ReadOnlyMoviePlanner {
      * @throws DuplicateMovieException if an equivalent Movie already exists.
      */
     public void addMovie(Movie m) throws DuplicateMovieException {
+        int tagCount = tags.asObservableList().size();
         Movie movie = syncWithMasterTagList(m);
+        recordTagsAddedSince(tagCount);
         // TODO: the tags master list will be updated even though the below line fails.
         // This can cause the tags master list to have additional tags that are not tagged to any Cinema
         // in the Cinema list.
-        movies.add(movie);
+        addToMovies(movie);
+        recordChange(() -> addToMovies(movie), () -> removeFromMovies(movie));
     }
 
     /**
@@ -244,11 +350,54 @@ public class MoviePlanner implements ReadOnlyMoviePlanner {
      * @throws MovieNotFoundException if the {@code key} is not in this {@code MoviePlanner}.
      */
     public boolean removeMovie(Movie key) throws MovieNotFoundException {
-        if (movies.remove(key)) {
-            return true;
-        } else {
+        int index = movies.indexOf(key);
+        if (index == -1) {
             throw new MovieNotFoundException();
         }
+        Movie removedMovie = movies.asObservableList().get(index);
+        removeFromMovies(removedMovie);
+        recordChange(() -> removeFromMovies(removedMovie), () -> addToMovies(index, removedMovie));
+        return true;
+    }
+
+    /**
+     * Adds {@code movie} to the end of the movie list, and to the movie search index.
+     */
+    private void addToMovies(Movie movie) throws DuplicateMovieException {
+        addToMovies(movies.asObservableList().size(), movie);
+    }
+
+    /**
+     * Adds {@code movie} to the movie list at {@code index}, and to the movie search index.
+     */
+    private void addToMovies(int index, Movie movie) throws DuplicateMovieException {
+        movies.add(index, movie);
+        if (movieIndex != null) {
+            movieIndex.add(movie);
+        }
+    }
+
+    /**
+     * Removes {@code movie} from the movie list and from the movie search index.
+     */
+    private void removeFromMovies(Movie movie) throws MovieNotFoundException {
+        movies.remove(movie);
+        if (movieIndex != null) {
+            movieIndex.remove(movie);
+        }
+    }
+
+    /**
+     * Replaces {@code target} in the movie list with {@code editedMovie}, updating the movie search index.
+     * @return the movie which was replaced.
+     */
+    private Movie replaceInMovies(Movie target, Movie editedMovie)
+            throws DuplicateMovieException, MovieNotFoundException {
+        Movie previousMovie = movies.setMovie(target, editedMovie);
+        if (movieIndex != null) {
+            movieIndex.update(previousMovie, editedMovie);
+        }
+        return previousMovie;
     }
 
     /**
@@ -265,14 +414,91 @@ public class MoviePlanner implements ReadOnlyMoviePlanner {
             throws DuplicateMovieException, MovieNotFoundException {
         requireNonNull(editedMovie);
 
+        int tagCount = tags.asObservableList().size();
         Movie syncedEditedMovie = syncWithMasterTagList(editedMovie);
+        recordTagsAddedSince(tagCount);
         // TODO: the tags master list will be updated even though the below line fails.
         // This can cause the tags master list to have additional tags that are not tagged to any Cinema
         // in the Cinema list.
-        movies.setMovie(target, syncedEditedMovie);
+        Movie previousMovie = replaceInMovies(target, syncedEditedMovie);
+        recordChange(() -> replaceInMovies(previousMovie, syncedEditedMovie), () ->
+                replaceInMovies(syncedEditedMovie, previousMovie));
         removeUnusedTags();
     }
 
+    //// change recording operations
+
+    /**
+     * Starts recording the changes made to this {@code MoviePlanner}. Recordings may be nested, in which case the
+     * changes made during the inner recording are also part of the outer one.
+     */
+    public void startRecordingChanges() {
+        if (!isRecordingChanges()) {
+            recordedChanges = new ArrayList<>();
+        }
+        recordingStarts.push(recordedChanges.size());
+    }
+
+    /**
+     * Stops the latest recording of changes to this {@code MoviePlanner}.
+     *
+     * @return the changes made since that recording started, in the order they were made.
+     */
+    public List<MoviePlannerChange> stopRecordingChanges() {
+        if (!isRecordingChanges()) {
+            return Collections.emptyList();
+        }
+        List<MoviePlannerChange> changes = new ArrayList<>(
+                recordedChanges.subList(recordingStarts.pop(), recordedChanges.size()));
+        if (recordingStarts.isEmpty()) {
+            recordedChanges = null;
+        }
+        return Collections.unmodifiableList(changes);
+    }
+
+    private boolean isRecordingChanges() {
+        return recordedChanges != null;
+    }
+
+    /**
+     * Reverts {@code changes}, most recent first. This {@code MoviePlanner} must be in the state it was in
+     * right after the changes were recorded.
+     */
+    public void undoChanges(List<MoviePlannerChange> changes) {
+        requireNonNull(changes);
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).revert();
+        }
+    }
+
+    /**
+     * Applies {@code changes} again, in the order they were recorded. This {@code MoviePlanner} must be in
+     * the state it was in right before the changes were recorded.
+     */
+    public void redoChanges(List<MoviePlannerChange> changes) {
+        requireNonNull(changes);
+        changes.forEach(MoviePlannerChange::apply);
+    }
+
+    /**
+     * Records a change made by {@code forward} and reverted by {@code inverse}, if changes are being recorded.
+     */
+    private void recordChange(MoviePlannerChange.Mutation forward, MoviePlannerChange.Mutation inverse) {
+        if (isRecordingChanges()) {
+            recordedChanges.add(new MoviePlannerChange(forward, inverse));
+        }
+    }
+
+    /**
+     * Records the addition of the tags at and after {@code index} in the master tag list.
+     */
+    private void recordTagsAddedSince(int index) {
+        List<Tag> tagList = tags.asObservableList();
+        for (Tag tag : new ArrayList<>(tagList.subList(index, tagList.size()))) {
+            recordChange(() -> tags.add(tag), () -> tags.remove(tag));
+        }
+    }
+
     //// util methods
     @Override
     public String toString() {
@@ -286,6 +512,63 @@ public class MoviePlanner implements ReadOnlyMoviePlanner {
         return cinemas.asObservableList();
     }
 
+    /**
+     * {@inheritDoc}
+     * The cinemas are found through the cinema search index, which is built from the cinemas the first time it is
+     * needed and kept up to date as the cinemas change.
+     */
+    @Override
+    public Set<Cinema> findCinemas(CinemaQuery query) {
+        requireNonNull(query);
+        if (cinemaIndex == null) {
+            cinemaIndex = new CinemaSearchIndex(cinemas.asObservableList());
+        }
+        return cinemaIndex.find(query);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The screenings which have not been archived are found through the screening index, which is built from the
+     * cinemas the first time it is needed and kept up to date as the cinemas change. Archived screenings are read
+     * from the archive of each theater, and only if the window starts before its cutoff.
+     */
+    @Override
+    public List<ScheduledScreening> getScreeningsStartingBetween(LocalDateTime from, LocalDateTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        if (screeningIndex == null) {
+            screeningIndex = new ScreeningTimeIndex(cinemas.asObservableList());
+        }
+        List<ScheduledScreening> screenings = screeningIndex.startingBetween(from, to);
+
+        int indexedCount = screenings.size();
+        for (Cinema cinema : cinemas) {
+            for (Theater theater : cinema.getTheaters()) {
+                for (Screening archived : theater.archivedScreeningsStartingBetween(from, to)) {
+                    screenings.add(new ScheduledScreening(cinema.getName(), archived));
+                }
+            }
+        }
+        if (screenings.size() > indexedCount) {
+            screenings.sort(Comparator.comparing(screening -> screening.getScreening().getScreeningDateTime()));
+        }
+        return screenings;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The movies are found through the movie search index, which is built from the movies the first time it is
+     * needed and kept up to date as the movies change.
+     */
+    @Override
+    public Set<Movie> findMovies(MovieQuery query) {
+        requireNonNull(query);
+        if (movieIndex == null) {
+            movieIndex = new MovieSearchIndex(movies.asObservableList());
+        }
+        return movieIndex.find(query);
+    }
+
     @Override
     public ObservableList<Movie> getMovieList() {
         return movies.asObservableList();
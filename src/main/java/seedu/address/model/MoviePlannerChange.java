@@ -0,0 +1,56 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.commons.exceptions.DuplicateDataException;
+import seedu.address.model.cinema.exceptions.CinemaNotFoundException;
+import seedu.address.model.movie.exceptions.MovieNotFoundException;
+
+/**
+ * A single recorded change to a {@code MoviePlanner}, such as the addition, removal or replacement of a cinema,
+ * movie or tag, together with the targeted mutation which reverts it.
+ */
+public final class MoviePlannerChange {
+
+    private final Mutation forward;
+    private final Mutation inverse;
+
+    MoviePlannerChange(Mutation forward, Mutation inverse) {
+        requireAllNonNull(forward, inverse);
+        this.forward = forward;
+        this.inverse = inverse;
+    }
+
+    /**
+     * Applies this change again, after it has been reverted.
+     */
+    void apply() {
+        run(forward);
+    }
+
+    /**
+     * Reverts this change.
+     */
+    void revert() {
+        run(inverse);
+    }
+
+    /**
+     * Runs {@code mutation}, which cannot fail as it replays a change that was successfully made before.
+     */
+    private static void run(Mutation mutation) {
+        try {
+            mutation.run();
+        } catch (DuplicateDataException | CinemaNotFoundException | MovieNotFoundException e) {
+            throw new AssertionError("Replaying a recorded change should not fail", e);
+        }
+    }
+
+    /**
+     * A targeted mutation of the lists in a {@code MoviePlanner}.
+     */
+    @FunctionalInterface
+    interface Mutation {
+        void run() throws DuplicateDataException, CinemaNotFoundException, MovieNotFoundException;
+    }
+}
@@ -0,0 +1,150 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.cinema.Cinema;
+import seedu.address.model.cinema.Theater;
+import seedu.address.model.screening.Screening;
+
+/**
+ * An edit to one of the lists of a {@code MoviePlanner}: the elements {@code removed} from the list at
+ * {@code index}, and the elements {@code added} in their place.
+ *
+ * An edit of the {@code SCREENINGS} of a {@code MoviePlanner} is an edit to the theaters of the cinema at
+ * {@code index}: the screenings {@code removed} from their theaters, and the screenings {@code added} to them.
+ * A cinema whose details are unchanged is edited this way when only its screenings change, so that the edit is
+ * only as large as the screenings it adds and removes.
+ * Guarantees: immutable.
+ */
+public final class MoviePlannerEdit {
+
+    /**
+     * The lists of a {@code MoviePlanner}.
+     */
+    public enum ListType { CINEMAS, MOVIES, TAGS, SCREENINGS }
+
+    private final ListType list;
+    private final int index;
+    private final List<Object> removed;
+    private final List<Object> added;
+
+    public MoviePlannerEdit(ListType list, int index, List<?> removed, List<?> added) {
+        requireAllNonNull(list, removed, added);
+        this.list = list;
+        this.index = index;
+        this.removed = Collections.unmodifiableList(new ArrayList<>(removed));
+        this.added = Collections.unmodifiableList(new ArrayList<>(added));
+    }
+
+    /**
+     * Returns the edits reported by {@code change}, a change to the {@code list} of a {@code MoviePlanner},
+     * in the order they were made.
+     */
+    public static List<MoviePlannerEdit> of(ListType list, ListChangeListener.Change<?> change) {
+        List<MoviePlannerEdit> edits = new ArrayList<>();
+        while (change.next()) {
+            int from = change.getFrom();
+            List<?> current = change.getList().subList(from, change.getTo());
+            if (change.wasPermutated()) {
+                List<Object> previous = new ArrayList<>();
+                for (int i = from; i < change.getTo(); i++) {
+                    previous.add(change.getList().get(change.getPermutation(i)));
+                }
+                edits.add(new MoviePlannerEdit(list, from, previous, current));
+            } else if (list == ListType.CINEMAS && change.wasReplaced()
+                    && change.getRemovedSize() == change.getAddedSize()) {
+                for (int i = 0; i < change.getAddedSize(); i++) {
+                    addCinemaReplacement(edits, from + i, (Cinema) change.getRemoved().get(i),
+                            (Cinema) change.getAddedSubList().get(i));
+                }
+            } else if (change.wasAdded() || change.wasRemoved()) {
+                edits.add(new MoviePlannerEdit(list, from, change.getRemoved(), change.getAddedSubList()));
+            }
+        }
+        return edits;
+    }
+
+    /**
+     * Adds the edit replacing {@code removed} by {@code added} at {@code index} of the cinemas to {@code edits}:
+     * an edit of the screenings of the cinema if that is all that changed, or else an edit of the cinemas.
+     */
+    private static void addCinemaReplacement(List<MoviePlannerEdit> edits, int index, Cinema removed,
+                                             Cinema added) {
+        if (removed == added) {
+            return;
+        }
+        if (!removed.equals(added) || removed.getTheaters().size() != added.getTheaters().size()) {
+            edits.add(new MoviePlannerEdit(ListType.CINEMAS, index, Collections.singletonList(removed),
+                    Collections.singletonList(added)));
+            return;
+        }
+
+        List<Screening> removedScreenings = new ArrayList<>();
+        List<Screening> addedScreenings = new ArrayList<>();
+        for (int i = 0; i < removed.getTheaters().size(); i++) {
+            Theater removedTheater = removed.getTheaters().get(i);
+            Theater addedTheater = added.getTheaters().get(i);
+            if (removedTheater == addedTheater) {
+                // theaters whose screenings did not change are shared by both cinemas
+                continue;
+            }
+            if (removedTheater.getTheaterNumber() != addedTheater.getTheaterNumber()) {
+                edits.add(new MoviePlannerEdit(ListType.CINEMAS, index, Collections.singletonList(removed),
+                        Collections.singletonList(added)));
+                return;
+            }
+            Set<Screening> previous = new LinkedHashSet<>(removedTheater.getScreeningList());
+            Set<Screening> current = new LinkedHashSet<>(addedTheater.getScreeningList());
+            previous.stream().filter(screening -> !current.contains(screening)).forEach(removedScreenings::add);
+            current.stream().filter(screening -> !previous.contains(screening)).forEach(addedScreenings::add);
+        }
+        if (!removedScreenings.isEmpty() || !addedScreenings.isEmpty()) {
+            edits.add(new MoviePlannerEdit(ListType.SCREENINGS, index, removedScreenings, addedScreenings));
+        }
+    }
+
+    public ListType getList() {
+        return list;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public List<Object> getRemoved() {
+        return removed;
+    }
+
+    public List<Object> getAdded() {
+        return added;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof MoviePlannerEdit // instanceof handles nulls
+                && list == ((MoviePlannerEdit) other).list
+                && index == ((MoviePlannerEdit) other).index
+                && removed.equals(((MoviePlannerEdit) other).removed)
+                && added.equals(((MoviePlannerEdit) other).added));
+    }
+
+    @Override
+    public int hashCode() {
+        // use this method for custom fields hashing instead of implementing your own
+        return Objects.hash(list, index, removed, added);
+    }
+
+    @Override
+    public String toString() {
+        return list + " at " + index + ": removed " + removed.size() + ", added " + added.size();
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.cinema.Cinema;
+import seedu.address.model.cinema.CinemaQuery;
+import seedu.address.model.cinema.Theater;
+import seedu.address.model.movie.Movie;
+import seedu.address.model.movie.MovieQuery;
+import seedu.address.model.screening.ScheduledScreening;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An unmodifiable copy of the lists of a movie planner, as they were when the copy was taken.
+ *
+ * Only the lists are copied: the cinemas, movies and tags in them are shared with the original movie planner, as
+ * they are replaced rather than modified when the movie planner changes. Taking a snapshot is therefore much
+ * cheaper than copying the movie planner, and leaves the original free to change while the snapshot is saved.
+ * Guarantees: immutable.
+ */
+public class MoviePlannerSnapshot implements ReadOnlyMoviePlanner {
+
+    private final ObservableList<Cinema> cinemas;
+    private final ObservableList<Movie> movies;
+    private final ObservableList<Tag> tags;
+    private final ObservableList<Theater> theaters;
+    /** A movie planner with the same data, built the first time it is queried. */
+    private MoviePlanner queryable;
+
+    public MoviePlannerSnapshot(ReadOnlyMoviePlanner moviePlanner) {
+        requireNonNull(moviePlanner);
+        cinemas = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(moviePlanner.getCinemaList()));
+        movies = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(moviePlanner.getMovieList()));
+        tags = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(moviePlanner.getTagList()));
+        theaters = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(moviePlanner.getTheaterList()));
+    }
+
+    @Override
+    public ObservableList<Cinema> getCinemaList() {
+        return cinemas;
+    }
+
+    @Override
+    public ObservableList<Movie> getMovieList() {
+        return movies;
+    }
+
+    @Override
+    public ObservableList<Tag> getTagList() {
+        return tags;
+    }
+
+    @Override
+    public ObservableList<Theater> getTheaterList() {
+        return theaters;
+    }
+
+    @Override
+    public List<ScheduledScreening> getScreeningsStartingBetween(LocalDateTime from, LocalDateTime to) {
+        return getQueryable().getScreeningsStartingBetween(from, to);
+    }
+
+    @Override
+    public Set<Movie> findMovies(MovieQuery query) {
+        return getQueryable().findMovies(query);
+    }
+
+    @Override
+    public Set<Cinema> findCinemas(CinemaQuery query) {
+        return getQueryable().findCinemas(query);
+    }
+
+    /**
+     * Returns a movie planner with the same data as this snapshot, which queries are answered with.
+     */
+    private synchronized MoviePlanner getQueryable() {
+        if (queryable == null) {
+            queryable = new MoviePlanner(this);
+        }
+        return queryable;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof MoviePlannerSnapshot // instanceof handles nulls
+                && cinemas.equals(((MoviePlannerSnapshot) other).cinemas)
+                && movies.equals(((MoviePlannerSnapshot) other).movies)
+                && tags.equals(((MoviePlannerSnapshot) other).tags));
+    }
+
+    @Override
+    public int hashCode() {
+        return cinemas.hashCode() * 31 * 31 + movies.hashCode() * 31 + tags.hashCode();
+    }
+}
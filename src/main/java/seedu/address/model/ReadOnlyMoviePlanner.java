@@ -1,9 +1,16 @@
 package seedu.address.model;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.cinema.Cinema;
+import seedu.address.model.cinema.CinemaQuery;
 import seedu.address.model.cinema.Theater;
 import seedu.address.model.movie.Movie;
+import seedu.address.model.movie.MovieQuery;
+import seedu.address.model.screening.ScheduledScreening;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -35,4 +42,19 @@ public interface ReadOnlyMoviePlanner {
      */
     ObservableList<Theater> getTheaterList();
 
+    /**
+     * Returns the screenings in every cinema which start in {@code [from, to)}, sorted by screening date time.
+     */
+    List<ScheduledScreening> getScreeningsStartingBetween(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Returns the movies which match {@code query}. Movies in the returned set are compared by identity.
+     */
+    Set<Movie> findMovies(MovieQuery query);
+
+    /**
+     * Returns the cinemas which match {@code query}. Cinemas in the returned set are compared by identity.
+     */
+    Set<Cinema> findCinemas(CinemaQuery query);
+
 }
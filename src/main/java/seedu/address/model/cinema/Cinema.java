@@ -1,5 +1,6 @@
 package seedu.address.model.cinema;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
@@ -49,6 +50,18 @@ public class Cinema {
         return theaters;
     }
 
+    /**
+     * Returns a new {@code Cinema} with the same details as this cinema, with the theater that has the same
+     * theater number as {@code updatedTheater} replaced by {@code updatedTheater}.
+     * Every other theater is shared with this cinema, which is left unchanged.
+     */
+    public Cinema withTheater(Theater updatedTheater) {
+        requireNonNull(updatedTheater);
+        ArrayList<Theater> updatedTheaters = new ArrayList<>(theaters);
+        updatedTheaters.replaceAll(t -> t.equals(updatedTheater) ? updatedTheater : t);
+        return new Cinema(name, phone, email, address, updatedTheaters);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,8 +81,8 @@ public class Cinema {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, theaters);
+        // hash only the fields compared by equals, so that equal objects have equal hash codes
+        return Objects.hash(name, phone, email, address);
     }
 
     @Override
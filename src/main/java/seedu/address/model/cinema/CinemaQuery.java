@@ -0,0 +1,95 @@
+package seedu.address.model.cinema;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Tests that a {@code Cinema}'s {@code Name} contains any of the name keywords given as a word, that its
+ * {@code Address} contains every address keyword given as a word, and that its {@code Phone} starts with the phone
+ * prefix given. Keywords are matched ignoring case. A query without any keywords and with an empty phone prefix
+ * matches no cinema.
+ *
+ * A query is usually answered through a {@link CinemaSearchIndex} rather than by testing every cinema.
+ */
+public class CinemaQuery implements Predicate<Cinema> {
+    private final List<String> nameKeywords;
+    private final List<String> addressKeywords;
+    private final String phonePrefix;
+
+    public CinemaQuery(List<String> nameKeywords, List<String> addressKeywords, String phonePrefix) {
+        requireAllNonNull(nameKeywords, addressKeywords, phonePrefix);
+        this.nameKeywords = normalizeKeywords(nameKeywords);
+        this.addressKeywords = normalizeWords(addressKeywords);
+        this.phonePrefix = phonePrefix.trim();
+    }
+
+    /**
+     * Returns {@code keywords} in the form they are indexed under.
+     */
+    private static List<String> normalizeKeywords(List<String> keywords) {
+        List<String> normalized = new ArrayList<>();
+        keywords.forEach(keyword -> normalized.add(CinemaSearchIndex.normalize(keyword)));
+        return Collections.unmodifiableList(normalized);
+    }
+
+    /**
+     * Returns the words in {@code keywords} in the form they are indexed under, so that an address fragment such
+     * as {@code #01-23} is matched word by word.
+     */
+    private static List<String> normalizeWords(List<String> keywords) {
+        List<String> normalized = new ArrayList<>();
+        keywords.forEach(keyword -> normalized.addAll(CinemaSearchIndex.wordsOf(keyword)));
+        return Collections.unmodifiableList(normalized);
+    }
+
+    public List<String> getNameKeywords() {
+        return nameKeywords;
+    }
+
+    public List<String> getAddressKeywords() {
+        return addressKeywords;
+    }
+
+    public String getPhonePrefix() {
+        return phonePrefix;
+    }
+
+    /**
+     * Returns true if this query matches no cinema, because it has no keywords and an empty phone prefix.
+     */
+    public boolean isEmpty() {
+        return nameKeywords.isEmpty() && addressKeywords.isEmpty() && phonePrefix.isEmpty();
+    }
+
+    @Override
+    public boolean test(Cinema cinema) {
+        return !isEmpty()
+                && (nameKeywords.isEmpty() || nameKeywords.stream()
+                        .anyMatch(CinemaSearchIndex.wordsOf(cinema.getName().fullName)::contains))
+                && CinemaSearchIndex.wordsOf(cinema.getAddress().value).containsAll(addressKeywords)
+                && cinema.getPhone().value.startsWith(phonePrefix);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CinemaQuery // instanceof handles nulls
+                && nameKeywords.equals(((CinemaQuery) other).nameKeywords)
+                && addressKeywords.equals(((CinemaQuery) other).addressKeywords)
+                && phonePrefix.equals(((CinemaQuery) other).phonePrefix)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return (nameKeywords.hashCode() * 31 + addressKeywords.hashCode()) * 31 + phonePrefix.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "name: " + nameKeywords + " address: " + addressKeywords + " phone: " + phonePrefix;
+    }
+}
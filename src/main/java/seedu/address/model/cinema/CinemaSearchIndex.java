@@ -0,0 +1,156 @@
+package seedu.address.model.cinema;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An index of cinemas by the words in their names and addresses, compared ignoring case, and by their phone numbers
+ * in order. A {@code CinemaQuery} is answered from the postings of its keywords, and its phone prefix is looked up as
+ * the range of phone numbers starting with it, so only the cinemas which can match are visited.
+ *
+ * Postings hold cinemas by identity, because an updated cinema which is equal to the one it replaces is a different
+ * object, with different theaters.
+ */
+public class CinemaSearchIndex {
+
+    private final Map<String, Set<Cinema>> cinemasByNameWord = new HashMap<>();
+    private final Map<String, Set<Cinema>> cinemasByAddressWord = new HashMap<>();
+    private final NavigableMap<String, Set<Cinema>> cinemasByPhone = new TreeMap<>();
+
+    /**
+     * Creates an index of {@code cinemas}.
+     */
+    public CinemaSearchIndex(List<Cinema> cinemas) {
+        requireNonNull(cinemas);
+        cinemas.forEach(this::add);
+    }
+
+    /**
+     * Adds {@code cinema} to the index.
+     */
+    public void add(Cinema cinema) {
+        wordsOf(cinema.getName().fullName).forEach(word -> post(cinemasByNameWord, word, cinema));
+        wordsOf(cinema.getAddress().value).forEach(word -> post(cinemasByAddressWord, word, cinema));
+        post(cinemasByPhone, cinema.getPhone().value, cinema);
+    }
+
+    /**
+     * Removes {@code cinema} from the index, if it is there.
+     */
+    public void remove(Cinema cinema) {
+        wordsOf(cinema.getName().fullName).forEach(word -> unpost(cinemasByNameWord, word, cinema));
+        wordsOf(cinema.getAddress().value).forEach(word -> unpost(cinemasByAddressWord, word, cinema));
+        unpost(cinemasByPhone, cinema.getPhone().value, cinema);
+    }
+
+    /**
+     * Replaces {@code previousCinema} in the index with {@code updatedCinema}.
+     */
+    public void update(Cinema previousCinema, Cinema updatedCinema) {
+        remove(previousCinema);
+        add(updatedCinema);
+    }
+
+    /**
+     * Returns the indexed cinemas which match {@code query}. Cinemas in the returned set are compared by identity.
+     */
+    public Set<Cinema> find(CinemaQuery query) {
+        requireNonNull(query);
+        if (query.isEmpty()) {
+            return newCinemaSet();
+        }
+
+        List<Set<Cinema>> postings = new ArrayList<>();
+        if (!query.getNameKeywords().isEmpty()) {
+            Set<Cinema> withAnyNameWord = newCinemaSet();
+            query.getNameKeywords().forEach(keyword ->
+                    withAnyNameWord.addAll(cinemasByNameWord.getOrDefault(keyword, Collections.emptySet())));
+            postings.add(withAnyNameWord);
+        }
+        query.getAddressKeywords().forEach(keyword ->
+                postings.add(cinemasByAddressWord.getOrDefault(keyword, Collections.emptySet())));
+        if (postings.isEmpty()) {
+            return withPhoneStartingWith(query.getPhonePrefix());
+        }
+
+        postings.sort(Comparator.comparingInt(Set::size));
+        Set<Cinema> matches = newCinemaSet();
+        matches.addAll(postings.get(0));
+        for (Set<Cinema> posting : postings.subList(1, postings.size())) {
+            if (matches.isEmpty()) {
+                break;
+            }
+            matches.retainAll(posting);
+        }
+        // the candidates are already narrowed down, so their phones are checked rather than looked up
+        matches.removeIf(cinema -> !cinema.getPhone().value.startsWith(query.getPhonePrefix()));
+        return matches;
+    }
+
+    /**
+     * Returns the indexed cinemas whose phone numbers start with {@code phonePrefix}.
+     */
+    private Set<Cinema> withPhoneStartingWith(String phonePrefix) {
+        Set<Cinema> cinemas = newCinemaSet();
+        cinemasByPhone.subMap(phonePrefix, true, phonePrefix + Character.MAX_VALUE, false).values()
+                .forEach(cinemas::addAll);
+        return cinemas;
+    }
+
+    /**
+     * Posts {@code cinema} under {@code key} in {@code postings}.
+     */
+    private static void post(Map<String, Set<Cinema>> postings, String key, Cinema cinema) {
+        postings.computeIfAbsent(key, unused -> newCinemaSet()).add(cinema);
+    }
+
+    /**
+     * Removes {@code cinema} from under {@code key} in {@code postings}, dropping the key once nothing is posted
+     * under it.
+     */
+    private static void unpost(Map<String, Set<Cinema>> postings, String key, Cinema cinema) {
+        Set<Cinema> posted = postings.get(key);
+        if (posted == null) {
+            return;
+        }
+        posted.remove(cinema);
+        if (posted.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+    private static Set<Cinema> newCinemaSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Returns {@code keyword} in the form it is indexed under.
+     */
+    static String normalize(String keyword) {
+        return keyword.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the normalized words in {@code text}, which are the runs of letters and digits in it.
+     */
+    static List<String> wordsOf(String text) {
+        List<String> words = new ArrayList<>();
+        for (String word : text.split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                words.add(normalize(word));
+            }
+        }
+        return words;
+    }
+}
@@ -3,11 +3,20 @@ package seedu.address.model.cinema;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
+import seedu.address.model.screening.ArchivedSchedule;
 import seedu.address.model.screening.Screening;
+import seedu.address.model.screening.ScreeningIntervalTree;
+import seedu.address.model.screening.ScreeningLoader;
 //@@author tinyjy94
 /**
  * Represents a theater in cinema
@@ -24,13 +33,31 @@ public class Theater {
     public static final String THEATER_VALIDATION_REGEX = "^[1-9]\\d*$";
 
     private int theaterNumber;
-    private ArrayList<Screening> screeningList;
+    private ScreeningIntervalTree screenings;
+    /** Loads the screenings of the theater when they are first needed, or null once they have been loaded. */
+    private ScreeningLoader pendingScreenings;
+    /** The screenings which have been archived, or null if there are none. */
+    private ArchivedSchedule archivedSchedule;
 
     public Theater(int theaterNumber) {
+        this(theaterNumber, ScreeningIntervalTree.empty(), null);
+    }
+
+    /**
+     * Creates a theater whose screenings are loaded by {@code screeningLoader} the first time they are needed.
+     */
+    public Theater(int theaterNumber, ScreeningLoader screeningLoader) {
+        this(theaterNumber, ScreeningIntervalTree.empty(), null);
+        requireNonNull(screeningLoader);
+        this.pendingScreenings = screeningLoader;
+    }
+
+    private Theater(int theaterNumber, ScreeningIntervalTree screenings, ArchivedSchedule archivedSchedule) {
         requireNonNull(theaterNumber);
         checkArgument(isValidTheater(String.valueOf(theaterNumber)), MESSAGE_THEATER_CONSTRAINTS);
         this.theaterNumber = theaterNumber;
-        this.screeningList = new ArrayList<>();
+        this.screenings = screenings;
+        this.archivedSchedule = archivedSchedule;
     }
 
     /**
@@ -49,38 +76,167 @@ public class Theater {
     }
 
     /**
-     * Adds a screening to the sorted screening list of the theater
+     * Adds a screening to the sorted screening index of the theater
      */
     public void addScreeningToTheater(Screening screening) {
-        screeningList.add(screening);
+        screenings = getScreenings().add(screening);
     }
 
     /**
-     * Adds a screening to the sorted screening list of the theater
+     * Replaces the screenings of the theater with those in {@code screeningList}
      */
-    public void setScreeningList(ArrayList<Screening> screeningList) {
-        this.screeningList = screeningList;
+    public synchronized void setScreeningList(ArrayList<Screening> screeningList) {
+        pendingScreenings = null;
+        screenings = ScreeningIntervalTree.of(screeningList);
     }
 
     /**
-     * Sorts the screening list by screening date time
+     * Replaces the archived screenings of the theater with {@code archivedSchedule}. The screenings which start
+     * before its cutoff are dropped from the theater, as they are expected to be in {@code archivedSchedule}.
      */
-    public void sortScreeningList() {
-        screeningList.sort(Comparator.comparing(Screening::getScreeningDateTime));
+    public void setArchivedSchedule(ArchivedSchedule archivedSchedule) {
+        requireNonNull(archivedSchedule);
+        for (Screening archived : getScreenings().startingBetween(LocalDateTime.MIN, archivedSchedule.getCutoff())) {
+            screenings = getScreenings().remove(archived);
+        }
+        this.archivedSchedule = archivedSchedule;
     }
 
     /**
-     * Returns a list of screenings in the theater
+     * Returns the archived screenings of the theater, if any have been archived.
+     */
+    public Optional<ArchivedSchedule> getArchivedSchedule() {
+        return Optional.ofNullable(archivedSchedule);
+    }
+
+    /**
+     * Returns a new {@code Theater} with the same number as this theater, which holds both the screenings and the
+     * archived screenings of this theater and has nothing archived. This theater is left unchanged.
+     */
+    public Theater withArchivedScreenings() {
+        ScreeningIntervalTree allScreenings = getScreenings();
+        if (archivedSchedule != null) {
+            for (Screening archived : archivedSchedule.startingBetween(this, LocalDateTime.MIN,
+                    archivedSchedule.getCutoff())) {
+                allScreenings = allScreenings.add(archived);
+            }
+        }
+        return new Theater(theaterNumber, allScreenings, null);
+    }
+
+    /**
+     * Returns a list of screenings in the theater which have not been archived, sorted by screening date time
      */
     public ArrayList<Screening> getScreeningList() {
-        return screeningList;
+        return new ArrayList<>(getScreenings().toList());
     }
 
     /**
      * Delete a screening given in the theater
      */
     public void deleteScreening(Screening screeningToBeDeleted) {
-        screeningList.remove(screeningToBeDeleted);
+        screenings = getScreenings().remove(screeningToBeDeleted);
+    }
+
+    /**
+     * Returns a new {@code Theater} with the same number and screenings as this theater, plus {@code screening}.
+     * The new theater shares all but O(log n) of its screening index with this theater, which is left unchanged.
+     */
+    public Theater withScreening(Screening screening) {
+        return new Theater(theaterNumber, getScreenings().add(screening), archivedSchedule);
+    }
+
+    /**
+     * Returns a new {@code Theater} with the same number and screenings as this theater, plus {@code newScreenings}.
+     * This theater is left unchanged.
+     */
+    public Theater withScreenings(Collection<Screening> newScreenings) {
+        ScreeningIntervalTree updatedScreenings = getScreenings();
+        for (Screening screening : newScreenings) {
+            updatedScreenings = updatedScreenings.add(screening);
+        }
+        return new Theater(theaterNumber, updatedScreenings, archivedSchedule);
+    }
+
+    /**
+     * Returns a new {@code Theater} with the same number and screenings as this theater, minus {@code screening}.
+     * The new theater shares all but O(log n) of its screening index with this theater, which is left unchanged.
+     */
+    public Theater withoutScreening(Screening screening) {
+        return new Theater(theaterNumber, getScreenings().remove(screening), archivedSchedule);
+    }
+
+    /**
+     * Returns true if any screening in the theater overlaps the interval {@code [start, end)}.
+     * A screening that ends exactly at {@code start}, or starts exactly at {@code end}, does not overlap.
+     * Archived screenings are read only if {@code start} is before the latest end of the archived screenings, as an
+     * archived screening may run past the cutoff of the archive.
+     */
+    public boolean overlaps(LocalDateTime start, LocalDateTime end) {
+        return getScreenings().overlaps(start, end)
+                || archivedSchedule != null && start.isBefore(archivedSchedule.getLatestEnd())
+                && archivedSchedule.overlaps(start, end);
+    }
+
+    /**
+     * Returns the screenings which start on {@code date}, sorted by screening date time.
+     * Archived screenings are read only if {@code date} is before the cutoff of the archive.
+     */
+    public List<Screening> screeningsOn(LocalDate date) {
+        requireNonNull(date);
+        LocalDateTime from = date.atStartOfDay();
+        LocalDateTime to = date.plusDays(1).atStartOfDay();
+        List<Screening> screeningsOnDate = getScreenings().startingBetween(from, to);
+        if (!isArchived(from)) {
+            return screeningsOnDate;
+        }
+        List<Screening> archivedScreenings = archivedSchedule.startingBetween(this, from, to);
+        if (screeningsOnDate.isEmpty()) {
+            return archivedScreenings;
+        }
+        List<Screening> allScreenings = new ArrayList<>(archivedScreenings);
+        allScreenings.addAll(screeningsOnDate);
+        allScreenings.sort(Comparator.comparing(Screening::getScreeningDateTime));
+        return allScreenings;
+    }
+
+    /**
+     * Returns the archived screenings which start in {@code [from, to)}, sorted by screening date time.
+     */
+    public List<Screening> archivedScreeningsStartingBetween(LocalDateTime from, LocalDateTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        if (!isArchived(from)) {
+            return Collections.emptyList();
+        }
+        return archivedSchedule.startingBetween(this, from, to);
+    }
+
+    /**
+     * Returns the screening index of the theater, loading the screenings first if they have not been loaded yet.
+     */
+    private synchronized ScreeningIntervalTree getScreenings() {
+        if (pendingScreenings != null) {
+            screenings = ScreeningIntervalTree.of(pendingScreenings.load(this));
+            pendingScreenings = null;
+        }
+        return screenings;
+    }
+
+    /**
+     * Returns true if screenings from {@code dateTime} onwards could be in the archived schedule.
+     */
+    private boolean isArchived(LocalDateTime dateTime) {
+        return archivedSchedule != null && dateTime.isBefore(archivedSchedule.getCutoff());
+    }
+
+    /**
+     * Returns the screening which starts at {@code screeningDateTime}, if any.
+     * Archived screenings are read-only, and are not returned.
+     */
+    public Optional<Screening> getScreeningAt(LocalDateTime screeningDateTime) {
+        requireNonNull(screeningDateTime);
+        return getScreenings().startingBetween(screeningDateTime, screeningDateTime.plusNanos(1)).stream().findFirst();
     }
 
     @Override
@@ -100,6 +256,6 @@ public class Theater {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(theaterNumber, screeningList);
+        return Objects.hash(theaterNumber);
     }
 }
@@ -4,8 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -25,13 +27,15 @@ import seedu.address.model.cinema.exceptions.DuplicateCinemaException;
 public class UniqueCinemaList implements Iterable<Cinema> {
 
     private final ObservableList<Cinema> internalList = FXCollections.observableArrayList();
+    /** The index of each cinema in {@code internalList}, kept in sync with it for O(1) lookups. */
+    private final Map<Cinema, Integer> indexes = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent cinema as the given argument.
      */
     public boolean contains(Cinema toCheck) {
         requireNonNull(toCheck);
-        return internalList.contains(toCheck);
+        return indexes.containsKey(toCheck);
     }
 
     /**
@@ -44,29 +48,55 @@ public class UniqueCinemaList implements Iterable<Cinema> {
         if (contains(toAdd)) {
             throw new DuplicateCinemaException();
         }
+        indexes.put(toAdd, internalList.size());
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds a cinema to the list at {@code index}.
+     *
+     * @throws DuplicateCinemaException if the cinema to add is a duplicate of an existing cinema in the list.
+     */
+    public void add(int index, Cinema toAdd) throws DuplicateCinemaException {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateCinemaException();
+        }
+        internalList.add(index, toAdd);
+        reindexFrom(index);
+    }
+
+    /**
+     * Returns the index of the equivalent cinema in the list, or -1 if there is none.
+     */
+    public int indexOf(Cinema toFind) {
+        requireNonNull(toFind);
+        return indexes.getOrDefault(toFind, -1);
+    }
+
     /**
      * Replaces the cinema {@code target} in the list with {@code editedCinema}.
      *
+     * @return the cinema which was replaced.
      * @throws DuplicateCinemaException if the replacement is equivalent to another existing cinema in the list.
      * @throws CinemaNotFoundException if {@code target} could not be found in the list.
      */
-    public void setCinema(Cinema target, Cinema editedCinema)
+    public Cinema setCinema(Cinema target, Cinema editedCinema)
             throws DuplicateCinemaException, CinemaNotFoundException {
         requireNonNull(editedCinema);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Integer index = indexes.get(target);
+        if (index == null) {
             throw new CinemaNotFoundException();
         }
 
-        if (!target.equals(editedCinema) && internalList.contains(editedCinema)) {
+        if (!target.equals(editedCinema) && contains(editedCinema)) {
             throw new DuplicateCinemaException();
         }
 
-        internalList.set(index, editedCinema);
+        indexes.remove(target);
+        indexes.put(editedCinema, index);
+        return internalList.set(index, editedCinema);
     }
 
     /**
@@ -76,15 +106,19 @@ public class UniqueCinemaList implements Iterable<Cinema> {
      */
     public boolean remove(Cinema toRemove) throws CinemaNotFoundException {
         requireNonNull(toRemove);
-        final boolean cinemaFoundAndDeleted = internalList.remove(toRemove);
-        if (!cinemaFoundAndDeleted) {
+        final Integer index = indexes.remove(toRemove);
+        if (index == null) {
             throw new CinemaNotFoundException();
         }
-        return cinemaFoundAndDeleted;
+        internalList.remove(index.intValue());
+        reindexFrom(index);
+        return true;
     }
 
     public void setCinemas(UniqueCinemaList replacement) {
         this.internalList.setAll(replacement.internalList);
+        this.indexes.clear();
+        this.indexes.putAll(replacement.indexes);
     }
 
     public void setCinemas(List<Cinema> cinemas) throws DuplicateCinemaException {
@@ -96,6 +130,15 @@ public class UniqueCinemaList implements Iterable<Cinema> {
         setCinemas(replacement);
     }
 
+    /**
+     * Updates the recorded indexes of the cinemas at and after {@code start} in {@code internalList}.
+     */
+    private void reindexFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            indexes.put(internalList.get(i), i);
+        }
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -7,7 +7,6 @@ import java.util.Collections;
 import java.util.Objects;
 import java.util.Set;
 
-import seedu.address.model.cinema.Theater;
 import seedu.address.model.screening.Screening;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.UniqueTagList;
@@ -40,18 +39,6 @@ public class Movie {
         screenings.add(s);
     }
 
-    /**
-     * Called by DeleteMovieCommand.
-     * It will delete all screenings linked to the movie.
-     */
-    public void deleteScreenings() {
-        for (int i = 0; i < screenings.size(); i++) {
-            Screening s = screenings.get(i);
-            Theater t = s.getTheater();
-            t.deleteScreening(s);
-        }
-    }
-
     public MovieName getName() {
         return movieName;
     }
@@ -92,8 +79,8 @@ public class Movie {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(movieName, duration, rating, startDate, tags);
+        // hash only the fields compared by equals, so that equal objects have equal hash codes
+        return Objects.hash(movieName, startDate);
     }
 
     @Override
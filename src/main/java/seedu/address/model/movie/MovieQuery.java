@@ -0,0 +1,132 @@
+package seedu.address.model.movie;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Tests that every keyword given is a word in a {@code Movie}'s name, a word in its start date or one of its tags,
+ * for name, start date and tag keywords respectively, and that every fuzzy name keyword is close to a word in its
+ * name. Keywords are matched ignoring case, and a query without any keywords matches every movie.
+ *
+ * A fuzzy name keyword is close to a word if it is a prefix of the word, or if the word can be reached from it with
+ * one edit, or two edits for keywords of eight characters or more. Keywords of up to three characters must be a
+ * prefix. Queries with fuzzy name keywords rank the movies they match, by how close the keywords are.
+ *
+ * A query is usually answered through a {@link MovieSearchIndex} rather than by testing every movie.
+ */
+public class MovieQuery implements Predicate<Movie> {
+    private final List<String> nameKeywords;
+    private final List<String> startDateKeywords;
+    private final List<String> tagKeywords;
+    private final List<String> fuzzyNameKeywords;
+
+    public MovieQuery(List<String> nameKeywords, List<String> startDateKeywords, List<String> tagKeywords) {
+        this(nameKeywords, startDateKeywords, tagKeywords, Collections.emptyList());
+    }
+
+    public MovieQuery(List<String> nameKeywords, List<String> startDateKeywords, List<String> tagKeywords,
+                      List<String> fuzzyNameKeywords) {
+        requireAllNonNull(nameKeywords, startDateKeywords, tagKeywords, fuzzyNameKeywords);
+        this.nameKeywords = normalize(nameKeywords);
+        this.startDateKeywords = normalize(startDateKeywords);
+        this.tagKeywords = normalize(tagKeywords);
+        this.fuzzyNameKeywords = normalize(fuzzyNameKeywords);
+    }
+
+    /**
+     * Returns {@code keywords} in the form they are indexed under.
+     */
+    private static List<String> normalize(List<String> keywords) {
+        List<String> normalized = new ArrayList<>();
+        keywords.forEach(keyword -> normalized.add(MovieSearchIndex.normalize(keyword)));
+        return Collections.unmodifiableList(normalized);
+    }
+
+    public List<String> getNameKeywords() {
+        return nameKeywords;
+    }
+
+    public List<String> getStartDateKeywords() {
+        return startDateKeywords;
+    }
+
+    public List<String> getTagKeywords() {
+        return tagKeywords;
+    }
+
+    public List<String> getFuzzyNameKeywords() {
+        return fuzzyNameKeywords;
+    }
+
+    /**
+     * Returns true if the movies matched by this query should be ranked by {@link #distanceTo}.
+     */
+    public boolean isRanked() {
+        return !fuzzyNameKeywords.isEmpty();
+    }
+
+    @Override
+    public boolean test(Movie movie) {
+        List<String> nameWords = MovieSearchIndex.nameWordsOf(movie);
+        return nameWords.containsAll(nameKeywords)
+                && MovieSearchIndex.startDateWordsOf(movie).containsAll(startDateKeywords)
+                && MovieSearchIndex.tagsOf(movie).containsAll(tagKeywords)
+                && fuzzyNameKeywords.stream().allMatch(keyword -> closestMatchCost(keyword, nameWords)
+                        != MovieSearchIndex.NO_MATCH);
+    }
+
+    /**
+     * Returns how far the fuzzy name keywords of this query are from the name of {@code movie}, which this query
+     * must match. A lower distance is a closer match, and exact words are closer than prefixes, which are closer
+     * than words with typos.
+     */
+    public int distanceTo(Movie movie) {
+        List<String> nameWords = MovieSearchIndex.nameWordsOf(movie);
+        int distance = 0;
+        for (String keyword : fuzzyNameKeywords) {
+            distance += Math.max(0, closestMatchCost(keyword, nameWords));
+        }
+        return distance;
+    }
+
+    /**
+     * Returns the lowest match cost of {@code keyword} against {@code words}, or {@code MovieSearchIndex.NO_MATCH}
+     * if it matches none of them.
+     */
+    private static int closestMatchCost(String keyword, List<String> words) {
+        int closest = MovieSearchIndex.NO_MATCH;
+        for (String word : words) {
+            int cost = MovieSearchIndex.matchCost(keyword, word);
+            if (cost != MovieSearchIndex.NO_MATCH && (closest == MovieSearchIndex.NO_MATCH || cost < closest)) {
+                closest = cost;
+            }
+        }
+        return closest;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof MovieQuery // instanceof handles nulls
+                && nameKeywords.equals(((MovieQuery) other).nameKeywords)
+                && startDateKeywords.equals(((MovieQuery) other).startDateKeywords)
+                && tagKeywords.equals(((MovieQuery) other).tagKeywords)
+                && fuzzyNameKeywords.equals(((MovieQuery) other).fuzzyNameKeywords)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(nameKeywords, startDateKeywords, tagKeywords, fuzzyNameKeywords);
+    }
+
+    @Override
+    public String toString() {
+        return "name: " + nameKeywords + " start date: " + startDateKeywords + " tag: " + tagKeywords
+                + " like: " + fuzzyNameKeywords;
+    }
+}
@@ -0,0 +1,303 @@
+package seedu.address.model.movie;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index of movies by the words in their names, the words in their start dates and their tags, all
+ * compared ignoring case. A {@code MovieQuery} is answered by intersecting the postings of its keywords, so only
+ * the movies posted under its rarest keyword are visited.
+ *
+ * Postings hold movies by identity, because movies are equal by name and start date alone and an edited movie may
+ * differ from the one it replaces only in its tags.
+ *
+ * The words in movie names are also indexed by their trigrams, so that the name words close to a keyword can be found
+ * without comparing the keyword to every word. A word within edit distance {@code k} of a keyword shares at least
+ * {@code n - 4k} of the {@code n} trigrams of the keyword, padded as {@code "$$" + keyword + "$"}, since an edit
+ * changes at most four trigrams. Only the words which share that many trigrams are compared to the keyword.
+ */
+public class MovieSearchIndex {
+
+    /** The match cost of a keyword which does not match a word. */
+    static final int NO_MATCH = -1;
+
+    private final Map<String, Set<Movie>> moviesByNameWord = new HashMap<>();
+    private final Map<String, Set<Movie>> moviesByStartDateWord = new HashMap<>();
+    private final Map<String, Set<Movie>> moviesByTag = new HashMap<>();
+    private final Map<String, Set<String>> nameWordsByTrigram = new HashMap<>();
+    private final Set<Movie> movies = newMovieSet();
+
+    /**
+     * Creates an index of {@code movies}.
+     */
+    public MovieSearchIndex(List<Movie> movies) {
+        requireNonNull(movies);
+        movies.forEach(this::add);
+    }
+
+    /**
+     * Adds {@code movie} to the index.
+     */
+    public void add(Movie movie) {
+        movies.add(movie);
+        nameWordsOf(movie).forEach(word -> postNameWord(word, movie));
+        startDateWordsOf(movie).forEach(word -> post(moviesByStartDateWord, word, movie));
+        tagsOf(movie).forEach(tag -> post(moviesByTag, tag, movie));
+    }
+
+    /**
+     * Removes {@code movie} from the index, if it is there.
+     */
+    public void remove(Movie movie) {
+        movies.remove(movie);
+        nameWordsOf(movie).forEach(word -> unpostNameWord(word, movie));
+        startDateWordsOf(movie).forEach(word -> unpost(moviesByStartDateWord, word, movie));
+        tagsOf(movie).forEach(tag -> unpost(moviesByTag, tag, movie));
+    }
+
+    /**
+     * Replaces {@code previousMovie} in the index with {@code updatedMovie}.
+     */
+    public void update(Movie previousMovie, Movie updatedMovie) {
+        remove(previousMovie);
+        add(updatedMovie);
+    }
+
+    /**
+     * Returns the indexed movies which match {@code query}. Movies in the returned set are compared by identity.
+     */
+    public Set<Movie> find(MovieQuery query) {
+        requireNonNull(query);
+        List<Set<Movie>> postings = new ArrayList<>();
+        query.getNameKeywords().forEach(keyword -> postings.add(postingsOf(moviesByNameWord, keyword)));
+        query.getStartDateKeywords().forEach(keyword -> postings.add(postingsOf(moviesByStartDateWord, keyword)));
+        query.getTagKeywords().forEach(keyword -> postings.add(postingsOf(moviesByTag, keyword)));
+        query.getFuzzyNameKeywords().forEach(keyword -> postings.add(moviesWithNameWordCloseTo(keyword)));
+        if (postings.isEmpty()) {
+            postings.add(movies);
+        }
+
+        postings.sort(Comparator.comparingInt(Set::size));
+        Set<Movie> matches = newMovieSet();
+        matches.addAll(postings.get(0));
+        for (Set<Movie> posting : postings.subList(1, postings.size())) {
+            if (matches.isEmpty()) {
+                break;
+            }
+            matches.retainAll(posting);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the movies with a word in their names which {@code keyword} matches, as {@link #matchCost} finds.
+     */
+    private Set<Movie> moviesWithNameWordCloseTo(String keyword) {
+        int maxDistance = maxDistanceFor(keyword);
+        // a word which the keyword is a prefix of shares all of the trigrams of the keyword but the last
+        String padded = maxDistance == 0 ? "$$" + keyword : "$$" + keyword + "$";
+        int minSharedTrigrams = padded.length() - 2 - 4 * maxDistance;
+
+        Map<String, Integer> sharedTrigrams = new HashMap<>();
+        for (String trigram : trigramsOf(padded)) {
+            for (String word : nameWordsByTrigram.getOrDefault(trigram, Collections.emptySet())) {
+                sharedTrigrams.merge(word, 1, Integer::sum);
+            }
+        }
+
+        Set<Movie> movies = newMovieSet();
+        sharedTrigrams.forEach((word, shared) -> {
+            if (shared >= minSharedTrigrams && matchCost(keyword, word) != NO_MATCH) {
+                movies.addAll(moviesByNameWord.get(word));
+            }
+        });
+        return movies;
+    }
+
+    /**
+     * Posts {@code movie} under the name word {@code word}, indexing the trigrams of {@code word} if it is new.
+     */
+    private void postNameWord(String word, Movie movie) {
+        if (!moviesByNameWord.containsKey(word)) {
+            for (String trigram : trigramsOf("$$" + word + "$")) {
+                nameWordsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(word);
+            }
+        }
+        post(moviesByNameWord, word, movie);
+    }
+
+    /**
+     * Removes {@code movie} from under the name word {@code word}, dropping the trigrams of {@code word} once no
+     * movie is posted under it.
+     */
+    private void unpostNameWord(String word, Movie movie) {
+        unpost(moviesByNameWord, word, movie);
+        if (moviesByNameWord.containsKey(word)) {
+            return;
+        }
+        for (String trigram : trigramsOf("$$" + word + "$")) {
+            Set<String> words = nameWordsByTrigram.get(trigram);
+            if (words != null && words.remove(word) && words.isEmpty()) {
+                nameWordsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Returns the trigrams of {@code text}, in order.
+     */
+    private static List<String> trigramsOf(String text) {
+        List<String> trigrams = new ArrayList<>();
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            trigrams.add(text.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Returns the movies posted under {@code keyword} in {@code postings}.
+     */
+    private static Set<Movie> postingsOf(Map<String, Set<Movie>> postings, String keyword) {
+        return postings.getOrDefault(normalize(keyword), Collections.emptySet());
+    }
+
+    /**
+     * Posts {@code movie} under {@code key} in {@code postings}.
+     */
+    private static void post(Map<String, Set<Movie>> postings, String key, Movie movie) {
+        postings.computeIfAbsent(key, unused -> newMovieSet()).add(movie);
+    }
+
+    /**
+     * Removes {@code movie} from under {@code key} in {@code postings}, dropping the key once nothing is posted
+     * under it.
+     */
+    private static void unpost(Map<String, Set<Movie>> postings, String key, Movie movie) {
+        Set<Movie> posted = postings.get(key);
+        if (posted == null) {
+            return;
+        }
+        posted.remove(movie);
+        if (posted.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+    private static Set<Movie> newMovieSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Returns {@code keyword} in the form it is indexed under.
+     */
+    static String normalize(String keyword) {
+        return keyword.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the most edits a word may be away from {@code keyword} for the keyword to match it. Keywords of up to
+     * three characters only match words they are a prefix of.
+     */
+    static int maxDistanceFor(String keyword) {
+        if (keyword.length() <= 3) {
+            return 0;
+        }
+        return keyword.length() < 8 ? 1 : 2;
+    }
+
+    /**
+     * Returns how far the normalized {@code word} is from the normalized {@code keyword}: 0 if they are the same, 1 if
+     * the keyword is a prefix of the word, or 1 more than their edit distance if it is at most
+     * {@link #maxDistanceFor} the keyword. Returns {@code NO_MATCH} if the keyword does not match the word.
+     */
+    static int matchCost(String keyword, String word) {
+        if (word.equals(keyword)) {
+            return 0;
+        }
+        if (word.startsWith(keyword)) {
+            return 1;
+        }
+        int maxDistance = maxDistanceFor(keyword);
+        if (Math.abs(word.length() - keyword.length()) > maxDistance) {
+            return NO_MATCH;
+        }
+        int distance = editDistance(keyword, word);
+        return distance <= maxDistance ? 1 + distance : NO_MATCH;
+    }
+
+    /**
+     * Returns the number of insertions, deletions, substitutions and transpositions of adjacent characters which
+     * turn {@code first} into {@code second}, with no substring edited more than once.
+     */
+    private static int editDistance(String first, String second) {
+        int[][] distances = new int[first.length() + 1][second.length() + 1];
+        for (int i = 0; i <= first.length(); i++) {
+            distances[i][0] = i;
+        }
+        for (int j = 0; j <= second.length(); j++) {
+            distances[0][j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                distances[i][j] = Math.min(Math.min(distances[i - 1][j] + 1, distances[i][j - 1] + 1),
+                        distances[i - 1][j - 1] + substitutionCost);
+                if (i > 1 && j > 1 && first.charAt(i - 1) == second.charAt(j - 2)
+                        && first.charAt(i - 2) == second.charAt(j - 1)) {
+                    distances[i][j] = Math.min(distances[i][j], distances[i - 2][j - 2] + 1);
+                }
+            }
+        }
+        return distances[first.length()][second.length()];
+    }
+
+    /**
+     * Returns the normalized words in the name of {@code movie}.
+     */
+    static List<String> nameWordsOf(Movie movie) {
+        return wordsOf(movie.getName().movieName);
+    }
+
+    /**
+     * Returns the normalized words in the start date of {@code movie}.
+     */
+    static List<String> startDateWordsOf(Movie movie) {
+        return wordsOf(movie.getStartDate().startDate);
+    }
+
+    /**
+     * Returns the normalized names of the tags of {@code movie}.
+     */
+    static List<String> tagsOf(Movie movie) {
+        List<String> tags = new ArrayList<>();
+        for (Tag tag : movie.getTags()) {
+            tags.add(normalize(tag.tagName));
+        }
+        return tags;
+    }
+
+    /**
+     * Returns the normalized words in {@code text}, which are separated by whitespace.
+     */
+    private static List<String> wordsOf(String text) {
+        List<String> words = new ArrayList<>();
+        for (String word : text.trim().split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(normalize(word));
+            }
+        }
+        return words;
+    }
+}
@@ -47,6 +47,13 @@ public class StartDate {
         return false;
     }
 
+    /**
+     * Returns the start date as a {@code LocalDate}.
+     */
+    public LocalDate toLocalDate() {
+        return LocalDate.parse(startDate, dtf);
+    }
+
     @Override
     public String toString() {
         return startDate;
@@ -4,8 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -24,13 +26,15 @@ import seedu.address.model.movie.exceptions.MovieNotFoundException;
 public class UniqueMovieList implements Iterable<Movie> {
 
     private final ObservableList<Movie> internalList = FXCollections.observableArrayList();
+    /** The index of each movie in {@code internalList}, kept in sync with it for O(1) lookups. */
+    private final Map<Movie, Integer> indexes = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent movie as the given argument.
      */
     public boolean contains(Movie toCheck) {
         requireNonNull(toCheck);
-        return internalList.contains(toCheck);
+        return indexes.containsKey(toCheck);
     }
 
     /**
@@ -43,29 +47,55 @@ public class UniqueMovieList implements Iterable<Movie> {
         if (contains(toAdd)) {
             throw new DuplicateMovieException();
         }
+        indexes.put(toAdd, internalList.size());
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds a movie to the list at {@code index}.
+     *
+     * @throws DuplicateMovieException if the movie to add is a duplicate of an existing movie in the list.
+     */
+    public void add(int index, Movie toAdd) throws DuplicateMovieException {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateMovieException();
+        }
+        internalList.add(index, toAdd);
+        reindexFrom(index);
+    }
+
+    /**
+     * Returns the index of the equivalent movie in the list, or -1 if there is none.
+     */
+    public int indexOf(Movie toFind) {
+        requireNonNull(toFind);
+        return indexes.getOrDefault(toFind, -1);
+    }
+
     /**
      * Replaces the movie {@code target} in the list with {@code editedMovie}.
      *
+     * @return the movie which was replaced.
      * @throws DuplicateMovieException if the replacement is equivalent to another existing movie in the list.
      * @throws MovieNotFoundException if {@code target} could not be found in the list.
      */
-    public void setMovie(Movie target, Movie editedMovie)
+    public Movie setMovie(Movie target, Movie editedMovie)
             throws DuplicateMovieException, MovieNotFoundException {
         requireNonNull(editedMovie);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Integer index = indexes.get(target);
+        if (index == null) {
             throw new MovieNotFoundException();
         }
 
-        if (!target.equals(editedMovie) && internalList.contains(editedMovie)) {
+        if (!target.equals(editedMovie) && contains(editedMovie)) {
             throw new DuplicateMovieException();
         }
 
-        internalList.set(index, editedMovie);
+        indexes.remove(target);
+        indexes.put(editedMovie, index);
+        return internalList.set(index, editedMovie);
     }
 
     /**
@@ -75,15 +105,19 @@ public class UniqueMovieList implements Iterable<Movie> {
      */
     public boolean remove(Movie toRemove) throws MovieNotFoundException {
         requireNonNull(toRemove);
-        final boolean movieFoundAndDeleted = internalList.remove(toRemove);
-        if (!movieFoundAndDeleted) {
+        final Integer index = indexes.remove(toRemove);
+        if (index == null) {
             throw new MovieNotFoundException();
         }
-        return movieFoundAndDeleted;
+        internalList.remove(index.intValue());
+        reindexFrom(index);
+        return true;
     }
 
     public void setMovies(UniqueMovieList replacement) {
         this.internalList.setAll(replacement.internalList);
+        this.indexes.clear();
+        this.indexes.putAll(replacement.indexes);
     }
 
     public void setMovies(List<Movie> movies) throws DuplicateMovieException {
@@ -95,6 +129,15 @@ public class UniqueMovieList implements Iterable<Movie> {
         setMovies(replacement);
     }
 
+    /**
+     * Updates the recorded indexes of the movies at and after {@code start} in {@code internalList}.
+     */
+    private void reindexFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            indexes.put(internalList.get(i), i);
+        }
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -0,0 +1,35 @@
+package seedu.address.model.screening;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import seedu.address.model.cinema.Theater;
+
+/**
+ * A read-only schedule of the past screenings of a theater, which are kept out of memory and read on demand.
+ * Every screening in the schedule starts before its cutoff.
+ */
+public interface ArchivedSchedule {
+
+    /**
+     * Returns the date time before which every archived screening starts.
+     */
+    LocalDateTime getCutoff();
+
+    /**
+     * Returns a date time by which every archived screening has ended. A screening which starts before the cutoff
+     * may end after it.
+     */
+    LocalDateTime getLatestEnd();
+
+    /**
+     * Returns the archived screenings which start in {@code [from, to)}, sorted by screening date time.
+     * The screenings are in {@code theater}, the theater whose schedule this is.
+     */
+    List<Screening> startingBetween(Theater theater, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Returns true if any archived screening overlaps the interval {@code [start, end)}.
+     */
+    boolean overlaps(LocalDateTime start, LocalDateTime end);
+}
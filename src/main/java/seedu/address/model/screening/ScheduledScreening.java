@@ -0,0 +1,56 @@
+package seedu.address.model.screening;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.format.DateTimeFormatter;
+
+import seedu.address.model.cinema.Name;
+
+/**
+ * A screening together with the name of the cinema it is in.
+ */
+public class ScheduledScreening {
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/uuuu HH:mm");
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final Name cinemaName;
+    private final Screening screening;
+
+    public ScheduledScreening(Name cinemaName, Screening screening) {
+        requireAllNonNull(cinemaName, screening);
+        this.cinemaName = cinemaName;
+        this.screening = screening;
+    }
+
+    public Name getCinemaName() {
+        return cinemaName;
+    }
+
+    public Screening getScreening() {
+        return screening;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ScheduledScreening // instanceof handles nulls
+                && cinemaName.equals(((ScheduledScreening) other).cinemaName)
+                && screening.getTheater().getTheaterNumber()
+                        == ((ScheduledScreening) other).screening.getTheater().getTheaterNumber()
+                && screening.equals(((ScheduledScreening) other).screening));
+    }
+
+    @Override
+    public int hashCode() {
+        return cinemaName.hashCode() * 31 + screening.getScreeningDateTime().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return cinemaName + " Theater " + screening.getTheater().getTheaterNumber() + ": "
+                + screening.getMovieName() + ", "
+                + screening.getScreeningDateTime().format(DATE_TIME_FORMATTER) + " to "
+                + screening.getScreeningEndDateTime().format(TIME_FORMATTER);
+    }
+}
@@ -0,0 +1,298 @@
+package seedu.address.model.screening;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * An immutable set of screenings, ordered by their {@code [screeningDateTime, screeningEndDateTime)} interval.
+ *
+ * The set is a persistent AVL tree: {@link #add(Screening)} and {@link #remove(Screening)} return a new tree
+ * which shares every node with this tree except the O(log n) nodes on the path to the changed screening.
+ * Every node also records the latest end date time in its subtree, so overlap queries take O(log n) time.
+ */
+public final class ScreeningIntervalTree {
+
+    /**
+     * Orders screenings by start, then end date time. The movie name is compared last so that the ordering
+     * is consistent with {@link Screening#equals(Object)}.
+     */
+    private static final Comparator<Screening> SCREENING_INTERVAL_ORDER =
+            Comparator.comparing(Screening::getScreeningDateTime)
+                    .thenComparing(Screening::getScreeningEndDateTime)
+                    .thenComparing(Screening::getMovieName);
+
+    private static final ScreeningIntervalTree EMPTY = new ScreeningIntervalTree(null);
+
+    private final Node root;
+
+    private ScreeningIntervalTree(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns a tree with no screenings.
+     */
+    public static ScreeningIntervalTree empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a tree containing all screenings in {@code screenings}.
+     */
+    public static ScreeningIntervalTree of(Iterable<Screening> screenings) {
+        requireNonNull(screenings);
+        ScreeningIntervalTree tree = empty();
+        for (Screening screening : screenings) {
+            tree = tree.add(screening);
+        }
+        return tree;
+    }
+
+    public int size() {
+        return Node.size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns true if the tree contains a screening equal to {@code screening}.
+     */
+    public boolean contains(Screening screening) {
+        requireNonNull(screening);
+        Node node = root;
+        while (node != null) {
+            int cmp = SCREENING_INTERVAL_ORDER.compare(screening, node.screening);
+            if (cmp == 0) {
+                return true;
+            }
+            node = cmp < 0 ? node.left : node.right;
+        }
+        return false;
+    }
+
+    /**
+     * Returns a tree which also contains {@code screening}, or this tree if it already does.
+     */
+    public ScreeningIntervalTree add(Screening screening) {
+        requireNonNull(screening);
+        Node newRoot = insert(root, screening);
+        return newRoot == root ? this : new ScreeningIntervalTree(newRoot);
+    }
+
+    /**
+     * Returns a tree without {@code screening}, or this tree if it does not contain it.
+     */
+    public ScreeningIntervalTree remove(Screening screening) {
+        requireNonNull(screening);
+        Node newRoot = delete(root, screening);
+        return newRoot == root ? this : new ScreeningIntervalTree(newRoot);
+    }
+
+    /**
+     * Returns true if any screening in the tree overlaps the interval {@code [start, end)}.
+     */
+    public boolean overlaps(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        Node node = root;
+        while (node != null) {
+            if (isOverlapping(node.screening, start, end)) {
+                return true;
+            }
+            // If the left subtree reaches past start but has no overlap, its latest-ending screening
+            // starts on or after end, and so does every screening in the right subtree.
+            node = node.left != null && node.left.maxEnd.isAfter(start) ? node.left : node.right;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the screenings which start in {@code [from, to)}, sorted by screening date time.
+     */
+    public List<Screening> startingBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        List<Screening> result = new ArrayList<>();
+        collectStartingBetween(root, from, to, result);
+        return result;
+    }
+
+    /**
+     * Returns all screenings in the tree, sorted by screening date time.
+     */
+    public List<Screening> toList() {
+        List<Screening> result = new ArrayList<>(size());
+        collectAll(root, result);
+        return result;
+    }
+
+    private static boolean isOverlapping(Screening screening, LocalDateTime start, LocalDateTime end) {
+        return screening.getScreeningDateTime().isBefore(end) && screening.getScreeningEndDateTime().isAfter(start);
+    }
+
+    /**
+     * Adds the screenings in the subtree of {@code node} which start in {@code [from, to)} to {@code result},
+     * skipping subtrees which cannot contain such screenings.
+     */
+    private static void collectStartingBetween(Node node, LocalDateTime from, LocalDateTime to,
+                                               List<Screening> result) {
+        if (node == null) {
+            return;
+        }
+        LocalDateTime start = node.screening.getScreeningDateTime();
+        if (!start.isBefore(from)) {
+            collectStartingBetween(node.left, from, to, result);
+        }
+        if (!start.isBefore(from) && start.isBefore(to)) {
+            result.add(node.screening);
+        }
+        if (start.isBefore(to)) {
+            collectStartingBetween(node.right, from, to, result);
+        }
+    }
+
+    /**
+     * Adds every screening in the subtree of {@code node} to {@code result}, in order.
+     */
+    private static void collectAll(Node node, List<Screening> result) {
+        if (node == null) {
+            return;
+        }
+        collectAll(node.left, result);
+        result.add(node.screening);
+        collectAll(node.right, result);
+    }
+
+    //// persistent AVL operations
+
+    /**
+     * Returns the root of a subtree equal to {@code node} with {@code screening} inserted,
+     * or {@code node} itself if {@code screening} is already present.
+     */
+    private static Node insert(Node node, Screening screening) {
+        if (node == null) {
+            return new Node(screening, null, null);
+        }
+        int cmp = SCREENING_INTERVAL_ORDER.compare(screening, node.screening);
+        if (cmp == 0) {
+            return node;
+        } else if (cmp < 0) {
+            Node newLeft = insert(node.left, screening);
+            return newLeft == node.left ? node : balance(node.screening, newLeft, node.right);
+        } else {
+            Node newRight = insert(node.right, screening);
+            return newRight == node.right ? node : balance(node.screening, node.left, newRight);
+        }
+    }
+
+    /**
+     * Returns the root of a subtree equal to {@code node} with {@code screening} removed,
+     * or {@code node} itself if {@code screening} is not present.
+     */
+    private static Node delete(Node node, Screening screening) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = SCREENING_INTERVAL_ORDER.compare(screening, node.screening);
+        if (cmp < 0) {
+            Node newLeft = delete(node.left, screening);
+            return newLeft == node.left ? node : balance(node.screening, newLeft, node.right);
+        } else if (cmp > 0) {
+            Node newRight = delete(node.right, screening);
+            return newRight == node.right ? node : balance(node.screening, node.left, newRight);
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            return balance(successor.screening, node.left, delete(node.right, successor.screening));
+        }
+    }
+
+    /**
+     * Returns a balanced subtree containing {@code screening} and the subtrees {@code left} and {@code right},
+     * whose heights differ by at most two.
+     */
+    private static Node balance(Screening screening, Node left, Node right) {
+        int leftHeight = Node.height(left);
+        int rightHeight = Node.height(right);
+
+        if (leftHeight > rightHeight + 1) {
+            if (Node.height(left.left) >= Node.height(left.right)) {
+                return new Node(left.screening, left.left, new Node(screening, left.right, right));
+            }
+            return new Node(left.right.screening,
+                    new Node(left.screening, left.left, left.right.left),
+                    new Node(screening, left.right.right, right));
+        }
+
+        if (rightHeight > leftHeight + 1) {
+            if (Node.height(right.right) >= Node.height(right.left)) {
+                return new Node(right.screening, new Node(screening, left, right.left), right.right);
+            }
+            return new Node(right.left.screening,
+                    new Node(screening, left, right.left.left),
+                    new Node(right.screening, right.left.right, right.right));
+        }
+
+        return new Node(screening, left, right);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ScreeningIntervalTree // instanceof handles nulls
+                && toList().equals(((ScreeningIntervalTree) other).toList()));
+    }
+
+    @Override
+    public int hashCode() {
+        return toList().hashCode();
+    }
+
+    /**
+     * An immutable tree node, augmented with the size, height and latest screening end of its subtree.
+     */
+    private static final class Node {
+        private final Screening screening;
+        private final Node left;
+        private final Node right;
+        private final int height;
+        private final int size;
+        private final LocalDateTime maxEnd;
+
+        Node(Screening screening, Node left, Node right) {
+            this.screening = screening;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.size = size(left) + size(right) + 1;
+
+            LocalDateTime latestEnd = screening.getScreeningEndDateTime();
+            if (left != null && left.maxEnd.isAfter(latestEnd)) {
+                latestEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd.isAfter(latestEnd)) {
+                latestEnd = right.maxEnd;
+            }
+            this.maxEnd = latestEnd;
+        }
+
+        static int height(Node node) {
+            return node == null ? 0 : node.height;
+        }
+
+        static int size(Node node) {
+            return node == null ? 0 : node.size;
+        }
+    }
+}
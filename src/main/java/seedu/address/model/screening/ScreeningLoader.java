@@ -0,0 +1,17 @@
+package seedu.address.model.screening;
+
+import java.util.List;
+
+import seedu.address.model.cinema.Theater;
+
+/**
+ * Loads the screenings of a theater, which are only read the first time they are needed.
+ */
+@FunctionalInterface
+public interface ScreeningLoader {
+
+    /**
+     * Returns the screenings of {@code theater}, in any order.
+     */
+    List<Screening> load(Theater theater);
+}
@@ -0,0 +1,141 @@
+package seedu.address.model.screening;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import seedu.address.model.cinema.Cinema;
+import seedu.address.model.cinema.Name;
+import seedu.address.model.cinema.Theater;
+
+/**
+ * An index of the screenings in every cinema by their screening date time, so that the screenings which start in a
+ * time window are found in O(log n + k) time for n screenings, k of them in the window.
+ * Archived screenings are not indexed.
+ *
+ * The index is updated one cinema at a time. Theaters which are shared between the previous and the updated cinema
+ * are skipped, so an update costs O(m log n) for the m screenings in the theaters which were replaced.
+ */
+public class ScreeningTimeIndex {
+
+    private final NavigableMap<LocalDateTime, List<ScheduledScreening>> screeningsByStart = new TreeMap<>();
+
+    /**
+     * Creates an index of the screenings in {@code cinemas}.
+     */
+    public ScreeningTimeIndex(List<Cinema> cinemas) {
+        requireNonNull(cinemas);
+        cinemas.forEach(this::add);
+    }
+
+    /**
+     * Adds the screenings of {@code cinema} to the index.
+     */
+    public void add(Cinema cinema) {
+        for (Theater theater : cinema.getTheaters()) {
+            theater.getScreeningList().forEach(screening -> addScreening(cinema.getName(), screening));
+        }
+    }
+
+    /**
+     * Removes the screenings of {@code cinema} from the index.
+     */
+    public void remove(Cinema cinema) {
+        for (Theater theater : cinema.getTheaters()) {
+            theater.getScreeningList().forEach(this::removeScreening);
+        }
+    }
+
+    /**
+     * Replaces the screenings of {@code previousCinema} in the index with those of {@code updatedCinema}.
+     */
+    public void update(Cinema previousCinema, Cinema updatedCinema) {
+        if (!previousCinema.getName().equals(updatedCinema.getName())) {
+            remove(previousCinema);
+            add(updatedCinema);
+            return;
+        }
+
+        Map<Integer, Theater> previousTheaters = new HashMap<>();
+        for (Theater theater : previousCinema.getTheaters()) {
+            previousTheaters.put(theater.getTheaterNumber(), theater);
+        }
+        for (Theater theater : updatedCinema.getTheaters()) {
+            Theater previousTheater = previousTheaters.remove(theater.getTheaterNumber());
+            if (previousTheater != theater) {
+                updateTheater(updatedCinema.getName(), previousTheater == null ? new ArrayList<>()
+                        : previousTheater.getScreeningList(), theater.getScreeningList());
+            }
+        }
+        for (Theater removedTheater : previousTheaters.values()) {
+            removedTheater.getScreeningList().forEach(this::removeScreening);
+        }
+    }
+
+    /**
+     * Replaces {@code previousScreenings} of a theater in the index with {@code updatedScreenings}.
+     * Both lists are sorted by screening date time, and screenings found in both are left in the index.
+     */
+    private void updateTheater(Name cinemaName, List<Screening> previousScreenings, List<Screening> updatedScreenings) {
+        int i = 0;
+        int j = 0;
+        while (i < previousScreenings.size() || j < updatedScreenings.size()) {
+            if (j == updatedScreenings.size() || i < previousScreenings.size()
+                    && previousScreenings.get(i).getScreeningDateTime()
+                            .isBefore(updatedScreenings.get(j).getScreeningDateTime())) {
+                removeScreening(previousScreenings.get(i++));
+            } else if (i == previousScreenings.size() || updatedScreenings.get(j).getScreeningDateTime()
+                    .isBefore(previousScreenings.get(i).getScreeningDateTime())) {
+                addScreening(cinemaName, updatedScreenings.get(j++));
+            } else {
+                if (previousScreenings.get(i) != updatedScreenings.get(j)) {
+                    removeScreening(previousScreenings.get(i));
+                    addScreening(cinemaName, updatedScreenings.get(j));
+                }
+                i++;
+                j++;
+            }
+        }
+    }
+
+    /**
+     * Adds {@code screening}, in the cinema named {@code cinemaName}, to the index.
+     */
+    private void addScreening(Name cinemaName, Screening screening) {
+        screeningsByStart.computeIfAbsent(screening.getScreeningDateTime(), start -> new ArrayList<>())
+                .add(new ScheduledScreening(cinemaName, screening));
+    }
+
+    /**
+     * Removes {@code screening} from the index, if it is there.
+     */
+    private void removeScreening(Screening screening) {
+        List<ScheduledScreening> screeningsAtStart = screeningsByStart.get(screening.getScreeningDateTime());
+        if (screeningsAtStart == null) {
+            return;
+        }
+        screeningsAtStart.removeIf(scheduled -> scheduled.getScreening() == screening);
+        if (screeningsAtStart.isEmpty()) {
+            screeningsByStart.remove(screening.getScreeningDateTime());
+        }
+    }
+
+    /**
+     * Returns the indexed screenings which start in {@code [from, to)}, sorted by screening date time.
+     */
+    public List<ScheduledScreening> startingBetween(LocalDateTime from, LocalDateTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        List<ScheduledScreening> screenings = new ArrayList<>();
+        if (from.isBefore(to)) {
+            screeningsByStart.subMap(from, true, to, false).values().forEach(screenings::addAll);
+        }
+        return screenings;
+    }
+}
@@ -92,6 +92,16 @@ public class UniqueTagList implements Iterable<Tag> {
         assert CollectionUtil.elementsAreUnique(internalList);
     }
 
+    /**
+     * Removes the equivalent Tag from the list.
+     *
+     * @return true if the Tag was found and removed.
+     */
+    public boolean remove(Tag toRemove) {
+        requireNonNull(toRemove);
+        return internalList.remove(toRemove);
+    }
+
     @Override
     public Iterator<Tag> iterator() {
         assert CollectionUtil.elementsAreUnique(internalList);
@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyMoviePlanner;
+
+/**
+ * Saves MoviePlanner snapshots on a background thread.
+ *
+ * Snapshots requested within {@code debounceMillis} of each other are coalesced: only the latest one is written.
+ */
+public class AsyncMoviePlannerSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncMoviePlannerSaver.class);
+    private static final String THREAD_NAME = "MoviePlanner saver";
+
+    private final SaveAction saveAction;
+    private final Consumer<IOException> errorHandler;
+    private final long debounceMillis;
+    private final ScheduledExecutorService executor;
+    private final AtomicReference<ReadOnlyMoviePlanner> pendingSnapshot = new AtomicReference<>();
+
+    /**
+     * Creates a saver which writes snapshots with {@code saveAction} and passes any exception thrown while saving
+     * to {@code errorHandler}, on the background thread.
+     */
+    public AsyncMoviePlannerSaver(SaveAction saveAction, Consumer<IOException> errorHandler, long debounceMillis) {
+        requireNonNull(saveAction);
+        requireNonNull(errorHandler);
+        checkArgument(debounceMillis >= 0, "Debounce interval should not be negative");
+        this.saveAction = saveAction;
+        this.errorHandler = errorHandler;
+        this.debounceMillis = debounceMillis;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules {@code snapshot} to be saved after the debounce interval, replacing any snapshot not yet saved.
+     * {@code snapshot} must not be modified afterwards.
+     */
+    public void requestSave(ReadOnlyMoviePlanner snapshot) {
+        requireNonNull(snapshot);
+        if (pendingSnapshot.getAndSet(snapshot) == null) {
+            try {
+                executor.schedule(this::savePendingSnapshot, debounceMillis, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException ree) {
+                logger.warning("Saver has been stopped, snapshot will not be saved");
+            }
+        }
+    }
+
+    /**
+     * Saves the pending snapshot, if any, and waits for it to be written.
+     */
+    public void flush() {
+        try {
+            executor.submit(this::savePendingSnapshot).get();
+        } catch (RejectedExecutionException ree) {
+            // already stopped, and the pending snapshot was saved while stopping
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            throw new AssertionError("Saving a snapshot should not throw", ee.getCause());
+        }
+    }
+
+    /**
+     * Saves the pending snapshot, if any, and stops the background thread.
+     */
+    public void stop() {
+        flush();
+        executor.shutdown();
+    }
+
+    /**
+     * Saves the latest requested snapshot, if it has not been saved yet.
+     */
+    private void savePendingSnapshot() {
+        ReadOnlyMoviePlanner snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            saveAction.save(snapshot);
+        } catch (IOException ioe) {
+            errorHandler.accept(ioe);
+        }
+    }
+
+    /**
+     * Writes a MoviePlanner snapshot to storage.
+     */
+    @FunctionalInterface
+    public interface SaveAction {
+        void save(ReadOnlyMoviePlanner snapshot) throws IOException;
+    }
+}
@@ -0,0 +1,455 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.MoviePlanner;
+import seedu.address.model.ReadOnlyMoviePlanner;
+import seedu.address.model.cinema.Address;
+import seedu.address.model.cinema.Cinema;
+import seedu.address.model.cinema.Email;
+import seedu.address.model.cinema.Name;
+import seedu.address.model.cinema.Phone;
+import seedu.address.model.cinema.Theater;
+import seedu.address.model.movie.Duration;
+import seedu.address.model.movie.Movie;
+import seedu.address.model.movie.MovieName;
+import seedu.address.model.movie.Rating;
+import seedu.address.model.movie.StartDate;
+import seedu.address.model.screening.Screening;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Stores movieplanner data in a compact binary snapshot.
+ *
+ * A snapshot starts with a header: the magic number, the format version, and whether the rest of the snapshot
+ * is compressed with Deflate. The rest holds a table of the movie and tag names, followed by the tags, cinemas
+ * and movies. Names in the table are referred to by their index, screening times are stored in minutes since the
+ * epoch, and every number is stored as a variable-length integer, so a screening takes a few bytes instead of a
+ * movie name and two formatted dates.
+ */
+public class BinaryFileStorage {
+
+    public static final String MESSAGE_NOT_SNAPSHOT = "Data is not a MoviePlanner snapshot";
+    public static final String MESSAGE_INVALID_NAME_INDEX = "Snapshot refers to a name which is not in its table";
+
+    private static final byte[] MAGIC = {'M', 'P', 'B', 'S'};
+    private static final int VERSION = 1;
+    private static final int MINUTES_USED_IN_ROUNDING_OFF = 5;
+    private static final int MAX_STRING_LENGTH = 1 << 20;
+
+    /**
+     * Writes the given movieplanner data to {@code out} as a snapshot, compressed if {@code isCompressed},
+     * leaving {@code out} open.
+     */
+    public static void saveDataToStream(OutputStream out, ReadOnlyMoviePlanner moviePlanner, boolean isCompressed)
+            throws IOException {
+        requireNonNull(out);
+        requireNonNull(moviePlanner);
+
+        out.write(MAGIC);
+        out.write(VERSION);
+        out.write(isCompressed ? 1 : 0);
+        OutputStream body = new FilterOutputStream(out) {
+            @Override
+            public void write(byte[] bytes, int offset, int length) throws IOException {
+                out.write(bytes, offset, length);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        };
+        Deflater deflater = isCompressed ? new Deflater(Deflater.BEST_SPEED) : null;
+        try {
+            if (isCompressed) {
+                body = new DeflaterOutputStream(body, deflater);
+            }
+            try (DataOutputStream data = new DataOutputStream(new BufferedOutputStream(body))) {
+                writeMoviePlanner(data, moviePlanner);
+            }
+        } finally {
+            if (deflater != null) {
+                deflater.end();
+            }
+        }
+    }
+
+    /**
+     * Returns the movie planner in the snapshot file.
+     *
+     * @throws DataConversionException if the file is not a snapshot.
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the file.
+     */
+    public static MoviePlanner loadDataFromSaveFile(File file) throws DataConversionException, IllegalValueException,
+            IOException {
+        requireNonNull(file);
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            return loadDataFromStream(in);
+        }
+    }
+
+    /**
+     * Returns the movie planner in the snapshot read from {@code in}.
+     *
+     * @throws DataConversionException if the data is not a snapshot.
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the data.
+     */
+    public static MoviePlanner loadDataFromStream(InputStream in) throws DataConversionException,
+            IllegalValueException, IOException {
+        requireNonNull(in);
+
+        Inflater inflater = new Inflater();
+        try {
+            DataInputStream header = new DataInputStream(in);
+            byte[] magic = new byte[MAGIC.length];
+            header.readFully(magic);
+            if (!Arrays.equals(magic, MAGIC) || header.readUnsignedByte() != VERSION) {
+                throw new DataConversionException(new IllegalValueException(MESSAGE_NOT_SNAPSHOT));
+            }
+            InputStream body = header.readUnsignedByte() == 0 ? in : new InflaterInputStream(in, inflater);
+            return readMoviePlanner(new DataInputStream(new BufferedInputStream(body)));
+        } catch (EOFException | ZipException e) {
+            throw new DataConversionException(e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Writes the name table, tags, cinemas and movies of {@code moviePlanner} to {@code out}.
+     */
+    private static void writeMoviePlanner(DataOutputStream out, ReadOnlyMoviePlanner moviePlanner)
+            throws IOException {
+        Map<String, Integer> names = new LinkedHashMap<>();
+        for (Tag tag : moviePlanner.getTagList()) {
+            names.putIfAbsent(tag.tagName, names.size());
+        }
+        for (Movie movie : moviePlanner.getMovieList()) {
+            names.putIfAbsent(movie.getName().movieName, names.size());
+            for (Tag tag : movie.getTags()) {
+                names.putIfAbsent(tag.tagName, names.size());
+            }
+        }
+        for (Cinema cinema : moviePlanner.getCinemaList()) {
+            for (Theater theater : cinema.getTheaters()) {
+                for (Screening screening : theater.getScreeningList()) {
+                    names.putIfAbsent(screening.getMovieName(), names.size());
+                }
+            }
+        }
+        writeVarInt(out, names.size());
+        for (String name : names.keySet()) {
+            writeString(out, name);
+        }
+
+        writeVarInt(out, moviePlanner.getTagList().size());
+        for (Tag tag : moviePlanner.getTagList()) {
+            writeVarInt(out, names.get(tag.tagName));
+        }
+
+        writeVarInt(out, moviePlanner.getCinemaList().size());
+        for (Cinema cinema : moviePlanner.getCinemaList()) {
+            writeString(out, cinema.getName().fullName);
+            writeString(out, cinema.getPhone().value);
+            writeString(out, cinema.getEmail().value);
+            writeString(out, cinema.getAddress().value);
+            writeVarInt(out, cinema.getTheaters().size());
+            for (Theater theater : cinema.getTheaters()) {
+                writeTheater(out, theater, names);
+            }
+        }
+
+        writeVarInt(out, moviePlanner.getMovieList().size());
+        for (Movie movie : moviePlanner.getMovieList()) {
+            writeVarInt(out, names.get(movie.getName().movieName));
+            writeString(out, movie.getDuration().duration);
+            writeString(out, movie.getRating().rating);
+            writeString(out, movie.getStartDate().startDate);
+            writeVarInt(out, movie.getTags().size());
+            for (Tag tag : movie.getTags()) {
+                writeVarInt(out, names.get(tag.tagName));
+            }
+        }
+    }
+
+    /**
+     * Writes {@code theater} to {@code out}. Each screening's start is stored relative to the previous screening's,
+     * and its end relative to its start, so that they take only a byte or two.
+     */
+    private static void writeTheater(DataOutputStream out, Theater theater, Map<String, Integer> names)
+            throws IOException {
+        writeVarInt(out, theater.getTheaterNumber());
+        writeVarInt(out, theater.getScreeningList().size());
+        long previousStart = 0;
+        for (Screening screening : theater.getScreeningList()) {
+            long start = toEpochMinute(screening.getScreeningDateTime());
+            long end = toEpochMinute(screening.getScreeningEndDateTime());
+            writeVarInt(out, names.get(screening.getMovieName()));
+            writeVarLong(out, zigZag(start - previousStart));
+            writeVarLong(out, zigZag(end - start));
+            previousStart = start;
+        }
+    }
+
+    /**
+     * Reads a movie planner written by {@link #writeMoviePlanner(DataOutputStream, ReadOnlyMoviePlanner)}.
+     */
+    private static MoviePlanner readMoviePlanner(DataInputStream in) throws IllegalValueException, IOException {
+        List<String> names = new ArrayList<>();
+        for (int i = readVarInt(in); i > 0; i--) {
+            names.add(readString(in));
+        }
+
+        MoviePlanner moviePlanner = new MoviePlanner();
+        for (int i = readVarInt(in); i > 0; i--) {
+            moviePlanner.addTag(toTag(readName(in, names)));
+        }
+
+        for (int i = readVarInt(in); i > 0; i--) {
+            String name = readString(in);
+            String phone = readString(in);
+            String email = readString(in);
+            String address = readString(in);
+            ArrayList<Theater> theaters = new ArrayList<>();
+            for (int j = readVarInt(in); j > 0; j--) {
+                theaters.add(readTheater(in, names));
+            }
+            moviePlanner.addCinema(toCinema(name, phone, email, address, theaters));
+        }
+
+        for (int i = readVarInt(in); i > 0; i--) {
+            String movieName = readName(in, names);
+            String duration = readString(in);
+            String rating = readString(in);
+            String startDate = readString(in);
+            Set<Tag> tags = new HashSet<>();
+            for (int j = readVarInt(in); j > 0; j--) {
+                tags.add(toTag(readName(in, names)));
+            }
+            moviePlanner.addMovie(toMovie(movieName, duration, rating, startDate, tags));
+        }
+        return moviePlanner;
+    }
+
+    /**
+     * Reads a theater written by {@link #writeTheater(DataOutputStream, Theater, Map)}.
+     */
+    private static Theater readTheater(DataInputStream in, List<String> names) throws IllegalValueException,
+            IOException {
+        int theaterNumber = readVarInt(in);
+        if (!Theater.isValidTheater(String.valueOf(theaterNumber))) {
+            throw new IllegalValueException(Theater.MESSAGE_THEATER_CONSTRAINTS);
+        }
+        Theater theater = new Theater(theaterNumber);
+        long start = 0;
+        for (int i = readVarInt(in); i > 0; i--) {
+            String movieName = readName(in, names);
+            if (!MovieName.isValidName(movieName)) {
+                throw new IllegalValueException(MovieName.MESSAGE_MOVIENAME_CONSTRAINTS);
+            }
+            start += unZigZag(readVarLong(in));
+            long end = start + unZigZag(readVarLong(in));
+            theater.addScreeningToTheater(new Screening(movieName, theater, toDateTime(start), toDateTime(end)));
+        }
+        return theater;
+    }
+
+    /**
+     * Returns the tag named {@code tagName}.
+     *
+     * @throws IllegalValueException if {@code tagName} is not a valid tag name.
+     */
+    private static Tag toTag(String tagName) throws IllegalValueException {
+        if (!Tag.isValidTagName(tagName)) {
+            throw new IllegalValueException(Tag.MESSAGE_TAG_CONSTRAINTS);
+        }
+        return new Tag(tagName);
+    }
+
+    /**
+     * Returns the cinema with the given details.
+     *
+     * @throws IllegalValueException if any of the details violate their constraints.
+     */
+    private static Cinema toCinema(String name, String phone, String email, String address,
+                                   ArrayList<Theater> theaters) throws IllegalValueException {
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_NAME_CONSTRAINTS);
+        }
+        if (!Phone.isValidPhone(phone)) {
+            throw new IllegalValueException(Phone.MESSAGE_PHONE_CONSTRAINTS);
+        }
+        if (!Email.isValidEmail(email)) {
+            throw new IllegalValueException(Email.MESSAGE_EMAIL_CONSTRAINTS);
+        }
+        if (!Address.isValidAddress(address)) {
+            throw new IllegalValueException(Address.MESSAGE_ADDRESS_CONSTRAINTS);
+        }
+        if (!Theater.isValidTheater(String.valueOf(theaters.size()))) {
+            throw new IllegalValueException(Theater.MESSAGE_THEATER_CONSTRAINTS);
+        }
+        return new Cinema(new Name(name), new Phone(phone), new Email(email), new Address(address), theaters);
+    }
+
+    /**
+     * Returns the movie with the given details.
+     *
+     * @throws IllegalValueException if any of the details violate their constraints.
+     */
+    private static Movie toMovie(String movieName, String duration, String rating, String startDate, Set<Tag> tags)
+            throws IllegalValueException {
+        if (!MovieName.isValidName(movieName)) {
+            throw new IllegalValueException(MovieName.MESSAGE_MOVIENAME_CONSTRAINTS);
+        }
+        if (!Duration.isValidDuration(duration)) {
+            throw new IllegalValueException(Duration.MESSAGE_DURATION_CONSTRAINTS);
+        }
+        if (!Rating.isValidRating(rating)) {
+            throw new IllegalValueException(Rating.MESSAGE_RATING_CONSTRAINTS);
+        }
+        if (!StartDate.isValidStartDate(startDate)) {
+            throw new IllegalValueException(StartDate.MESSAGE_STARTDATE_CONSTRAINTS);
+        }
+        return new Movie(new MovieName(movieName), new Duration(duration), new Rating(rating),
+                new StartDate(startDate), tags);
+    }
+
+    private static long toEpochMinute(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    /**
+     * Returns the date and time {@code epochMinute} minutes after the epoch.
+     *
+     * @throws IllegalValueException if it is not a valid screening time.
+     */
+    private static LocalDateTime toDateTime(long epochMinute) throws IllegalValueException {
+        if (Math.abs(epochMinute) > LocalDateTime.MAX.toEpochSecond(ZoneOffset.UTC) / 60
+                || epochMinute % MINUTES_USED_IN_ROUNDING_OFF != 0) {
+            throw new IllegalValueException(Messages.MESSAGE_INVALID_SCREEN_DATE_TIME);
+        }
+        return LocalDateTime.ofEpochSecond(epochMinute * 60, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Reads an index into {@code names}, and returns the name at that index.
+     */
+    private static String readName(DataInputStream in, List<String> names) throws IllegalValueException,
+            IOException {
+        int index = readVarInt(in);
+        if (index >= names.size()) {
+            throw new IllegalValueException(MESSAGE_INVALID_NAME_INDEX);
+        }
+        return names.get(index);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a string written by {@link #writeString(DataOutputStream, String)}.
+     */
+    private static String readString(DataInputStream in) throws IllegalValueException, IOException {
+        int length = readVarInt(in);
+        if (length > MAX_STRING_LENGTH) {
+            throw new IllegalValueException(MESSAGE_NOT_SNAPSHOT);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        writeVarLong(out, value & 0xffffffffL);
+    }
+
+    /**
+     * Reads a non-negative int written by {@link #writeVarInt(DataOutputStream, int)}.
+     */
+    private static int readVarInt(DataInputStream in) throws IllegalValueException, IOException {
+        long value = readVarLong(in);
+        if (value > Integer.MAX_VALUE) {
+            throw new IllegalValueException(MESSAGE_NOT_SNAPSHOT);
+        }
+        return (int) value;
+    }
+
+    /**
+     * Writes {@code value} seven bits at a time, least significant first, with the top bit of each byte set if more
+     * bytes follow.
+     */
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7fL) != 0) {
+            out.writeByte((int) (value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Reads a long written by {@link #writeVarLong(DataOutputStream, long)}.
+     */
+    private static long readVarLong(DataInputStream in) throws IllegalValueException, IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_NOT_SNAPSHOT);
+    }
+
+    /**
+     * Maps signed {@code value} to an unsigned one, so that values close to zero take few bytes as varints.
+     */
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> (Long.SIZE - 1));
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
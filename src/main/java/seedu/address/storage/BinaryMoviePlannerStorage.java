@@ -0,0 +1,109 @@
+package seedu.address.storage;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil.SyncPolicy;
+import seedu.address.model.ReadOnlyMoviePlanner;
+
+/**
+ * A class to access MoviePlanner data stored as a binary snapshot on the hard disk.
+ * The data can be imported from, and exported to, an xml data file.
+ *
+ * @see BinaryFileStorage
+ */
+public class BinaryMoviePlannerStorage extends XmlMoviePlannerStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryMoviePlannerStorage.class);
+
+    private static final String XML_EXTENSION = ".xml";
+    private static final String SNAPSHOT_EXTENSION = ".bin";
+
+    private final boolean isCompressed;
+
+    public BinaryMoviePlannerStorage(String filePath) {
+        this(filePath, null, Config.DEFAULT_FSYNC_POLICY, Config.DEFAULT_BACKUP_COUNT, true);
+    }
+
+    public BinaryMoviePlannerStorage(String filePath, String encryptedFilePath, SyncPolicy syncPolicy,
+                                     int backupCount, boolean isCompressed) {
+        super(filePath, encryptedFilePath, syncPolicy, backupCount);
+        this.isCompressed = isCompressed;
+    }
+
+    /**
+     * Returns the file path of the snapshot kept in place of the xml data file at {@code xmlFilePath}.
+     */
+    public static String toSnapshotFilePath(String xmlFilePath) {
+        if (xmlFilePath.endsWith(XML_EXTENSION)) {
+            return xmlFilePath.substring(0, xmlFilePath.length() - XML_EXTENSION.length()) + SNAPSHOT_EXTENSION;
+        }
+        return xmlFilePath + SNAPSHOT_EXTENSION;
+    }
+
+    /**
+     * Replaces the snapshot with the MoviePlanner data in the xml data file at {@code xmlFilePath}.
+     * Throws a {@code FileNotFoundException} if the xml data file is not found, and a
+     * {@code DataConversionException} if it is not in the correct format.
+     */
+    public void importFromXml(String xmlFilePath) throws DataConversionException, IOException {
+        Optional<ReadOnlyMoviePlanner> moviePlanner =
+                new XmlStreamMoviePlannerStorage(xmlFilePath).readMoviePlanner(xmlFilePath);
+        if (!moviePlanner.isPresent()) {
+            throw new FileNotFoundException("File not found : " + new File(xmlFilePath).getAbsolutePath());
+        }
+        saveMoviePlanner(moviePlanner.get());
+        logger.info("Imported MoviePlanner data from " + xmlFilePath + " into " + getMoviePlannerFilePath());
+    }
+
+    /**
+     * Saves the MoviePlanner data in the snapshot to the xml data file at {@code xmlFilePath}.
+     * Throws a {@code FileNotFoundException} if the snapshot is not found, and a
+     * {@code DataConversionException} if it is not in the correct format.
+     */
+    public void exportToXml(String xmlFilePath) throws DataConversionException, IOException {
+        Optional<ReadOnlyMoviePlanner> moviePlanner = readMoviePlanner(getMoviePlannerFilePath());
+        if (!moviePlanner.isPresent()) {
+            throw new FileNotFoundException("File not found : "
+                    + new File(getMoviePlannerFilePath()).getAbsolutePath());
+        }
+        new XmlStreamMoviePlannerStorage(xmlFilePath, xmlFilePath, getSyncPolicy(), 0)
+                .saveMoviePlanner(moviePlanner.get());
+        logger.info("Exported MoviePlanner data from " + getMoviePlannerFilePath() + " to " + xmlFilePath);
+    }
+
+    @Override
+    protected ReadOnlyMoviePlanner loadMoviePlanner(File moviePlannerFile) throws DataConversionException,
+            IOException {
+        try {
+            return BinaryFileStorage.loadDataFromSaveFile(moviePlannerFile);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + moviePlannerFile + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    protected ReadOnlyMoviePlanner loadMoviePlanner(InputStream in) throws DataConversionException, IOException {
+        try {
+            return BinaryFileStorage.loadDataFromStream(in);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in MoviePlanner data: " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    protected void storeMoviePlanner(ReadOnlyMoviePlanner moviePlanner, OutputStream out) throws IOException {
+        BinaryFileStorage.saveDataToStream(out, moviePlanner, isCompressed);
+    }
+}
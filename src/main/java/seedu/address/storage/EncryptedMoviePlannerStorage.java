@@ -0,0 +1,281 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.SecurityUtil;
+import seedu.address.model.MoviePlannerEdit;
+import seedu.address.model.ReadOnlyMoviePlanner;
+
+/**
+ * A {@code MoviePlannerStorage} which keeps the MoviePlanner only in the encrypted data file once the data file
+ * has been encrypted.
+ *
+ * While the data file is encrypted, the MoviePlanner is serialized straight through a streaming cipher into the
+ * encrypted data file, and read back the same way, so it is never written to disk in plain text. Backups are
+ * encrypted too. Until the data file is encrypted, and once it has been decrypted again, the decorated storage
+ * is used as it is.
+ *
+ * The screening archive of the data file is never kept while the data is encrypted. Encrypting the data moves the
+ * archived screenings into the encrypted data file and deletes the archive, and from then on the archived screenings
+ * still attached to the MoviePlanner are saved along with the other screenings.
+ *
+ * The data is also encrypted when only the encrypted data file is found, as after a restart, when its password is not
+ * known yet. The data then cannot be read, and nothing is saved until it is decrypted and the app is restarted, so
+ * that the encrypted data is never overwritten by whatever the app started with instead.
+ */
+public class EncryptedMoviePlannerStorage implements MoviePlannerStorage {
+
+    public static final String MESSAGE_LOCKED = "MoviePlanner data in %1$s is encrypted, "
+            + "decrypt it and restart the application to use it";
+
+    private static final Logger logger = LogsCenter.getLogger(EncryptedMoviePlannerStorage.class);
+
+    private final XmlMoviePlannerStorage storage;
+    private final File archiveFile;
+    /** The password the data is encrypted with, or null if the data is not encrypted. */
+    private String password;
+    /**
+     * True if only the encrypted data file was found when this storage was created. The MoviePlanner in memory is
+     * then not the saved one, so it is not saved for the rest of the session, even once the data is decrypted.
+     */
+    private final boolean isLocked;
+
+    public EncryptedMoviePlannerStorage(XmlMoviePlannerStorage storage) {
+        this(storage, MappedScreeningArchive.getArchiveFilePath(storage.getMoviePlannerFilePath()));
+    }
+
+    /**
+     * Creates a storage which encrypts the data in {@code storage} and the screening archive at
+     * {@code archiveFilePath}.
+     */
+    public EncryptedMoviePlannerStorage(XmlMoviePlannerStorage storage, String archiveFilePath) {
+        requireNonNull(storage);
+        requireNonNull(archiveFilePath);
+        this.storage = storage;
+        this.archiveFile = new File(archiveFilePath);
+        this.isLocked = isOnlyEncrypted(getMoviePlannerFilePath(), getEncryptedMoviePlannerFilePath());
+    }
+
+    @Override
+    public String getMoviePlannerFilePath() {
+        return storage.getMoviePlannerFilePath();
+    }
+
+    @Override
+    public String getEncryptedMoviePlannerFilePath() {
+        return storage.getEncryptedMoviePlannerFilePath();
+    }
+
+    /**
+     * Returns true if the data is encrypted, whether or not its password is known in this session.
+     */
+    public synchronized boolean isEncrypted() {
+        return password != null || isOnlyEncrypted(getMoviePlannerFilePath(), getEncryptedMoviePlannerFilePath());
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyMoviePlanner> readMoviePlanner() throws DataConversionException,
+            IOException {
+        return readMoviePlanner(getMoviePlannerFilePath(), getEncryptedMoviePlannerFilePath());
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyMoviePlanner> readMoviePlanner(String filePath)
+            throws DataConversionException, IOException {
+        return storage.readMoviePlanner(filePath);
+    }
+
+    /**
+     * Reads the MoviePlanner from {@code encryptedFilePath} while the data is encrypted, or from the decorated
+     * storage otherwise.
+     *
+     * @throws IOException if only {@code encryptedFilePath} exists, but its password is not known.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyMoviePlanner> readMoviePlanner(String filePath, String encryptedFilePath)
+            throws DataConversionException, IOException {
+        if (password == null) {
+            if (isOnlyEncrypted(filePath, encryptedFilePath)) {
+                throw new IOException(String.format(MESSAGE_LOCKED, encryptedFilePath));
+            }
+            return storage.readMoviePlanner(filePath, encryptedFilePath);
+        }
+        return readEncryptedMoviePlanner(new File(encryptedFilePath), password);
+    }
+
+    @Override
+    public synchronized void saveMoviePlanner(ReadOnlyMoviePlanner moviePlanner) throws IOException {
+        checkNotLocked();
+        if (password == null) {
+            storage.saveMoviePlanner(withUnarchivedScreenings(moviePlanner));
+            return;
+        }
+        saveEncryptedMoviePlanner(moviePlanner, new File(getEncryptedMoviePlannerFilePath()), password);
+    }
+
+    /**
+     * Saves {@code moviePlanner} to {@code filePath}, encrypted if the data is encrypted.
+     */
+    @Override
+    public synchronized void saveMoviePlanner(ReadOnlyMoviePlanner moviePlanner, String filePath)
+            throws IOException {
+        if (password == null) {
+            storage.saveMoviePlanner(withUnarchivedScreenings(moviePlanner), filePath);
+            return;
+        }
+        saveEncryptedMoviePlanner(moviePlanner, new File(filePath), password);
+    }
+
+    /**
+     * Saves {@code edits} as in the decorated storage, or the whole MoviePlanner while the data is encrypted or
+     * archived screenings have to be saved with it.
+     */
+    @Override
+    public synchronized void saveMoviePlannerChanges(ReadOnlyMoviePlanner moviePlanner, List<MoviePlannerEdit> edits)
+            throws IOException {
+        checkNotLocked();
+        if (password == null && withUnarchivedScreenings(moviePlanner) == moviePlanner) {
+            storage.saveMoviePlannerChanges(moviePlanner, edits);
+            return;
+        }
+        saveMoviePlanner(moviePlanner);
+    }
+
+    @Override
+    public synchronized void backupMoviePlanner(ReadOnlyMoviePlanner moviePlanner) throws IOException {
+        checkNotLocked();
+        if (password == null) {
+            storage.backupMoviePlanner(withUnarchivedScreenings(moviePlanner));
+            return;
+        }
+        if (storage.getBackupCount() == 0) {
+            return;
+        }
+        storage.rotateBackups();
+        saveEncryptedMoviePlanner(moviePlanner, new File(storage.getBackupFilePath(1)), password);
+    }
+
+    /**
+     * Encrypts {@code moviePlanner}, along with the screenings in its archive, with {@code newPassword} into the
+     * encrypted data file, and deletes the data file, its backups and the archive. If the data is already encrypted,
+     * it is encrypted again with {@code newPassword}. The MoviePlanner is serialized straight through the cipher,
+     * so the data file is not read again, and changes not yet saved to it are encrypted as well.
+     * Until the data is decrypted, changes are saved straight into the encrypted data file.
+     */
+    @Override
+    public synchronized void encryptMoviePlanner(ReadOnlyMoviePlanner moviePlanner, String newPassword)
+            throws IOException {
+        requireNonNull(moviePlanner);
+        requireNonNull(newPassword);
+        checkNotLocked();
+        attachArchive(moviePlanner);
+        saveEncryptedMoviePlanner(moviePlanner, new File(getEncryptedMoviePlannerFilePath()), newPassword);
+        password = newPassword;
+        storage.deleteMoviePlanner();
+        Files.deleteIfExists(archiveFile.toPath());
+        logger.info("MoviePlanner data is now only saved in " + getEncryptedMoviePlannerFilePath());
+    }
+
+    /**
+     * Decrypts the encrypted data file with {@code password} into the data file. From now on, changes are saved
+     * by the decorated storage again.
+     */
+    @Override
+    public synchronized void decryptMoviePlanner(String password) throws IOException {
+        storage.decryptMoviePlanner(password);
+        this.password = null;
+    }
+
+    /**
+     * Attaches the screening archive, if there is one, to {@code moviePlanner}, unless an archive is attached to it
+     * already, so that the archived screenings are encrypted with the others.
+     */
+    private void attachArchive(ReadOnlyMoviePlanner moviePlanner) throws IOException {
+        if (!archiveFile.exists() || hasArchivedSchedule(moviePlanner)) {
+            return;
+        }
+        try {
+            MappedScreeningArchive.open(archiveFile).attachTo(moviePlanner);
+        } catch (DataConversionException dce) {
+            throw new IOException("Screening archive is not in the correct format", dce);
+        }
+    }
+
+    /**
+     * Returns true if any theater of {@code moviePlanner} has an archive attached already.
+     */
+    private static boolean hasArchivedSchedule(ReadOnlyMoviePlanner moviePlanner) {
+        return moviePlanner.getCinemaList().stream()
+                .flatMap(cinema -> cinema.getTheaters().stream())
+                .anyMatch(theater -> theater.getArchivedSchedule().isPresent());
+    }
+
+    /**
+     * Returns {@code moviePlanner} with the screenings still attached from an archive held by their theaters, if the
+     * archive has been deleted since they were attached, or {@code moviePlanner} itself otherwise.
+     */
+    private ReadOnlyMoviePlanner withUnarchivedScreenings(ReadOnlyMoviePlanner moviePlanner) {
+        return archiveFile.exists() ? moviePlanner : MappedScreeningArchive.withArchivedScreenings(moviePlanner);
+    }
+
+    /**
+     * Throws an {@code IOException} if the data was locked when this storage was created.
+     */
+    private void checkNotLocked() throws IOException {
+        if (isLocked) {
+            throw new IOException(String.format(MESSAGE_LOCKED, getEncryptedMoviePlannerFilePath()));
+        }
+    }
+
+    /**
+     * Returns true if the encrypted data file at {@code encryptedFilePath} exists but the data file at
+     * {@code filePath} does not.
+     */
+    private static boolean isOnlyEncrypted(String filePath, String encryptedFilePath) {
+        return encryptedFilePath != null && new File(encryptedFilePath).exists() && !new File(filePath).exists();
+    }
+
+    /**
+     * Returns the MoviePlanner in {@code encryptedFile}, decrypted with {@code password}.
+     * Returns {@code Optional.empty()} if {@code encryptedFile} is not found.
+     */
+    private Optional<ReadOnlyMoviePlanner> readEncryptedMoviePlanner(File encryptedFile, String password)
+            throws DataConversionException, IOException {
+        if (!encryptedFile.exists()) {
+            logger.info("Encrypted MoviePlanner file " + encryptedFile + " not found");
+            return Optional.empty();
+        }
+        try (InputStream file = new BufferedInputStream(new FileInputStream(encryptedFile));
+             InputStream in = SecurityUtil.newDecryptingStream(file, password)) {
+            return Optional.of(storage.loadMoviePlanner(in));
+        }
+    }
+
+    /**
+     * Writes {@code moviePlanner}, including its archived screenings, to {@code encryptedFile}, encrypted with
+     * {@code password} as it is serialized.
+     */
+    private void saveEncryptedMoviePlanner(ReadOnlyMoviePlanner moviePlanner, File encryptedFile, String password)
+            throws IOException {
+        requireNonNull(moviePlanner);
+        FileUtil.writeAtomically(encryptedFile, out -> {
+            try (OutputStream encrypted = SecurityUtil.newEncryptingStream(out, password)) {
+                storage.storeMoviePlanner(MappedScreeningArchive.withArchivedScreenings(moviePlanner), encrypted);
+            }
+        }, storage.getSyncPolicy());
+    }
+}
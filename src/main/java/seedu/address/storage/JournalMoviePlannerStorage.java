@@ -0,0 +1,512 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.FileUtil.SyncPolicy;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.MoviePlanner;
+import seedu.address.model.MoviePlannerEdit;
+import seedu.address.model.ReadOnlyMoviePlanner;
+import seedu.address.model.cinema.Cinema;
+import seedu.address.model.cinema.Theater;
+import seedu.address.model.cinema.exceptions.DuplicateCinemaException;
+import seedu.address.model.movie.Movie;
+import seedu.address.model.movie.exceptions.DuplicateMovieException;
+import seedu.address.model.screening.Screening;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access MoviePlanner data stored as an xml file on the hard disk, together with journal files which
+ * record the edits made to the MoviePlanner since the xml file was written.
+ *
+ * Each edit is appended to the journal as a single line, so saving edits takes time proportional to their size
+ * instead of the size of the MoviePlanner. Screenings added to or removed from a cinema are journaled on their
+ * own, rather than as a replacement of the whole cinema. Once {@code compactionThreshold} edits have been
+ * journaled, the whole MoviePlanner is written to the xml file again on a background thread, and the journal files
+ * it includes are deleted.
+ *
+ * Journal files are numbered by generation. The xml file records the generation it was written at, and includes
+ * every edit in the journal files of earlier generations.
+ */
+public class JournalMoviePlannerStorage extends XmlStreamMoviePlannerStorage {
+
+    public static final String MESSAGE_JOURNAL_MISMATCH = "Journal file %s does not match the data file";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalMoviePlannerStorage.class);
+    private static final String GENERATION_ATTRIBUTE = "journalGeneration";
+    private static final String JOURNAL_INFIX = ".journal.";
+    private static final String THREAD_NAME = "MoviePlanner journal compactor";
+    private static final XMLInputFactory INPUT_FACTORY = XmlStreamFileStorage.createInputFactory();
+
+    private final int compactionThreshold;
+    private final ExecutorService compactor;
+    private final Object checkpointLock = new Object();
+
+    /** The generation of the journal file which edits are appended to. */
+    private int generation;
+    /** The generation of the latest xml file written, guarded by {@code checkpointLock}. */
+    private int checkpointGeneration;
+    /** The number of edits journaled since the latest xml file was started. */
+    private int journaledEdits;
+    /** True if the xml file holds data which the journal files can be replayed on. */
+    private boolean hasCheckpoint;
+    private FileOutputStream journalOutput;
+    private Writer journalWriter;
+    private Marshaller marshaller;
+
+    public JournalMoviePlannerStorage(String filePath, String encryptedFilePath, int compactionThreshold) {
+        this(filePath, encryptedFilePath, Config.DEFAULT_FSYNC_POLICY, Config.DEFAULT_BACKUP_COUNT,
+                compactionThreshold);
+    }
+
+    /**
+     * Creates a storage which forces the files it writes, including each append to the journal, to disk
+     * according to {@code syncPolicy}.
+     */
+    public JournalMoviePlannerStorage(String filePath, String encryptedFilePath, SyncPolicy syncPolicy,
+                                      int backupCount, int compactionThreshold) {
+        super(filePath, encryptedFilePath, syncPolicy, backupCount);
+        checkArgument(compactionThreshold > 0, "Compaction threshold should be positive");
+        this.compactionThreshold = compactionThreshold;
+        this.compactor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    protected synchronized ReadOnlyMoviePlanner loadMoviePlanner(File moviePlannerFile)
+            throws DataConversionException, IOException {
+        int fileGeneration = XmlStreamFileStorage
+                .loadRootAttributeFromSaveFile(moviePlannerFile, GENERATION_ATTRIBUTE)
+                .map(Integer::parseUnsignedInt)
+                .orElse(0);
+        SortedMap<Integer, File> journalFiles = getJournalFiles(moviePlannerFile).tailMap(fileGeneration);
+
+        ReadOnlyMoviePlanner moviePlanner = super.loadMoviePlanner(moviePlannerFile);
+        int replayedEdits = 0;
+        if (!journalFiles.isEmpty()) {
+            JournalReplay replay = new JournalReplay(moviePlanner);
+            for (File journalFile : journalFiles.values()) {
+                replay.applyJournal(journalFile);
+            }
+            moviePlanner = replay.toMoviePlanner();
+            replayedEdits = replay.editCount;
+        }
+
+        if (isOwnFile(moviePlannerFile)) {
+            closeJournal();
+            synchronized (checkpointLock) {
+                checkpointGeneration = fileGeneration;
+            }
+            hasCheckpoint = true;
+            // start a new journal file, as the last one may end with an edit which was only partly written
+            generation = journalFiles.isEmpty() ? fileGeneration : journalFiles.lastKey() + 1;
+            journaledEdits = replayedEdits;
+        }
+        return moviePlanner;
+    }
+
+    /**
+     * Writes the whole MoviePlanner to the xml file if {@code filePath} is the location of the data,
+     * or to {@code filePath} as in {@link XmlMoviePlannerStorage} otherwise.
+     */
+    @Override
+    public synchronized void saveMoviePlanner(ReadOnlyMoviePlanner moviePlanner, String filePath)
+            throws IOException {
+        requireAllNonNull(moviePlanner, filePath);
+        if (!isOwnFile(new File(filePath))) {
+            super.saveMoviePlanner(moviePlanner, filePath);
+            return;
+        }
+        writeCheckpoint(moviePlanner, startNewGeneration());
+        hasCheckpoint = true;
+    }
+
+    /**
+     * Appends {@code edits} to the journal, and starts writing the whole MoviePlanner to the xml file in the
+     * background if enough edits have been journaled.
+     */
+    @Override
+    public synchronized void saveMoviePlannerChanges(ReadOnlyMoviePlanner moviePlanner, List<MoviePlannerEdit> edits)
+            throws IOException {
+        requireAllNonNull(moviePlanner, edits);
+        if (!hasCheckpoint || !FileUtil.isFileExists(new File(getMoviePlannerFilePath()))) {
+            // there is nothing to replay the edits on
+            saveMoviePlanner(moviePlanner);
+            return;
+        }
+        if (edits.isEmpty()) {
+            return;
+        }
+
+        Writer writer = getJournalWriter();
+        for (MoviePlannerEdit edit : edits) {
+            writer.write(toJournalLine(edit));
+        }
+        writer.flush();
+        if (getSyncPolicy() != SyncPolicy.NONE) {
+            journalOutput.getChannel().force(false);
+        }
+
+        journaledEdits += edits.size();
+        if (journaledEdits >= compactionThreshold) {
+            startCompaction(moviePlanner);
+        }
+    }
+
+    /**
+     * Deletes the data file, its backups and its journal files.
+     * Data files which were being written in the background are not written.
+     */
+    @Override
+    synchronized void deleteMoviePlanner() throws IOException {
+        closeJournal();
+        synchronized (checkpointLock) {
+            checkpointGeneration = generation;
+            super.deleteMoviePlanner();
+            for (File journalFile : getJournalFiles(new File(getMoviePlannerFilePath())).values()) {
+                Files.deleteIfExists(journalFile.toPath());
+            }
+        }
+        hasCheckpoint = false;
+        journaledEdits = 0;
+    }
+
+    /**
+     * Waits for the xml file being written in the background, if any, to be written.
+     */
+    void awaitCompaction() throws InterruptedException, ExecutionException {
+        compactor.submit(() -> { }).get();
+    }
+
+    /**
+     * Starts writing a copy of {@code moviePlanner} to the xml file in the background.
+     * Edits made from now on are journaled in a new journal file.
+     */
+    private void startCompaction(ReadOnlyMoviePlanner moviePlanner) throws IOException {
+        MoviePlanner snapshot = new MoviePlanner(moviePlanner);
+        int snapshotGeneration = startNewGeneration();
+        logger.fine("Compacting journal into data file at generation " + snapshotGeneration);
+        compactor.execute(() -> {
+            try {
+                writeCheckpoint(snapshot, snapshotGeneration);
+            } catch (IOException ioe) {
+                // the journal files are kept, so no edits are lost
+                logger.warning("Failed to compact journal into data file: " + ioe.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Closes the current journal file, and returns the generation of the next one.
+     */
+    private int startNewGeneration() throws IOException {
+        closeJournal();
+        journaledEdits = 0;
+        return ++generation;
+    }
+
+    /**
+     * Writes {@code moviePlanner}, which includes the edits in all journal files before {@code newGeneration},
+     * to the xml file and deletes those journal files. Does nothing if a later generation has been written.
+     */
+    private void writeCheckpoint(ReadOnlyMoviePlanner moviePlanner, int newGeneration) throws IOException {
+        synchronized (checkpointLock) {
+            if (newGeneration <= checkpointGeneration) {
+                return;
+            }
+            File file = new File(getMoviePlannerFilePath());
+            Map<String, String> rootAttributes =
+                    Collections.singletonMap(GENERATION_ATTRIBUTE, String.valueOf(newGeneration));
+            FileUtil.writeAtomically(file, out -> XmlStreamFileStorage.saveDataToStream(out, moviePlanner,
+                    rootAttributes), getSyncPolicy());
+            checkpointGeneration = newGeneration;
+
+            for (File journalFile : getJournalFiles(file).headMap(newGeneration).values()) {
+                Files.deleteIfExists(journalFile.toPath());
+            }
+        }
+    }
+
+    /**
+     * Returns the writer of the journal file of the current generation, opening it if necessary.
+     */
+    private Writer getJournalWriter() throws IOException {
+        if (journalWriter == null) {
+            File journalFile = getJournalFile(new File(getMoviePlannerFilePath()), generation);
+            FileUtil.createParentDirsOfFile(journalFile);
+            journalOutput = new FileOutputStream(journalFile, true);
+            journalWriter = new BufferedWriter(new OutputStreamWriter(journalOutput, StandardCharsets.UTF_8));
+        }
+        return journalWriter;
+    }
+
+    /**
+     * Closes the journal file of the current generation, if it is open.
+     */
+    private void closeJournal() throws IOException {
+        if (journalWriter != null) {
+            journalWriter.close();
+            journalWriter = null;
+            journalOutput = null;
+        }
+    }
+
+    /**
+     * Returns {@code edit} as a line of the journal: the checksum of the edit, followed by the edit in xml.
+     */
+    private String toJournalLine(MoviePlannerEdit edit) {
+        StringWriter xml = new StringWriter();
+        try {
+            if (marshaller == null) {
+                marshaller = XmlUtil.getContext(XmlAdaptedEdit.class).createMarshaller();
+                marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+            }
+            marshaller.marshal(new XmlAdaptedEdit(edit), xml);
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage());
+        }
+        // line breaks in values are escaped, so that each edit takes up exactly one line
+        String escapedXml = xml.toString().replace("\r", "&#13;").replace("\n", "&#10;");
+        return String.format("%08x %s%n", checksum(escapedXml), escapedXml);
+    }
+
+    private static long checksum(String text) {
+        CRC32 crc = new CRC32();
+        crc.update(text.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+
+    private boolean isOwnFile(File file) {
+        return file.getAbsoluteFile().equals(new File(getMoviePlannerFilePath()).getAbsoluteFile());
+    }
+
+    private static File getJournalFile(File moviePlannerFile, int generation) {
+        return new File(moviePlannerFile.getPath() + JOURNAL_INFIX + generation);
+    }
+
+    /**
+     * Returns the journal files of {@code moviePlannerFile}, by generation.
+     */
+    private static SortedMap<Integer, File> getJournalFiles(File moviePlannerFile) {
+        SortedMap<Integer, File> journalFiles = new TreeMap<>();
+        File directory = moviePlannerFile.getAbsoluteFile().getParentFile();
+        String prefix = moviePlannerFile.getName() + JOURNAL_INFIX;
+        File[] files = directory.listFiles((dir, name) -> name.startsWith(prefix));
+        if (files == null) {
+            return journalFiles;
+        }
+        for (File file : files) {
+            try {
+                journalFiles.put(Integer.parseUnsignedInt(file.getName().substring(prefix.length())), file);
+            } catch (NumberFormatException nfe) {
+                // not a journal file
+            }
+        }
+        return journalFiles;
+    }
+
+    /**
+     * The lists of a MoviePlanner, which journaled edits are replayed on.
+     */
+    private static class JournalReplay {
+        private final List<Cinema> cinemas;
+        private final List<Movie> movies;
+        private final Set<Tag> tags;
+        private int editCount;
+
+        JournalReplay(ReadOnlyMoviePlanner checkpoint) {
+            cinemas = new ArrayList<>(checkpoint.getCinemaList());
+            movies = new ArrayList<>(checkpoint.getMovieList());
+            tags = new LinkedHashSet<>(checkpoint.getTagList());
+        }
+
+        /**
+         * Replays the edits in {@code journalFile}. Replaying stops at the first edit whose checksum does not
+         * match, which is an edit that was only partly written.
+         *
+         * @throws DataConversionException if an edit cannot be replayed on the lists.
+         */
+        void applyJournal(File journalFile) throws DataConversionException, IOException {
+            Unmarshaller unmarshaller;
+            try {
+                unmarshaller = XmlUtil.getContext(XmlAdaptedEdit.class).createUnmarshaller();
+            } catch (JAXBException e) {
+                throw new AssertionError("Unexpected exception " + e.getMessage());
+            }
+
+            try (BufferedReader reader = Files.newBufferedReader(journalFile.toPath(), StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    int separator = line.indexOf(' ');
+                    String xml = line.substring(separator + 1);
+                    if (separator != 8 || !line.substring(0, separator).equals(String.format("%08x", checksum(xml)))) {
+                        logger.warning("Ignoring the rest of journal file " + journalFile
+                                + " from a partly written edit");
+                        return;
+                    }
+                    applyEdit(toEdit(unmarshaller, xml), journalFile);
+                    editCount++;
+                }
+            }
+        }
+
+        /**
+         * Returns the edit in {@code xml}, a line of the journal without its checksum.
+         */
+        private static MoviePlannerEdit toEdit(Unmarshaller unmarshaller, String xml) throws DataConversionException {
+            try {
+                XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(new StringReader(xml));
+                try {
+                    return unmarshaller.unmarshal(reader, XmlAdaptedEdit.class).getValue().toModelType();
+                } finally {
+                    reader.close();
+                }
+            } catch (JAXBException | XMLStreamException | IllegalValueException e) {
+                throw new DataConversionException(e);
+            }
+        }
+
+        /**
+         * Applies {@code edit} to the list it edits.
+         */
+        private void applyEdit(MoviePlannerEdit edit, File journalFile) throws DataConversionException {
+            switch (edit.getList()) {
+            case CINEMAS:
+                applyEdit(cinemas, edit, Cinema.class, journalFile);
+                break;
+            case MOVIES:
+                applyEdit(movies, edit, Movie.class, journalFile);
+                break;
+            case TAGS:
+                // tags are unordered, so they are edited by value
+                edit.getRemoved().forEach(tags::remove);
+                edit.getAdded().forEach(tag -> tags.add((Tag) tag));
+                break;
+            case SCREENINGS:
+                applyScreeningEdit(edit, journalFile);
+                break;
+            default:
+                throw new AssertionError("Unknown list " + edit.getList());
+            }
+        }
+
+        /**
+         * Replaces the elements {@code edit} removed from {@code list} with the elements it added.
+         *
+         * @throws DataConversionException if {@code list} does not contain the removed elements at the edited index.
+         */
+        private static <T> void applyEdit(List<T> list, MoviePlannerEdit edit, Class<T> type, File journalFile)
+                throws DataConversionException {
+            int from = edit.getIndex();
+            int to = from + edit.getRemoved().size();
+            if (from < 0 || to > list.size() || !list.subList(from, to).equals(edit.getRemoved())) {
+                throw new DataConversionException(
+                        new IllegalValueException(String.format(MESSAGE_JOURNAL_MISMATCH, journalFile)));
+            }
+            list.subList(from, to).clear();
+            List<T> added = new ArrayList<>();
+            edit.getAdded().forEach(element -> added.add(type.cast(element)));
+            list.addAll(from, added);
+        }
+
+        /**
+         * Removes the screenings {@code edit} removed from the theaters of the cinema it edits, and adds the
+         * screenings it added to them.
+         *
+         * @throws DataConversionException if the cinema does not have the theaters or the removed screenings.
+         */
+        private void applyScreeningEdit(MoviePlannerEdit edit, File journalFile) throws DataConversionException {
+            DataConversionException mismatch = new DataConversionException(
+                    new IllegalValueException(String.format(MESSAGE_JOURNAL_MISMATCH, journalFile)));
+            if (edit.getIndex() < 0 || edit.getIndex() >= cinemas.size()) {
+                throw mismatch;
+            }
+
+            Map<Integer, Theater> theaters = new LinkedHashMap<>();
+            cinemas.get(edit.getIndex()).getTheaters().forEach(theater ->
+                    theaters.put(theater.getTheaterNumber(), theater));
+            for (Object element : edit.getRemoved()) {
+                Screening screening = (Screening) element;
+                Theater theater = theaters.get(screening.getTheater().getTheaterNumber());
+                if (theater == null || !theater.screeningsOn(screening.getScreeningDateTime().toLocalDate())
+                        .contains(screening)) {
+                    throw mismatch;
+                }
+                theaters.put(theater.getTheaterNumber(), theater.withoutScreening(screening));
+            }
+            for (Object element : edit.getAdded()) {
+                Screening screening = (Screening) element;
+                Theater theater = theaters.get(screening.getTheater().getTheaterNumber());
+                if (theater == null) {
+                    throw mismatch;
+                }
+                Theater updatedTheater = theater.withScreening(screening);
+                screening.setTheater(updatedTheater);
+                theaters.put(theater.getTheaterNumber(), updatedTheater);
+            }
+
+            Cinema cinema = cinemas.get(edit.getIndex());
+            for (Theater theater : theaters.values()) {
+                cinema = cinema.withTheater(theater);
+            }
+            cinemas.set(edit.getIndex(), cinema);
+        }
+
+        /**
+         * Returns a MoviePlanner with the edited lists.
+         */
+        MoviePlanner toMoviePlanner() throws DataConversionException {
+            MoviePlanner moviePlanner = new MoviePlanner();
+            moviePlanner.setTags(tags);
+            try {
+                moviePlanner.setCinemas(cinemas);
+                moviePlanner.setMovies(movies);
+            } catch (DuplicateCinemaException | DuplicateMovieException e) {
+                throw new DataConversionException(e);
+            }
+            return moviePlanner;
+        }
+    }
+}
@@ -0,0 +1,600 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.FileUtil.SyncPolicy;
+import seedu.address.model.MoviePlanner;
+import seedu.address.model.ReadOnlyMoviePlanner;
+import seedu.address.model.cinema.Cinema;
+import seedu.address.model.cinema.Theater;
+import seedu.address.model.cinema.exceptions.DuplicateCinemaException;
+import seedu.address.model.screening.ArchivedSchedule;
+import seedu.address.model.screening.Screening;
+
+/**
+ * A read-only archive of past screenings, kept in a file which is memory-mapped instead of read into memory.
+ *
+ * The file starts with the archive's cutoff, a table of movie names and a table of cinema names, followed by one
+ * fixed-size record per screening, sorted by start date time. A record holds the start and end of the screening in
+ * minutes since the epoch, the index of its cinema, its theater number, and the index of its movie's name. The
+ * screenings of a day are found by binary search, so only the pages of the file which hold that day are read.
+ *
+ * Records refer to their cinema by its index in the table of cinema names rather than by its name, so that only the
+ * table has to be rewritten when a cinema is renamed or deleted, see {@link #updateCinemaNames}. The name of a
+ * deleted cinema is left empty, so a cinema added later under the same name does not get its screenings.
+ * Archives written before the tables were split hold a single table of names for both movies and cinemas.
+ */
+public class MappedScreeningArchive {
+
+    public static final String MESSAGE_NOT_ARCHIVE = "Data is not a screening archive";
+
+    private static final Logger logger = LogsCenter.getLogger(MappedScreeningArchive.class);
+
+    private static final String ARCHIVE_EXTENSION = ".archive";
+    private static final byte[] MAGIC = {'M', 'P', 'S', 'A'};
+    private static final int VERSION = 2;
+    /** The version of archives which hold a single table of names for both movies and cinemas. */
+    private static final int SHARED_NAMES_VERSION = 1;
+    /** The name of a deleted cinema in the table of cinema names. */
+    private static final String DELETED_CINEMA = "";
+
+    private static final int START = 0;
+    private static final int END = 1;
+    private static final int CINEMA = 2;
+    private static final int THEATER = 3;
+    private static final int MOVIE = 4;
+    private static final int RECORD_FIELDS = 5;
+    private static final int RECORD_SIZE = RECORD_FIELDS * Integer.BYTES;
+
+    /** The order of the records in the file, which is by start date time first. */
+    private static final Comparator<int[]> RECORD_ORDER = (first, second) -> {
+        for (int field = 0; field < RECORD_FIELDS; field++) {
+            int cmp = Integer.compare(first[field], second[field]);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return 0;
+    };
+
+    private final File archiveFile;
+    private final ByteBuffer records;
+    private final int recordCount;
+    private final List<String> movieNames;
+    /** The names of the archived cinemas, as they are in the archive file. */
+    private List<String> cinemaNames;
+    private final long cutoffMinute;
+    private final int maxDurationMinutes;
+
+    private MappedScreeningArchive(File archiveFile, ByteBuffer records, Header header) {
+        this.archiveFile = archiveFile;
+        this.records = records;
+        this.recordCount = records.capacity() / RECORD_SIZE;
+        this.movieNames = header.movieNames;
+        this.cinemaNames = header.cinemaNames;
+        this.cutoffMinute = header.cutoffMinute;
+        this.maxDurationMinutes = header.maxDurationMinutes;
+    }
+
+    /**
+     * Returns the file path of the archive of the data file at {@code moviePlannerFilePath}.
+     */
+    public static String getArchiveFilePath(String moviePlannerFilePath) {
+        return moviePlannerFilePath + ARCHIVE_EXTENSION;
+    }
+
+    /**
+     * Maps the existing archive {@code archiveFile} into memory.
+     *
+     * @throws DataConversionException if the file is not a screening archive.
+     */
+    public static MappedScreeningArchive open(File archiveFile) throws DataConversionException, IOException {
+        requireNonNull(archiveFile);
+        Header header;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(archiveFile)))) {
+            header = Header.read(in);
+        }
+        try (FileChannel channel = FileChannel.open(archiveFile.toPath(), StandardOpenOption.READ)) {
+            long recordsSize = channel.size() - header.size;
+            if (recordsSize % RECORD_SIZE != 0) {
+                throw notArchive();
+            }
+            ByteBuffer records = channel.map(FileChannel.MapMode.READ_ONLY, header.size, recordsSize);
+            return new MappedScreeningArchive(archiveFile, records, header);
+        }
+    }
+
+    /**
+     * Moves the screenings in {@code moviePlanner} which start before {@code cutoff} into the archive
+     * {@code archiveFile}, creating it if needed, and maps the archive into memory.
+     * The screenings are only added to the archive. They are left in {@code moviePlanner} until the archive is
+     * attached to it with {@link #attachTo(ReadOnlyMoviePlanner)}.
+     * Returns {@code Optional.empty()} if there is no archive, because no screening has ever been archived.
+     *
+     * @throws DataConversionException if the existing archive is not a screening archive.
+     */
+    public static Optional<MappedScreeningArchive> archiveScreenings(File archiveFile,
+            ReadOnlyMoviePlanner moviePlanner, LocalDateTime cutoff, SyncPolicy syncPolicy)
+            throws DataConversionException, IOException {
+        requireNonNull(archiveFile);
+        requireNonNull(moviePlanner);
+        requireNonNull(cutoff);
+
+        Header header = new Header(toEpochMinute(cutoff));
+        DataInputStream existing = null;
+        try {
+            if (archiveFile.exists()) {
+                existing = new DataInputStream(new BufferedInputStream(new FileInputStream(archiveFile)));
+                Header existingHeader = Header.read(existing);
+                // the cutoff never moves back, so every archived screening stays before it
+                existingHeader.cutoffMinute = Math.max(header.cutoffMinute, existingHeader.cutoffMinute);
+                header = existingHeader;
+            }
+
+            List<int[]> newRecords = getRecordsBefore(moviePlanner, header);
+            if (newRecords.isEmpty()) {
+                closeQuietly(existing);
+                existing = null;
+                return archiveFile.exists() ? Optional.of(open(archiveFile)) : Optional.empty();
+            }
+            for (int[] record : newRecords) {
+                header.maxDurationMinutes = Math.max(header.maxDurationMinutes, record[END] - record[START]);
+            }
+            writeArchive(archiveFile, existing, newRecords, header, syncPolicy);
+            logger.info("Archived " + newRecords.size() + " screenings into " + archiveFile);
+        } catch (EOFException e) {
+            throw notArchive();
+        } finally {
+            closeQuietly(existing);
+        }
+        return Optional.of(open(archiveFile));
+    }
+
+    /**
+     * Attaches the archive to every theater in {@code moviePlanner}, which drops the screenings that are
+     * in the archive and reads them from the archive instead.
+     * Returns true if any screening was dropped, in which case {@code moviePlanner} should be saved again.
+     */
+    public boolean attachTo(ReadOnlyMoviePlanner moviePlanner) {
+        requireNonNull(moviePlanner);
+        boolean hasDroppedScreenings = false;
+        for (Cinema cinema : moviePlanner.getCinemaList()) {
+            int cinemaIndex = cinemaNames.indexOf(cinema.getName().fullName);
+            for (Theater theater : cinema.getTheaters()) {
+                int screeningCount = theater.getScreeningList().size();
+                theater.setArchivedSchedule(new TheaterSchedule(cinemaIndex, theater.getTheaterNumber()));
+                hasDroppedScreenings |= theater.getScreeningList().size() != screeningCount;
+            }
+        }
+        return hasDroppedScreenings;
+    }
+
+    public int size() {
+        return recordCount;
+    }
+
+    /**
+     * Renames the archived cinemas in the archive file after the cinemas in {@code moviePlanner} whose theaters
+     * the archive is attached to, and empties the names of the archived cinemas no longer in {@code moviePlanner}.
+     * The next time the archive is attached, the screenings of a renamed cinema are then found under its new name,
+     * and those of a deleted cinema are not given to a cinema added under its name. A cinema whose deletion is
+     * undone gets its name back. Nothing is done once the archive file has been deleted.
+     * Returns true if the archive file was rewritten.
+     */
+    public synchronized boolean updateCinemaNames(ReadOnlyMoviePlanner moviePlanner, SyncPolicy syncPolicy)
+            throws IOException {
+        requireNonNull(moviePlanner);
+        List<String> updatedCinemaNames = new ArrayList<>(Collections.nCopies(cinemaNames.size(), DELETED_CINEMA));
+        for (Cinema cinema : moviePlanner.getCinemaList()) {
+            for (Theater theater : cinema.getTheaters()) {
+                Optional<ArchivedSchedule> schedule = theater.getArchivedSchedule();
+                if (!schedule.isPresent() || !(schedule.get() instanceof TheaterSchedule)) {
+                    continue;
+                }
+                TheaterSchedule theaterSchedule = (TheaterSchedule) schedule.get();
+                if (theaterSchedule.getArchive() == this && theaterSchedule.cinemaIndex >= 0) {
+                    updatedCinemaNames.set(theaterSchedule.cinemaIndex, cinema.getName().fullName);
+                }
+            }
+        }
+        if (updatedCinemaNames.equals(cinemaNames) || !archiveFile.exists()) {
+            return false;
+        }
+
+        rewriteCinemaNames(updatedCinemaNames, syncPolicy);
+        cinemaNames = updatedCinemaNames;
+        logger.info("Updated the names of the cinemas in " + archiveFile);
+        return true;
+    }
+
+    /**
+     * Rewrites the archive file with {@code updatedCinemaNames} as its table of cinema names. The records, which
+     * refer to cinemas by their index in the table, are copied unchanged from the mapped records, so the existing
+     * archive is no longer open when it is replaced, which some platforms refuse.
+     */
+    private void rewriteCinemaNames(List<String> updatedCinemaNames, SyncPolicy syncPolicy) throws IOException {
+        Header header;
+        try (DataInputStream existing = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(archiveFile)))) {
+            header = Header.read(existing);
+        } catch (DataConversionException dce) {
+            throw new IOException(MESSAGE_NOT_ARCHIVE, dce);
+        }
+        header.cinemaNames = updatedCinemaNames;
+        FileUtil.writeAtomically(archiveFile, out -> {
+            DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+            header.write(data);
+            ByteBuffer source = records.duplicate();
+            source.clear();
+            byte[] buffer = new byte[RECORD_SIZE * 1024];
+            while (source.hasRemaining()) {
+                int length = Math.min(buffer.length, source.remaining());
+                source.get(buffer, 0, length);
+                data.write(buffer, 0, length);
+            }
+            data.flush();
+        }, syncPolicy);
+    }
+
+    /**
+     * Returns {@code moviePlanner} with the archived screenings of every theater held by the theater itself, so that
+     * they are saved along with the other screenings, or {@code moviePlanner} itself if nothing has been archived.
+     * {@code moviePlanner} is left unchanged.
+     */
+    public static ReadOnlyMoviePlanner withArchivedScreenings(ReadOnlyMoviePlanner moviePlanner) {
+        requireNonNull(moviePlanner);
+        List<Cinema> cinemas = new ArrayList<>();
+        boolean hasArchivedScreenings = false;
+        for (Cinema cinema : moviePlanner.getCinemaList()) {
+            Cinema updatedCinema = cinema;
+            for (Theater theater : cinema.getTheaters()) {
+                if (theater.getArchivedSchedule().isPresent()) {
+                    updatedCinema = updatedCinema.withTheater(theater.withArchivedScreenings());
+                    hasArchivedScreenings = true;
+                }
+            }
+            cinemas.add(updatedCinema);
+        }
+        if (!hasArchivedScreenings) {
+            return moviePlanner;
+        }
+
+        MoviePlanner updatedMoviePlanner = new MoviePlanner(moviePlanner);
+        try {
+            updatedMoviePlanner.setCinemas(cinemas);
+        } catch (DuplicateCinemaException dce) {
+            throw new AssertionError("MoviePlanners should not have duplicate Cinemas");
+        }
+        return updatedMoviePlanner;
+    }
+
+    /**
+     * Returns the records of the screenings in {@code moviePlanner} which start before {@code cutoffMinute},
+     * sorted in the order of the records in the file. Names which are not yet in {@code names} are added to it.
+     */
+    private static List<int[]> getRecordsBefore(ReadOnlyMoviePlanner moviePlanner, Header header) {
+        Map<String, Integer> movieIndices = indicesOf(header.movieNames);
+        Map<String, Integer> cinemaIndices = indicesOf(header.cinemaNames);
+        cinemaIndices.remove(DELETED_CINEMA);
+        List<int[]> records = new ArrayList<>();
+        for (Cinema cinema : moviePlanner.getCinemaList()) {
+            for (Theater theater : cinema.getTheaters()) {
+                for (Screening screening : theater.getScreeningList()) {
+                    long start = toEpochMinute(screening.getScreeningDateTime());
+                    if (start >= header.cutoffMinute) {
+                        // the screening list is sorted by start date time
+                        break;
+                    }
+                    int[] record = new int[RECORD_FIELDS];
+                    record[START] = Math.toIntExact(start);
+                    record[END] = Math.toIntExact(toEpochMinute(screening.getScreeningEndDateTime()));
+                    record[CINEMA] = indexOf(cinema.getName().fullName, header.cinemaNames, cinemaIndices);
+                    record[THEATER] = theater.getTheaterNumber();
+                    record[MOVIE] = indexOf(screening.getMovieName(), header.movieNames, movieIndices);
+                    records.add(record);
+                }
+            }
+        }
+        records.sort(RECORD_ORDER);
+        return records;
+    }
+
+    /**
+     * Returns the index of each of {@code names}, the first one if it is there more than once.
+     */
+    private static Map<String, Integer> indicesOf(List<String> names) {
+        Map<String, Integer> nameIndices = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            nameIndices.putIfAbsent(names.get(i), i);
+        }
+        return nameIndices;
+    }
+
+    /**
+     * Returns the index of {@code name} in {@code names}, adding it if it is not there yet.
+     */
+    private static int indexOf(String name, List<String> names, Map<String, Integer> nameIndices) {
+        return nameIndices.computeIfAbsent(name, unused -> {
+            names.add(name);
+            return names.size() - 1;
+        });
+    }
+
+    /**
+     * Writes an archive of the records read from {@code existing}, if not null, merged with {@code newRecords}.
+     * A new record which is already in the archive is written only once.
+     */
+    private static void writeArchive(File archiveFile, DataInputStream existing, List<int[]> newRecords,
+                                     Header header, SyncPolicy syncPolicy) throws IOException {
+        FileUtil.createParentDirsOfFile(archiveFile);
+        FileUtil.writeAtomically(archiveFile, out -> {
+            DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+            header.write(data);
+
+            int next = 0;
+            int[] existingRecord = readRecord(existing);
+            while (existingRecord != null || next < newRecords.size()) {
+                int cmp = existingRecord == null ? 1
+                        : next == newRecords.size() ? -1
+                        : RECORD_ORDER.compare(existingRecord, newRecords.get(next));
+                if (cmp <= 0) {
+                    writeRecord(data, existingRecord);
+                    existingRecord = readRecord(existing);
+                }
+                if (cmp >= 0) {
+                    if (cmp > 0) {
+                        writeRecord(data, newRecords.get(next));
+                    }
+                    next++;
+                }
+            }
+            data.flush();
+            // the existing archive is replaced once this returns, which some platforms refuse while it is open
+            if (existing != null) {
+                existing.close();
+            }
+        }, syncPolicy);
+    }
+
+    /**
+     * Returns the next record read from {@code in}, or null if there are no more records or {@code in} is null.
+     */
+    private static int[] readRecord(DataInputStream in) throws IOException {
+        if (in == null) {
+            return null;
+        }
+        int[] record = new int[RECORD_FIELDS];
+        try {
+            record[0] = in.readInt();
+        } catch (EOFException eofe) {
+            return null;
+        }
+        for (int field = 1; field < RECORD_FIELDS; field++) {
+            record[field] = in.readInt();
+        }
+        return record;
+    }
+
+    private static void writeRecord(DataOutputStream out, int[] record) throws IOException {
+        for (int field : record) {
+            out.writeInt(field);
+        }
+    }
+
+    /**
+     * Closes {@code in}, if not null, logging instead of throwing any error.
+     */
+    private static void closeQuietly(DataInputStream in) {
+        if (in == null) {
+            return;
+        }
+        try {
+            in.close();
+        } catch (IOException ioe) {
+            logger.warning("Could not close the screening archive: " + ioe.getMessage());
+        }
+    }
+
+    private static DataConversionException notArchive() {
+        return new DataConversionException(new IllegalValueException(MESSAGE_NOT_ARCHIVE));
+    }
+
+    private static long toEpochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    private static LocalDateTime toDateTime(long epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * 60, 0, ZoneOffset.UTC);
+    }
+
+    private int getField(int record, int field) {
+        return records.getInt(record * RECORD_SIZE + field * Integer.BYTES);
+    }
+
+    /**
+     * Returns the index of the first record which starts at or after {@code epochMinute}.
+     */
+    private int lowerBound(long epochMinute) {
+        int low = 0;
+        int high = recordCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (getField(mid, START) < epochMinute) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * The archived schedule of one theater, whose screenings are read from the mapped file as they are needed.
+     */
+    private class TheaterSchedule implements ArchivedSchedule {
+
+        private final int cinemaIndex;
+        private final int theaterNumber;
+
+        TheaterSchedule(int cinemaIndex, int theaterNumber) {
+            this.cinemaIndex = cinemaIndex;
+            this.theaterNumber = theaterNumber;
+        }
+
+        @Override
+        public LocalDateTime getCutoff() {
+            return toDateTime(cutoffMinute);
+        }
+
+        @Override
+        public LocalDateTime getLatestEnd() {
+            return toDateTime(cutoffMinute + maxDurationMinutes);
+        }
+
+        @Override
+        public List<Screening> startingBetween(Theater theater, LocalDateTime from, LocalDateTime to) {
+            long toMinute = toEpochMinute(to);
+            List<Screening> screenings = new ArrayList<>();
+            for (int record = lowerBound(toEpochMinute(from));
+                 record < recordCount && getField(record, START) < toMinute; record++) {
+                if (isInTheater(record)) {
+                    screenings.add(new Screening(movieNames.get(getField(record, MOVIE)), theater,
+                            toDateTime(getField(record, START)), toDateTime(getField(record, END))));
+                }
+            }
+            return screenings;
+        }
+
+        @Override
+        public boolean overlaps(LocalDateTime start, LocalDateTime end) {
+            long startMinute = toEpochMinute(start);
+            long endMinute = toEpochMinute(end);
+            // a screening which starts earlier than this cannot last until start
+            for (int record = lowerBound(startMinute - maxDurationMinutes);
+                 record < recordCount && getField(record, START) < endMinute; record++) {
+                if (isInTheater(record) && getField(record, END) > startMinute) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean isInTheater(int record) {
+            return getField(record, CINEMA) == cinemaIndex && getField(record, THEATER) == theaterNumber;
+        }
+
+        private MappedScreeningArchive getArchive() {
+            return MappedScreeningArchive.this;
+        }
+    }
+
+    /**
+     * The part of an archive file which comes before its records.
+     */
+    private static class Header {
+
+        private long cutoffMinute;
+        private int maxDurationMinutes;
+        private List<String> movieNames = new ArrayList<>();
+        private List<String> cinemaNames = new ArrayList<>();
+        /** The number of bytes the header takes up in the file it was read from. */
+        private long size;
+
+        Header(long cutoffMinute) {
+            this.cutoffMinute = cutoffMinute;
+        }
+
+        /**
+         * Reads the header at the start of {@code in}.
+         *
+         * @throws DataConversionException if {@code in} does not start with the header of a screening archive.
+         */
+        static Header read(DataInputStream in) throws DataConversionException, IOException {
+            try {
+                byte[] magic = new byte[MAGIC.length];
+                in.readFully(magic);
+                int version = in.readUnsignedByte();
+                if (!Arrays.equals(magic, MAGIC) || version != VERSION && version != SHARED_NAMES_VERSION) {
+                    throw notArchive();
+                }
+                Header header = new Header(in.readLong());
+                header.maxDurationMinutes = in.readInt();
+                header.size = MAGIC.length + 1 + Long.BYTES + Integer.BYTES + readNames(in, header.movieNames);
+                if (version == SHARED_NAMES_VERSION) {
+                    header.cinemaNames.addAll(header.movieNames);
+                } else {
+                    header.size += readNames(in, header.cinemaNames);
+                }
+                return header;
+            } catch (EOFException | NegativeArraySizeException e) {
+                throw notArchive();
+            }
+        }
+
+        /**
+         * Writes the header to {@code out}, with its tables of names split.
+         */
+        void write(DataOutputStream out) throws IOException {
+            out.write(MAGIC);
+            out.writeByte(VERSION);
+            out.writeLong(cutoffMinute);
+            out.writeInt(maxDurationMinutes);
+            writeNames(out, movieNames);
+            writeNames(out, cinemaNames);
+        }
+
+        /**
+         * Reads a table of names from {@code in} into {@code names}, and returns the number of bytes read.
+         */
+        private static long readNames(DataInputStream in, List<String> names) throws IOException {
+            long size = Integer.BYTES;
+            for (int i = in.readInt(); i > 0; i--) {
+                byte[] name = new byte[in.readInt()];
+                in.readFully(name);
+                names.add(new String(name, StandardCharsets.UTF_8));
+                size += Integer.BYTES + name.length;
+            }
+            return size;
+        }
+
+        /**
+         * Writes {@code names} to {@code out} as a table of names.
+         */
+        private static void writeNames(DataOutputStream out, List<String> names) throws IOException {
+            out.writeInt(names.size());
+            for (String name : names) {
+                byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+        }
+    }
+}
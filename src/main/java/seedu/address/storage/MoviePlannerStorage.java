@@ -1,9 +1,11 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.MoviePlannerEdit;
 import seedu.address.model.ReadOnlyMoviePlanner;
 
 /**
@@ -54,9 +56,31 @@ public interface MoviePlannerStorage {
      */
     void saveMoviePlanner(ReadOnlyMoviePlanner moviePlanner, String filePath) throws IOException;
 
+    /**
+     * Saves {@code edits}, the edits made to the given {@link ReadOnlyMoviePlanner} since it was last saved,
+     * to the storage. Storages which cannot save individual edits save the whole MoviePlanner instead.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveMoviePlannerChanges(ReadOnlyMoviePlanner moviePlanner, List<MoviePlannerEdit> edits) throws IOException;
+
     /**
      * Saves the given (@link ReadOnlyMoviePlanner) to a fixed temporary location.
      */
     void backupMoviePlanner(ReadOnlyMoviePlanner moviePlanner) throws IOException;
 
+    /**
+     * Encrypts {@code moviePlanner}, the MoviePlanner in memory, with {@code password} into the encrypted data file.
+     *
+     * @throws IOException if there was any problem writing the files.
+     */
+    void encryptMoviePlanner(ReadOnlyMoviePlanner moviePlanner, String password) throws IOException;
+
+    /**
+     * Decrypts the encrypted data file with {@code password} back into the data file.
+     *
+     * @throws IOException if the password is wrong, or if there was any problem reading or writing the files.
+     */
+    void decryptMoviePlanner(String password) throws IOException;
+
 }
@@ -38,4 +38,10 @@ public interface Storage extends MoviePlannerStorage, UserPrefsStorage {
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleMoviePlannerChangedEvent(MoviePlannerChangedEvent abce);
+
+    /**
+     * Saves any changes to the Movie Planner which have not been saved yet, and stops saving further changes
+     * in the background.
+     */
+    void stop();
 }
@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -13,8 +14,9 @@ import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.events.storage.DecryptionRequestEvent;
 import seedu.address.commons.events.storage.EncryptionRequestEvent;
 import seedu.address.commons.exceptions.DataConversionException;
-import seedu.address.commons.util.SecurityUtil;
 import seedu.address.logic.commands.DecryptCommand;
+import seedu.address.model.MoviePlannerEdit;
+import seedu.address.model.MoviePlannerSnapshot;
 import seedu.address.model.ReadOnlyMoviePlanner;
 import seedu.address.model.UserPrefs;
 
@@ -26,6 +28,7 @@ public class StorageManager extends ComponentManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private MoviePlannerStorage moviePlannerStorage;
     private UserPrefsStorage userPrefsStorage;
+    private AsyncMoviePlannerSaver saver;
 
 
     public StorageManager(MoviePlannerStorage moviePlannerStorage, UserPrefsStorage userPrefsStorage) {
@@ -34,6 +37,20 @@ public class StorageManager extends ComponentManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Creates a {@code StorageManager} which saves changes to the MoviePlanner on a background thread,
+     * writing only the latest changes made within each {@code saveDebounceMillis}.
+     * Changes are saved immediately, on the thread which made them, if {@code saveDebounceMillis} is 0.
+     */
+    public StorageManager(MoviePlannerStorage moviePlannerStorage, UserPrefsStorage userPrefsStorage,
+                          long saveDebounceMillis) {
+        this(moviePlannerStorage, userPrefsStorage);
+        if (saveDebounceMillis > 0) {
+            this.saver = new AsyncMoviePlannerSaver(this::saveMoviePlanner, this::raiseDataSavingException,
+                    saveDebounceMillis);
+        }
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -96,15 +113,45 @@ public class StorageManager extends ComponentManager implements Storage {
         moviePlannerStorage.saveMoviePlanner(moviePlanner, filePath);
     }
 
+    @Override
+    public void saveMoviePlannerChanges(ReadOnlyMoviePlanner moviePlanner, List<MoviePlannerEdit> edits)
+            throws IOException {
+        logger.fine("Attempting to write " + edits.size() + " edits to data file");
+        moviePlannerStorage.saveMoviePlannerChanges(moviePlanner, edits);
+    }
+
 
     @Override
     @Subscribe
     public void handleMoviePlannerChangedEvent(MoviePlannerChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+        if (saver != null) {
+            // the model keeps changing while the snapshot waits to be saved
+            saver.requestSave(new MoviePlannerSnapshot(event.data));
+            return;
+        }
         try {
-            saveMoviePlanner(event.data);
+            if (event.edits == null) {
+                saveMoviePlanner(event.data);
+            } else {
+                saveMoviePlannerChanges(event.data, event.edits);
+            }
         } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
+            raiseDataSavingException(e);
+        }
+    }
+
+    /**
+     * Reports a failure to save the MoviePlanner, which may happen on the background saving thread.
+     */
+    private void raiseDataSavingException(IOException e) {
+        raise(new DataSavingExceptionEvent(e));
+    }
+
+    @Override
+    public void stop() {
+        if (saver != null) {
+            saver.stop();
         }
     }
 
@@ -114,21 +161,37 @@ public class StorageManager extends ComponentManager implements Storage {
     }
 
     // ================ Security methods ==============================
+
+    @Override
+    public void encryptMoviePlanner(ReadOnlyMoviePlanner moviePlanner, String password) throws IOException {
+        if (saver != null) {
+            // saves still pending are written before the data file is replaced by the encrypted one
+            saver.flush();
+        }
+        moviePlannerStorage.encryptMoviePlanner(moviePlanner, password);
+    }
+
+    @Override
+    public void decryptMoviePlanner(String password) throws IOException {
+        moviePlannerStorage.decryptMoviePlanner(password);
+    }
+
     //@@author tinyjy94
     @Subscribe
     public void handleEncryptionRequestEvent(EncryptionRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Encrypted and saving to file"));
-        SecurityUtil.encrypt(moviePlannerStorage.getMoviePlannerFilePath(),
-                moviePlannerStorage.getEncryptedMoviePlannerFilePath(), event.getPassword());
-
+        try {
+            encryptMoviePlanner(event.getMoviePlanner(), event.getPassword());
+        } catch (IOException e) {
+            raise(new DataSavingExceptionEvent(e));
+        }
     }
 
     @Subscribe
     public void handleDecryptionRequestEvent(DecryptionRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Decrypted and saving to file"));
         try {
-            SecurityUtil.decrypt(moviePlannerStorage.getMoviePlannerFilePath(),
-                    moviePlannerStorage.getEncryptedMoviePlannerFilePath(), event.getPassword());
+            decryptMoviePlanner(event.getPassword());
         } catch (IOException e) {
             System.out.println(DecryptCommand.MESSAGE_WRONGPASSWORD);
         }
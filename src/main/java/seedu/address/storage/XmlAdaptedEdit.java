@@ -0,0 +1,156 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElementWrapper;
+import javax.xml.bind.annotation.XmlElements;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.MoviePlannerEdit;
+import seedu.address.model.MoviePlannerEdit.ListType;
+import seedu.address.model.cinema.Cinema;
+import seedu.address.model.movie.Movie;
+import seedu.address.model.screening.Screening;
+import seedu.address.model.tag.Tag;
+
+/**
+ * JAXB-friendly version of the MoviePlannerEdit.
+ * The edited elements use the same element names as in {@link XmlSerializableMoviePlanner}, and the edited
+ * screenings are grouped by theater as in {@link XmlAdaptedCinema}.
+ */
+@XmlRootElement(name = "edit")
+public class XmlAdaptedEdit {
+
+    public static final String MESSAGE_INVALID_EDIT = "Edit of %s contains an element of the wrong type";
+
+    @XmlAttribute(required = true)
+    private ListType list;
+    @XmlAttribute(required = true)
+    private int index;
+
+    @XmlElementWrapper(name = "removed")
+    @XmlElements({
+        @XmlElement(name = "cinemas", type = XmlAdaptedCinema.class),
+        @XmlElement(name = "movies", type = XmlAdaptedMovie.class),
+        @XmlElement(name = "tags", type = XmlAdaptedTag.class),
+        @XmlElement(name = "theaters", type = XmlAdaptedTheater.class)
+    })
+    private List<Object> removed = new ArrayList<>();
+
+    @XmlElementWrapper(name = "added")
+    @XmlElements({
+        @XmlElement(name = "cinemas", type = XmlAdaptedCinema.class),
+        @XmlElement(name = "movies", type = XmlAdaptedMovie.class),
+        @XmlElement(name = "tags", type = XmlAdaptedTag.class),
+        @XmlElement(name = "theaters", type = XmlAdaptedTheater.class)
+    })
+    private List<Object> added = new ArrayList<>();
+
+    /**
+     * Constructs an XmlAdaptedEdit.
+     * This is the no-arg constructor that is required by JAXB.
+     */
+    public XmlAdaptedEdit() {}
+
+    /**
+     * Converts a given MoviePlannerEdit into this class for JAXB use.
+     *
+     * @param source future changes to this will not affect the created XmlAdaptedEdit
+     */
+    public XmlAdaptedEdit(MoviePlannerEdit source) {
+        list = source.getList();
+        index = source.getIndex();
+        if (list == ListType.SCREENINGS) {
+            removed.addAll(toAdaptedTheaters(source.getRemoved()));
+            added.addAll(toAdaptedTheaters(source.getAdded()));
+            return;
+        }
+        for (Object element : source.getRemoved()) {
+            removed.add(toAdaptedElement(element));
+        }
+        for (Object element : source.getAdded()) {
+            added.add(toAdaptedElement(element));
+        }
+    }
+
+    /**
+     * Converts this jaxb-friendly adapted edit object into the model's MoviePlannerEdit object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted edit
+     */
+    public MoviePlannerEdit toModelType() throws IllegalValueException {
+        if (list == null) {
+            throw new IllegalValueException("Edit's list attribute is missing!");
+        }
+        List<Object> modelRemoved = new ArrayList<>();
+        for (Object element : removed) {
+            modelRemoved.addAll(toModelElements(element));
+        }
+        List<Object> modelAdded = new ArrayList<>();
+        for (Object element : added) {
+            modelAdded.addAll(toModelElements(element));
+        }
+        return new MoviePlannerEdit(list, index, modelRemoved, modelAdded);
+    }
+
+    /**
+     * Converts {@code screenings}, the edited screenings of a cinema, into jaxb-friendly adapted theaters holding
+     * them, one for each theater they are in.
+     */
+    private static List<XmlAdaptedTheater> toAdaptedTheaters(List<Object> screenings) {
+        Map<Integer, ArrayList<XmlAdaptedScreening>> screeningsByTheater = new LinkedHashMap<>();
+        for (Object element : screenings) {
+            if (!(element instanceof Screening)) {
+                throw new AssertionError("Edits of screenings should only contain screenings");
+            }
+            Screening screening = (Screening) element;
+            screeningsByTheater.computeIfAbsent(screening.getTheater().getTheaterNumber(), number -> new ArrayList<>())
+                    .add(new XmlAdaptedScreening(screening));
+        }
+        List<XmlAdaptedTheater> theaters = new ArrayList<>();
+        screeningsByTheater.forEach((number, theaterScreenings) ->
+                theaters.add(new XmlAdaptedTheater(number, theaterScreenings)));
+        return theaters;
+    }
+
+    /**
+     * Converts {@code element}, an element of the edited list, into its jaxb-friendly adapted version.
+     */
+    private static Object toAdaptedElement(Object element) {
+        if (element instanceof Cinema) {
+            return new XmlAdaptedCinema((Cinema) element);
+        } else if (element instanceof Movie) {
+            return new XmlAdaptedMovie((Movie) element);
+        } else if (element instanceof Tag) {
+            return new XmlAdaptedTag((Tag) element);
+        }
+        throw new AssertionError("MoviePlanners should only contain cinemas, movies and tags");
+    }
+
+    /**
+     * Converts {@code element}, a jaxb-friendly adapted element of the edited list, into the model's elements:
+     * the element itself, or the screenings of an adapted theater.
+     *
+     * @throws IllegalValueException if {@code element} does not belong in the edited list, or if there were any
+     *     data constraints violated in it
+     */
+    private List<?> toModelElements(Object element) throws IllegalValueException {
+        if (list == ListType.CINEMAS && element instanceof XmlAdaptedCinema) {
+            return Collections.singletonList(((XmlAdaptedCinema) element).toModelType());
+        } else if (list == ListType.MOVIES && element instanceof XmlAdaptedMovie) {
+            return Collections.singletonList(((XmlAdaptedMovie) element).toModelType());
+        } else if (list == ListType.TAGS && element instanceof XmlAdaptedTag) {
+            return Collections.singletonList(((XmlAdaptedTag) element).toModelType());
+        } else if (list == ListType.SCREENINGS && element instanceof XmlAdaptedTheater) {
+            return ((XmlAdaptedTheater) element).toModelScreenings();
+        }
+        throw new IllegalValueException(String.format(MESSAGE_INVALID_EDIT, list));
+    }
+}
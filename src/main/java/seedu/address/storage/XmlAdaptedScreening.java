@@ -7,7 +7,6 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Objects;
 
 import javax.xml.bind.annotation.XmlElement;
@@ -15,6 +14,7 @@ import javax.xml.bind.annotation.XmlElement;
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.cinema.Theater;
 import seedu.address.model.movie.MovieName;
 import seedu.address.model.screening.Screening;
 
@@ -26,6 +26,8 @@ public class XmlAdaptedScreening {
 
     private static final int MINUTES_USED_IN_ROUNDING_OFF = 5;
     private static final String DATE_TIME_FORMAT = "dd/MM/uuuu HH:mm";
+    private static final DateTimeFormatter DATE_TIME_FORMATTER =
+            DateTimeFormatter.ofPattern(DATE_TIME_FORMAT).withResolverStyle(ResolverStyle.STRICT);
 
     @XmlElement(required = true, name = "movie")
     private String movieName;
@@ -61,36 +63,31 @@ public class XmlAdaptedScreening {
         screeningEndDateTime = source.getScreeningEndDateTime().format(dtf);
     }
 
+    //@@author
     /**
-     * Returns a hashmap containing movieName as the key
-     * startDateTime and endDateTime is stored in the arrayList and put as the value in the hashmap
+     * Converts this jaxb-friendly adapted screening object into the model's Screening object in {@code theater}.
+     *
      * @throws IllegalValueException if there were any data constraints violated in the adapted screening
      */
-    public HashMap<String, ArrayList<LocalDateTime>> toScreening() throws IllegalValueException {
-        HashMap<String, ArrayList<LocalDateTime>> screeningMap = new HashMap<>();
-
+    public Screening toModelType(Theater theater) throws IllegalValueException {
         if (!MovieName.isValidName(movieName)) {
             throw new IllegalValueException(MovieName.MESSAGE_MOVIENAME_CONSTRAINTS);
         }
-
-        if (getValidDateTime().size() == 2) {
-            screeningMap.put(movieName, getValidDateTime());
-        }
-
-        return screeningMap;
+        ArrayList<LocalDateTime> dateTimes = getValidDateTime();
+        return new Screening(movieName, theater, dateTimes.get(0), dateTimes.get(1));
     }
 
+    //@@author qwlai
     /**
      * Returns an ArrayList of LocalDateTime consisting of the startDateTime and endDateTime
      * @throws IllegalValueException if the date time given is not in the right format
      */
     private ArrayList<LocalDateTime> getValidDateTime() throws IllegalValueException {
         ArrayList<LocalDateTime> dateTimeDetailsList = new ArrayList<>();
-        DateTimeFormatter dtf = DateTimeFormatter.ofPattern(DATE_TIME_FORMAT).withResolverStyle(ResolverStyle.STRICT);
 
         try {
-            LocalDateTime dateTime = LocalDateTime.parse(screeningDateTime, dtf);
-            LocalDateTime endDateTime = LocalDateTime.parse(screeningEndDateTime, dtf);
+            LocalDateTime dateTime = LocalDateTime.parse(screeningDateTime, DATE_TIME_FORMATTER);
+            LocalDateTime endDateTime = LocalDateTime.parse(screeningEndDateTime, DATE_TIME_FORMATTER);
 
             if (dateTime.getMinute() % MINUTES_USED_IN_ROUNDING_OFF != 0
                     || endDateTime.getMinute() % MINUTES_USED_IN_ROUNDING_OFF != 0) {
@@ -1,12 +1,14 @@
 package seedu.address.storage;
 
-import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.logging.Logger;
 
 import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.cinema.Theater;
 import seedu.address.model.screening.Screening;
@@ -16,6 +18,10 @@ import seedu.address.model.screening.Screening;
  */
 public class XmlAdaptedTheater {
 
+    private static final Logger logger = LogsCenter.getLogger(XmlAdaptedTheater.class);
+
+    private static volatile boolean isLazyLoadingEnabled = false;
+
     @XmlAttribute(name = "number")
     private int theaterNumber;
     @XmlElement(name = "screening")
@@ -54,6 +60,7 @@ public class XmlAdaptedTheater {
 
     /**
      * Converts this jaxb-friendly adapted theater object into the model's Theater object.
+     * If lazy loading is enabled, the screenings are only converted the first time they are needed.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted theater
      */
@@ -62,20 +69,63 @@ public class XmlAdaptedTheater {
             throw new IllegalValueException(Theater.MESSAGE_THEATER_CONSTRAINTS);
         }
 
+        if (isLazyLoadingEnabled) {
+            List<XmlAdaptedScreening> unloadedScreenings = screenings;
+            return new Theater(theaterNumber, theater -> loadScreenings(theater, unloadedScreenings));
+        }
+
         Theater theater = new Theater(theaterNumber);
         for (XmlAdaptedScreening s : screenings) {
-            String movieName = s.toScreening().keySet().stream().findFirst().get();
-            if (movieName != null) {
-                LocalDateTime startDateTime = s.toScreening().get(movieName).get(0);
-                LocalDateTime endDateTime = s.toScreening().get(movieName).get(1);
-                Screening screening = new Screening(movieName, theater, startDateTime, endDateTime);
-                theater.addScreeningToTheater(screening);
-            }
+            theater.addScreeningToTheater(s.toModelType(theater));
         }
 
         return theater;
     }
 
+    //@@author
+    /**
+     * Converts the screenings of this jaxb-friendly adapted theater into the model's screenings, in a theater with
+     * the same number and no other screenings. Unlike {@link #toModelType()}, they are always converted at once.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted theater
+     */
+    public List<Screening> toModelScreenings() throws IllegalValueException {
+        if (!Theater.isValidTheater(String.valueOf(theaterNumber))) {
+            throw new IllegalValueException(Theater.MESSAGE_THEATER_CONSTRAINTS);
+        }
+
+        Theater theater = new Theater(theaterNumber);
+        List<Screening> modelScreenings = new ArrayList<>(screenings.size());
+        for (XmlAdaptedScreening s : screenings) {
+            modelScreenings.add(s.toModelType(theater));
+        }
+        return modelScreenings;
+    }
+
+    /**
+     * Sets whether the screenings of the theaters converted from now on are only converted when first needed.
+     */
+    public static void setLazyLoadingEnabled(boolean isEnabled) {
+        isLazyLoadingEnabled = isEnabled;
+    }
+
+    /**
+     * Converts {@code adaptedScreenings} into screenings in {@code theater}. As they are converted after the data
+     * file has been read, invalid screenings cannot fail the reading of the file, and are left out instead.
+     */
+    private static List<Screening> loadScreenings(Theater theater, List<XmlAdaptedScreening> adaptedScreenings) {
+        List<Screening> loadedScreenings = new ArrayList<>(adaptedScreenings.size());
+        for (XmlAdaptedScreening s : adaptedScreenings) {
+            try {
+                loadedScreenings.add(s.toModelType(theater));
+            } catch (IllegalValueException ive) {
+                logger.warning("Invalid screening left out of theater " + theater.getTheaterNumber() + ": "
+                        + ive.getMessage());
+            }
+        }
+        return loadedScreenings;
+    }
+
     //@@author
     @Override
     public boolean equals(Object other) {
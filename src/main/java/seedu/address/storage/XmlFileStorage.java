@@ -2,6 +2,8 @@ package seedu.address.storage;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.OutputStream;
 
 import javax.xml.bind.JAXBException;
 
@@ -24,6 +26,17 @@ public class XmlFileStorage {
         }
     }
 
+    /**
+     * Writes the given movieplanner data to {@code out}.
+     */
+    public static void saveDataToStream(OutputStream out, XmlSerializableMoviePlanner moviePlanner) {
+        try {
+            XmlUtil.saveDataToStream(out, moviePlanner);
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage());
+        }
+    }
+
     /**
      * Returns movie planner in the file or an empty movie planner
      */
@@ -36,4 +49,15 @@ public class XmlFileStorage {
         }
     }
 
+    /**
+     * Returns the movie planner read from {@code in}.
+     */
+    public static XmlSerializableMoviePlanner loadDataFromStream(InputStream in) throws DataConversionException {
+        try {
+            return XmlUtil.getDataFromStream(in, XmlSerializableMoviePlanner.class);
+        } catch (JAXBException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
 }
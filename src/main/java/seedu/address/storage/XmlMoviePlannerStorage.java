@@ -1,16 +1,26 @@
 package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.FileUtil.SyncPolicy;
+import seedu.address.commons.util.SecurityUtil;
+import seedu.address.model.MoviePlannerEdit;
 import seedu.address.model.ReadOnlyMoviePlanner;
 
 /**
@@ -22,16 +32,32 @@ public class XmlMoviePlannerStorage implements MoviePlannerStorage {
 
     private String filePath;
     private String encryptedFilePath;
+    private final SyncPolicy syncPolicy;
+    private final int backupCount;
 
     public XmlMoviePlannerStorage(String filePath) {
-        this.filePath = filePath;
+        this(filePath, null);
     }
     //@@author tinyjy94
     public XmlMoviePlannerStorage(String filePath, String encryptedFilePath) {
+        this(filePath, encryptedFilePath, Config.DEFAULT_FSYNC_POLICY, Config.DEFAULT_BACKUP_COUNT);
+    }
+    //@@author
+
+    /**
+     * Creates a storage which forces each file it writes to disk according to {@code syncPolicy},
+     * and keeps at most {@code backupCount} backups of the data file.
+     */
+    public XmlMoviePlannerStorage(String filePath, String encryptedFilePath, SyncPolicy syncPolicy,
+                                  int backupCount) {
+        requireNonNull(syncPolicy);
+        checkArgument(backupCount >= 0, "Backup count should not be negative");
         this.filePath = filePath;
         this.encryptedFilePath = encryptedFilePath;
+        this.syncPolicy = syncPolicy;
+        this.backupCount = backupCount;
     }
-    //@@author
+
     public String getMoviePlannerFilePath() {
         return filePath;
     }
@@ -62,13 +88,7 @@ public class XmlMoviePlannerStorage implements MoviePlannerStorage {
             return Optional.empty();
         }
 
-        XmlSerializableMoviePlanner xmlMoviePlanner = XmlFileStorage.loadDataFromSaveFile(new File(filePath));
-        try {
-            return Optional.of(xmlMoviePlanner.toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + moviePlannerFile + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
-        }
+        return Optional.of(loadMoviePlanner(moviePlannerFile));
     }
     //@@author tinyjy94
     /**
@@ -97,13 +117,7 @@ public class XmlMoviePlannerStorage implements MoviePlannerStorage {
             }
         }
 
-        XmlSerializableMoviePlanner xmlMoviePlanner = XmlFileStorage.loadDataFromSaveFile(new File(filePath));
-        try {
-            return Optional.of(xmlMoviePlanner.toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + moviePlannerFile + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
-        }
+        return Optional.of(loadMoviePlanner(moviePlannerFile));
     }
     //@@author
     @Override
@@ -113,6 +127,7 @@ public class XmlMoviePlannerStorage implements MoviePlannerStorage {
 
     /**
      * Similar to {@link #saveMoviePlanner(ReadOnlyMoviePlanner)}
+     * The file is replaced in one step, so it is left unchanged if saving fails midway.
      *
      * @param filePath location of the data. Cannot be null
      */
@@ -120,14 +135,121 @@ public class XmlMoviePlannerStorage implements MoviePlannerStorage {
         requireNonNull(moviePlanner);
         requireNonNull(filePath);
 
-        File file = new File(filePath);
-        FileUtil.createIfMissing(file);
-        XmlFileStorage.saveDataToFile(file, new XmlSerializableMoviePlanner(moviePlanner));
+        FileUtil.writeAtomically(new File(filePath), out -> storeMoviePlanner(moviePlanner, out), syncPolicy);
+    }
+
+    @Override
+    public void saveMoviePlannerChanges(ReadOnlyMoviePlanner moviePlanner, List<MoviePlannerEdit> edits)
+            throws IOException {
+        saveMoviePlanner(moviePlanner);
+    }
+
+    /**
+     * Reads the MoviePlanner data in the existing file {@code moviePlannerFile}.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    protected ReadOnlyMoviePlanner loadMoviePlanner(File moviePlannerFile) throws DataConversionException,
+            IOException {
+        XmlSerializableMoviePlanner xmlMoviePlanner = XmlFileStorage.loadDataFromSaveFile(moviePlannerFile);
+        try {
+            return xmlMoviePlanner.toModelType();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + moviePlannerFile + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Reads the MoviePlanner data from {@code in}, leaving {@code in} open.
+     *
+     * @throws DataConversionException if the data is not in the correct format.
+     */
+    protected ReadOnlyMoviePlanner loadMoviePlanner(InputStream in) throws DataConversionException, IOException {
+        XmlSerializableMoviePlanner xmlMoviePlanner = XmlFileStorage.loadDataFromStream(in);
+        try {
+            return xmlMoviePlanner.toModelType();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in MoviePlanner data: " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Writes {@code moviePlanner} to {@code out}.
+     */
+    protected void storeMoviePlanner(ReadOnlyMoviePlanner moviePlanner, OutputStream out) throws IOException {
+        XmlFileStorage.saveDataToStream(out, new XmlSerializableMoviePlanner(moviePlanner));
     }
 
+    protected SyncPolicy getSyncPolicy() {
+        return syncPolicy;
+    }
+
+    /**
+     * Saves {@code moviePlanner} as backup 1 of the data file. The existing backups are renumbered,
+     * and the oldest is discarded if there would be more than {@code backupCount} backups.
+     */
     @Override
     public void backupMoviePlanner(ReadOnlyMoviePlanner moviePlanner) throws IOException {
-        saveMoviePlanner(moviePlanner, filePath + ".backup");
+        if (backupCount == 0) {
+            return;
+        }
+        rotateBackups();
+        saveMoviePlanner(moviePlanner, getBackupFilePath(1));
+    }
+
+    /**
+     * Renumbers the existing backups of the data file to make room for a new backup 1, discarding the oldest if
+     * there would be more than {@code backupCount} backups.
+     */
+    void rotateBackups() throws IOException {
+        for (int number = backupCount - 1; number >= 1; number--) {
+            File backupFile = new File(getBackupFilePath(number));
+            if (backupFile.exists()) {
+                Files.move(backupFile.toPath(), new File(getBackupFilePath(number + 1)).toPath(),
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+
+    int getBackupCount() {
+        return backupCount;
+    }
+
+    /**
+     * Deletes the data file and its backups.
+     */
+    void deleteMoviePlanner() throws IOException {
+        Files.deleteIfExists(new File(filePath).toPath());
+        for (int number = 1; number <= backupCount; number++) {
+            Files.deleteIfExists(new File(getBackupFilePath(number)).toPath());
+        }
+    }
+
+    //@@author tinyjy94
+    @Override
+    public void encryptMoviePlanner(ReadOnlyMoviePlanner moviePlanner, String password) throws IOException {
+        requireNonNull(moviePlanner);
+        requireNonNull(password);
+        FileUtil.writeAtomically(new File(encryptedFilePath), out -> {
+            try (OutputStream encrypted = SecurityUtil.newEncryptingStream(out, password)) {
+                storeMoviePlanner(moviePlanner, encrypted);
+            }
+        }, syncPolicy);
+    }
+
+    @Override
+    public void decryptMoviePlanner(String password) throws IOException {
+        SecurityUtil.decrypt(filePath, encryptedFilePath, password);
+    }
+    //@@author
+
+    /**
+     * Returns the file path of backup {@code number} of the data file, where backup 1 is the latest.
+     */
+    public String getBackupFilePath(int number) {
+        return filePath + ".backup." + number;
     }
 
 }
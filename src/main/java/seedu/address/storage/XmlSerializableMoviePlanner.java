@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
@@ -10,6 +11,9 @@ import javax.xml.bind.annotation.XmlRootElement;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.MoviePlanner;
 import seedu.address.model.ReadOnlyMoviePlanner;
+import seedu.address.model.cinema.Cinema;
+import seedu.address.model.movie.Movie;
+import seedu.address.model.tag.Tag;
 
 /**
  * An Immutable MoviePlanner that is serializable to XML format
@@ -17,6 +21,9 @@ import seedu.address.model.ReadOnlyMoviePlanner;
 @XmlRootElement(name = "movieplanner")
 public class XmlSerializableMoviePlanner {
 
+    /** The number of elements of a kind from which they are converted in parallel. */
+    private static final int PARALLEL_CONVERSION_THRESHOLD = 64;
+
     @XmlElement
     private List<XmlAdaptedCinema> cinemas;
     @XmlElement
@@ -47,25 +54,88 @@ public class XmlSerializableMoviePlanner {
     /**
      * Converts this movieplanner into the model's {@code MoviePlanner} object.
      *
+     * The cinemas, tags and movies are first validated and converted in parallel, and then added to the movie
+     * planner one at a time, in the order they are in the file. If the data is invalid, the error reported is
+     * the first error in the file, as if they had been converted one at a time.
+     *
      * @throws IllegalValueException if there were any data constraints violated or duplicates in the
      * {@code XmlAdaptedCinema} or {@code XmlAdaptedTag}.
      */
     public MoviePlanner toModelType() throws IllegalValueException {
+        List<Conversion<Tag>> convertedTags = convertAll(tags, XmlAdaptedTag::toModelType);
+        List<Conversion<Cinema>> convertedCinemas = convertAll(cinemas, XmlAdaptedCinema::toModelType);
+        List<Conversion<Movie>> convertedMovies = convertAll(movies, XmlAdaptedMovie::toModelType);
+
         MoviePlanner moviePlanner = new MoviePlanner();
-        for (XmlAdaptedTag t : tags) {
-            moviePlanner.addTag(t.toModelType());
+        for (Conversion<Tag> t : convertedTags) {
+            moviePlanner.addTag(t.get());
         }
-        for (XmlAdaptedCinema c : cinemas) {
-            moviePlanner.addCinema(c.toModelType());
+        for (Conversion<Cinema> c : convertedCinemas) {
+            moviePlanner.addCinema(c.get());
         }
 
-        for (XmlAdaptedMovie m : movies) {
-            moviePlanner.addMovie(m.toModelType());
+        for (Conversion<Movie> m : convertedMovies) {
+            moviePlanner.addMovie(m.get());
         }
 
         return moviePlanner;
     }
 
+    /**
+     * Converts every element of {@code adapted} with {@code converter}, on the common fork-join pool if there are
+     * enough elements to be worth it. The conversions are returned in the same order as {@code adapted}.
+     */
+    static <A, M> List<Conversion<M>> convertAll(List<A> adapted, Converter<A, M> converter) {
+        Stream<A> elements = adapted.size() < PARALLEL_CONVERSION_THRESHOLD
+                ? adapted.stream() : adapted.parallelStream();
+        return elements.map(element -> Conversion.of(element, converter)).collect(Collectors.toList());
+    }
+
+    /**
+     * Converts an adapted element into the model's object.
+     */
+    @FunctionalInterface
+    interface Converter<A, M> {
+        M convert(A adapted) throws IllegalValueException;
+    }
+
+    /**
+     * The result of converting an adapted element: either the model's object, or the error which made the element
+     * invalid. The error is only thrown when the result is used, so that it is thrown in the order of the elements.
+     */
+    static class Conversion<M> {
+        private final M converted;
+        private final IllegalValueException error;
+
+        private Conversion(M converted, IllegalValueException error) {
+            this.converted = converted;
+            this.error = error;
+        }
+
+        /**
+         * Returns the result of converting {@code adapted} with {@code converter}.
+         */
+        static <A, M> Conversion<M> of(A adapted, Converter<A, M> converter) {
+            try {
+                return new Conversion<>(converter.convert(adapted), null);
+            } catch (IllegalValueException ive) {
+                return new Conversion<>(null, ive);
+            }
+        }
+
+        /**
+         * Returns the model's object.
+         *
+         * @throws IllegalValueException if the element was invalid.
+         */
+        M get() throws IllegalValueException {
+            if (error != null) {
+                throw error;
+            }
+            return converted;
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
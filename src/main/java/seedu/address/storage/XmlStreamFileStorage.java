@@ -0,0 +1,330 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.MoviePlanner;
+import seedu.address.model.ReadOnlyMoviePlanner;
+import seedu.address.model.cinema.Cinema;
+import seedu.address.model.movie.Movie;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.XmlSerializableMoviePlanner.Conversion;
+
+/**
+ * Stores movieplanner data in an XML file, in the same format as {@link XmlSerializableMoviePlanner},
+ * one cinema, tag or movie element at a time.
+ *
+ * Unlike {@link XmlFileStorage}, the whole file is never held in memory as a tree of JAXB objects:
+ * elements are read in batches, each of which is converted into the model before the next one is read, and
+ * each element is written as soon as it is converted.
+ */
+public class XmlStreamFileStorage {
+
+    private static final String ROOT_ELEMENT = "movieplanner";
+    private static final String CINEMA_ELEMENT = "cinemas";
+    private static final String TAG_ELEMENT = "tags";
+    private static final String MOVIE_ELEMENT = "movies";
+    private static final String ELEMENT_INDENT = "\n    ";
+    /** The number of elements read before they are converted, in parallel if there are enough of them. */
+    private static final int CONVERSION_BATCH_SIZE = 1024;
+
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
+    /**
+     * Saves the given movieplanner data to the specified file.
+     */
+    public static void saveDataToFile(File file, ReadOnlyMoviePlanner moviePlanner) throws IOException {
+        saveDataToFile(file, moviePlanner, Collections.emptyMap());
+    }
+
+    /**
+     * Saves the given movieplanner data to the specified file, with {@code rootAttributes} as the attributes
+     * of the root element.
+     */
+    public static void saveDataToFile(File file, ReadOnlyMoviePlanner moviePlanner,
+                                      Map<String, String> rootAttributes) throws IOException {
+        requireNonNull(file);
+        requireNonNull(moviePlanner);
+        requireNonNull(rootAttributes);
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+            saveDataToStream(out, moviePlanner, rootAttributes);
+        }
+    }
+
+    /**
+     * Writes the given movieplanner data to {@code out}, with {@code rootAttributes} as the attributes
+     * of the root element, leaving {@code out} open.
+     */
+    public static void saveDataToStream(OutputStream out, ReadOnlyMoviePlanner moviePlanner,
+                                        Map<String, String> rootAttributes) throws IOException {
+        requireNonNull(out);
+        requireNonNull(moviePlanner);
+        requireNonNull(rootAttributes);
+
+        try {
+            XMLStreamWriter writer = OUTPUT_FACTORY.createXMLStreamWriter(out, StandardCharsets.UTF_8.name());
+            Marshaller marshaller = XmlUtil.getContext(XmlSerializableMoviePlanner.class).createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+
+            writer.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+            writer.writeCharacters("\n");
+            writer.writeStartElement(ROOT_ELEMENT);
+            for (Map.Entry<String, String> attribute : rootAttributes.entrySet()) {
+                writer.writeAttribute(attribute.getKey(), attribute.getValue());
+            }
+            for (Cinema cinema : moviePlanner.getCinemaList()) {
+                writeElement(writer, marshaller, CINEMA_ELEMENT, XmlAdaptedCinema.class, new XmlAdaptedCinema(cinema));
+            }
+            for (Tag tag : moviePlanner.getTagList()) {
+                writeElement(writer, marshaller, TAG_ELEMENT, XmlAdaptedTag.class, new XmlAdaptedTag(tag));
+            }
+            for (Movie movie : moviePlanner.getMovieList()) {
+                writeElement(writer, marshaller, MOVIE_ELEMENT, XmlAdaptedMovie.class, new XmlAdaptedMovie(movie));
+            }
+            writer.writeCharacters("\n");
+            writer.writeEndElement();
+            writer.writeCharacters("\n");
+            writer.writeEndDocument();
+            writer.flush();
+            writer.close();
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage());
+        } catch (XMLStreamException e) {
+            throw new IOException("Failed to write movieplanner data", e);
+        }
+    }
+
+    /**
+     * Returns the movie planner in the file.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the file.
+     */
+    public static MoviePlanner loadDataFromSaveFile(File file) throws DataConversionException, IllegalValueException,
+            IOException {
+        requireNonNull(file);
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            return loadDataFromStream(in);
+        }
+    }
+
+    /**
+     * Returns the movie planner read from {@code in}, leaving {@code in} open.
+     *
+     * @throws DataConversionException if the data is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the data.
+     */
+    public static MoviePlanner loadDataFromStream(InputStream in) throws DataConversionException,
+            IllegalValueException {
+        requireNonNull(in);
+
+        try {
+            XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(in);
+            Unmarshaller unmarshaller = XmlUtil.getContext(XmlSerializableMoviePlanner.class).createUnmarshaller();
+            try {
+                return readMoviePlanner(reader, unmarshaller);
+            } finally {
+                reader.close();
+            }
+        } catch (JAXBException | XMLStreamException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the value of the attribute {@code name} of the root element in the file, reading no further than
+     * the root element's start tag.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public static Optional<String> loadRootAttributeFromSaveFile(File file, String name)
+            throws DataConversionException, IOException {
+        requireNonNull(file);
+        requireNonNull(name);
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(in);
+            try {
+                reader.nextTag();
+                return Optional.ofNullable(reader.getAttributeValue(null, name));
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads the root element at the start of {@code reader} into a new {@code MoviePlanner}.
+     *
+     * The cinemas, tags and movies are read in batches. The elements of a batch are validated and converted in
+     * parallel, as {@link XmlSerializableMoviePlanner#toModelType()} does, and then added to the movie planner one at
+     * a time, in the order they are in the file. If the data is invalid, the error reported is the first error in
+     * the file, as if they had been converted one at a time.
+     */
+    private static MoviePlanner readMoviePlanner(XMLStreamReader reader, Unmarshaller unmarshaller)
+            throws JAXBException, XMLStreamException, IllegalValueException {
+        reader.nextTag();
+        if (!ROOT_ELEMENT.equals(reader.getLocalName())) {
+            throw new XMLStreamException("Unexpected root element " + reader.getLocalName(), reader.getLocation());
+        }
+        reader.next();
+
+        MoviePlanner moviePlanner = new MoviePlanner();
+        List<ElementConverter> batch = new ArrayList<>();
+        while (advanceToElement(reader)) {
+            switch (reader.getLocalName()) {
+            case CINEMA_ELEMENT:
+                XmlAdaptedCinema cinema = unmarshaller.unmarshal(reader, XmlAdaptedCinema.class).getValue();
+                batch.add(() -> {
+                    Cinema converted = cinema.toModelType();
+                    return planner -> planner.addCinema(converted);
+                });
+                break;
+            case TAG_ELEMENT:
+                XmlAdaptedTag tag = unmarshaller.unmarshal(reader, XmlAdaptedTag.class).getValue();
+                batch.add(() -> {
+                    Tag converted = tag.toModelType();
+                    return planner -> planner.addTag(converted);
+                });
+                break;
+            case MOVIE_ELEMENT:
+                XmlAdaptedMovie movie = unmarshaller.unmarshal(reader, XmlAdaptedMovie.class).getValue();
+                batch.add(() -> {
+                    Movie converted = movie.toModelType();
+                    return planner -> planner.addMovie(converted);
+                });
+                break;
+            default:
+                // ignore unknown elements, as JAXB does
+                skipElement(reader);
+            }
+            if (batch.size() == CONVERSION_BATCH_SIZE) {
+                addBatch(moviePlanner, batch);
+            }
+        }
+        addBatch(moviePlanner, batch);
+        return moviePlanner;
+    }
+
+    /**
+     * Converts the elements in {@code batch}, adds them to {@code moviePlanner} in order, and empties
+     * {@code batch}.
+     */
+    private static void addBatch(MoviePlanner moviePlanner, List<ElementConverter> batch)
+            throws IllegalValueException {
+        for (Conversion<ElementAdder> conversion
+                : XmlSerializableMoviePlanner.convertAll(batch, ElementConverter::convert)) {
+            conversion.get().addTo(moviePlanner);
+        }
+        batch.clear();
+    }
+
+    /**
+     * Converts an element which has been read into the model, returning how to add it to the movie planner.
+     */
+    @FunctionalInterface
+    private interface ElementConverter {
+        ElementAdder convert() throws IllegalValueException;
+    }
+
+    /**
+     * Adds an element which has been converted into the model to a movie planner.
+     */
+    @FunctionalInterface
+    private interface ElementAdder {
+        void addTo(MoviePlanner moviePlanner) throws IllegalValueException;
+    }
+
+    /**
+     * Advances {@code reader} to the next start or end element, skipping text and comments.
+     *
+     * @return true if {@code reader} is at a start element.
+     */
+    private static boolean advanceToElement(XMLStreamReader reader) throws XMLStreamException {
+        while (!reader.isStartElement() && !reader.isEndElement()) {
+            reader.next();
+        }
+        return reader.isStartElement();
+    }
+
+    /**
+     * Advances {@code reader} from the start element it is at to the event after the matching end element.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 0;
+        do {
+            if (reader.isStartElement()) {
+                depth++;
+            } else if (reader.isEndElement()) {
+                depth--;
+            }
+            reader.next();
+        } while (depth > 0);
+    }
+
+    /**
+     * Writes {@code value} to {@code writer} as an indented child element of the root named {@code name}.
+     */
+    private static <T> void writeElement(XMLStreamWriter writer, Marshaller marshaller, String name,
+                                         Class<T> type, T value) throws JAXBException, XMLStreamException {
+        writer.writeCharacters(ELEMENT_INDENT);
+        marshaller.marshal(new JAXBElement<>(new QName(name), type, value), writer);
+    }
+
+    /**
+     * Returns an {@code XMLInputFactory} which does not resolve external entities.
+     */
+    static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil.SyncPolicy;
+import seedu.address.model.ReadOnlyMoviePlanner;
+
+/**
+ * A class to access MoviePlanner data stored as an xml file on the hard disk, which reads and writes the file
+ * one element at a time instead of holding all of it in memory.
+ *
+ * @see XmlStreamFileStorage
+ */
+public class XmlStreamMoviePlannerStorage extends XmlMoviePlannerStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(XmlStreamMoviePlannerStorage.class);
+
+    public XmlStreamMoviePlannerStorage(String filePath) {
+        super(filePath);
+    }
+
+    public XmlStreamMoviePlannerStorage(String filePath, String encryptedFilePath) {
+        super(filePath, encryptedFilePath);
+    }
+
+    public XmlStreamMoviePlannerStorage(String filePath, String encryptedFilePath, SyncPolicy syncPolicy,
+                                        int backupCount) {
+        super(filePath, encryptedFilePath, syncPolicy, backupCount);
+    }
+
+    @Override
+    protected ReadOnlyMoviePlanner loadMoviePlanner(File moviePlannerFile) throws DataConversionException,
+            IOException {
+        try {
+            return XmlStreamFileStorage.loadDataFromSaveFile(moviePlannerFile);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + moviePlannerFile + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    protected ReadOnlyMoviePlanner loadMoviePlanner(InputStream in) throws DataConversionException, IOException {
+        try {
+            return XmlStreamFileStorage.loadDataFromStream(in);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in MoviePlanner data: " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    protected void storeMoviePlanner(ReadOnlyMoviePlanner moviePlanner, OutputStream out) throws IOException {
+        XmlStreamFileStorage.saveDataToStream(out, moviePlanner, Collections.emptyMap());
+    }
+}
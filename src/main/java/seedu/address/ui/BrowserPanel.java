@@ -3,6 +3,7 @@ package seedu.address.ui;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 
 import com.calendarfx.model.Calendar;
@@ -82,7 +83,8 @@ public class BrowserPanel extends UiPart<Region> {
             c.setReadOnly(true);
             theatersSchedule.getCalendars().add(c);
 
-            ArrayList<Screening> screeningList = t.getScreeningList();
+            // only the screenings of the shown date are read, as past dates may have to be read from the archive
+            List<Screening> screeningList = t.screeningsOn(providedDate);
 
             // add entry
             for (Screening s : screeningList) {
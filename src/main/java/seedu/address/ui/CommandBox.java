@@ -1,9 +1,14 @@
 package seedu.address.ui;
 
 import java.util.HashMap;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
+import javafx.animation.PauseTransition;
 import javafx.collections.ObservableList;
+import javafx.concurrent.Task;
 import javafx.fxml.FXML;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -13,6 +18,7 @@ import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.scene.text.Text;
+import javafx.util.Duration;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.ui.NewResultAvailableEvent;
 import seedu.address.logic.ListElementPointer;
@@ -56,7 +62,14 @@ public class CommandBox extends UiPart<Region> {
     private static final int KEYWORD_LABEL_FONT_SIZE = 17;
     private static final int DEFAULT_TAG_OFFSET_VALUE = 12;
     private static final double OFFSET_MULTIPLIER = 4.65;
+    private static final Duration PREVIEW_DELAY = Duration.millis(250);
 
+    /** Evaluates previews one at a time, so a burst of typing never occupies more than one thread. */
+    private static final ExecutorService PREVIEW_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-preview");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     private final Logger logger = LogsCenter.getLogger(CommandBox.class);
     private final Logic logic;
@@ -65,6 +78,10 @@ public class CommandBox extends UiPart<Region> {
     private HashMap<String, String> keywordColorCode;
     private String defaultFontSize = "-fx-font-size: " + KEYWORD_LABEL_FONT_SIZE + ";";
 
+    private final PauseTransition previewDelay = new PauseTransition(PREVIEW_DELAY);
+    private Task<Optional<String>> previewTask;
+    private boolean isShowingPreview = false;
+
     @FXML
     private TextField commandTextField;
 
@@ -84,6 +101,7 @@ public class CommandBox extends UiPart<Region> {
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
         historySnapshot = logic.getHistorySnapshot();
         keywordColorCode = initializeKeywordColorCoding();
+        previewDelay.setOnFinished(unused -> startPreview());
     }
 
     /**
@@ -116,10 +134,67 @@ public class CommandBox extends UiPart<Region> {
         switch (keyEvent.getCode()) {
         default:
             checkChangesInCommandBoxInput();
+            schedulePreview();
             break;
         }
     }
 
+    /**
+     * Previews the result of the command in the command box once the user has stopped typing for
+     * {@code PREVIEW_DELAY}, cancelling the preview of any text typed before.
+     */
+    private void schedulePreview() {
+        cancelPreview();
+        previewDelay.playFromStart();
+    }
+
+    /**
+     * Evaluates the preview of the command in the command box on a background thread, so that the JavaFX
+     * application thread is free to handle typing meanwhile.
+     */
+    private void startPreview() {
+        String commandText = commandTextField.getText();
+        Task<Optional<String>> task = new Task<Optional<String>>() {
+            @Override
+            protected Optional<String> call() {
+                return logic.preview(commandText);
+            }
+        };
+        task.setOnSucceeded(unused -> {
+            if (task == previewTask) {
+                showPreview(task.getValue());
+            }
+        });
+        task.setOnFailed(unused -> logger.warning("Failed to preview: " + commandText + "\n" + task.getException()));
+        previewTask = task;
+        PREVIEW_EXECUTOR.execute(task);
+    }
+
+    /**
+     * Shows {@code preview} as the result, or clears a preview shown before if there is nothing to preview.
+     */
+    private void showPreview(Optional<String> preview) {
+        if (preview.isPresent()) {
+            raise(new NewResultAvailableEvent(preview.get()));
+            isShowingPreview = true;
+        } else if (isShowingPreview) {
+            raise(new NewResultAvailableEvent(""));
+            isShowingPreview = false;
+        }
+    }
+
+    /**
+     * Cancels the pending preview, if any. A cancelled preview which has already started is left to finish, but its
+     * result is never shown.
+     */
+    private void cancelPreview() {
+        previewDelay.stop();
+        if (previewTask != null) {
+            previewTask.cancel();
+            previewTask = null;
+        }
+    }
+
     //@@author chanyikwai
     /**
      * Split text in text field into respective components for processing
@@ -230,6 +305,8 @@ public class CommandBox extends UiPart<Region> {
      */
     @FXML
     private void handleCommandInputChanged() {
+        cancelPreview();
+        isShowingPreview = false;
         try {
             CommandResult commandResult = logic.execute(commandTextField.getText());
             initHistory();
@@ -57,6 +57,8 @@ public class TestApp extends MainApp {
         Config config = super.initConfig(configFilePath);
         config.setAppTitle(APP_TITLE);
         config.setUserPrefsFilePath(DEFAULT_PREF_FILE_LOCATION_FOR_TESTING);
+        // save synchronously, so that the storage file can be checked right after each command
+        config.setSaveDebounceMillis(0);
         return config;
     }
 
@@ -16,7 +16,19 @@ public class ConfigTest {
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "App title : MoVie Planner\n"
                 + "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Maximum undo depth : 100\n"
+                + "Save debounce interval (ms) : 500\n"
+                + "Journal enabled : false\n"
+                + "Journal compaction threshold : 1000\n"
+                + "Fsync policy : FILE\n"
+                + "Backup count : 3\n"
+                + "Key derivation iterations : 65536\n"
+                + "Encryption key size : 128\n"
+                + "Binary storage enabled : false\n"
+                + "Binary storage compressed : true\n"
+                + "Screening archive age (days) : 0\n"
+                + "Lazy screening loading enabled : false";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
@@ -0,0 +1,52 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class CsvUtilTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    //---------------- Tests for splitRow --------------------------------------
+
+    @Test
+    public void splitRow() throws Exception {
+
+        // EP: empty row
+        assertEquals(Collections.singletonList(""), CsvUtil.splitRow(""));
+
+        // EP: unquoted fields, whitespace kept
+        assertEquals(Arrays.asList("a", " b ", ""), CsvUtil.splitRow("a, b ,"));
+
+        // EP: quoted fields containing separators and quotes
+        assertEquals(Arrays.asList("a,b", "c"), CsvUtil.splitRow("\"a,b\",c"));
+        assertEquals(Arrays.asList("say \"hi\"", ""), CsvUtil.splitRow("\"say \"\"hi\"\"\","));
+    }
+
+    @Test
+    public void splitRow_unclosedQuote_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(CsvUtil.MESSAGE_UNCLOSED_QUOTE);
+        CsvUtil.splitRow("a,\"b");
+    }
+
+    //---------------- Tests for toField --------------------------------------
+
+    @Test
+    public void toField() throws Exception {
+        assertEquals("plain", CsvUtil.toField("plain"));
+        assertEquals("\"a,b\"", CsvUtil.toField("a,b"));
+
+        String quoted = "say \"hi\", then leave";
+        assertEquals(Collections.singletonList(quoted), CsvUtil.splitRow(CsvUtil.toField(quoted)));
+    }
+}
@@ -1,10 +1,24 @@
 package seedu.address.commons.util;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
 import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.Random;
+
+import javax.crypto.Cipher;
 
+import org.junit.After;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.core.Config;
 //@@author tinyjy94
 public class SecurityUtilTest {
 
@@ -15,6 +29,14 @@ public class SecurityUtilTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @After
+    public void tearDown() {
+        SecurityUtil.init(new Config());
+    }
+
     @Test
     public void encrypt_nullOutputFile_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -27,4 +49,107 @@ public class SecurityUtilTest {
         SecurityUtil.generateKey(null);
     }
 
+    //@@author
+    @Test
+    public void decrypt_encryptedFile_originalContentsRestored() throws Exception {
+        File encryptedFile = testFolder.newFile();
+        File decryptedFile = testFolder.newFile();
+        SecurityUtil.encrypt(plainFile, encryptedFile, password);
+        SecurityUtil.decrypt(encryptedFile, decryptedFile, password);
+
+        assertArrayEquals(Files.readAllBytes(plainFile.toPath()), Files.readAllBytes(decryptedFile.toPath()));
+        assertTrue(SecurityUtil.isPasswordCorrect(encryptedFile, password));
+        assertFalse(SecurityUtil.isPasswordCorrect(encryptedFile, "wrong"));
+    }
+
+    @Test
+    public void decrypt_fileLargerThanOneSegment_originalContentsRestored() throws Exception {
+        byte[] contents = new byte[200 * 1024 + 7];
+        new Random(0).nextBytes(contents);
+        File largeFile = testFolder.newFile();
+        Files.write(largeFile.toPath(), contents);
+
+        File encryptedFile = testFolder.newFile();
+        File decryptedFile = testFolder.newFile();
+        SecurityUtil.encrypt(largeFile, encryptedFile, password);
+        SecurityUtil.decrypt(encryptedFile, decryptedFile, password);
+
+        assertArrayEquals(contents, Files.readAllBytes(decryptedFile.toPath()));
+    }
+
+    @Test
+    public void decrypt_wrongPassword_throwsIoExceptionAndKeepsOutputFile() throws Exception {
+        File encryptedFile = testFolder.newFile();
+        File outputFile = testFolder.newFile();
+        Files.write(outputFile.toPath(), new byte[] {1, 2, 3});
+        SecurityUtil.encrypt(plainFile, encryptedFile, password);
+
+        try {
+            SecurityUtil.decrypt(encryptedFile, outputFile, "wrong");
+            throw new AssertionError("The expected IOException was not thrown.");
+        } catch (IOException ioe) {
+            assertArrayEquals(new byte[] {1, 2, 3}, Files.readAllBytes(outputFile.toPath()));
+        }
+    }
+
+    @Test
+    public void decrypt_modifiedFile_throwsIoException() throws Exception {
+        File encryptedFile = testFolder.newFile();
+        SecurityUtil.encrypt(plainFile, encryptedFile, password);
+        try (RandomAccessFile file = new RandomAccessFile(encryptedFile, "rw")) {
+            file.seek(file.length() - 20);
+            int original = file.read();
+            file.seek(file.length() - 20);
+            file.write(original ^ 1);
+        }
+
+        thrown.expect(IOException.class);
+        SecurityUtil.decrypt(encryptedFile, testFolder.newFile(), password);
+    }
+
+    @Test
+    public void decrypt_truncatedFile_throwsIoException() throws Exception {
+        byte[] contents = new byte[150 * 1024];
+        File largeFile = testFolder.newFile();
+        Files.write(largeFile.toPath(), contents);
+        File encryptedFile = testFolder.newFile();
+        SecurityUtil.encrypt(largeFile, encryptedFile, password);
+        try (RandomAccessFile file = new RandomAccessFile(encryptedFile, "rw")) {
+            // drop the last segment
+            file.setLength(file.length() - (150 * 1024 - 128 * 1024 + 16));
+        }
+
+        thrown.expect(IOException.class);
+        SecurityUtil.decrypt(encryptedFile, testFolder.newFile(), password);
+    }
+
+    @Test
+    public void decrypt_keyDerivationCostChanged_costInHeaderUsed() throws Exception {
+        Config config = new Config();
+        config.setKeyDerivationIterations(1000);
+        config.setEncryptionKeySize(192);
+        SecurityUtil.init(config);
+        File encryptedFile = testFolder.newFile();
+        SecurityUtil.encrypt(plainFile, encryptedFile, password);
+
+        SecurityUtil.init(new Config());
+        SecurityUtil.clearKeyCache();
+        File decryptedFile = testFolder.newFile();
+        SecurityUtil.decrypt(encryptedFile, decryptedFile, password);
+        assertArrayEquals(Files.readAllBytes(plainFile.toPath()), Files.readAllBytes(decryptedFile.toPath()));
+    }
+
+    @Test
+    public void decrypt_fileEncryptedWithoutHeader_originalContentsRestored() throws Exception {
+        byte[] contents = Files.readAllBytes(plainFile.toPath());
+        Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+        cipher.init(Cipher.ENCRYPT_MODE, SecurityUtil.generateKey(password));
+        File encryptedFile = testFolder.newFile();
+        Files.write(encryptedFile.toPath(), cipher.doFinal(contents));
+
+        File decryptedFile = testFolder.newFile();
+        SecurityUtil.decrypt(encryptedFile, decryptedFile, password);
+        assertArrayEquals(contents, Files.readAllBytes(decryptedFile.toPath()));
+        assertTrue(SecurityUtil.isPasswordCorrect(encryptedFile, password));
+    }
 }
@@ -1,6 +1,9 @@
 package seedu.address.commons.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
 
 import java.io.File;
 import java.io.FileNotFoundException;
@@ -146,6 +149,28 @@ public class XmlUtilTest {
         assertEquals(dataToWrite, dataFromFile);
     }
 
+    @Test
+    public void getContext_sameClass_contextReused() throws Exception {
+        assertSame(XmlUtil.getContext(XmlSerializableMoviePlanner.class),
+                XmlUtil.getContext(XmlSerializableMoviePlanner.class));
+        assertNotSame(XmlUtil.getContext(XmlSerializableMoviePlanner.class),
+                XmlUtil.getContext(XmlAdaptedCinemaWithRootElement.class));
+    }
+
+    @Test
+    public void getDataFromFile_afterFailedRead_validResult() throws Exception {
+        try {
+            XmlUtil.getDataFromFile(EMPTY_FILE, XmlSerializableMoviePlanner.class);
+            fail("The expected JAXBException was not thrown.");
+        } catch (JAXBException e) {
+            // the cached unmarshaller should still be usable
+        }
+
+        MoviePlanner dataFromFile = XmlUtil.getDataFromFile(
+                VALID_FILE, XmlSerializableMoviePlanner.class).toModelType();
+        assertEquals(9, dataFromFile.getCinemaList().size());
+    }
+
     /**
      * Test class annotated with {@code XmlRootElement} to allow unmarshalling of .xml data to {@code XmlAdaptedCinema}
      * objects.
@@ -0,0 +1,126 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import seedu.address.model.cinema.Cinema;
+import seedu.address.model.cinema.Theater;
+import seedu.address.model.movie.Movie;
+import seedu.address.model.screening.Screening;
+import seedu.address.testutil.CinemaBuilder;
+import seedu.address.testutil.MovieBuilder;
+
+public class AutoSchedulerTest {
+
+    private static final LocalDate DATE = LocalDate.of(2018, 5, 1);
+
+    /** Takes 2 hours to screen, including the preparation after it */
+    private final Movie twoHourMovie = new MovieBuilder().withMovieName("Two Hours").withDuration("105")
+            .withStartDate("01/01/2018").build();
+    private final Movie longMovie = new MovieBuilder().withMovieName("Long Movie").withDuration("172")
+            .withStartDate("01/01/2018").build();
+
+    @Test
+    public void schedule_screeningsFit_allScheduled() {
+        Cinema cinema = new CinemaBuilder().withTheater(2).build();
+
+        // 14 hours of opening time fit 7 two hour screenings in each theater
+        List<Screening> screenings = new AutoScheduler(cinema, DATE, DATE,
+                Collections.singletonMap(twoHourMovie, 14)).schedule();
+
+        assertEquals(14, screenings.size());
+        assertEquals(LocalDateTime.of(2018, 5, 1, 10, 0), screenings.get(0).getScreeningDateTime());
+        assertEquals(LocalDateTime.of(2018, 5, 2, 0, 0), screenings.get(6).getScreeningEndDateTime());
+        assertValidSchedule(screenings, DATE, DATE);
+    }
+
+    @Test
+    public void schedule_tooManyScreenings_extraScreeningsLeftOut() {
+        Cinema cinema = new CinemaBuilder().withTheater(1).build();
+        Map<Movie, Integer> screeningCounts = new LinkedHashMap<>();
+        screeningCounts.put(twoHourMovie, 10);
+        screeningCounts.put(longMovie, 2);
+
+        List<Screening> screenings = new AutoScheduler(cinema, DATE, DATE, screeningCounts).schedule();
+
+        // the long movies are placed first, leaving room for 3 two hour screenings
+        assertEquals(5, screenings.size());
+        assertValidSchedule(screenings, DATE, DATE);
+    }
+
+    @Test
+    public void schedule_beforeReleaseDate_notScheduled() {
+        Cinema cinema = new CinemaBuilder().withTheater(1).build();
+        Movie unreleasedMovie = new MovieBuilder().withDuration("105").withStartDate("03/05/2018").build();
+
+        List<Screening> screenings = new AutoScheduler(cinema, DATE, DATE.plusDays(3),
+                Collections.singletonMap(unreleasedMovie, 20)).schedule();
+
+        assertEquals(14, screenings.size());
+        for (Screening screening : screenings) {
+            assertFalse(screening.getScreeningDateTime().toLocalDate().isBefore(LocalDate.of(2018, 5, 3)));
+        }
+    }
+
+    @Test
+    public void schedule_existingScreenings_notOverlapped() {
+        Cinema cinema = new CinemaBuilder().withTheater(1).build();
+        Theater theater = cinema.getTheaters().get(0);
+        Screening existingScreening = new Screening("Existing", theater, LocalDateTime.of(2018, 5, 1, 13, 0),
+                LocalDateTime.of(2018, 5, 1, 14, 0));
+        cinema = cinema.withTheater(theater.withScreening(existingScreening));
+
+        List<Screening> screenings = new AutoScheduler(cinema, DATE, DATE,
+                Collections.singletonMap(twoHourMovie, 7)).schedule();
+
+        assertEquals(6, screenings.size());
+        for (Screening screening : screenings) {
+            assertFalse(screening.getScreeningDateTime().isBefore(existingScreening.getScreeningEndDateTime())
+                    && screening.getScreeningEndDateTime().isAfter(existingScreening.getScreeningDateTime()));
+        }
+        assertValidSchedule(screenings, DATE, DATE);
+    }
+
+    @Test
+    public void schedule_monthInManyTheaters_allScheduled() {
+        Cinema cinema = new CinemaBuilder().withTheater(20).build();
+        LocalDate endDate = DATE.plusDays(30);
+        // each of the 620 theater days fits 2 long screenings and 3 two hour screenings
+        Map<Movie, Integer> screeningCounts = new LinkedHashMap<>();
+        screeningCounts.put(twoHourMovie, 1860);
+        screeningCounts.put(longMovie, 1240);
+
+        List<Screening> screenings = new AutoScheduler(cinema, DATE, endDate, screeningCounts).schedule();
+
+        assertEquals(3100, screenings.size());
+        assertValidSchedule(screenings, DATE, endDate);
+    }
+
+    /**
+     * Asserts that every screening in {@code screenings} is within the opening hours of a date from
+     * {@code startDate} to {@code endDate}, and that screenings in the same theater do not overlap.
+     */
+    private void assertValidSchedule(List<Screening> screenings, LocalDate startDate, LocalDate endDate) {
+        for (int i = 0; i < screenings.size(); i++) {
+            Screening screening = screenings.get(i);
+            LocalDate date = screening.getScreeningDateTime().toLocalDate();
+            assertFalse(date.isBefore(startDate) || date.isAfter(endDate));
+            assertFalse(screening.getScreeningDateTime().toLocalTime().isBefore(AutoScheduler.OPENING_TIME));
+            assertFalse(screening.getScreeningEndDateTime().isAfter(date.plusDays(1).atStartOfDay()));
+            if (i > 0 && screenings.get(i - 1).getTheater() == screening.getTheater()) {
+                assertTrue(!screenings.get(i - 1).getScreeningEndDateTime()
+                        .isAfter(screening.getScreeningDateTime()));
+            }
+        }
+    }
+}
@@ -1,28 +1,46 @@
 package seedu.address.logic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_CINEMA_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import seedu.address.email.EmailManager;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.SelectCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.testutil.CinemaBuilder;
+import seedu.address.testutil.CinemaUtil;
+import seedu.address.testutil.TypicalCinemas;
+import seedu.address.testutil.TypicalMovies;
+import seedu.address.ui.testutil.EventsCollectorRule;
 
 
 public class LogicManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     private Model model = new ModelManager();
     private Logic logic = new LogicManager(model);
 
@@ -47,6 +65,67 @@ public class LogicManagerTest {
         assertHistoryCorrect(listCommand);
     }
 
+    @Test
+    public void executeBatch_invalidCommand_nothingExecuted() throws Exception {
+        List<String> commandTexts = Arrays.asList(ListCommand.COMMAND_WORD, "", "uicfhmowqewca");
+        String expectedMessage = String.format(BatchCommand.MESSAGE_INVALID_LINE, 3, MESSAGE_UNKNOWN_COMMAND);
+
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(expectedMessage);
+        logic.executeBatch(commandTexts);
+    }
+
+    @Test
+    public void executeBatch_exitOrSelectCommand_nothingExecuted() {
+        for (String commandText : Arrays.asList(ExitCommand.COMMAND_WORD, SelectCommand.COMMAND_WORD + " 1")) {
+            List<String> commandTexts = Arrays.asList(CinemaUtil.getAddCommand(new CinemaBuilder().build()),
+                    commandText);
+            try {
+                logic.executeBatch(commandTexts);
+                fail("The expected ParseException was not thrown for " + commandText);
+            } catch (CommandException | ParseException e) {
+                assertEquals(String.format(BatchCommand.MESSAGE_INVALID_LINE, 2, BatchCommand.MESSAGE_NOT_BATCHABLE),
+                        e.getMessage());
+            }
+            assertTrue(model.getMoviePlanner().getCinemaList().isEmpty());
+            assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+        }
+    }
+
+    @Test
+    public void executeBatch_validCommands_success() throws Exception {
+        List<String> commandTexts = Arrays.asList("# lists all cinemas", ListCommand.COMMAND_WORD);
+        CommandResult result = logic.executeBatch(commandTexts);
+        assertEquals(String.format(BatchCommand.MESSAGE_SUCCESS, 1), result.feedbackToUser);
+    }
+
+    @Test
+    public void preview_findCommands_matchesPreviewedWithoutFiltering() {
+        Model typicalModel = new ModelManager(TypicalCinemas.getTypicalMoviePlanner(), new UserPrefs(),
+                new EmailManager());
+        Logic typicalLogic = new LogicManager(typicalModel);
+        assertEquals(Optional.of("5 cinemas match: Aljunied Cathay, Clementi Cathay, Eunos Cathay, ..."),
+                typicalLogic.preview("find cathay"));
+        assertEquals(Optional.of("0 cinemas match"), typicalLogic.preview("f a/nowhere"));
+        assertEquals(7, typicalLogic.getFilteredCinemaList().size());
+
+        typicalModel = new ModelManager(TypicalMovies.getTypicalMoviePlanner(), new UserPrefs(), new EmailManager());
+        typicalLogic = new LogicManager(typicalModel);
+        assertEquals(Optional.of("2 movies match: Black Panther, Thor Ragnarok"),
+                typicalLogic.preview("findmovie t/superhero"));
+        assertEquals(Optional.of("1 movies match: Thor Ragnarok"), typicalLogic.preview("fm like/thro"));
+        assertEquals(3, typicalLogic.getFilteredMovieList().size());
+        assertFalse(typicalLogic.getHistorySnapshot().hasPrevious());
+    }
+
+    @Test
+    public void preview_otherOrInvalidCommands_nothingPreviewed() {
+        assertEquals(Optional.empty(), logic.preview(ListCommand.COMMAND_WORD));
+        assertEquals(Optional.empty(), logic.preview("findmovie t/"));
+        assertEquals(Optional.empty(), logic.preview(""));
+        assertFalse(logic.getHistorySnapshot().hasPrevious());
+    }
+
     @Test
     public void getFilteredCinemaList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
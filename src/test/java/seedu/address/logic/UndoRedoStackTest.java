@@ -11,7 +11,9 @@ import java.util.Collections;
 import java.util.EmptyStackException;
 import java.util.List;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
@@ -20,9 +22,13 @@ import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.UndoableCommand;
 
 public class UndoRedoStackTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
     private final DummyCommand dummyCommandOne = new DummyCommand();
     private final DummyUndoableCommand dummyUndoableCommandOne = new DummyUndoableCommand();
     private final DummyUndoableCommand dummyUndoableCommandTwo = new DummyUndoableCommand();
+    private final DummyUndoableCommand dummyUndoableCommandThree = new DummyUndoableCommand();
 
     private UndoRedoStack undoRedoStack = new UndoRedoStack();
 
@@ -84,6 +90,28 @@ public class UndoRedoStackTest {
         assertStackStatus(Collections.singletonList(dummyUndoableCommandOne), Collections.emptyList());
     }
 
+    @Test
+    public void constructor_nonPositiveMaxUndoDepth_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new UndoRedoStack(0);
+    }
+
+    @Test
+    public void push_undoStackFull_oldestCommandDiscarded() {
+        undoRedoStack = new UndoRedoStack(2);
+        undoRedoStack.push(dummyUndoableCommandOne);
+        undoRedoStack.push(dummyUndoableCommandTwo);
+        undoRedoStack.push(dummyUndoableCommandThree);
+        assertStackStatus(Arrays.asList(dummyUndoableCommandTwo, dummyUndoableCommandThree),
+                Collections.emptyList());
+
+        // commands moved back from the redo-stack are kept within the limit
+        undoRedoStack.popUndo();
+        undoRedoStack.popRedo();
+        assertStackStatus(Arrays.asList(dummyUndoableCommandTwo, dummyUndoableCommandThree),
+                Collections.emptyList());
+    }
+
     @Test
     public void canUndo() {
         // empty undo stack
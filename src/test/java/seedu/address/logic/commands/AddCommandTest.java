@@ -6,8 +6,11 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javax.mail.AuthenticationFailedException;
@@ -27,13 +30,17 @@ import seedu.address.logic.UndoRedoStack;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.MoviePlanner;
+import seedu.address.model.MoviePlannerChange;
 import seedu.address.model.ReadOnlyMoviePlanner;
 import seedu.address.model.cinema.Cinema;
+import seedu.address.model.cinema.CinemaQuery;
 import seedu.address.model.cinema.exceptions.CinemaNotFoundException;
 import seedu.address.model.cinema.exceptions.DuplicateCinemaException;
 import seedu.address.model.movie.Movie;
+import seedu.address.model.movie.MovieQuery;
 import seedu.address.model.movie.exceptions.DuplicateMovieException;
 import seedu.address.model.movie.exceptions.MovieNotFoundException;
+import seedu.address.model.screening.ScheduledScreening;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.exceptions.TagNotFoundException;
 import seedu.address.testutil.CinemaBuilder;
@@ -124,6 +131,47 @@ public class AddCommandTest {
             return null;
         }
 
+        @Override
+        public void startRecordingChanges() {
+            // recording is allowed, as every undoable command records its changes
+        }
+
+        @Override
+        public List<MoviePlannerChange> stopRecordingChanges() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public void startBatchUpdate() {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void endBatchUpdate() {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void reloadSchedule(Cinema cinema, LocalDateTime dateTime) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public List<ScheduledScreening> getScreeningsStartingBetween(LocalDateTime from, LocalDateTime to) {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public void undoChanges(List<MoviePlannerChange> changes) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void redoChanges(List<MoviePlannerChange> changes) {
+            fail("This method should not be called.");
+        }
+
         @Override
         public void deleteCinema(Cinema target) throws CinemaNotFoundException {
             fail("This method should not be called.");
@@ -173,11 +221,21 @@ public class AddCommandTest {
             fail("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredCinemaList(CinemaQuery query) {
+            fail("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredMovieList(Predicate<Movie> predicate) {
             fail("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredMovieList(MovieQuery query) {
+            fail("This method should not be called.");
+        }
+
         @Override
         public Email getEmailManager() {
             fail("This method should not be called.");
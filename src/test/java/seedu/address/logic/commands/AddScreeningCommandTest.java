@@ -97,6 +97,16 @@ public class AddScreeningCommandTest {
         assertCommandFailure(addScreeningCommand, model, Messages.MESSAGE_INVALID_SCREENING);
     }
 
+    @Test
+    public void execute_screeningOverlapsExistingScreening_throwsCommandException() throws Exception {
+        prepareCommand(INDEX_FIRST_MOVIE, INDEX_FIRST_CINEMA, VALID_THEATER_NUMBER,
+                getDateTime("01/03/2018 10:00")).execute();
+
+        addScreeningCommand = prepareCommand(INDEX_FIRST_MOVIE, INDEX_FIRST_CINEMA,
+                VALID_THEATER_NUMBER, getDateTime("01/03/2018 11:00"));
+        assertCommandFailure(addScreeningCommand, model, Messages.MESSAGE_INVALID_SCREENING);
+    }
+
     /**
      * Parses datetime and returns a valid LocalDateTime object
      */
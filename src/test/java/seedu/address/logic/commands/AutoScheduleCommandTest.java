@@ -0,0 +1,125 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalCinemas.getTypicalMoviePlanner;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_CINEMA;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_MOVIE;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_MOVIE;
+
+import java.time.LocalDate;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.email.EmailManager;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.MoviePlanner;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.cinema.Cinema;
+import seedu.address.model.cinema.Theater;
+import seedu.address.testutil.TypicalMovies;
+
+public class AutoScheduleCommandTest {
+
+    private static final LocalDate DATE = LocalDate.of(2018, 3, 1);
+
+    private Model model;
+
+    @Before
+    public void setUp() throws Exception {
+        model = new ModelManager(getTypicalMoviePlanner(), new UserPrefs(), new EmailManager());
+        model.addMovie(TypicalMovies.BLACK_PANTHER);
+    }
+
+    @Test
+    public void execute_screeningsFit_allScheduled() throws Exception {
+        // each of the 3 theaters fits 5 screenings of Black Panther a day
+        CommandResult result = prepareCommand(INDEX_FIRST_CINEMA, INDEX_FIRST_MOVIE, 10).execute();
+
+        Cinema cinema = model.getMoviePlanner().getCinemaList().get(0);
+        assertEquals(String.format(AutoScheduleCommand.MESSAGE_SUCCESS, 10, cinema.getName()), result.feedbackToUser);
+        int screeningCount = 0;
+        for (Theater theater : cinema.getTheaters()) {
+            assertTrue(theater.getScreeningList().stream().allMatch(screening -> screening.getTheater() == theater));
+            screeningCount += theater.getScreeningList().size();
+        }
+        assertEquals(10, screeningCount);
+    }
+
+    @Test
+    public void execute_tooManyScreenings_extraScreeningsReported() throws Exception {
+        CommandResult result = prepareCommand(INDEX_FIRST_CINEMA, INDEX_FIRST_MOVIE, 20).execute();
+
+        Cinema cinema = model.getMoviePlanner().getCinemaList().get(0);
+        assertEquals(String.format(AutoScheduleCommand.MESSAGE_SUCCESS_WITH_UNSCHEDULED, 15, cinema.getName(), 5),
+                result.feedbackToUser);
+    }
+
+    @Test
+    public void executeUndo_screeningsScheduled_screeningsRemoved() throws Exception {
+        MoviePlanner expectedMoviePlanner = new MoviePlanner(model.getMoviePlanner());
+        AutoScheduleCommand command = prepareCommand(INDEX_FIRST_CINEMA, INDEX_FIRST_MOVIE, 10);
+
+        command.execute();
+        command.undo();
+
+        assertEquals(expectedMoviePlanner, model.getMoviePlanner());
+        assertTrue(model.getMoviePlanner().getCinemaList().get(0).getTheaters().stream()
+                .allMatch(theater -> theater.getScreeningList().isEmpty()));
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundCinemaIndex = Index.fromOneBased(model.getFilteredCinemaList().size() + 1);
+        assertCommandFailure(prepareCommand(outOfBoundCinemaIndex, INDEX_FIRST_MOVIE, 10), model,
+                Messages.MESSAGE_INVALID_CINEMA_DISPLAYED_INDEX);
+
+        assertCommandFailure(prepareCommand(INDEX_FIRST_CINEMA, INDEX_SECOND_MOVIE, 10), model,
+                Messages.MESSAGE_INVALID_MOVIE_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        AutoScheduleCommand command = new AutoScheduleCommand(INDEX_FIRST_CINEMA, DATE, DATE,
+                Collections.singletonMap(INDEX_FIRST_MOVIE, 10));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new AutoScheduleCommand(INDEX_FIRST_CINEMA, DATE, DATE,
+                Collections.singletonMap(INDEX_FIRST_MOVIE, 10))));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different end date -> returns false
+        assertFalse(command.equals(new AutoScheduleCommand(INDEX_FIRST_CINEMA, DATE, DATE.plusDays(1),
+                Collections.singletonMap(INDEX_FIRST_MOVIE, 10))));
+
+        // different number of screenings -> returns false
+        assertFalse(command.equals(new AutoScheduleCommand(INDEX_FIRST_CINEMA, DATE, DATE,
+                Collections.singletonMap(INDEX_FIRST_MOVIE, 5))));
+    }
+
+    /**
+     * Returns an {@code AutoScheduleCommand} scheduling {@code screeningCount} screenings of the movie at
+     * {@code movieIndex} in the cinema at {@code cinemaIndex} on {@code DATE}, with its dependencies set.
+     */
+    private AutoScheduleCommand prepareCommand(Index cinemaIndex, Index movieIndex, int screeningCount) {
+        AutoScheduleCommand command = new AutoScheduleCommand(cinemaIndex, DATE, DATE,
+                Collections.singletonMap(movieIndex, screeningCount));
+        command.setData(model, new CommandHistory(), new UndoRedoStack());
+        return command;
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.deleteFirstCinema;
+import static seedu.address.logic.commands.CommandTestUtil.prepareRedoCommand;
+import static seedu.address.logic.commands.CommandTestUtil.prepareUndoCommand;
+import static seedu.address.testutil.TypicalCinemas.getTypicalMoviePlanner;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_CINEMA;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.email.EmailManager;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class BatchCommandTest {
+
+    private Model model = new ModelManager(getTypicalMoviePlanner(), new UserPrefs(), new EmailManager());
+
+    @Test
+    public void execute_allCommandsSucceed_success() {
+        BatchCommand batchCommand = prepareCommand(new DeleteCommand(INDEX_FIRST_CINEMA),
+                new DeleteCommand(INDEX_FIRST_CINEMA));
+
+        Model expectedModel = new ModelManager(model.getMoviePlanner(), new UserPrefs(), new EmailManager());
+        deleteFirstCinema(expectedModel);
+        deleteFirstCinema(expectedModel);
+
+        assertCommandSuccess(batchCommand, model, String.format(BatchCommand.MESSAGE_SUCCESS, 2), expectedModel);
+    }
+
+    @Test
+    public void execute_commandFails_noChangesMade() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredCinemaList().size() + 1);
+        BatchCommand batchCommand = prepareCommand(new DeleteCommand(INDEX_FIRST_CINEMA),
+                new DeleteCommand(outOfBoundIndex));
+
+        String expectedMessage = String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 2,
+                Messages.MESSAGE_INVALID_CINEMA_DISPLAYED_INDEX);
+        assertCommandFailure(batchCommand, model, expectedMessage);
+    }
+
+    @Test
+    public void executeUndoRedo_allCommandsSucceed_undoneAndRedoneTogether() throws Exception {
+        UndoRedoStack undoRedoStack = new UndoRedoStack();
+        UndoCommand undoCommand = prepareUndoCommand(model, undoRedoStack);
+        RedoCommand redoCommand = prepareRedoCommand(model, undoRedoStack);
+        BatchCommand batchCommand = prepareCommand(new DeleteCommand(INDEX_FIRST_CINEMA),
+                new DeleteCommand(INDEX_FIRST_CINEMA));
+        Model expectedModel = new ModelManager(model.getMoviePlanner(), new UserPrefs(), new EmailManager());
+
+        batchCommand.execute();
+        undoRedoStack.push(batchCommand);
+
+        assertCommandSuccess(undoCommand, model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertFalse(undoRedoStack.canUndo());
+
+        deleteFirstCinema(expectedModel);
+        deleteFirstCinema(expectedModel);
+        assertCommandSuccess(redoCommand, model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        ListCommand listCommand = new ListCommand();
+        BatchCommand batchCommand = new BatchCommand(Collections.singletonList(listCommand));
+
+        // same object -> returns true
+        assertTrue(batchCommand.equals(batchCommand));
+
+        // same commands -> returns true
+        assertTrue(batchCommand.equals(new BatchCommand(Collections.singletonList(listCommand))));
+
+        // null -> returns false
+        assertFalse(batchCommand.equals(null));
+
+        // different commands -> returns false
+        assertFalse(batchCommand.equals(new BatchCommand(Collections.emptyList())));
+    }
+
+    /**
+     * Returns a {@code BatchCommand} executing {@code commands}, with its dependencies set.
+     */
+    private BatchCommand prepareCommand(Command... commands) {
+        BatchCommand batchCommand = new BatchCommand(Arrays.asList(commands));
+        batchCommand.setData(model, new CommandHistory(), new UndoRedoStack());
+        return batchCommand;
+    }
+}
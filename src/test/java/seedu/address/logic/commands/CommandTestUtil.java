@@ -19,6 +19,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
@@ -28,7 +29,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.MoviePlanner;
 import seedu.address.model.cinema.Cinema;
-import seedu.address.model.cinema.NameContainsKeywordsPredicate;
+import seedu.address.model.cinema.CinemaQuery;
 import seedu.address.model.cinema.exceptions.CinemaNotFoundException;
 import seedu.address.testutil.EditCinemaDescriptorBuilder;
 
@@ -168,7 +169,7 @@ public class CommandTestUtil {
 
         Cinema cinema = model.getFilteredCinemaList().get(targetIndex.getZeroBased());
         final String[] splitName = cinema.getName().fullName.split("\\s+");
-        model.updateFilteredCinemaList(new NameContainsKeywordsPredicate(Arrays.asList(splitName[0])));
+        model.updateFilteredCinemaList(new CinemaQuery(Arrays.asList(splitName[0]), Collections.emptyList(), ""));
 
         assertEquals(1, model.getFilteredCinemaList().size());
     }
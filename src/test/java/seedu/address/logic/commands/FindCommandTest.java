@@ -4,6 +4,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_CINEMAS_LISTED_OVERVIEW;
+import static seedu.address.testutil.TypicalCinemas.ALJUNIED;
 import static seedu.address.testutil.TypicalCinemas.CLEMENTI;
 import static seedu.address.testutil.TypicalCinemas.EUNOS;
 import static seedu.address.testutil.TypicalCinemas.FARRER;
@@ -23,7 +24,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.MoviePlanner;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.cinema.Cinema;
-import seedu.address.model.cinema.NameContainsKeywordsPredicate;
+import seedu.address.model.cinema.CinemaQuery;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -33,19 +34,19 @@ public class FindCommandTest {
 
     @Test
     public void equals() {
-        NameContainsKeywordsPredicate firstPredicate =
-                new NameContainsKeywordsPredicate(Collections.singletonList("first"));
-        NameContainsKeywordsPredicate secondPredicate =
-                new NameContainsKeywordsPredicate(Collections.singletonList("second"));
+        CinemaQuery firstQuery =
+                new CinemaQuery(Collections.singletonList("first"), Collections.emptyList(), "");
+        CinemaQuery secondQuery =
+                new CinemaQuery(Collections.singletonList("second"), Collections.emptyList(), "");
 
-        FindCommand findFirstCommand = new FindCommand(firstPredicate);
-        FindCommand findSecondCommand = new FindCommand(secondPredicate);
+        FindCommand findFirstCommand = new FindCommand(firstQuery);
+        FindCommand findSecondCommand = new FindCommand(secondQuery);
 
         // same object -> returns true
         assertTrue(findFirstCommand.equals(findFirstCommand));
 
         // same values -> returns true
-        FindCommand findFirstCommandCopy = new FindCommand(firstPredicate);
+        FindCommand findFirstCommandCopy = new FindCommand(firstQuery);
         assertTrue(findFirstCommand.equals(findFirstCommandCopy));
 
         // different types -> returns false
@@ -72,12 +73,26 @@ public class FindCommandTest {
         assertCommandSuccess(command, expectedMessage, Arrays.asList(CLEMENTI, EUNOS, FARRER));
     }
 
+    @Test
+    public void execute_addressKeywordsAndPhonePrefix_matchingCinemasFound() {
+        String expectedMessage = String.format(MESSAGE_CINEMAS_LISTED_OVERVIEW, 2);
+        FindCommand command = new FindCommand(new CinemaQuery(Collections.emptyList(), Collections.emptyList(),
+                "6535"));
+        command.setData(model, new CommandHistory(), new UndoRedoStack());
+        assertCommandSuccess(command, expectedMessage, Arrays.asList(ALJUNIED, CLEMENTI));
+
+        expectedMessage = String.format(MESSAGE_CINEMAS_LISTED_OVERVIEW, 1);
+        command = new FindCommand(new CinemaQuery(Collections.emptyList(), Arrays.asList("farrer", "park"), "648"));
+        command.setData(model, new CommandHistory(), new UndoRedoStack());
+        assertCommandSuccess(command, expectedMessage, Arrays.asList(FARRER));
+    }
+
     /**
      * Parses {@code userInput} into a {@code FindCommand}.
      */
     private FindCommand prepareCommand(String userInput) {
         FindCommand command =
-                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(userInput.split("\\s+"))));
+                new FindCommand(new CinemaQuery(Arrays.asList(userInput.split("\\s+")), Collections.emptyList(), ""));
         command.setData(model, new CommandHistory(), new UndoRedoStack());
         return command;
     }
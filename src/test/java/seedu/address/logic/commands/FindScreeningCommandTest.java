@@ -0,0 +1,88 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import static seedu.address.testutil.TypicalCinemas.getTypicalMoviePlanner;
+
+import java.time.LocalDateTime;
+
+import org.junit.Test;
+
+import seedu.address.email.EmailManager;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.cinema.Cinema;
+import seedu.address.model.cinema.Theater;
+import seedu.address.model.screening.ScheduledScreening;
+import seedu.address.model.screening.Screening;
+
+public class FindScreeningCommandTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2018, 4, 13, 19, 0);
+
+    private Model model = new ModelManager(getTypicalMoviePlanner(), new UserPrefs(), new EmailManager());
+
+    @Test
+    public void execute_screeningsInWindow_screeningsListed() throws Exception {
+        Cinema cinema = model.getFilteredCinemaList().get(0);
+        Theater theater = cinema.getTheaters().get(0);
+        Screening inWindow = new Screening("Black Panther", theater, FROM.plusMinutes(30), FROM.plusMinutes(180));
+        Screening afterWindow = new Screening("Thor Ragnarok", theater, FROM.plusHours(3), FROM.plusHours(5));
+        model.updateCinema(cinema, cinema.withTheater(theater.withScreening(inWindow).withScreening(afterWindow)));
+
+        CommandResult result = prepareCommand(FROM, FROM.plusHours(1)).execute();
+
+        assertEquals(String.format(FindScreeningCommand.MESSAGE_SCREENINGS_LISTED, 1) + "\n"
+                + new ScheduledScreening(cinema.getName(), inWindow), result.feedbackToUser);
+    }
+
+    @Test
+    public void execute_tooManyScreenings_extraScreeningsCounted() throws Exception {
+        Cinema cinema = model.getFilteredCinemaList().get(0);
+        Theater theater = cinema.getTheaters().get(0);
+        int screeningCount = FindScreeningCommand.MAX_SCREENINGS_LISTED + 2;
+        for (int i = 0; i < screeningCount; i++) {
+            LocalDateTime start = FROM.plusHours(2 * i);
+            theater = theater.withScreening(new Screening("Movie", theater, start, start.plusHours(2)));
+        }
+        model.updateCinema(cinema, cinema.withTheater(theater));
+
+        CommandResult result = prepareCommand(FROM, FROM.plusYears(1)).execute();
+
+        assertTrue(result.feedbackToUser.startsWith(
+                String.format(FindScreeningCommand.MESSAGE_SCREENINGS_LISTED, screeningCount)));
+        assertTrue(result.feedbackToUser.endsWith(String.format(FindScreeningCommand.MESSAGE_MORE_SCREENINGS, 2)));
+    }
+
+    @Test
+    public void equals() {
+        FindScreeningCommand command = new FindScreeningCommand(FROM, FROM.plusHours(1));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new FindScreeningCommand(FROM, FROM.plusHours(1))));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different window -> returns false
+        assertFalse(command.equals(new FindScreeningCommand(FROM, FROM.plusHours(2))));
+    }
+
+    /**
+     * Returns a {@code FindScreeningCommand} listing the screenings which start in {@code [from, to)}, with its
+     * dependencies set.
+     */
+    private FindScreeningCommand prepareCommand(LocalDateTime from, LocalDateTime to) {
+        FindScreeningCommand command = new FindScreeningCommand(from, to);
+        command.setData(model, new CommandHistory(), new UndoRedoStack());
+        return command;
+    }
+}
@@ -0,0 +1,228 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalCinemas.getTypicalMoviePlanner;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.events.ui.ReloadBrowserPanelEvent;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.email.EmailManager;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.MoviePlanner;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.cinema.Theater;
+import seedu.address.model.screening.Screening;
+import seedu.address.testutil.CinemaBuilder;
+import seedu.address.testutil.TypicalMovies;
+import seedu.address.ui.testutil.EventsCollectorRule;
+
+public class ImportScreeningsCommandTest {
+
+    private static final String HEADER = "cinema,theater,movie,start";
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    private Model model;
+    private File file;
+
+    @Before
+    public void setUp() throws Exception {
+        model = new ModelManager(getTypicalMoviePlanner(), new UserPrefs(), new EmailManager());
+        model.addMovie(TypicalMovies.BLACK_PANTHER);
+        model.addMovie(TypicalMovies.THOR_RAGNAROK);
+        file = new File(testFolder.getRoot(), "screenings.csv");
+    }
+
+    @Test
+    public void execute_validRows_screeningsAdded() throws Exception {
+        writeRows(HEADER,
+                "Aljunied Cathay,1,Black Panther,01/03/2018 10:00",
+                "\"Aljunied Cathay\",1,Thor Ragnarok,01/03/2018 12:30",
+                "",
+                "Bedok Shaws,2,Thor Ragnarok,01/03/2018 10:00");
+
+        CommandResult result = prepareCommand().execute();
+
+        assertEquals(String.format(ImportScreeningsCommand.MESSAGE_SUCCESS, 3), result.feedbackToUser);
+        List<Screening> screenings = getTheater(0, 0).getScreeningList();
+        assertEquals(2, screenings.size());
+        assertEquals(LocalDateTime.of(2018, 3, 1, 12, 30), screenings.get(0).getScreeningEndDateTime());
+        assertEquals("Thor Ragnarok", screenings.get(1).getMovieName());
+        assertEquals(1, getTheater(1, 1).getScreeningList().size());
+        assertFalse(ImportScreeningsCommand.getReportFile(file).exists());
+    }
+
+    @Test
+    public void execute_invalidRows_rejectedRowsReported() throws Exception {
+        String[] rows = {"Unknown Cinema,1,Black Panther,01/03/2018 10:00",
+            "Aljunied Cathay,1,Unknown Movie,01/03/2018 10:00",
+            "Aljunied Cathay,9,Black Panther,01/03/2018 10:00",
+            "Aljunied Cathay,1,Black Panther,31/02/2018 10:00",
+            "Aljunied Cathay,1,Black Panther,01/01/2018 10:00",
+            "Aljunied Cathay,1,Black Panther",
+            "Aljunied Cathay,1,Thor Ragnarok,01/03/2018 11:00",
+            "Aljunied Cathay,1,Black Panther,01/03/2018 10:00"};
+        writeRows(rows);
+
+        CommandResult result = prepareCommand().execute();
+
+        File reportFile = ImportScreeningsCommand.getReportFile(file);
+        assertEquals(String.format(ImportScreeningsCommand.MESSAGE_SUCCESS_WITH_REJECTIONS, 1, 7,
+                reportFile.getPath()), result.feedbackToUser);
+        assertEquals(1, getTheater(0, 0).getScreeningList().size());
+
+        List<String> report = Files.readAllLines(reportFile.toPath(), StandardCharsets.UTF_8);
+        assertEquals(Arrays.asList(ImportScreeningsCommand.REPORT_HEADER,
+                reportLine(1, "There is no cinema named Unknown Cinema", rows[0]),
+                reportLine(2, "There is no movie named Unknown Movie", rows[1]),
+                reportLine(3, Messages.MESSAGE_INVALID_THEATER_NUMBER, rows[2]),
+                reportLine(4, Messages.MESSAGE_INVALID_SCREEN_DATE_TIME, rows[3]),
+                reportLine(5, ImportScreeningsCommand.MESSAGE_BEFORE_RELEASE, rows[4]),
+                reportLine(6, ImportScreeningsCommand.MESSAGE_INVALID_ROW, rows[5]),
+                reportLine(7, ImportScreeningsCommand.MESSAGE_CONFLICT, rows[6])), report);
+    }
+
+    @Test
+    public void execute_validRows_scheduleReloaded() throws Exception {
+        writeRows("Aljunied Cathay,1,Thor Ragnarok,01/03/2018 12:30",
+                "Aljunied Cathay,2,Black Panther,01/03/2018 10:00");
+
+        prepareCommand().execute();
+
+        ReloadBrowserPanelEvent reload = (ReloadBrowserPanelEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(model.getMoviePlanner().getCinemaList().get(0), reload.getCinema());
+        assertEquals(LocalDateTime.of(2018, 3, 1, 10, 0), reload.getDate());
+    }
+
+    @Test
+    public void execute_cinemaNameSharedByCinemas_rowRejected() throws Exception {
+        model.addCinema(new CinemaBuilder().withName("Aljunied Cathay").build());
+        String row = "Aljunied Cathay,1,Black Panther,01/03/2018 10:00";
+        writeRows(row);
+
+        CommandResult result = prepareCommand().execute();
+
+        File reportFile = ImportScreeningsCommand.getReportFile(file);
+        assertEquals(String.format(ImportScreeningsCommand.MESSAGE_SUCCESS_WITH_REJECTIONS, 0, 1,
+                reportFile.getPath()), result.feedbackToUser);
+        assertTrue(getTheater(0, 0).getScreeningList().isEmpty());
+        assertEquals(Arrays.asList(ImportScreeningsCommand.REPORT_HEADER,
+                reportLine(1, "There are several cinemas named Aljunied Cathay", row)),
+                Files.readAllLines(reportFile.toPath(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void execute_conflictWithExistingScreening_rowRejected() throws Exception {
+        writeRows("Aljunied Cathay,1,Black Panther,01/03/2018 10:00");
+        prepareCommand().execute();
+
+        writeRows("Aljunied Cathay,1,Thor Ragnarok,01/03/2018 12:00");
+        CommandResult result = prepareCommand().execute();
+
+        assertEquals(String.format(ImportScreeningsCommand.MESSAGE_SUCCESS_WITH_REJECTIONS, 0, 1,
+                ImportScreeningsCommand.getReportFile(file).getPath()), result.feedbackToUser);
+        assertEquals(1, getTheater(0, 0).getScreeningList().size());
+    }
+
+    @Test
+    public void execute_noRejections_staleReportDeleted() throws Exception {
+        writeRows("Unknown Cinema,1,Black Panther,01/03/2018 10:00");
+        prepareCommand().execute();
+        assertTrue(ImportScreeningsCommand.getReportFile(file).exists());
+
+        writeRows("Aljunied Cathay,1,Black Panther,01/03/2018 10:00");
+        CommandResult result = prepareCommand().execute();
+
+        assertEquals(String.format(ImportScreeningsCommand.MESSAGE_SUCCESS, 1), result.feedbackToUser);
+        assertFalse(ImportScreeningsCommand.getReportFile(file).exists());
+    }
+
+    @Test
+    public void executeUndo_validRows_screeningsRemoved() throws Exception {
+        MoviePlanner expectedMoviePlanner = new MoviePlanner(model.getMoviePlanner());
+        writeRows("Aljunied Cathay,1,Black Panther,01/03/2018 10:00");
+        ImportScreeningsCommand command = prepareCommand();
+
+        command.execute();
+        command.undo();
+
+        assertEquals(expectedMoviePlanner, model.getMoviePlanner());
+        assertTrue(getTheater(0, 0).getScreeningList().isEmpty());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        assertCommandFailure(prepareCommand(), model,
+                String.format(ImportScreeningsCommand.MESSAGE_FILE_UNREADABLE, file.getPath()));
+    }
+
+    @Test
+    public void equals() {
+        ImportScreeningsCommand command = new ImportScreeningsCommand(file);
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same file -> returns true
+        assertTrue(command.equals(new ImportScreeningsCommand(new File(file.getPath()))));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different file -> returns false
+        assertFalse(command.equals(new ImportScreeningsCommand(new File("other.csv"))));
+    }
+
+    /**
+     * Replaces the contents of the imported file with {@code rows}.
+     */
+    private void writeRows(String... rows) throws Exception {
+        Files.write(file.toPath(), Arrays.asList(rows), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the line of the error report which rejects {@code row} at {@code lineNumber} for {@code reason}.
+     */
+    private static String reportLine(int lineNumber, String reason, String row) {
+        return lineNumber + "," + CsvUtil.toField(reason) + "," + CsvUtil.toField(row);
+    }
+
+    /**
+     * Returns the theater at {@code theaterIndex} of the cinema at {@code cinemaIndex} in the model.
+     */
+    private Theater getTheater(int cinemaIndex, int theaterIndex) {
+        return model.getMoviePlanner().getCinemaList().get(cinemaIndex).getTheaters().get(theaterIndex);
+    }
+
+    /**
+     * Returns an {@code ImportScreeningsCommand} importing the test file, with its dependencies set.
+     */
+    private ImportScreeningsCommand prepareCommand() {
+        ImportScreeningsCommand command = new ImportScreeningsCommand(file);
+        command.setData(model, new CommandHistory(), new UndoRedoStack());
+        return command;
+    }
+}
@@ -48,6 +48,18 @@ public class UndoableCommandTest {
         assertEquals(expectedModel, model);
     }
 
+    @Test
+    public void executeUndoRedo() throws Exception {
+        dummyCommand.execute();
+        dummyCommand.undo();
+        showCinemaAtIndex(model, INDEX_FIRST_CINEMA);
+
+        // redo() should reapply the recorded changes and show all cinemas
+        dummyCommand.redo();
+        deleteFirstCinema(expectedModel);
+        assertEquals(expectedModel, model);
+    }
+
     /**
      * Deletes the first cinema in the model's filtered list.
      */
@@ -136,6 +136,18 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_overlappingPrefixes_longestPrefixMatched() {
+        Prefix pwSlash = new Prefix("pw/");
+        Prefix pSlashW = new Prefix("p/w");
+        String argsString = "SomePreambleString p/w value pw/pw value p/p value";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, pwSlash, pSlashW);
+        assertPreamblePresent(argMultimap, "SomePreambleString");
+        assertArgumentPresent(argMultimap, pSlashW, "value");
+        assertArgumentPresent(argMultimap, pwSlash, "pw value");
+        assertArgumentPresent(argMultimap, pSlash, "p value");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,97 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_CINEMA;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_MOVIE;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_MOVIE;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.AutoScheduleCommand;
+
+public class AutoScheduleCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, AutoScheduleCommand.MESSAGE_USAGE);
+
+    private static final LocalDate START_DATE = LocalDate.of(2018, 5, 1);
+
+    private AutoScheduleCommandParser parser = new AutoScheduleCommandParser();
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        Map<Index, Integer> screeningCounts = new LinkedHashMap<>();
+        screeningCounts.put(INDEX_FIRST_MOVIE, 30);
+        screeningCounts.put(INDEX_SECOND_MOVIE, 20);
+        AutoScheduleCommand expectedCommand = new AutoScheduleCommand(INDEX_FIRST_CINEMA, START_DATE,
+                LocalDate.of(2018, 5, 31), screeningCounts);
+
+        assertParseSuccess(parser, " c/1 sd/01/05/2018 ed/31/05/2018 m/1:30 m/2:20", expectedCommand);
+
+        // same movie given twice -> screenings added up
+        assertParseSuccess(parser, " c/1 sd/01/05/2018 ed/31/05/2018 m/1:10 m/2:20 m/1:20", expectedCommand);
+    }
+
+    @Test
+    public void parse_noEndDate_startDateScheduled() {
+        AutoScheduleCommand expectedCommand = new AutoScheduleCommand(INDEX_FIRST_CINEMA, START_DATE, START_DATE,
+                Collections.singletonMap(INDEX_FIRST_MOVIE, 5));
+
+        assertParseSuccess(parser, " c/1 sd/01/05/2018 m/1:5", expectedCommand);
+    }
+
+    @Test
+    public void parse_missingParts_failure() {
+        // no cinema
+        assertParseFailure(parser, " sd/01/05/2018 m/1:5", MESSAGE_INVALID_FORMAT);
+
+        // no start date
+        assertParseFailure(parser, " c/1 m/1:5", MESSAGE_INVALID_FORMAT);
+
+        // no movies
+        assertParseFailure(parser, " c/1 sd/01/05/2018", MESSAGE_INVALID_FORMAT);
+
+        // non-empty preamble
+        assertParseFailure(parser, "1 c/1 sd/01/05/2018 m/1:5", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        // invalid cinema index
+        assertParseFailure(parser, " c/0 sd/01/05/2018 m/1:5", ParserUtil.MESSAGE_INVALID_INDEX);
+
+        // invalid date
+        assertParseFailure(parser, " c/1 sd/31/02/2018 m/1:5", Messages.MESSAGE_INVALID_DATE);
+
+        // year out of range
+        assertParseFailure(parser, " c/1 sd/01/05/2040 m/1:5", Messages.MESSAGE_INVALID_YEAR);
+
+        // end date before start date
+        assertParseFailure(parser, " c/1 sd/01/05/2018 ed/30/04/2018 m/1:5",
+                AutoScheduleCommandParser.MESSAGE_INVALID_DATE_RANGE);
+
+        // range too long
+        assertParseFailure(parser, " c/1 sd/01/05/2018 ed/02/05/2019 m/1:5",
+                AutoScheduleCommandParser.MESSAGE_INVALID_DATE_RANGE);
+
+        // no number of screenings
+        assertParseFailure(parser, " c/1 sd/01/05/2018 m/1",
+                AutoScheduleCommandParser.MESSAGE_INVALID_SCREENING_COUNT);
+
+        // zero screenings
+        assertParseFailure(parser, " c/1 sd/01/05/2018 m/1:0",
+                AutoScheduleCommandParser.MESSAGE_INVALID_SCREENING_COUNT);
+
+        // invalid movie index
+        assertParseFailure(parser, " c/1 sd/01/05/2018 m/a:5", ParserUtil.MESSAGE_INVALID_INDEX);
+    }
+}
@@ -5,11 +5,12 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.Test;
 
 import seedu.address.logic.commands.FindCommand;
-import seedu.address.model.cinema.NameContainsKeywordsPredicate;
+import seedu.address.model.cinema.CinemaQuery;
 
 public class FindCommandParserTest {
 
@@ -24,11 +25,25 @@ public class FindCommandParserTest {
     public void parse_validArgs_returnsFindCommand() {
         // no leading and trailing whitespaces
         FindCommand expectedFindCommand =
-                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")));
+                new FindCommand(new CinemaQuery(Arrays.asList("Alice", "Bob"), Collections.emptyList(), ""));
         assertParseSuccess(parser, "Alice Bob", expectedFindCommand);
 
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
+
+        // address keywords and phone prefix without name keywords
+        assertParseSuccess(parser, " a/Tampines Ave p/65", new FindCommand(new CinemaQuery(Collections.emptyList(),
+                Arrays.asList("Tampines", "Ave"), "65")));
+    }
+
+    @Test
+    public void parse_invalidPhonePrefix_throwsParseException() {
+        assertParseFailure(parser, "Alice p/65a", FindCommandParser.MESSAGE_INVALID_PHONE_PREFIX);
+    }
+
+    @Test
+    public void parse_blankPrefixes_throwsParseException() {
+        assertParseFailure(parser, " a/ p/ ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
     }
 
 }
@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.FindMovieCommand;
+import seedu.address.model.movie.MovieQuery;
+
+public class FindMovieCommandParserTest {
+
+    private FindMovieCommandParser parser = new FindMovieCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsFindMovieCommand() {
+        FindMovieCommand expectedCommand = new FindMovieCommand(new MovieQuery(Arrays.asList("Black", "Panther"),
+                Collections.emptyList(), Collections.singletonList("superhero")));
+        assertParseSuccess(parser, " n/Black Panther t/superhero", expectedCommand);
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " n/ \n Black \t Panther  t/superhero", expectedCommand);
+
+        // fuzzy keywords only
+        assertParseSuccess(parser, " like/avengrs infin", new FindMovieCommand(new MovieQuery(Collections.emptyList(),
+                Collections.emptyList(), Collections.emptyList(), Arrays.asList("avengrs", "infin"))));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String invalidFormatMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindMovieCommand.MESSAGE_USAGE);
+
+        // no prefixes
+        assertParseFailure(parser, "     ", invalidFormatMessage);
+
+        // non-empty preamble
+        assertParseFailure(parser, "Panther n/Black", invalidFormatMessage);
+
+        // blank keywords
+        assertParseFailure(parser, " n/Black t/", invalidFormatMessage);
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_SCREEN_DATE_TIME;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDateTime;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.FindScreeningCommand;
+
+public class FindScreeningCommandParserTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2018, 4, 13, 19, 0);
+
+    private FindScreeningCommandParser parser = new FindScreeningCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsFindScreeningCommand() {
+        assertParseSuccess(parser, " from/13/04/2018 19:00 to/13/04/2018 20:00",
+                new FindScreeningCommand(FROM, FROM.plusHours(1)));
+
+        // no end -> until the end of the day
+        assertParseSuccess(parser, " from/13/04/2018 19:00",
+                new FindScreeningCommand(FROM, LocalDateTime.of(2018, 4, 14, 0, 0)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String invalidFormatMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindScreeningCommand.MESSAGE_USAGE);
+
+        // no start
+        assertParseFailure(parser, " to/13/04/2018 20:00", invalidFormatMessage);
+
+        // non-empty preamble
+        assertParseFailure(parser, "now from/13/04/2018 19:00", invalidFormatMessage);
+
+        // invalid date time
+        assertParseFailure(parser, " from/13/04/2018 25:00", MESSAGE_INVALID_SCREEN_DATE_TIME);
+
+        // end not after start
+        assertParseFailure(parser, " from/13/04/2018 19:00 to/13/04/2018 19:00",
+                FindScreeningCommandParser.MESSAGE_INVALID_TIME_WINDOW);
+    }
+}
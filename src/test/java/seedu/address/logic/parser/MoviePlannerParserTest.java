@@ -8,6 +8,7 @@ import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_CINEMA;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -16,6 +17,7 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
@@ -24,13 +26,14 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.JumpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.SelectCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.cinema.Cinema;
-import seedu.address.model.cinema.NameContainsKeywordsPredicate;
+import seedu.address.model.cinema.CinemaQuery;
 import seedu.address.testutil.CinemaBuilder;
 import seedu.address.testutil.CinemaUtil;
 import seedu.address.testutil.EditCinemaDescriptorBuilder;
@@ -111,7 +114,7 @@ public class MoviePlannerParserTest {
         List<String> keywords = Arrays.asList("foo", "bar", "baz");
         FindCommand command = (FindCommand) parser.parseCommand(
                 FindCommand.COMMAND_WORD + " " + keywords.stream().collect(Collectors.joining(" ")));
-        assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
+        assertEquals(new FindCommand(new CinemaQuery(keywords, Collections.emptyList(), "")), command);
     }
 
     @Test
@@ -119,7 +122,7 @@ public class MoviePlannerParserTest {
         List<String> keywords = Arrays.asList("foo", "bar", "baz");
         FindCommand command = (FindCommand) parser.parseCommand(
                 FindCommand.COMMAND_ALIAS + " " + keywords.stream().collect(Collectors.joining(" ")));
-        assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
+        assertEquals(new FindCommand(new CinemaQuery(keywords, Collections.emptyList(), "")), command);
     }
 
     @Test
@@ -210,6 +213,41 @@ public class MoviePlannerParserTest {
         assertTrue(parser.parseCommand("undo 3") instanceof UndoCommand);
     }
 
+    @Test
+    public void parseBatch_undoCommand_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(String.format(BatchCommand.MESSAGE_INVALID_LINE, 2, BatchCommand.MESSAGE_NOT_BATCHABLE));
+        parser.parseBatch(Arrays.asList(ListCommand.COMMAND_WORD, UndoCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseBatch_commandsWithOtherEffects_throwsParseException() {
+        List<String> commandTexts = Arrays.asList(ExitCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD,
+                SelectCommand.COMMAND_WORD + " 1", JumpCommand.COMMAND_WORD + " 05/01/2018", RedoCommand.COMMAND_WORD);
+        for (String commandText : commandTexts) {
+            try {
+                parser.parseBatch(Arrays.asList(ListCommand.COMMAND_WORD, commandText));
+                fail("The expected ParseException was not thrown for " + commandText);
+            } catch (ParseException pe) {
+                assertEquals(String.format(BatchCommand.MESSAGE_INVALID_LINE, 2, BatchCommand.MESSAGE_NOT_BATCHABLE),
+                        pe.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void parseBatch_undoableCommandsAndSearches_returnsBatchCommand() throws Exception {
+        Cinema cinema = new CinemaBuilder().build();
+        List<String> commandTexts = Arrays.asList(CinemaUtil.getAddCommand(cinema), FindCommand.COMMAND_WORD + " foo");
+        assertEquals(new BatchCommand(Arrays.asList(new AddCommand(cinema),
+                new FindCommand(new CinemaQuery(Collections.singletonList("foo"), Collections.emptyList(), "")))),
+                parser.parseBatch(commandTexts));
+
+        // commands which change nothing but the lists shown, or can be undone
+        parser.parseBatch(Arrays.asList(ListCommand.COMMAND_WORD, HistoryCommand.COMMAND_WORD,
+                ClearCommand.COMMAND_WORD));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() throws Exception {
         thrown.expect(ParseException.class);
@@ -217,6 +255,13 @@ public class MoviePlannerParserTest {
         parser.parseCommand("");
     }
 
+    @Test
+    public void parseCommand_multipleLines_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+        parser.parseCommand(ListCommand.COMMAND_WORD + " \n" + ClearCommand.COMMAND_WORD);
+    }
+
     @Test
     public void parseCommand_unknownCommand_throwsParseException() throws Exception {
         thrown.expect(ParseException.class);
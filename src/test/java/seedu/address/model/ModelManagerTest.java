@@ -8,6 +8,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_COMEDY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_SUPERHERO;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_UNUSED;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CINEMAS;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_MOVIES;
 import static seedu.address.testutil.TypicalCinemas.ALJUNIED;
 import static seedu.address.testutil.TypicalCinemas.BEDOK;
 import static seedu.address.testutil.TypicalCinemas.SENGKANG;
@@ -15,23 +16,30 @@ import static seedu.address.testutil.TypicalMovies.ABTM4;
 import static seedu.address.testutil.TypicalMovies.BLACK_PANTHER;
 
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.events.model.MoviePlannerChangedEvent;
 import seedu.address.email.EmailManager;
-import seedu.address.model.cinema.NameContainsKeywordsPredicate;
+import seedu.address.model.cinema.CinemaQuery;
 import seedu.address.model.movie.Movie;
+import seedu.address.model.movie.MovieQuery;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.exceptions.TagNotFoundException;
 import seedu.address.testutil.MovieBuilder;
 import seedu.address.testutil.MoviePlannerBuilder;
+import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class ModelManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     @Test
     public void getFilteredCinemaList_modifyList_throwsUnsupportedOperationException() {
         ModelManager modelManager = new ModelManager();
@@ -65,7 +73,7 @@ public class ModelManagerTest {
 
         // different filteredList -> returns false
         String[] keywords = ALJUNIED.getName().fullName.split("\\s+");
-        modelManager.updateFilteredCinemaList(new NameContainsKeywordsPredicate(Arrays.asList(keywords)));
+        modelManager.updateFilteredCinemaList(new CinemaQuery(Arrays.asList(keywords), Collections.emptyList(), ""));
         assertFalse(modelManager.equals(new ModelManager(moviePlanner, userPrefs, emailManager)));
 
         // resets modelManager to initial state for upcoming tests
@@ -125,4 +133,55 @@ public class ModelManagerTest {
 
         assertEquals(new ModelManager(expectedMoviePlanner, userPrefs, emailManager), modelManager);
     }
+
+    @Test
+    public void updateFilteredMovieList_fuzzyQuery_moviesRankedClosestFirst() throws Exception {
+        Movie typo = new MovieBuilder().withMovieName("Avengerz").build();
+        Movie prefix = new MovieBuilder().withMovieName("Avengersss").build();
+        Movie exact = new MovieBuilder().withMovieName("Avengers Assemble").build();
+        Movie unrelated = new MovieBuilder().withMovieName("Incredibles").build();
+        ModelManager modelManager = new ModelManager(new MoviePlannerBuilder().withMovie(typo).withMovie(prefix)
+                .withMovie(exact).withMovie(unrelated).build(), new UserPrefs(), new EmailManager());
+
+        modelManager.updateFilteredMovieList(new MovieQuery(Collections.emptyList(), Collections.emptyList(),
+                Collections.emptyList(), Collections.singletonList("avengers")));
+        assertEquals(Arrays.asList(exact, prefix, typo), modelManager.getFilteredMovieList());
+
+        // an exact query lists the movies in their original order again
+        modelManager.updateFilteredMovieList(PREDICATE_SHOW_ALL_MOVIES);
+        assertEquals(Arrays.asList(typo, prefix, exact, unrelated), modelManager.getFilteredMovieList());
+    }
+
+    @Test
+    public void addCinema_cinemaAdded_editsRaised() throws Exception {
+        ModelManager modelManager = new ModelManager(new MoviePlannerBuilder().withCinema(ALJUNIED).build(),
+                new UserPrefs(), new EmailManager());
+        modelManager.addCinema(BEDOK);
+
+        MoviePlannerChangedEvent event = (MoviePlannerChangedEvent) eventsCollectorRule.eventsCollector
+                .getMostRecent();
+        MoviePlannerEdit expectedEdit = new MoviePlannerEdit(MoviePlannerEdit.ListType.CINEMAS, 1,
+                Collections.emptyList(), Collections.singletonList(BEDOK));
+        assertEquals(Collections.singletonList(expectedEdit), event.edits);
+    }
+
+    @Test
+    public void endBatchUpdate_changesMade_singleEventRaised() throws Exception {
+        ModelManager modelManager = new ModelManager(new MoviePlannerBuilder().withCinema(ALJUNIED).build(),
+                new UserPrefs(), new EmailManager());
+        modelManager.startBatchUpdate();
+        modelManager.addCinema(BEDOK);
+        modelManager.addCinema(SENGKANG);
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+
+        modelManager.endBatchUpdate();
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        MoviePlannerChangedEvent event = (MoviePlannerChangedEvent) eventsCollectorRule.eventsCollector
+                .getMostRecent();
+        assertEquals(Arrays.asList(
+                new MoviePlannerEdit(MoviePlannerEdit.ListType.CINEMAS, 1,
+                        Collections.emptyList(), Collections.singletonList(BEDOK)),
+                new MoviePlannerEdit(MoviePlannerEdit.ListType.CINEMAS, 2,
+                        Collections.emptyList(), Collections.singletonList(SENGKANG))), event.edits);
+    }
 }
@@ -0,0 +1,80 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalCinemas.ALJUNIED;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.cinema.Cinema;
+import seedu.address.model.cinema.Theater;
+import seedu.address.model.screening.Screening;
+import seedu.address.testutil.CinemaBuilder;
+import seedu.address.testutil.MoviePlannerBuilder;
+
+public class MoviePlannerEditTest {
+
+    private final List<MoviePlannerEdit> edits = new ArrayList<>();
+    private MoviePlanner moviePlanner;
+    // referenced so that this view keeps reporting changes
+    private ObservableList<Cinema> cinemas;
+    private Cinema cinema;
+    private Theater theater;
+    private Screening screening;
+
+    @Before
+    public void setUp() throws Exception {
+        cinema = new CinemaBuilder().build();
+        theater = cinema.getTheaters().get(0);
+        screening = new Screening("Movie", theater,
+                LocalDateTime.of(2030, 5, 1, 10, 0), LocalDateTime.of(2030, 5, 1, 12, 30));
+        moviePlanner = new MoviePlannerBuilder().withCinema(ALJUNIED).withCinema(cinema).build();
+        cinemas = moviePlanner.getCinemaList();
+        cinemas.addListener((ListChangeListener<Cinema>) change ->
+                edits.addAll(MoviePlannerEdit.of(MoviePlannerEdit.ListType.CINEMAS, change)));
+    }
+
+    @Test
+    public void of_screeningAddedToCinema_screeningEdit() throws Exception {
+        moviePlanner.updateCinema(cinema, cinema.withTheater(theater.withScreening(screening)));
+
+        assertEquals(Collections.singletonList(new MoviePlannerEdit(MoviePlannerEdit.ListType.SCREENINGS, 1,
+                Collections.emptyList(), Collections.singletonList(screening))), edits);
+    }
+
+    @Test
+    public void of_screeningRemovedFromCinema_screeningEdit() throws Exception {
+        Cinema withScreening = cinema.withTheater(theater.withScreening(screening));
+        moviePlanner.updateCinema(cinema, withScreening);
+        edits.clear();
+
+        moviePlanner.updateCinema(withScreening, cinema);
+
+        assertEquals(Collections.singletonList(new MoviePlannerEdit(MoviePlannerEdit.ListType.SCREENINGS, 1,
+                Collections.singletonList(screening), Collections.emptyList())), edits);
+    }
+
+    @Test
+    public void of_cinemaDetailsEdited_cinemaEdit() throws Exception {
+        Cinema edited = new CinemaBuilder(cinema).withPhone("99999999").build();
+        moviePlanner.updateCinema(cinema, edited);
+
+        assertEquals(Collections.singletonList(new MoviePlannerEdit(MoviePlannerEdit.ListType.CINEMAS, 1,
+                Collections.singletonList(cinema), Collections.singletonList(edited))), edits);
+    }
+
+    @Test
+    public void of_sameCinemaSetAgain_noEdit() throws Exception {
+        moviePlanner.setCinemas(new ArrayList<>(cinemas));
+
+        assertTrue(edits.isEmpty());
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static seedu.address.testutil.TypicalCinemas.ALJUNIED;
+import static seedu.address.testutil.TypicalCinemas.HOUGANG;
+import static seedu.address.testutil.TypicalCinemas.getTypicalMoviePlanner;
+import static seedu.address.testutil.TypicalMovies.ABTM4;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class MoviePlannerSnapshotTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void constructor_laterChanges_snapshotUnchanged() throws Exception {
+        MoviePlanner moviePlanner = getTypicalMoviePlanner();
+        MoviePlanner expected = new MoviePlanner(moviePlanner);
+        MoviePlannerSnapshot snapshot = new MoviePlannerSnapshot(moviePlanner);
+
+        moviePlanner.addCinema(HOUGANG);
+        moviePlanner.removeCinema(ALJUNIED);
+        moviePlanner.addMovie(ABTM4);
+
+        assertEquals(expected, new MoviePlanner(snapshot));
+    }
+
+    @Test
+    public void constructor_cinemasShared() {
+        MoviePlanner moviePlanner = getTypicalMoviePlanner();
+        MoviePlannerSnapshot snapshot = new MoviePlannerSnapshot(moviePlanner);
+
+        for (int i = 0; i < moviePlanner.getCinemaList().size(); i++) {
+            assertSame(moviePlanner.getCinemaList().get(i), snapshot.getCinemaList().get(i));
+        }
+    }
+
+    @Test
+    public void getCinemaList_modifyList_throwsUnsupportedOperationException() {
+        MoviePlannerSnapshot snapshot = new MoviePlannerSnapshot(getTypicalMoviePlanner());
+        thrown.expect(UnsupportedOperationException.class);
+        snapshot.getCinemaList().remove(0);
+    }
+}
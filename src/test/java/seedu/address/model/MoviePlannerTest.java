@@ -1,21 +1,26 @@
 package seedu.address.model;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_COMEDY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_SUPERHERO;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_UNUSED;
 import static seedu.address.testutil.TypicalCinemas.ALJUNIED;
+import static seedu.address.testutil.TypicalCinemas.BEDOK;
 import static seedu.address.testutil.TypicalCinemas.SENGKANG;
 import static seedu.address.testutil.TypicalCinemas.TAMPINES;
 import static seedu.address.testutil.TypicalCinemas.getTypicalMoviePlanner;
 import static seedu.address.testutil.TypicalMovies.ABTM4;
 import static seedu.address.testutil.TypicalMovies.BLACK_PANTHER;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -24,8 +29,12 @@ import org.junit.rules.ExpectedException;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.cinema.Cinema;
+import seedu.address.model.cinema.CinemaQuery;
 import seedu.address.model.cinema.Theater;
 import seedu.address.model.movie.Movie;
+import seedu.address.model.movie.MovieQuery;
+import seedu.address.model.screening.ScheduledScreening;
+import seedu.address.model.screening.Screening;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.exceptions.TagNotFoundException;
 import seedu.address.testutil.MovieBuilder;
@@ -131,6 +140,135 @@ public class MoviePlannerTest {
         assertEquals(expectedMoviePlanner, moviePlannerWithAbtm4AndBp);
     }
 
+    @Test
+    public void undoChanges_recordedChanges_moviePlannerRestored() throws Exception {
+        MoviePlanner moviePlanner = getTypicalMoviePlanner();
+        MoviePlanner expectedMoviePlanner = getTypicalMoviePlanner();
+
+        moviePlanner.startRecordingChanges();
+        moviePlanner.removeCinema(ALJUNIED);
+        moviePlanner.updateCinema(BEDOK, SENGKANG);
+        moviePlanner.addMovie(ABTM4);
+        moviePlanner.addMovie(BLACK_PANTHER);
+        moviePlanner.removeTag(new Tag(VALID_TAG_COMEDY));
+        List<MoviePlannerChange> changes = moviePlanner.stopRecordingChanges();
+        MoviePlanner changedMoviePlanner = new MoviePlanner(moviePlanner);
+
+        moviePlanner.undoChanges(changes);
+        assertEquals(expectedMoviePlanner, moviePlanner);
+        assertEquals(expectedMoviePlanner.getCinemaList(), moviePlanner.getCinemaList());
+
+        moviePlanner.redoChanges(changes);
+        assertEquals(changedMoviePlanner, moviePlanner);
+    }
+
+    @Test
+    public void undoChanges_resetData_moviePlannerRestored() {
+        MoviePlanner moviePlanner = getTypicalMoviePlanner();
+
+        moviePlanner.startRecordingChanges();
+        moviePlanner.resetData(new MoviePlanner());
+        List<MoviePlannerChange> changes = moviePlanner.stopRecordingChanges();
+
+        moviePlanner.undoChanges(changes);
+        assertEquals(getTypicalMoviePlanner(), moviePlanner);
+
+        moviePlanner.redoChanges(changes);
+        assertEquals(new MoviePlanner(), moviePlanner);
+    }
+
+    @Test
+    public void stopRecordingChanges_nestedRecording_innerChangesInOuterRecording() throws Exception {
+        MoviePlanner moviePlanner = getTypicalMoviePlanner();
+
+        moviePlanner.startRecordingChanges();
+        moviePlanner.removeCinema(ALJUNIED);
+        moviePlanner.startRecordingChanges();
+        moviePlanner.addMovie(ABTM4);
+        List<MoviePlannerChange> innerChanges = moviePlanner.stopRecordingChanges();
+        List<MoviePlannerChange> outerChanges = moviePlanner.stopRecordingChanges();
+
+        assertFalse(innerChanges.isEmpty());
+        assertTrue(outerChanges.size() > innerChanges.size());
+        assertEquals(innerChanges, outerChanges.subList(outerChanges.size() - innerChanges.size(),
+                outerChanges.size()));
+
+        moviePlanner.undoChanges(outerChanges);
+        assertEquals(getTypicalMoviePlanner(), moviePlanner);
+    }
+
+    @Test
+    public void getScreeningsStartingBetween_cinemaUpdatedAndUndone_screeningsKeptUpToDate() throws Exception {
+        MoviePlanner moviePlanner = getTypicalMoviePlanner();
+        LocalDateTime start = LocalDateTime.of(2018, 5, 1, 19, 0);
+        Theater theater = ALJUNIED.getTheaters().get(0);
+        Cinema updatedCinema = ALJUNIED.withTheater(theater.withScreening(
+                new Screening("Movie", theater, start, start.plusHours(2))));
+
+        // the screening index is built before the cinema is updated
+        assertTrue(moviePlanner.getScreeningsStartingBetween(start, start.plusHours(1)).isEmpty());
+
+        moviePlanner.startRecordingChanges();
+        moviePlanner.updateCinema(ALJUNIED, updatedCinema);
+        List<MoviePlannerChange> changes = moviePlanner.stopRecordingChanges();
+        List<ScheduledScreening> screenings = moviePlanner.getScreeningsStartingBetween(start, start.plusHours(1));
+        assertEquals(1, screenings.size());
+        assertEquals(ALJUNIED.getName(), screenings.get(0).getCinemaName());
+
+        moviePlanner.undoChanges(changes);
+        assertTrue(moviePlanner.getScreeningsStartingBetween(start, start.plusHours(1)).isEmpty());
+
+        moviePlanner.redoChanges(changes);
+        assertEquals(screenings, moviePlanner.getScreeningsStartingBetween(start, start.plusHours(1)));
+    }
+
+    @Test
+    public void findCinemas_cinemaRemovedAndUndone_cinemaIndexKeptUpToDate() throws Exception {
+        MoviePlanner moviePlanner = getTypicalMoviePlanner();
+        CinemaQuery query = new CinemaQuery(Collections.emptyList(), Collections.emptyList(),
+                ALJUNIED.getPhone().value);
+
+        // the cinema index is built before the cinema is removed
+        assertEquals(Collections.singleton(ALJUNIED), moviePlanner.findCinemas(query));
+
+        moviePlanner.startRecordingChanges();
+        moviePlanner.removeCinema(ALJUNIED);
+        List<MoviePlannerChange> changes = moviePlanner.stopRecordingChanges();
+        assertTrue(moviePlanner.findCinemas(query).isEmpty());
+
+        moviePlanner.undoChanges(changes);
+        assertEquals(Collections.singleton(ALJUNIED), moviePlanner.findCinemas(query));
+    }
+
+    @Test
+    public void findMovies_movieUpdatedAndUndone_movieIndexKeptUpToDate() throws Exception {
+        MoviePlanner moviePlanner = new MoviePlanner();
+        moviePlanner.addMovie(BLACK_PANTHER);
+        MovieQuery comedies = new MovieQuery(Collections.emptyList(), Collections.emptyList(),
+                Collections.singletonList(VALID_TAG_COMEDY));
+
+        // the movie index is built before the movie is updated
+        assertEquals(1, moviePlanner.findMovies(comedies).size());
+
+        moviePlanner.startRecordingChanges();
+        moviePlanner.updateMovie(BLACK_PANTHER, new MovieBuilder(BLACK_PANTHER).withTags(VALID_TAG_SUPERHERO).build());
+        List<MoviePlannerChange> changes = moviePlanner.stopRecordingChanges();
+        assertTrue(moviePlanner.findMovies(comedies).isEmpty());
+
+        moviePlanner.undoChanges(changes);
+        assertEquals(1, moviePlanner.findMovies(comedies).size());
+
+        moviePlanner.redoChanges(changes);
+        assertTrue(moviePlanner.findMovies(comedies).isEmpty());
+    }
+
+    @Test
+    public void stopRecordingChanges_notRecording_returnsEmptyList() throws Exception {
+        MoviePlanner moviePlanner = getTypicalMoviePlanner();
+        moviePlanner.removeCinema(ALJUNIED);
+        assertEquals(Collections.emptyList(), moviePlanner.stopRecordingChanges());
+    }
+
     /**
      * A stub ReadOnlyMoviePlanner whose cinemas and tags lists can violate interface constraints.
      */
@@ -168,6 +306,21 @@ public class MoviePlannerTest {
             return theaters;
         }
 
+        @Override
+        public List<ScheduledScreening> getScreeningsStartingBetween(LocalDateTime from, LocalDateTime to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Movie> findMovies(MovieQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Cinema> findCinemas(CinemaQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
     }
 
 }
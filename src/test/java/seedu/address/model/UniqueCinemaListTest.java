@@ -1,19 +1,88 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalCinemas.ALJUNIED;
+import static seedu.address.testutil.TypicalCinemas.BEDOK;
+import static seedu.address.testutil.TypicalCinemas.CLEMENTI;
+import static seedu.address.testutil.TypicalCinemas.DOVER;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.model.cinema.Cinema;
 import seedu.address.model.cinema.UniqueCinemaList;
+import seedu.address.model.cinema.exceptions.CinemaNotFoundException;
+import seedu.address.model.cinema.exceptions.DuplicateCinemaException;
+import seedu.address.testutil.CinemaBuilder;
 
 public class UniqueCinemaListTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    private final UniqueCinemaList uniqueCinemaList = new UniqueCinemaList();
+
     @Test
     public void asObservableList_modifyList_throwsUnsupportedOperationException() {
         UniqueCinemaList uniqueCinemaList = new UniqueCinemaList();
         thrown.expect(UnsupportedOperationException.class);
         uniqueCinemaList.asObservableList().remove(0);
     }
+
+    @Test
+    public void add_duplicateCinema_throwsDuplicateCinemaException() throws Exception {
+        uniqueCinemaList.add(ALJUNIED);
+        thrown.expect(DuplicateCinemaException.class);
+        uniqueCinemaList.add(new CinemaBuilder(ALJUNIED).withTheater(5).build());
+    }
+
+    @Test
+    public void remove_cinemaNotInList_throwsCinemaNotFoundException() throws Exception {
+        uniqueCinemaList.add(ALJUNIED);
+        thrown.expect(CinemaNotFoundException.class);
+        uniqueCinemaList.remove(BEDOK);
+    }
+
+    @Test
+    public void setCinema_editedCinemaInList_throwsDuplicateCinemaException() throws Exception {
+        uniqueCinemaList.setCinemas(Arrays.asList(ALJUNIED, BEDOK));
+        thrown.expect(DuplicateCinemaException.class);
+        uniqueCinemaList.setCinema(ALJUNIED, BEDOK);
+    }
+
+    @Test
+    public void indexOf_afterMutations_matchesListOrder() throws Exception {
+        uniqueCinemaList.setCinemas(Arrays.asList(ALJUNIED, BEDOK, CLEMENTI));
+
+        uniqueCinemaList.remove(ALJUNIED);
+        uniqueCinemaList.add(1, DOVER);
+        uniqueCinemaList.setCinema(BEDOK, ALJUNIED);
+        assertEquals(Arrays.asList(ALJUNIED, DOVER, CLEMENTI), uniqueCinemaList.asObservableList());
+
+        for (int i = 0; i < uniqueCinemaList.asObservableList().size(); i++) {
+            assertEquals(i, uniqueCinemaList.indexOf(uniqueCinemaList.asObservableList().get(i)));
+        }
+        assertEquals(-1, uniqueCinemaList.indexOf(BEDOK));
+        assertFalse(uniqueCinemaList.contains(BEDOK));
+        assertTrue(uniqueCinemaList.contains(DOVER));
+    }
+
+    @Test
+    public void setCinemas_manyCinemas_allIndexed() throws Exception {
+        List<Cinema> cinemas = new ArrayList<>();
+        for (int i = 0; i < 100000; i++) {
+            cinemas.add(new CinemaBuilder().withName("Cinema " + i).build());
+        }
+
+        uniqueCinemaList.setCinemas(cinemas);
+
+        assertEquals(cinemas, uniqueCinemaList.asObservableList());
+        assertEquals(99999, uniqueCinemaList.indexOf(cinemas.get(99999)));
+    }
 }
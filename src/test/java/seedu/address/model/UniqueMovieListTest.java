@@ -0,0 +1,60 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalMovies.ABTM4;
+import static seedu.address.testutil.TypicalMovies.BLACK_PANTHER;
+import static seedu.address.testutil.TypicalMovies.THOR_RAGNAROK;
+
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.movie.UniqueMovieList;
+import seedu.address.model.movie.exceptions.DuplicateMovieException;
+import seedu.address.model.movie.exceptions.MovieNotFoundException;
+import seedu.address.testutil.MovieBuilder;
+
+public class UniqueMovieListTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final UniqueMovieList uniqueMovieList = new UniqueMovieList();
+
+    @Test
+    public void add_sameNameAndStartDate_throwsDuplicateMovieException() throws Exception {
+        uniqueMovieList.add(ABTM4);
+        thrown.expect(DuplicateMovieException.class);
+        uniqueMovieList.add(new MovieBuilder(ABTM4).withDuration("100").withTags().build());
+    }
+
+    @Test
+    public void add_sameNameDifferentStartDate_movieAdded() throws Exception {
+        uniqueMovieList.add(ABTM4);
+        uniqueMovieList.add(new MovieBuilder(ABTM4).withStartDate("02/05/2012").build());
+        assertEquals(2, uniqueMovieList.asObservableList().size());
+    }
+
+    @Test
+    public void remove_movieNotInList_throwsMovieNotFoundException() throws Exception {
+        uniqueMovieList.add(ABTM4);
+        thrown.expect(MovieNotFoundException.class);
+        uniqueMovieList.remove(BLACK_PANTHER);
+    }
+
+    @Test
+    public void indexOf_afterMutations_matchesListOrder() throws Exception {
+        uniqueMovieList.setMovies(Arrays.asList(ABTM4, BLACK_PANTHER));
+
+        uniqueMovieList.add(0, THOR_RAGNAROK);
+        uniqueMovieList.remove(ABTM4);
+        assertEquals(Arrays.asList(THOR_RAGNAROK, BLACK_PANTHER), uniqueMovieList.asObservableList());
+
+        assertEquals(0, uniqueMovieList.indexOf(THOR_RAGNAROK));
+        assertEquals(1, uniqueMovieList.indexOf(BLACK_PANTHER));
+        assertEquals(-1, uniqueMovieList.indexOf(ABTM4));
+        assertTrue(uniqueMovieList.contains(BLACK_PANTHER));
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.address.model.cinema;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.testutil.CinemaBuilder;
+
+public class CinemaQueryTest {
+
+    private static final List<String> NONE = Collections.emptyList();
+
+    @Test
+    public void equals() {
+        CinemaQuery firstQuery = new CinemaQuery(Collections.singletonList("first"), NONE, "");
+        CinemaQuery secondQuery = new CinemaQuery(Arrays.asList("first", "second"), NONE, "");
+
+        // same object -> returns true
+        assertTrue(firstQuery.equals(firstQuery));
+
+        // same values -> returns true
+        assertTrue(firstQuery.equals(new CinemaQuery(Collections.singletonList("first"), NONE, "")));
+
+        // different types -> returns false
+        assertFalse(firstQuery.equals(1));
+
+        // null -> returns false
+        assertFalse(firstQuery.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstQuery.equals(secondQuery));
+
+        // different phone prefix -> returns false
+        assertFalse(firstQuery.equals(new CinemaQuery(Collections.singletonList("first"), NONE, "6")));
+    }
+
+    @Test
+    public void test_nameContainsKeywords_returnsTrue() {
+        // One keyword
+        CinemaQuery query = new CinemaQuery(Collections.singletonList("Alice"), NONE, "");
+        assertTrue(query.test(new CinemaBuilder().withName("Alice Bob").build()));
+
+        // Multiple keywords
+        query = new CinemaQuery(Arrays.asList("Alice", "Bob"), NONE, "");
+        assertTrue(query.test(new CinemaBuilder().withName("Alice Bob").build()));
+
+        // Only one matching keyword
+        query = new CinemaQuery(Arrays.asList("Bob", "Carol"), NONE, "");
+        assertTrue(query.test(new CinemaBuilder().withName("Alice Carol").build()));
+
+        // Mixed-case keywords
+        query = new CinemaQuery(Arrays.asList("aLIce", "bOB"), NONE, "");
+        assertTrue(query.test(new CinemaBuilder().withName("Alice Bob").build()));
+    }
+
+    @Test
+    public void test_nameDoesNotContainKeywords_returnsFalse() {
+        // Zero keywords
+        CinemaQuery query = new CinemaQuery(NONE, NONE, "");
+        assertFalse(query.test(new CinemaBuilder().withName("Alice").build()));
+
+        // Non-matching keyword
+        query = new CinemaQuery(Arrays.asList("Carol"), NONE, "");
+        assertFalse(query.test(new CinemaBuilder().withName("Alice Bob").build()));
+
+        // Keywords match phone, email and address, but does not match name
+        query = new CinemaQuery(Arrays.asList("12345", "alice@email.com", "Main", "Street"), NONE, "");
+        assertFalse(query.test(new CinemaBuilder().withName("Alice").withPhone("12345")
+                .withEmail("alice@email.com").withAddress("Main Street").build()));
+    }
+
+    @Test
+    public void test_addressAndPhone_matchesEveryAddressWordAndPhonePrefix() {
+        Cinema cinema = new CinemaBuilder().withName("Alice").withPhone("65352563")
+                .withAddress("Blk 123, Tampines Ave 5, #01-23").build();
+
+        // address fragments in any order and case
+        assertTrue(query(NONE, Arrays.asList("tampines", "#01-23"), "").test(cinema));
+
+        // phone prefix
+        assertTrue(query(NONE, NONE, "6535").test(cinema));
+
+        // name, address and phone together
+        assertTrue(query(Arrays.asList("alice"), Arrays.asList("Ave"), "65").test(cinema));
+
+        // only some address words match
+        assertFalse(query(NONE, Arrays.asList("Tampines", "Street"), "").test(cinema));
+
+        // phone digits which are not a prefix
+        assertFalse(query(NONE, NONE, "2563").test(cinema));
+
+        // address matches, name does not
+        assertFalse(query(Arrays.asList("Bob"), Arrays.asList("Tampines"), "").test(cinema));
+    }
+
+    private static CinemaQuery query(List<String> nameKeywords, List<String> addressKeywords, String phonePrefix) {
+        return new CinemaQuery(nameKeywords, addressKeywords, phonePrefix);
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.model.cinema;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalCinemas.ALJUNIED;
+import static seedu.address.testutil.TypicalCinemas.BEDOK;
+import static seedu.address.testutil.TypicalCinemas.CLEMENTI;
+import static seedu.address.testutil.TypicalCinemas.EUNOS;
+import static seedu.address.testutil.TypicalCinemas.FARRER;
+import static seedu.address.testutil.TypicalCinemas.getTypicalCinemas;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.address.testutil.CinemaBuilder;
+
+public class CinemaSearchIndexTest {
+
+    private static final List<String> NONE = Collections.emptyList();
+
+    private final CinemaSearchIndex index = new CinemaSearchIndex(getTypicalCinemas());
+
+    @Test
+    public void find_phonePrefix_cinemasInPhoneRange() {
+        assertFound(new CinemaQuery(NONE, NONE, "6535"), ALJUNIED, CLEMENTI);
+        assertFound(new CinemaQuery(NONE, NONE, "68765432"), BEDOK);
+        assertFound(new CinemaQuery(NONE, NONE, "9"));
+    }
+
+    @Test
+    public void find_nameAndAddressKeywords_intersectsPostings() {
+        // any name keyword
+        assertFound(new CinemaQuery(Arrays.asList("Aljunied", "bedok"), NONE, ""), ALJUNIED, BEDOK);
+
+        // every address keyword
+        assertFound(new CinemaQuery(NONE, Arrays.asList("Eunos", "street"), ""), EUNOS);
+
+        // name, address and phone
+        assertFound(new CinemaQuery(Arrays.asList("Cathay"), Arrays.asList("park"), "648"), FARRER);
+        assertFound(new CinemaQuery(Arrays.asList("Cathay"), Arrays.asList("park"), "65"));
+
+        // no keywords and no phone prefix
+        assertFound(new CinemaQuery(NONE, NONE, ""));
+    }
+
+    @Test
+    public void update_phoneChanged_phoneRangeUpdated() {
+        Cinema updated = new CinemaBuilder(ALJUNIED).withPhone("99999999").build();
+        index.update(ALJUNIED, updated);
+
+        assertFound(new CinemaQuery(NONE, NONE, "6535"), CLEMENTI);
+        Set<Cinema> found = index.find(new CinemaQuery(NONE, Arrays.asList("aljunied"), "9"));
+        assertEquals(1, found.size());
+        assertSame(updated, found.iterator().next());
+    }
+
+    @Test
+    public void remove_cinema_noLongerFound() {
+        index.remove(BEDOK);
+
+        assertFound(new CinemaQuery(Arrays.asList("Bedok"), NONE, ""));
+        assertFound(new CinemaQuery(NONE, NONE, "687"));
+    }
+
+    /**
+     * Asserts that the index finds exactly {@code expectedCinemas} for {@code query}, as {@code query} itself would.
+     */
+    private void assertFound(CinemaQuery query, Cinema... expectedCinemas) {
+        Set<Cinema> found = index.find(query);
+        assertEquals(expectedCinemas.length, found.size());
+        for (Cinema cinema : expectedCinemas) {
+            assertTrue(found.contains(cinema));
+            assertTrue(query.test(cinema));
+        }
+    }
+}
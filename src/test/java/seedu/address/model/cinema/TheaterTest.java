@@ -1,11 +1,23 @@
 package seedu.address.model.cinema;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
 import org.junit.Test;
 
+import seedu.address.model.screening.Screening;
 import seedu.address.testutil.Assert;
+import seedu.address.testutil.CinemaBuilder;
 //@@author tinyjy94
 public class TheaterTest {
 
@@ -28,5 +40,138 @@ public class TheaterTest {
         assertTrue(Theater.isValidTheater("1")); // 1 digit
         assertTrue(Theater.isValidTheater("123456")); // multiple digits
     }
-}
 
+    @Test
+    public void getScreeningList_screeningsAddedOutOfOrder_returnsSortedList() {
+        Theater theater = new Theater(1);
+        Screening late = screening(theater, "Late", "2018-05-01T20:00", "2018-05-01T22:00");
+        Screening early = screening(theater, "Early", "2018-05-01T10:00", "2018-05-01T12:00");
+        theater.addScreeningToTheater(late);
+        theater.addScreeningToTheater(early);
+
+        assertEquals(Arrays.asList(early, late), theater.getScreeningList());
+    }
+
+    @Test
+    public void overlaps() {
+        Theater theater = new Theater(1);
+        theater.addScreeningToTheater(screening(theater, "Long", "2018-05-01T10:00", "2018-05-01T14:00"));
+        theater.addScreeningToTheater(screening(theater, "Short", "2018-05-01T15:00", "2018-05-01T16:00"));
+        theater.addScreeningToTheater(screening(theater, "Night", "2018-05-01T23:00", "2018-05-02T01:30"));
+
+        // back to back with existing screenings -> no overlap
+        assertFalse(theater.overlaps(dateTime("2018-05-01T14:00"), dateTime("2018-05-01T15:00")));
+        assertFalse(theater.overlaps(dateTime("2018-05-01T08:00"), dateTime("2018-05-01T10:00")));
+
+        // different day -> no overlap
+        assertFalse(theater.overlaps(dateTime("2018-05-03T10:00"), dateTime("2018-05-03T14:00")));
+
+        // starts during an earlier, longer screening -> overlap
+        assertTrue(theater.overlaps(dateTime("2018-05-01T13:00"), dateTime("2018-05-01T13:30")));
+
+        // covers an existing screening -> overlap
+        assertTrue(theater.overlaps(dateTime("2018-05-01T14:30"), dateTime("2018-05-01T16:30")));
+
+        // screening from the previous day running past midnight -> overlap
+        assertTrue(theater.overlaps(dateTime("2018-05-02T01:00"), dateTime("2018-05-02T03:00")));
+    }
+
+    @Test
+    public void screeningsOn() {
+        Theater theater = new Theater(1);
+        Screening first = screening(theater, "First", "2018-05-01T10:00", "2018-05-01T12:00");
+        Screening second = screening(theater, "Second", "2018-05-01T23:00", "2018-05-02T01:00");
+        Screening third = screening(theater, "Third", "2018-05-02T10:00", "2018-05-02T12:00");
+        theater.setScreeningList(new ArrayList<>(Arrays.asList(third, second, first)));
+
+        assertEquals(Arrays.asList(first, second), theater.screeningsOn(LocalDate.of(2018, 5, 1)));
+        assertEquals(Collections.singletonList(third), theater.screeningsOn(LocalDate.of(2018, 5, 2)));
+        assertTrue(theater.screeningsOn(LocalDate.of(2018, 5, 3)).isEmpty());
+    }
+
+    @Test
+    public void getScreeningAt() {
+        Theater theater = new Theater(1);
+        Screening screening = screening(theater, "Movie", "2018-05-01T10:00", "2018-05-01T12:00");
+        theater.addScreeningToTheater(screening);
+
+        assertEquals(Optional.of(screening), theater.getScreeningAt(dateTime("2018-05-01T10:00")));
+        assertFalse(theater.getScreeningAt(dateTime("2018-05-01T10:05")).isPresent());
+
+        theater.deleteScreening(screening);
+        assertFalse(theater.getScreeningAt(dateTime("2018-05-01T10:00")).isPresent());
+    }
+
+    @Test
+    public void withScreening_doesNotModifyOriginalTheater() {
+        Theater theater = new Theater(1);
+        Screening existing = screening(theater, "Existing", "2018-05-01T10:00", "2018-05-01T12:00");
+        theater.addScreeningToTheater(existing);
+        Screening added = screening(theater, "Added", "2018-05-01T13:00", "2018-05-01T15:00");
+
+        Theater updatedTheater = theater.withScreening(added);
+        assertEquals(Arrays.asList(existing, added), updatedTheater.getScreeningList());
+        assertEquals(Collections.singletonList(existing), theater.getScreeningList());
+
+        Theater revertedTheater = updatedTheater.withoutScreening(added);
+        assertEquals(Collections.singletonList(existing), revertedTheater.getScreeningList());
+        assertEquals(Arrays.asList(existing, added), updatedTheater.getScreeningList());
+    }
+
+    @Test
+    public void constructor_screeningLoader_loadsScreeningsOnceWhenFirstNeeded() {
+        int[] loadCount = {0};
+        Theater theater = new Theater(1, t -> {
+            loadCount[0]++;
+            return Arrays.asList(screening(t, "Late", "2018-05-01T20:00", "2018-05-01T22:00"),
+                    screening(t, "Early", "2018-05-01T10:00", "2018-05-01T12:00"));
+        });
+        Cinema cinema = new CinemaBuilder().build();
+        cinema.getTheaters().set(0, theater);
+        cinema.hashCode();
+        theater.hashCode();
+        assertEquals(0, loadCount[0]);
+
+        List<Screening> screenings = theater.getScreeningList();
+        assertEquals(Arrays.asList("Early", "Late"),
+                Arrays.asList(screenings.get(0).getMovieName(), screenings.get(1).getMovieName()));
+        assertSame(theater, screenings.get(0).getTheater());
+        assertTrue(theater.overlaps(dateTime("2018-05-01T11:00"), dateTime("2018-05-01T13:00")));
+        assertEquals(1, loadCount[0]);
+    }
+
+    @Test
+    public void hashCode_sameTheaterNumber_sameHashBeforeAndAfterScreeningsLoad() {
+        Theater emptyTheater = new Theater(1);
+        Theater theater = new Theater(1, t -> Collections.singletonList(
+                screening(t, "Movie", "2018-05-01T10:00", "2018-05-01T12:00")));
+        int hashBeforeLoad = theater.hashCode();
+
+        theater.getScreeningList();
+        assertEquals(hashBeforeLoad, theater.hashCode());
+        assertTrue(theater.equals(emptyTheater));
+        assertEquals(emptyTheater.hashCode(), theater.hashCode());
+    }
+
+    @Test
+    public void withTheater_sharesUntouchedTheaters() {
+        Cinema cinema = new CinemaBuilder().withTheater(3).build();
+        Theater secondTheater = cinema.getTheaters().get(1);
+        Theater updatedTheater = secondTheater.withScreening(
+                screening(secondTheater, "Movie", "2018-05-01T10:00", "2018-05-01T12:00"));
+
+        Cinema updatedCinema = cinema.withTheater(updatedTheater);
+        assertSame(cinema.getTheaters().get(0), updatedCinema.getTheaters().get(0));
+        assertSame(updatedTheater, updatedCinema.getTheaters().get(1));
+        assertSame(cinema.getTheaters().get(2), updatedCinema.getTheaters().get(2));
+        assertSame(secondTheater, cinema.getTheaters().get(1));
+    }
+
+    private static Screening screening(Theater theater, String movieName, String start, String end) {
+        return new Screening(movieName, theater, dateTime(start), dateTime(end));
+    }
+
+    private static LocalDateTime dateTime(String isoDateTime) {
+        return LocalDateTime.parse(isoDateTime);
+    }
+}
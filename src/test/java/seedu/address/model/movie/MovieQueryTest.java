@@ -0,0 +1,104 @@
+package seedu.address.model.movie;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.testutil.MovieBuilder;
+
+public class MovieQueryTest {
+
+    private static final List<String> NONE = Collections.emptyList();
+
+    @Test
+    public void equals() {
+        MovieQuery firstQuery = new MovieQuery(Collections.singletonList("first"), NONE, NONE);
+        MovieQuery secondQuery = new MovieQuery(Arrays.asList("first", "second"), NONE, NONE);
+
+        // same object -> returns true
+        assertTrue(firstQuery.equals(firstQuery));
+
+        // same values -> returns true
+        assertTrue(firstQuery.equals(new MovieQuery(Collections.singletonList("first"), NONE, NONE)));
+
+        // same values in a different case -> returns true
+        assertTrue(firstQuery.equals(new MovieQuery(Collections.singletonList("FIRST"), NONE, NONE)));
+
+        // different types -> returns false
+        assertFalse(firstQuery.equals(1));
+
+        // null -> returns false
+        assertFalse(firstQuery.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstQuery.equals(secondQuery));
+
+        // same keywords for a different field -> returns false
+        assertFalse(firstQuery.equals(new MovieQuery(NONE, NONE, Collections.singletonList("first"))));
+        assertFalse(firstQuery.equals(new MovieQuery(NONE, NONE, NONE, Collections.singletonList("first"))));
+    }
+
+    @Test
+    public void test_movieMatchesEveryKeyword_returnsTrue() {
+        // One keyword
+        MovieQuery query = new MovieQuery(Collections.singletonList("Ghost"), NONE, NONE);
+        assertTrue(query.test(new MovieBuilder().withMovieName("Ghost Hunter").build()));
+
+        // Multiple keywords
+        query = new MovieQuery(Arrays.asList("Ghost", "Hunter"), NONE, NONE);
+        assertTrue(query.test(new MovieBuilder().withMovieName("Ghost Hunter").build()));
+
+        // Mixed-case keywords
+        query = new MovieQuery(Arrays.asList("sPiDerMan"), NONE, NONE);
+        assertTrue(query.test(new MovieBuilder().withMovieName("Spiderman").build()));
+
+        // Zero keywords
+        query = new MovieQuery(NONE, NONE, NONE);
+        assertTrue(query.test(new MovieBuilder().withMovieName("Ghost").build()));
+
+        // Name, start date and tag keywords
+        query = new MovieQuery(Arrays.asList("ghost"), Arrays.asList("13/03/2018"), Arrays.asList("HORROR"));
+        assertTrue(query.test(new MovieBuilder().withMovieName("Ghost").withStartDate("13/03/2018")
+                .withTags("horror", "comedy").build()));
+    }
+
+    @Test
+    public void test_movieDoesNotMatchEveryKeyword_returnsFalse() {
+        // Non-matching keyword
+        MovieQuery query = new MovieQuery(Arrays.asList("Incredibles"), NONE, NONE);
+        assertFalse(query.test(new MovieBuilder().withMovieName("Spiderman").build()));
+
+        // Only some keywords match
+        query = new MovieQuery(Arrays.asList("Ghost", "Buster"), NONE, NONE);
+        assertFalse(query.test(new MovieBuilder().withMovieName("Ghost Hunter").build()));
+
+        // Name matches, tag does not
+        query = new MovieQuery(Arrays.asList("Ghost"), NONE, Arrays.asList("comedy"));
+        assertFalse(query.test(new MovieBuilder().withMovieName("Ghost").withTags("horror").build()));
+
+        // Keyword is only part of a word
+        query = new MovieQuery(NONE, Arrays.asList("2018"), NONE);
+        assertFalse(query.test(new MovieBuilder().withStartDate("13/03/2018").build()));
+    }
+
+    @Test
+    public void distanceTo_fuzzyNameKeywords_exactCloserThanPrefixCloserThanTypo() {
+        MovieQuery query = new MovieQuery(NONE, NONE, NONE, Arrays.asList("Avengers"));
+        Movie exact = new MovieBuilder().withMovieName("The Avengers").build();
+        Movie prefix = new MovieBuilder().withMovieName("Avengersss").build();
+        Movie typo = new MovieBuilder().withMovieName("Avengerz").build();
+
+        assertTrue(query.isRanked());
+        assertTrue(query.test(exact) && query.test(prefix) && query.test(typo));
+        assertTrue(query.distanceTo(exact) < query.distanceTo(prefix));
+        assertTrue(query.distanceTo(prefix) < query.distanceTo(typo));
+
+        assertFalse(query.test(new MovieBuilder().withMovieName("Avenue").build()));
+        assertFalse(new MovieQuery(Arrays.asList("Avengers"), NONE, NONE).isRanked());
+    }
+}
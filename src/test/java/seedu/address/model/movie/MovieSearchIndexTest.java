@@ -0,0 +1,106 @@
+package seedu.address.model.movie;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalMovies.ABTM4;
+import static seedu.address.testutil.TypicalMovies.BLACK_PANTHER;
+import static seedu.address.testutil.TypicalMovies.THOR_RAGNAROK;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.address.testutil.MovieBuilder;
+
+public class MovieSearchIndexTest {
+
+    private static final List<String> NONE = Collections.emptyList();
+
+    private final MovieSearchIndex index = new MovieSearchIndex(Arrays.asList(BLACK_PANTHER, ABTM4, THOR_RAGNAROK));
+
+    @Test
+    public void find_keywordsOfEveryField_intersectsPostings() {
+        // tag shared by two movies
+        assertFound(new MovieQuery(NONE, NONE, Arrays.asList("Superhero")), BLACK_PANTHER, THOR_RAGNAROK);
+
+        // two tags
+        assertFound(new MovieQuery(NONE, NONE, Arrays.asList("superhero", "comedy")), BLACK_PANTHER);
+
+        // name word and start date
+        assertFound(new MovieQuery(Arrays.asList("men", "BOYS"), Arrays.asList("01/05/2012"), NONE), ABTM4);
+
+        // keyword not indexed
+        assertFound(new MovieQuery(Arrays.asList("Thor", "Panther"), NONE, NONE));
+
+        // no keywords
+        assertFound(new MovieQuery(NONE, NONE, NONE), BLACK_PANTHER, ABTM4, THOR_RAGNAROK);
+    }
+
+    @Test
+    public void find_fuzzyNameKeywords_prefixesAndTyposFound() {
+        // prefix
+        assertFound(fuzzy("pan"), BLACK_PANTHER);
+
+        // short keywords must be a prefix
+        assertFound(fuzzy("pnt"));
+
+        // two substitutions within a long keyword, a transposition within a short one
+        assertFound(fuzzy("ragnorak"), THOR_RAGNAROK);
+        assertFound(fuzzy("tohr"), THOR_RAGNAROK);
+
+        // every fuzzy keyword must match
+        assertFound(fuzzy("thro", "panthr"));
+
+        // too many typos
+        assertFound(fuzzy("thxx"));
+
+        // together with exact keywords
+        assertFound(new MovieQuery(NONE, NONE, Arrays.asList("comedy"), Arrays.asList("boy")), ABTM4);
+    }
+
+    @Test
+    public void remove_lastMovieWithNameWord_noLongerFoundByFuzzyKeyword() {
+        index.remove(THOR_RAGNAROK);
+
+        assertFound(fuzzy("ragnarok"));
+        assertFound(fuzzy("tho"));
+    }
+
+    @Test
+    public void update_tagsChanged_postingsUpdated() {
+        Movie retagged = new MovieBuilder(THOR_RAGNAROK).withTags("comedy").build();
+        index.update(THOR_RAGNAROK, retagged);
+
+        assertFound(new MovieQuery(NONE, NONE, Arrays.asList("superhero")), BLACK_PANTHER);
+        Set<Movie> comedies = index.find(new MovieQuery(Arrays.asList("thor"), NONE, Arrays.asList("comedy")));
+        assertEquals(1, comedies.size());
+        assertTrue(comedies.contains(retagged));
+    }
+
+    @Test
+    public void remove_movie_noLongerFound() {
+        index.remove(BLACK_PANTHER);
+
+        assertFound(new MovieQuery(Arrays.asList("panther"), NONE, NONE));
+        assertFound(new MovieQuery(NONE, NONE, Arrays.asList("comedy")), ABTM4);
+    }
+
+    private static MovieQuery fuzzy(String... keywords) {
+        return new MovieQuery(NONE, NONE, NONE, Arrays.asList(keywords));
+    }
+
+    /**
+     * Asserts that the index finds exactly {@code expectedMovies} for {@code query}, as {@code query} itself would.
+     */
+    private void assertFound(MovieQuery query, Movie... expectedMovies) {
+        Set<Movie> found = index.find(query);
+        assertEquals(expectedMovies.length, found.size());
+        for (Movie movie : expectedMovies) {
+            assertTrue(found.contains(movie));
+            assertTrue(query.test(movie));
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.address.model.screening;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+public class ScreeningIntervalTreeTest {
+
+    private static final LocalDateTime BASE_DATE_TIME = LocalDateTime.of(2018, 5, 1, 0, 0);
+
+    @Test
+    public void add_screeningsOutOfOrder_keepsScreeningsSorted() {
+        Screening late = screening("Late", 600, 120);
+        Screening early = screening("Early", 60, 120);
+        ScreeningIntervalTree tree = ScreeningIntervalTree.empty().add(late).add(early);
+
+        assertEquals(Arrays.asList(early, late), tree.toList());
+        assertEquals(2, tree.size());
+    }
+
+    @Test
+    public void add_duplicateScreening_returnsSameTree() {
+        Screening screening = screening("Movie", 60, 120);
+        ScreeningIntervalTree tree = ScreeningIntervalTree.empty().add(screening);
+
+        assertSame(tree, tree.add(screening("Movie", 60, 120)));
+    }
+
+    @Test
+    public void remove_missingScreening_returnsSameTree() {
+        ScreeningIntervalTree tree = ScreeningIntervalTree.empty().add(screening("Movie", 60, 120));
+
+        assertSame(tree, tree.remove(screening("Other", 60, 120)));
+    }
+
+    @Test
+    public void addAndRemove_doNotModifyOriginalTree() {
+        Screening first = screening("First", 60, 120);
+        Screening second = screening("Second", 300, 120);
+        ScreeningIntervalTree original = ScreeningIntervalTree.of(Arrays.asList(first, second));
+
+        ScreeningIntervalTree added = original.add(screening("Third", 600, 120));
+        ScreeningIntervalTree removed = original.remove(first);
+
+        assertEquals(Arrays.asList(first, second), original.toList());
+        assertEquals(3, added.size());
+        assertEquals(Arrays.asList(second), removed.toList());
+        assertFalse(removed.contains(first));
+        assertTrue(original.contains(first));
+    }
+
+    @Test
+    public void queries_randomScreenings_matchLinearScan() {
+        Random random = new Random(2103);
+        List<Screening> expected = new ArrayList<>();
+        ScreeningIntervalTree tree = ScreeningIntervalTree.empty();
+
+        for (int i = 0; i < 2000; i++) {
+            Screening screening = screening("Movie " + random.nextInt(5), random.nextInt(20000),
+                    5 + random.nextInt(300));
+            if (random.nextInt(4) == 0 && !expected.isEmpty()) {
+                Screening toRemove = expected.remove(random.nextInt(expected.size()));
+                tree = tree.remove(toRemove);
+            } else if (!expected.contains(screening)) {
+                expected.add(screening);
+                tree = tree.add(screening);
+            }
+        }
+
+        expected.sort(Comparator.comparing(Screening::getScreeningDateTime)
+                .thenComparing(Screening::getScreeningEndDateTime)
+                .thenComparing(Screening::getMovieName));
+        assertEquals(expected, tree.toList());
+
+        for (int i = 0; i < 500; i++) {
+            LocalDateTime start = BASE_DATE_TIME.plusMinutes(random.nextInt(20000));
+            LocalDateTime end = start.plusMinutes(1 + random.nextInt(300));
+
+            boolean expectedOverlap = expected.stream().anyMatch(s ->
+                    s.getScreeningDateTime().isBefore(end) && s.getScreeningEndDateTime().isAfter(start));
+            assertEquals(expectedOverlap, tree.overlaps(start, end));
+
+            List<Screening> expectedStarting = expected.stream()
+                    .filter(s -> !s.getScreeningDateTime().isBefore(start) && s.getScreeningDateTime().isBefore(end))
+                    .collect(Collectors.toList());
+            assertEquals(expectedStarting, tree.startingBetween(start, end));
+        }
+    }
+
+    /**
+     * Returns a screening of {@code movieName} starting {@code startMinute} minutes after the base date time.
+     */
+    private static Screening screening(String movieName, int startMinute, int durationInMinutes) {
+        LocalDateTime start = BASE_DATE_TIME.plusMinutes(startMinute);
+        return new Screening(movieName, null, start, start.plusMinutes(durationInMinutes));
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.model.screening;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import seedu.address.model.cinema.Cinema;
+import seedu.address.model.cinema.Theater;
+import seedu.address.testutil.CinemaBuilder;
+
+public class ScreeningTimeIndexTest {
+
+    private static final LocalDateTime BASE_DATE_TIME = LocalDateTime.of(2018, 5, 1, 10, 0);
+
+    private final Cinema cinema = new CinemaBuilder().withName("Bedok Shaws").withTheater(2).build();
+
+    @Test
+    public void startingBetween_screeningsInSeveralTheaters_sortedScreeningsInWindow() {
+        Cinema withScreenings = withScreenings(cinema, 1, screening("Early", 0), screening("Late", 300));
+        withScreenings = withScreenings(withScreenings, 2, screening("Middle", 120));
+        ScreeningTimeIndex index = new ScreeningTimeIndex(Collections.singletonList(withScreenings));
+
+        assertEquals(Arrays.asList("Early", "Middle", "Late"), movieNames(index.startingBetween(BASE_DATE_TIME,
+                BASE_DATE_TIME.plusDays(1))));
+
+        // start of the window is included, end is excluded
+        assertEquals(Arrays.asList("Middle"), movieNames(index.startingBetween(BASE_DATE_TIME.plusMinutes(120),
+                BASE_DATE_TIME.plusMinutes(300))));
+
+        // empty window
+        assertTrue(index.startingBetween(BASE_DATE_TIME, BASE_DATE_TIME).isEmpty());
+    }
+
+    @Test
+    public void update_screeningsAddedAndRemoved_indexUpdated() {
+        Screening kept = screening("Kept", 0);
+        Screening removed = screening("Removed", 120);
+        Cinema previous = withScreenings(cinema, 1, kept, removed);
+        ScreeningTimeIndex index = new ScreeningTimeIndex(Collections.singletonList(previous));
+
+        Theater theater = previous.getTheaters().get(0);
+        Cinema updated = previous.withTheater(theater.withoutScreening(removed).withScreening(screening("Added", 240)));
+        index.update(previous, updated);
+
+        List<ScheduledScreening> screenings = index.startingBetween(BASE_DATE_TIME, BASE_DATE_TIME.plusDays(1));
+        assertEquals(Arrays.asList("Kept", "Added"), movieNames(screenings));
+        assertSame(kept, screenings.get(0).getScreening());
+    }
+
+    @Test
+    public void update_cinemaRenamed_screeningsListedUnderNewName() {
+        Cinema previous = withScreenings(cinema, 1, screening("Movie", 0));
+        ScreeningTimeIndex index = new ScreeningTimeIndex(Collections.singletonList(previous));
+
+        Cinema renamed = new CinemaBuilder(previous).withName("Bedok Cathay").build();
+        index.update(previous, renamed);
+
+        List<ScheduledScreening> screenings = index.startingBetween(BASE_DATE_TIME, BASE_DATE_TIME.plusDays(1));
+        assertEquals(1, screenings.size());
+        assertEquals(renamed.getName(), screenings.get(0).getCinemaName());
+    }
+
+    @Test
+    public void remove_cinema_screeningsRemoved() {
+        Cinema withScreenings = withScreenings(cinema, 2, screening("Movie", 0));
+        ScreeningTimeIndex index = new ScreeningTimeIndex(Collections.singletonList(withScreenings));
+
+        index.remove(withScreenings);
+
+        assertTrue(index.startingBetween(BASE_DATE_TIME, BASE_DATE_TIME.plusDays(1)).isEmpty());
+    }
+
+    /**
+     * Returns {@code cinema} with {@code screenings} added to the theater numbered {@code theaterNumber}.
+     */
+    private static Cinema withScreenings(Cinema cinema, int theaterNumber, Screening... screenings) {
+        Theater theater = cinema.getTheaters().get(theaterNumber - 1);
+        return cinema.withTheater(theater.withScreenings(Arrays.asList(screenings)));
+    }
+
+    /**
+     * Returns a two hour screening of {@code movieName} which starts {@code startMinute} minutes after
+     * {@code BASE_DATE_TIME}.
+     */
+    private static Screening screening(String movieName, int startMinute) {
+        LocalDateTime start = BASE_DATE_TIME.plusMinutes(startMinute);
+        return new Screening(movieName, new Theater(1), start, start.plusMinutes(120));
+    }
+
+    private static List<String> movieNames(List<ScheduledScreening> screenings) {
+        return screenings.stream().map(screening -> screening.getScreening().getMovieName())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalCinemas.getTypicalMoviePlanner;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+import seedu.address.model.MoviePlanner;
+import seedu.address.model.ReadOnlyMoviePlanner;
+
+public class AsyncMoviePlannerSaverTest {
+    private static final long LONG_DEBOUNCE_MILLIS = 60000;
+
+    private final List<ReadOnlyMoviePlanner> savedSnapshots = Collections.synchronizedList(new ArrayList<>());
+    private final List<IOException> errors = Collections.synchronizedList(new ArrayList<>());
+    private AsyncMoviePlannerSaver saver;
+
+    @After
+    public void tearDown() {
+        if (saver != null) {
+            saver.stop();
+        }
+    }
+
+    @Test
+    public void requestSave_manyRequestsBeforeFlush_onlyLatestSaved() {
+        saver = new AsyncMoviePlannerSaver(savedSnapshots::add, errors::add, LONG_DEBOUNCE_MILLIS);
+        MoviePlanner latest = getTypicalMoviePlanner();
+        for (int i = 0; i < 50; i++) {
+            saver.requestSave(new MoviePlanner());
+        }
+        saver.requestSave(latest);
+
+        saver.flush();
+        assertEquals(1, savedSnapshots.size());
+        assertSame(latest, savedSnapshots.get(0));
+
+        // nothing left to save
+        saver.flush();
+        assertEquals(1, savedSnapshots.size());
+    }
+
+    @Test
+    public void requestSave_afterDebounceInterval_savedWithoutFlush() throws Exception {
+        saver = new AsyncMoviePlannerSaver(savedSnapshots::add, errors::add, 1);
+        saver.requestSave(new MoviePlanner());
+
+        for (int i = 0; i < 100 && savedSnapshots.isEmpty(); i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, savedSnapshots.size());
+    }
+
+    @Test
+    public void stop_pendingSnapshot_savedAndLaterRequestsIgnored() {
+        saver = new AsyncMoviePlannerSaver(savedSnapshots::add, errors::add, LONG_DEBOUNCE_MILLIS);
+        saver.requestSave(new MoviePlanner());
+
+        saver.stop();
+        assertEquals(1, savedSnapshots.size());
+
+        saver.requestSave(new MoviePlanner());
+        saver.flush();
+        assertEquals(1, savedSnapshots.size());
+    }
+
+    @Test
+    public void flush_saveThrowsException_errorHandled() {
+        saver = new AsyncMoviePlannerSaver(snapshot -> {
+            throw new IOException("dummy exception");
+        }, errors::add, LONG_DEBOUNCE_MILLIS);
+        saver.requestSave(new MoviePlanner());
+
+        saver.flush();
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0).getMessage().contains("dummy"));
+    }
+}
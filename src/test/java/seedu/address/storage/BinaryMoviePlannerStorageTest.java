@@ -0,0 +1,153 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalCinemas.ALJUNIED;
+import static seedu.address.testutil.TypicalCinemas.getTypicalMoviePlanner;
+import static seedu.address.testutil.TypicalMovies.ABTM4;
+import static seedu.address.testutil.TypicalMovies.BLACK_PANTHER;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.FileUtil.SyncPolicy;
+import seedu.address.model.MoviePlanner;
+import seedu.address.model.ReadOnlyMoviePlanner;
+import seedu.address.model.cinema.Cinema;
+import seedu.address.model.cinema.Theater;
+import seedu.address.model.screening.Screening;
+
+public class BinaryMoviePlannerStorageTest {
+    private static final File TYPICAL_CINEMAS_FILE = new File(
+            FileUtil.getPath("./src/test/data/XmlSerializableMoviePlannerTest/typicalCinemasMoviePlanner.xml"));
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        String filePath = new File(testFolder.getRoot(), "NonExistentFile.bin").getPath();
+        assertFalse(new BinaryMoviePlannerStorage(filePath).readMoviePlanner(filePath).isPresent());
+    }
+
+    @Test
+    public void read_notSnapshotFormat_exceptionThrown() throws Exception {
+        thrown.expect(DataConversionException.class);
+        new BinaryMoviePlannerStorage(TYPICAL_CINEMAS_FILE.getPath()).readMoviePlanner(TYPICAL_CINEMAS_FILE.getPath());
+    }
+
+    @Test
+    public void read_truncatedSnapshot_exceptionThrown() throws Exception {
+        File file = new File(testFolder.getRoot(), "MoviePlanner.bin");
+        new BinaryMoviePlannerStorage(file.getPath()).saveMoviePlanner(getMoviePlannerWithScreeningsAndMovies());
+        byte[] snapshot = Files.readAllBytes(file.toPath());
+        Files.write(file.toPath(), Arrays.copyOf(snapshot, snapshot.length / 2));
+
+        thrown.expect(DataConversionException.class);
+        new BinaryMoviePlannerStorage(file.getPath()).readMoviePlanner(file.getPath());
+    }
+
+    @Test
+    public void readAndSaveMoviePlanner_compressed_success() throws Exception {
+        assertRoundTrip(true);
+    }
+
+    @Test
+    public void readAndSaveMoviePlanner_uncompressed_success() throws Exception {
+        assertRoundTrip(false);
+    }
+
+    @Test
+    public void importFromXml_thenExportToXml_sameData() throws Exception {
+        File snapshot = new File(testFolder.getRoot(), "MoviePlanner.bin");
+        File exported = new File(testFolder.getRoot(), "MoviePlanner.xml");
+        BinaryMoviePlannerStorage storage = new BinaryMoviePlannerStorage(snapshot.getPath());
+
+        storage.importFromXml(TYPICAL_CINEMAS_FILE.getPath());
+        assertEquals(getTypicalMoviePlanner(), storage.readMoviePlanner().get());
+
+        storage.exportToXml(exported.getPath());
+        assertEquals(getTypicalMoviePlanner(),
+                new XmlStreamMoviePlannerStorage(exported.getPath()).readMoviePlanner(exported.getPath()).get());
+    }
+
+    @Test
+    public void saveMoviePlanner_compressed_smallerThanXml() throws Exception {
+        MoviePlanner original = getMoviePlannerWithScreeningsAndMovies();
+        File xmlFile = new File(testFolder.getRoot(), "MoviePlanner.xml");
+        File snapshot = new File(testFolder.getRoot(), "MoviePlanner.bin");
+        new XmlStreamMoviePlannerStorage(xmlFile.getPath()).saveMoviePlanner(original);
+        new BinaryMoviePlannerStorage(snapshot.getPath()).saveMoviePlanner(original);
+
+        assertTrue(snapshot.length() * 4 < xmlFile.length());
+    }
+
+    @Test
+    public void toSnapshotFilePath() {
+        assertEquals("data/movieplanner.bin", BinaryMoviePlannerStorage.toSnapshotFilePath("data/movieplanner.xml"));
+        assertEquals("data/movieplanner.bin", BinaryMoviePlannerStorage.toSnapshotFilePath("data/movieplanner"));
+    }
+
+    /**
+     * Asserts that a movie planner saved to a snapshot, compressed if {@code isCompressed}, is read back the same.
+     */
+    private void assertRoundTrip(boolean isCompressed) throws Exception {
+        String filePath = new File(testFolder.getRoot(), "MoviePlanner.bin").getPath();
+        BinaryMoviePlannerStorage storage = new BinaryMoviePlannerStorage(filePath, null, SyncPolicy.NONE, 0,
+                isCompressed);
+        MoviePlanner original = getMoviePlannerWithScreeningsAndMovies();
+
+        storage.saveMoviePlanner(original);
+        assertSameData(original, storage.readMoviePlanner().get());
+
+        original.removeCinema(ALJUNIED);
+        storage.saveMoviePlanner(original);
+        assertSameData(original, storage.readMoviePlanner().get());
+    }
+
+    /**
+     * Returns the typical movie planner, with two movies and two screenings in the first theater of its first cinema.
+     */
+    private MoviePlanner getMoviePlannerWithScreeningsAndMovies() throws Exception {
+        MoviePlanner moviePlanner = getTypicalMoviePlanner();
+        Theater theater = ALJUNIED.getTheaters().get(0);
+        Screening morning = new Screening(ABTM4.getName().movieName, theater,
+                LocalDateTime.of(2030, 5, 1, 10, 0), LocalDateTime.of(2030, 5, 1, 12, 30));
+        Screening evening = new Screening(BLACK_PANTHER.getName().movieName, theater,
+                LocalDateTime.of(2030, 5, 1, 19, 5), LocalDateTime.of(2030, 5, 1, 21, 20));
+        moviePlanner.updateCinema(ALJUNIED,
+                ALJUNIED.withTheater(theater.withScreening(morning).withScreening(evening)));
+        moviePlanner.addMovie(ABTM4);
+        moviePlanner.addMovie(BLACK_PANTHER);
+        return moviePlanner;
+    }
+
+    /**
+     * Asserts that {@code actual} has the same data as {@code expected}, including the screenings in every theater,
+     * which {@code MoviePlanner#equals(Object)} does not compare.
+     */
+    private void assertSameData(ReadOnlyMoviePlanner expected, ReadOnlyMoviePlanner actual) {
+        assertEquals(expected, new MoviePlanner(actual));
+        for (int i = 0; i < expected.getCinemaList().size(); i++) {
+            Cinema expectedCinema = expected.getCinemaList().get(i);
+            Cinema actualCinema = actual.getCinemaList().get(i);
+            for (int j = 0; j < expectedCinema.getTheaters().size(); j++) {
+                assertEquals(expectedCinema.getTheaters().get(j).getScreeningList(),
+                        actualCinema.getTheaters().get(j).getScreeningList());
+            }
+        }
+    }
+}
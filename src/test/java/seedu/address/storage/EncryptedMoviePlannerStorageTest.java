@@ -0,0 +1,211 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCinemas.ALJUNIED;
+import static seedu.address.testutil.TypicalCinemas.HOUGANG;
+import static seedu.address.testutil.TypicalCinemas.getTypicalMoviePlanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.util.FileUtil.SyncPolicy;
+import seedu.address.model.MoviePlanner;
+import seedu.address.model.MoviePlannerEdit;
+import seedu.address.model.ReadOnlyMoviePlanner;
+import seedu.address.model.cinema.Theater;
+import seedu.address.model.screening.Screening;
+import seedu.address.testutil.CinemaBuilder;
+
+public class EncryptedMoviePlannerStorageTest {
+
+    private static final String PASSWORD = "pass";
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private File dataFile;
+    private File encryptedFile;
+
+    @Before
+    public void setUp() {
+        dataFile = new File(testFolder.getRoot(), "MoviePlanner.xml");
+        encryptedFile = new File(testFolder.getRoot(), "EncryptedMoviePlanner.xml");
+    }
+
+    @Test
+    public void encryptMoviePlanner_plainDataFile_onlyEncryptedFileKept() throws Exception {
+        EncryptedMoviePlannerStorage storage = createStorage(1);
+        MoviePlanner original = getTypicalMoviePlanner();
+        storage.saveMoviePlanner(original);
+        storage.backupMoviePlanner(original);
+
+        storage.encryptMoviePlanner(original, PASSWORD);
+
+        assertTrue(storage.isEncrypted());
+        assertFalse(dataFile.exists());
+        assertFalse(new File(dataFile.getPath() + ".backup.1").exists());
+        String encrypted = new String(Files.readAllBytes(encryptedFile.toPath()), StandardCharsets.ISO_8859_1);
+        assertFalse(encrypted.contains(ALJUNIED.getName().fullName));
+        assertEquals(original, new MoviePlanner(storage.readMoviePlanner().get()));
+    }
+
+    @Test
+    public void saveMoviePlanner_encrypted_onlyEncryptedFileWritten() throws Exception {
+        EncryptedMoviePlannerStorage storage = createStorage(1);
+        MoviePlanner original = getTypicalMoviePlanner();
+        storage.saveMoviePlanner(original);
+        storage.encryptMoviePlanner(original, PASSWORD);
+
+        original.addCinema(HOUGANG);
+        storage.saveMoviePlanner(original);
+        storage.backupMoviePlanner(original);
+
+        assertFalse(dataFile.exists());
+        assertEquals(original, new MoviePlanner(storage.readMoviePlanner().get()));
+        EncryptedMoviePlannerStorage backup = new EncryptedMoviePlannerStorage(
+                new XmlStreamMoviePlannerStorage(dataFile.getPath(), dataFile.getPath() + ".backup.1"));
+        backup.decryptMoviePlanner(PASSWORD);
+        assertEquals(original, new MoviePlanner(backup.readMoviePlanner().get()));
+    }
+
+    @Test
+    public void decryptMoviePlanner_encrypted_dataFileRestored() throws Exception {
+        EncryptedMoviePlannerStorage storage = createStorage(0);
+        MoviePlanner original = getTypicalMoviePlanner();
+        storage.saveMoviePlanner(original);
+        storage.encryptMoviePlanner(original, PASSWORD);
+
+        storage.decryptMoviePlanner(PASSWORD);
+
+        assertFalse(storage.isEncrypted());
+        assertEquals(original, new XmlStreamMoviePlannerStorage(dataFile.getPath()).readMoviePlanner().get());
+        original.removeCinema(ALJUNIED);
+        storage.saveMoviePlanner(original);
+        assertEquals(original, new XmlStreamMoviePlannerStorage(dataFile.getPath()).readMoviePlanner().get());
+    }
+
+    @Test
+    public void decryptMoviePlanner_wrongPassword_staysEncrypted() throws Exception {
+        EncryptedMoviePlannerStorage storage = createStorage(0);
+        MoviePlanner original = getTypicalMoviePlanner();
+        storage.saveMoviePlanner(original);
+        storage.encryptMoviePlanner(original, PASSWORD);
+
+        try {
+            storage.decryptMoviePlanner("wrong");
+            throw new AssertionError("The expected IOException was not thrown.");
+        } catch (IOException ioe) {
+            assertTrue(storage.isEncrypted());
+            assertFalse(dataFile.exists());
+        }
+    }
+
+    @Test
+    public void readMoviePlanner_onlyEncryptedFileAfterRestart_encryptedDataNeverOverwritten() throws Exception {
+        MoviePlanner original = getTypicalMoviePlanner();
+        EncryptedMoviePlannerStorage storage = createStorage(1);
+        storage.saveMoviePlanner(original);
+        storage.encryptMoviePlanner(original, PASSWORD);
+        byte[] encrypted = Files.readAllBytes(encryptedFile.toPath());
+
+        EncryptedMoviePlannerStorage restarted = createStorage(1);
+        String expectedMessage = String.format(EncryptedMoviePlannerStorage.MESSAGE_LOCKED, encryptedFile.getPath());
+        assertTrue(restarted.isEncrypted());
+        assertThrows(IOException.class, expectedMessage, () -> restarted.readMoviePlanner());
+        assertThrows(IOException.class, expectedMessage, () -> restarted.saveMoviePlanner(new MoviePlanner()));
+        assertThrows(IOException.class, expectedMessage, () -> restarted.backupMoviePlanner(new MoviePlanner()));
+        assertThrows(IOException.class, expectedMessage, () ->
+                restarted.encryptMoviePlanner(new MoviePlanner(), "other"));
+        assertArrayEquals(encrypted, Files.readAllBytes(encryptedFile.toPath()));
+
+        // the data in memory is still not the saved one once decrypted
+        restarted.decryptMoviePlanner(PASSWORD);
+        assertFalse(restarted.isEncrypted());
+        assertEquals(original, new MoviePlanner(restarted.readMoviePlanner().get()));
+        assertThrows(IOException.class, expectedMessage, () -> restarted.saveMoviePlanner(new MoviePlanner()));
+    }
+
+    @Test
+    public void encryptMoviePlanner_archivedScreenings_keptOnlyInEncryptedFile() throws Exception {
+        EncryptedMoviePlannerStorage storage = createStorage(0);
+        MoviePlanner moviePlanner = new MoviePlanner();
+        moviePlanner.addCinema(new CinemaBuilder().build());
+        Theater theater = moviePlanner.getCinemaList().get(0).getTheaters().get(0);
+        LocalDateTime start = LocalDateTime.of(2018, 5, 1, 10, 0);
+        theater.addScreeningToTheater(new Screening("Past", theater, start, start.plusHours(2)));
+        File archiveFile = new File(MappedScreeningArchive.getArchiveFilePath(dataFile.getPath()));
+        MappedScreeningArchive.archiveScreenings(archiveFile, moviePlanner, start.plusDays(1), SyncPolicy.NONE)
+                .get().attachTo(moviePlanner);
+        storage.saveMoviePlanner(moviePlanner);
+
+        storage.encryptMoviePlanner(moviePlanner, PASSWORD);
+        assertFalse(archiveFile.exists());
+        assertEquals(1, getFirstTheater(storage.readMoviePlanner().get()).getScreeningList().size());
+
+        // the archived screenings still attached are saved with the others from now on
+        storage.saveMoviePlanner(moviePlanner);
+        assertEquals(1, getFirstTheater(storage.readMoviePlanner().get()).getScreeningList().size());
+        storage.decryptMoviePlanner(PASSWORD);
+        storage.saveMoviePlanner(moviePlanner);
+        assertEquals(1, getFirstTheater(storage.readMoviePlanner().get()).getScreeningList().size());
+    }
+
+    @Test
+    public void encryptMoviePlanner_unsavedChanges_changesEncrypted() throws Exception {
+        EncryptedMoviePlannerStorage storage = createStorage(0);
+        MoviePlanner original = getTypicalMoviePlanner();
+        storage.saveMoviePlanner(original);
+        byte[] saved = Files.readAllBytes(dataFile.toPath());
+        original.addCinema(HOUGANG);
+
+        // the planner in memory is encrypted, not the data file saved before the change
+        storage.encryptMoviePlanner(original, PASSWORD);
+        assertFalse(dataFile.exists());
+        assertEquals(original, new MoviePlanner(storage.readMoviePlanner().get()));
+
+        storage.decryptMoviePlanner(PASSWORD);
+        assertFalse(Arrays.equals(saved, Files.readAllBytes(dataFile.toPath())));
+        assertEquals(original, new XmlStreamMoviePlannerStorage(dataFile.getPath()).readMoviePlanner().get());
+    }
+
+    @Test
+    public void encryptMoviePlanner_journaledEdits_journalDeleted() throws Exception {
+        JournalMoviePlannerStorage journalStorage =
+                new JournalMoviePlannerStorage(dataFile.getPath(), encryptedFile.getPath(), 100);
+        EncryptedMoviePlannerStorage storage = new EncryptedMoviePlannerStorage(journalStorage);
+        MoviePlanner original = getTypicalMoviePlanner();
+        storage.saveMoviePlanner(original);
+        original.addCinema(HOUGANG);
+        MoviePlannerEdit addition = new MoviePlannerEdit(MoviePlannerEdit.ListType.CINEMAS,
+                original.getCinemaList().size() - 1, Collections.emptyList(), Collections.singletonList(HOUGANG));
+        storage.saveMoviePlannerChanges(original, Collections.singletonList(addition));
+
+        storage.encryptMoviePlanner(original, PASSWORD);
+
+        assertEquals(0, testFolder.getRoot().listFiles((dir, name) -> name.contains(".journal.")).length);
+        assertEquals(original, new MoviePlanner(storage.readMoviePlanner().get()));
+    }
+
+    private static Theater getFirstTheater(ReadOnlyMoviePlanner moviePlanner) {
+        return moviePlanner.getCinemaList().get(0).getTheaters().get(0);
+    }
+
+    private EncryptedMoviePlannerStorage createStorage(int backupCount) {
+        return new EncryptedMoviePlannerStorage(new XmlStreamMoviePlannerStorage(dataFile.getPath(),
+                encryptedFile.getPath(), SyncPolicy.NONE, backupCount));
+    }
+}
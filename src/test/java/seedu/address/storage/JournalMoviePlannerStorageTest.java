@@ -0,0 +1,212 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.TypicalCinemas.ALJUNIED;
+import static seedu.address.testutil.TypicalCinemas.BEDOK;
+import static seedu.address.testutil.TypicalCinemas.HOUGANG;
+import static seedu.address.testutil.TypicalCinemas.getTypicalMoviePlanner;
+import static seedu.address.testutil.TypicalMovies.ABTM4;
+import static seedu.address.testutil.TypicalMovies.BLACK_PANTHER;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.MoviePlanner;
+import seedu.address.model.MoviePlannerEdit;
+import seedu.address.model.ReadOnlyMoviePlanner;
+import seedu.address.model.cinema.Cinema;
+import seedu.address.model.cinema.Theater;
+import seedu.address.model.movie.Movie;
+import seedu.address.model.screening.Screening;
+import seedu.address.model.tag.Tag;
+
+public class JournalMoviePlannerStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final List<MoviePlannerEdit> edits = new ArrayList<>();
+    private MoviePlanner moviePlanner;
+    // referenced so that these views keep reporting changes
+    private ObservableList<Cinema> cinemas;
+    private ObservableList<Movie> movies;
+    private ObservableList<Tag> tags;
+    private String filePath;
+
+    @Before
+    public void setUp() {
+        moviePlanner = getTypicalMoviePlanner();
+        cinemas = moviePlanner.getCinemaList();
+        movies = moviePlanner.getMovieList();
+        tags = moviePlanner.getTagList();
+        cinemas.addListener((ListChangeListener<Cinema>) change ->
+                edits.addAll(MoviePlannerEdit.of(MoviePlannerEdit.ListType.CINEMAS, change)));
+        movies.addListener((ListChangeListener<Movie>) change ->
+                edits.addAll(MoviePlannerEdit.of(MoviePlannerEdit.ListType.MOVIES, change)));
+        tags.addListener((ListChangeListener<Tag>) change ->
+                edits.addAll(MoviePlannerEdit.of(MoviePlannerEdit.ListType.TAGS, change)));
+        filePath = testFolder.getRoot().getPath() + File.separator + "MoviePlanner.xml";
+    }
+
+    @Test
+    public void saveMoviePlannerChanges_noDataFile_wholeMoviePlannerSaved() throws Exception {
+        JournalMoviePlannerStorage storage = new JournalMoviePlannerStorage(filePath, null, 100);
+        moviePlanner.addCinema(HOUGANG);
+        saveEdits(storage);
+
+        assertEquals(0, getJournalFiles().length);
+        assertEquals(moviePlanner, new XmlStreamMoviePlannerStorage(filePath).readMoviePlanner().get());
+    }
+
+    @Test
+    public void readMoviePlanner_journaledEdits_editsReplayed() throws Exception {
+        JournalMoviePlannerStorage storage = new JournalMoviePlannerStorage(filePath, null, 100);
+        storage.saveMoviePlanner(moviePlanner);
+
+        moviePlanner.addCinema(HOUGANG);
+        moviePlanner.removeCinema(BEDOK);
+        saveEdits(storage);
+        Theater theater = ALJUNIED.getTheaters().get(0);
+        Screening screening = new Screening(ABTM4.getName().movieName, theater,
+                LocalDateTime.of(2030, 5, 1, 10, 0), LocalDateTime.of(2030, 5, 1, 12, 30));
+        moviePlanner.updateCinema(ALJUNIED, ALJUNIED.withTheater(theater.withScreening(screening)));
+        moviePlanner.addMovie(ABTM4);
+        moviePlanner.addMovie(BLACK_PANTHER);
+        saveEdits(storage);
+
+        assertEquals(1, getJournalFiles().length);
+        ReadOnlyMoviePlanner readBack = new JournalMoviePlannerStorage(filePath, null, 100).readMoviePlanner().get();
+        assertEquals(moviePlanner, new MoviePlanner(readBack));
+        assertEquals(screening, readBack.getCinemaList().get(0).getTheaters().get(0).getScreeningList().get(0));
+    }
+
+    @Test
+    public void readMoviePlanner_journaledScreeningEdits_onlyScreeningsJournaled() throws Exception {
+        JournalMoviePlannerStorage storage = new JournalMoviePlannerStorage(filePath, null, 100);
+        storage.saveMoviePlanner(moviePlanner);
+
+        Theater theater = ALJUNIED.getTheaters().get(0);
+        Screening first = new Screening(ABTM4.getName().movieName, theater,
+                LocalDateTime.of(2030, 5, 1, 10, 0), LocalDateTime.of(2030, 5, 1, 12, 30));
+        Screening second = new Screening(BLACK_PANTHER.getName().movieName, theater,
+                LocalDateTime.of(2030, 5, 1, 13, 0), LocalDateTime.of(2030, 5, 1, 15, 30));
+        Cinema withBoth = ALJUNIED.withTheater(theater.withScreening(first).withScreening(second));
+        moviePlanner.updateCinema(ALJUNIED, withBoth);
+        Theater theaterWithBoth = withBoth.getTheaters().get(0);
+        moviePlanner.updateCinema(withBoth, withBoth.withTheater(theaterWithBoth.withoutScreening(first)));
+        saveEdits(storage);
+
+        String journal = new String(Files.readAllBytes(getJournalFiles()[0].toPath()), StandardCharsets.UTF_8);
+        assertFalse(journal.contains(ALJUNIED.getAddress().value));
+        ReadOnlyMoviePlanner readBack = new JournalMoviePlannerStorage(filePath, null, 100).readMoviePlanner().get();
+        assertEquals(moviePlanner, new MoviePlanner(readBack));
+        assertEquals(Collections.singletonList(second),
+                readBack.getCinemaList().get(0).getTheaters().get(0).getScreeningList());
+    }
+
+    @Test
+    public void readMoviePlanner_partlyWrittenEdit_restOfJournalIgnored() throws Exception {
+        JournalMoviePlannerStorage storage = new JournalMoviePlannerStorage(filePath, null, 100);
+        storage.saveMoviePlanner(moviePlanner);
+        moviePlanner.addCinema(HOUGANG);
+        saveEdits(storage);
+        MoviePlanner expected = new MoviePlanner(moviePlanner);
+
+        moviePlanner.removeCinema(ALJUNIED);
+        saveEdits(storage);
+        File journalFile = getJournalFiles()[0];
+        byte[] journal = Files.readAllBytes(journalFile.toPath());
+        Files.write(journalFile.toPath(), Arrays.copyOf(journal, journal.length - 10));
+
+        JournalMoviePlannerStorage reopened = new JournalMoviePlannerStorage(filePath, null, 100);
+        assertEquals(expected, new MoviePlanner(reopened.readMoviePlanner().get()));
+
+        // edits saved after reopening are replayed after the partly written edit is skipped
+        MoviePlanner reopenedMoviePlanner = new MoviePlanner(reopened.readMoviePlanner().get());
+        reopenedMoviePlanner.removeCinema(BEDOK);
+        MoviePlannerEdit removal = new MoviePlannerEdit(MoviePlannerEdit.ListType.CINEMAS,
+                expected.getCinemaList().indexOf(BEDOK), Collections.singletonList(BEDOK), Collections.emptyList());
+        reopened.saveMoviePlannerChanges(reopenedMoviePlanner, Collections.singletonList(removal));
+        assertEquals(reopenedMoviePlanner, new MoviePlanner(
+                new JournalMoviePlannerStorage(filePath, null, 100).readMoviePlanner().get()));
+    }
+
+    @Test
+    public void saveMoviePlannerChanges_thresholdReached_journalCompacted() throws Exception {
+        JournalMoviePlannerStorage storage = new JournalMoviePlannerStorage(filePath, null, 2);
+        storage.saveMoviePlanner(moviePlanner);
+
+        moviePlanner.addCinema(HOUGANG);
+        saveEdits(storage);
+        assertEquals(1, getJournalFiles().length);
+
+        moviePlanner.addMovie(ABTM4);
+        saveEdits(storage);
+        storage.awaitCompaction();
+        assertEquals(0, getJournalFiles().length);
+
+        moviePlanner.removeCinema(HOUGANG);
+        saveEdits(storage);
+        assertEquals(1, getJournalFiles().length);
+        assertEquals(moviePlanner, new MoviePlanner(
+                new JournalMoviePlannerStorage(filePath, null, 2).readMoviePlanner().get()));
+    }
+
+    @Test
+    public void saveMoviePlanner_journaledEdits_journalDeleted() throws Exception {
+        JournalMoviePlannerStorage storage = new JournalMoviePlannerStorage(filePath, null, 100);
+        storage.saveMoviePlanner(moviePlanner);
+        moviePlanner.addCinema(HOUGANG);
+        saveEdits(storage);
+
+        storage.saveMoviePlanner(moviePlanner);
+        assertEquals(0, getJournalFiles().length);
+        assertEquals(moviePlanner, new MoviePlanner(
+                new JournalMoviePlannerStorage(filePath, null, 100).readMoviePlanner().get()));
+    }
+
+    @Test
+    public void readMoviePlanner_journalDoesNotMatchDataFile_exceptionThrown() throws Exception {
+        JournalMoviePlannerStorage storage = new JournalMoviePlannerStorage(filePath, null, 100);
+        storage.saveMoviePlanner(moviePlanner);
+        moviePlanner.removeCinema(ALJUNIED);
+        saveEdits(storage);
+
+        // replace the data file with one the journal was not written for
+        XmlStreamFileStorage.saveDataToFile(new File(filePath), new MoviePlanner());
+
+        thrown.expect(DataConversionException.class);
+        new JournalMoviePlannerStorage(filePath, null, 100).readMoviePlanner();
+    }
+
+    /**
+     * Saves the edits made to {@code moviePlanner} since they were last saved to {@code storage}.
+     */
+    private void saveEdits(JournalMoviePlannerStorage storage) throws Exception {
+        storage.saveMoviePlannerChanges(moviePlanner, new ArrayList<>(edits));
+        edits.clear();
+    }
+
+    private File[] getJournalFiles() {
+        return testFolder.getRoot().listFiles((dir, name) -> name.startsWith("MoviePlanner.xml.journal."));
+    }
+}
@@ -0,0 +1,172 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.FileUtil.SyncPolicy;
+import seedu.address.model.MoviePlanner;
+import seedu.address.model.cinema.Cinema;
+import seedu.address.model.cinema.Theater;
+import seedu.address.model.screening.Screening;
+import seedu.address.testutil.CinemaBuilder;
+
+public class MappedScreeningArchiveTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2020, 1, 1, 0, 0);
+    private static final LocalDate PAST_DATE = LocalDate.of(2018, 5, 1);
+    private static final LocalDate FUTURE_DATE = LocalDate.of(2030, 5, 1);
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private File archiveFile;
+    private MoviePlanner moviePlanner;
+    private Theater theater;
+
+    @Before
+    public void setUp() throws Exception {
+        archiveFile = new File(testFolder.getRoot(), "MoviePlanner.xml.archive");
+        Cinema cinema = new CinemaBuilder().build();
+        theater = cinema.getTheaters().get(0);
+        moviePlanner = new MoviePlanner();
+        moviePlanner.addCinema(cinema);
+    }
+
+    @Test
+    public void archiveScreenings_noPastScreenings_noArchive() throws Exception {
+        addScreening("Future", FUTURE_DATE.atTime(10, 0), FUTURE_DATE.atTime(12, 0));
+
+        assertFalse(archive().isPresent());
+        assertFalse(archiveFile.exists());
+    }
+
+    @Test
+    public void attachTo_pastScreenings_readFromArchive() throws Exception {
+        Screening past = addScreening("Past", PAST_DATE.atTime(10, 0), PAST_DATE.atTime(12, 0));
+        Screening future = addScreening("Future", FUTURE_DATE.atTime(10, 0), FUTURE_DATE.atTime(12, 0));
+
+        MappedScreeningArchive archive = archive().get();
+        assertEquals(1, archive.size());
+        assertTrue(archive.attachTo(moviePlanner));
+
+        assertEquals(Collections.singletonList(future), theater.getScreeningList());
+        assertEquals(Collections.singletonList(past), theater.screeningsOn(PAST_DATE));
+        assertEquals(Collections.singletonList(future), theater.screeningsOn(FUTURE_DATE));
+        assertTrue(theater.overlaps(PAST_DATE.atTime(11, 0), PAST_DATE.atTime(13, 0)));
+        assertFalse(theater.overlaps(PAST_DATE.atTime(12, 0), PAST_DATE.atTime(13, 0)));
+        assertTrue(moviePlanner.getCinemaList().get(0).getTheaters().get(1).screeningsOn(PAST_DATE).isEmpty());
+    }
+
+    @Test
+    public void attachTo_archivedScreeningEndingAfterCutoff_overlapsLaterScreenings() throws Exception {
+        addScreening("Late", CUTOFF.minusHours(1), CUTOFF.plusHours(1));
+        archive().get().attachTo(moviePlanner);
+
+        assertTrue(theater.getScreeningList().isEmpty());
+        assertTrue(theater.overlaps(CUTOFF.plusMinutes(30), CUTOFF.plusHours(2)));
+        assertFalse(theater.overlaps(CUTOFF.plusHours(1), CUTOFF.plusHours(2)));
+    }
+
+    @Test
+    public void attachTo_pastScreeningAddedAfterArchiving_mergedWithArchive() throws Exception {
+        Screening archived = addScreening("Archived", PAST_DATE.atTime(15, 0), PAST_DATE.atTime(17, 0));
+        archive().get().attachTo(moviePlanner);
+
+        Screening added = addScreening("Added", PAST_DATE.atTime(10, 0), PAST_DATE.atTime(12, 0));
+
+        assertEquals(Arrays.asList(added, archived), theater.screeningsOn(PAST_DATE));
+    }
+
+    @Test
+    public void archiveScreenings_existingArchive_mergedWithoutDuplicates() throws Exception {
+        Screening first = addScreening("First", PAST_DATE.atTime(15, 0), PAST_DATE.atTime(17, 0));
+        archive();
+        // the first screening was archived but not yet dropped, as if the data file had not been saved since
+        Screening second = addScreening("Second", PAST_DATE.atTime(10, 0), PAST_DATE.atTime(12, 0));
+
+        MappedScreeningArchive archive = archive().get();
+        assertEquals(2, archive.size());
+        archive.attachTo(moviePlanner);
+
+        assertTrue(theater.getScreeningList().isEmpty());
+        assertEquals(Arrays.asList(second, first), theater.screeningsOn(PAST_DATE));
+    }
+
+    @Test
+    public void updateCinemaNames_renamedCinema_screeningsKeptUnderNewName() throws Exception {
+        addScreening("Past", PAST_DATE.atTime(10, 0), PAST_DATE.atTime(12, 0));
+        MappedScreeningArchive archive = archive().get();
+        archive.attachTo(moviePlanner);
+        Cinema cinema = moviePlanner.getCinemaList().get(0);
+        moviePlanner.updateCinema(cinema, new CinemaBuilder(cinema).withName("Renamed Cinema").build());
+
+        assertTrue(archive.updateCinemaNames(moviePlanner, SyncPolicy.NONE));
+        assertFalse(archive.updateCinemaNames(moviePlanner, SyncPolicy.NONE));
+
+        Theater renamedTheater = attachToNewCinema(new CinemaBuilder().withName("Renamed Cinema").build());
+        assertEquals(1, renamedTheater.screeningsOn(PAST_DATE).size());
+        assertEquals("Past", renamedTheater.screeningsOn(PAST_DATE).get(0).getMovieName());
+        assertTrue(attachToNewCinema(new CinemaBuilder().build()).screeningsOn(PAST_DATE).isEmpty());
+    }
+
+    @Test
+    public void updateCinemaNames_deletedCinemaAddedAgain_screeningsNotReturned() throws Exception {
+        addScreening("Past", PAST_DATE.atTime(10, 0), PAST_DATE.atTime(12, 0));
+        MappedScreeningArchive archive = archive().get();
+        archive.attachTo(moviePlanner);
+        moviePlanner.removeCinema(moviePlanner.getCinemaList().get(0));
+
+        assertTrue(archive.updateCinemaNames(moviePlanner, SyncPolicy.NONE));
+
+        assertTrue(attachToNewCinema(new CinemaBuilder().build()).screeningsOn(PAST_DATE).isEmpty());
+    }
+
+    @Test
+    public void open_notArchive_throwsDataConversionException() throws Exception {
+        File notArchive = testFolder.newFile("NotArchive.archive");
+        FileUtil.writeToFile(notArchive, "not an archive");
+
+        thrown.expect(DataConversionException.class);
+        MappedScreeningArchive.open(notArchive);
+    }
+
+    private Optional<MappedScreeningArchive> archive() throws Exception {
+        return MappedScreeningArchive.archiveScreenings(archiveFile, moviePlanner, CUTOFF, SyncPolicy.NONE);
+    }
+
+    /**
+     * Attaches a newly opened copy of the archive to a planner holding only {@code cinema}, and returns its first
+     * theater.
+     */
+    private Theater attachToNewCinema(Cinema cinema) throws Exception {
+        MoviePlanner newMoviePlanner = new MoviePlanner();
+        newMoviePlanner.addCinema(cinema);
+        MappedScreeningArchive.open(archiveFile).attachTo(newMoviePlanner);
+        return cinema.getTheaters().get(0);
+    }
+
+    private Screening addScreening(String movieName, LocalDateTime start, LocalDateTime end) {
+        Screening screening = new Screening(movieName, theater, start, end);
+        theater.addScreeningToTheater(screening);
+        return screening;
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static junit.framework.TestCase.assertNotNull;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.TypicalCinemas.getTypicalMoviePlanner;
 
@@ -82,6 +83,31 @@ public class StorageManagerTest {
     }
 
 
+    @Test
+    public void handleMoviePlannerChangedEvent_savedInBackground_latestDataSaved() throws Exception {
+        StorageManager backgroundStorage = new StorageManager(new XmlMoviePlannerStorage(getTempFilePath("bg")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), 60000);
+        MoviePlanner moviePlanner = getTypicalMoviePlanner();
+        backgroundStorage.handleMoviePlannerChangedEvent(new MoviePlannerChangedEvent(moviePlanner));
+        assertFalse(backgroundStorage.readMoviePlanner().isPresent());
+
+        // changes made after the event are not saved
+        MoviePlanner expected = new MoviePlanner(moviePlanner);
+        moviePlanner.removeCinema(moviePlanner.getCinemaList().get(0));
+
+        backgroundStorage.stop();
+        assertEquals(expected, new MoviePlanner(backgroundStorage.readMoviePlanner().get()));
+    }
+
+    @Test
+    public void handleMoviePlannerChangedEvent_exceptionThrownInBackground_eventRaised() {
+        Storage storage = new StorageManager(new XmlMoviePlannerStorageExceptionThrowingStub("dummy"),
+                new JsonUserPrefsStorage("dummy"), 60000);
+        storage.handleMoviePlannerChangedEvent(new MoviePlannerChangedEvent(new MoviePlanner()));
+        storage.stop();
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
+    }
+
     /**
      * A Stub class to throw an exception when the save method is called
      */
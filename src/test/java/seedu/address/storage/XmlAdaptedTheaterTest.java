@@ -0,0 +1,61 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.cinema.Theater;
+import seedu.address.model.screening.Screening;
+import seedu.address.testutil.Assert;
+
+public class XmlAdaptedTheaterTest {
+    private static final XmlAdaptedScreening VALID_SCREENING =
+            new XmlAdaptedScreening("Black Panther", "01/05/2030 10:00", "01/05/2030 12:15");
+    private static final XmlAdaptedScreening INVALID_SCREENING =
+            new XmlAdaptedScreening("Avengers", "31/02/2030 10:00", "31/02/2030 12:00");
+
+    @After
+    public void tearDown() {
+        XmlAdaptedTheater.setLazyLoadingEnabled(false);
+    }
+
+    @Test
+    public void toModelType_invalidScreening_throwsParseException() {
+        XmlAdaptedTheater theater = new XmlAdaptedTheater(1,
+                new ArrayList<>(Arrays.asList(VALID_SCREENING, INVALID_SCREENING)));
+        Assert.assertThrows(ParseException.class, Messages.MESSAGE_INVALID_SCREEN_DATE_TIME,
+                theater::toModelType);
+    }
+
+    @Test
+    public void toModelType_lazyLoading_sameScreenings() throws Exception {
+        XmlAdaptedTheater adaptedTheater = new XmlAdaptedTheater(1,
+                new ArrayList<>(Collections.singletonList(VALID_SCREENING)));
+        Theater eagerTheater = adaptedTheater.toModelType();
+
+        XmlAdaptedTheater.setLazyLoadingEnabled(true);
+        Theater lazyTheater = adaptedTheater.toModelType();
+
+        assertEquals(eagerTheater, lazyTheater);
+        assertEquals(eagerTheater.getScreeningList(), lazyTheater.getScreeningList());
+    }
+
+    @Test
+    public void toModelType_lazyLoadingInvalidScreening_screeningLeftOut() throws Exception {
+        XmlAdaptedTheater.setLazyLoadingEnabled(true);
+        XmlAdaptedTheater adaptedTheater = new XmlAdaptedTheater(1,
+                new ArrayList<>(Arrays.asList(INVALID_SCREENING, VALID_SCREENING)));
+
+        Theater theater = adaptedTheater.toModelType();
+
+        Screening expected = VALID_SCREENING.toModelType(theater);
+        assertEquals(Collections.singletonList(expected), theater.getScreeningList());
+    }
+}
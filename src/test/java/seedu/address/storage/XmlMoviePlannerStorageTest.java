@@ -7,7 +7,10 @@ import static seedu.address.testutil.TypicalCinemas.HOUGANG;
 import static seedu.address.testutil.TypicalCinemas.INDO;
 import static seedu.address.testutil.TypicalCinemas.getTypicalMoviePlanner;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -16,6 +19,7 @@ import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.FileUtil.SyncPolicy;
 import seedu.address.model.MoviePlanner;
 import seedu.address.model.ReadOnlyMoviePlanner;
 
@@ -121,5 +125,46 @@ public class XmlMoviePlannerStorageTest {
         saveMoviePlanner(new MoviePlanner(), null);
     }
 
+    @Test
+    public void backupMoviePlanner_moreBackupsThanCount_oldestDiscarded() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + File.separator + "TempMoviePlanner.xml";
+        XmlMoviePlannerStorage storage = new XmlMoviePlannerStorage(filePath, null, SyncPolicy.NONE, 2);
+        MoviePlanner moviePlanner = new MoviePlanner();
+
+        moviePlanner.addCinema(ALJUNIED);
+        storage.backupMoviePlanner(moviePlanner);
+        moviePlanner.addCinema(HOUGANG);
+        storage.backupMoviePlanner(moviePlanner);
+        MoviePlanner secondBackup = new MoviePlanner(moviePlanner);
+        moviePlanner.addCinema(INDO);
+        storage.backupMoviePlanner(moviePlanner);
+
+        assertEquals(moviePlanner, new MoviePlanner(storage.readMoviePlanner(storage.getBackupFilePath(1)).get()));
+        assertEquals(secondBackup, new MoviePlanner(storage.readMoviePlanner(storage.getBackupFilePath(2)).get()));
+        assertFalse(new File(storage.getBackupFilePath(3)).exists());
+    }
 
+    @Test
+    public void saveMoviePlanner_writeFails_previousFileKept() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + File.separator + "TempMoviePlanner.xml";
+        MoviePlanner original = getTypicalMoviePlanner();
+        new XmlMoviePlannerStorage(filePath).saveMoviePlanner(original);
+
+        XmlMoviePlannerStorage failingStorage = new XmlMoviePlannerStorage(filePath) {
+            @Override
+            protected void storeMoviePlanner(ReadOnlyMoviePlanner moviePlanner, OutputStream out) throws IOException {
+                out.write("<movieplanner>".getBytes(StandardCharsets.UTF_8));
+                throw new IOException("dummy exception");
+            }
+        };
+        try {
+            failingStorage.saveMoviePlanner(new MoviePlanner());
+            throw new AssertionError("Saving should fail");
+        } catch (IOException ioe) {
+            assertEquals("dummy exception", ioe.getMessage());
+        }
+
+        assertEquals(original, new MoviePlanner(new XmlMoviePlannerStorage(filePath).readMoviePlanner().get()));
+        assertEquals(1, testFolder.getRoot().list().length);
+    }
 }
@@ -2,7 +2,10 @@ package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -12,6 +15,8 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.XmlUtil;
 import seedu.address.model.MoviePlanner;
+import seedu.address.model.cinema.Phone;
+import seedu.address.testutil.CinemaBuilder;
 import seedu.address.testutil.TypicalCinemas;
 
 public class XmlSerializableMoviePlannerTest {
@@ -48,4 +53,37 @@ public class XmlSerializableMoviePlannerTest {
         thrown.expect(IllegalValueException.class);
         dataFromFile.toModelType();
     }
+
+    @Test
+    public void toModelType_manyCinemas_success() throws Exception {
+        MoviePlanner original = getMoviePlannerWithManyCinemas();
+        assertEquals(original, new XmlSerializableMoviePlanner(original).toModelType());
+    }
+
+    @Test
+    public void toModelType_manyCinemasWithInvalidOnes_throwsFirstError() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        XmlUtil.saveDataToStream(out, new XmlSerializableMoviePlanner(getMoviePlannerWithManyCinemas()));
+        String xml = new String(out.toByteArray(), StandardCharsets.UTF_8)
+                .replace(">10000100<", ">invalid phone<")
+                .replace("cinema200@example.com", "cinema200@exam!ple");
+        XmlSerializableMoviePlanner data = XmlUtil.getDataFromStream(
+                new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), XmlSerializableMoviePlanner.class);
+
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(Phone.MESSAGE_PHONE_CONSTRAINTS);
+        data.toModelType();
+    }
+
+    /**
+     * Returns a movie planner with enough cinemas for them to be converted in parallel.
+     */
+    private MoviePlanner getMoviePlannerWithManyCinemas() throws Exception {
+        MoviePlanner moviePlanner = new MoviePlanner();
+        for (int i = 0; i < 300; i++) {
+            moviePlanner.addCinema(new CinemaBuilder().withName("Cinema " + i).withPhone(String.valueOf(10000000 + i))
+                    .withEmail("cinema" + i + "@example.com").build());
+        }
+        return moviePlanner;
+    }
 }
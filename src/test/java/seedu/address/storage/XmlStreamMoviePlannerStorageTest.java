@@ -0,0 +1,170 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.TypicalCinemas.ALJUNIED;
+import static seedu.address.testutil.TypicalCinemas.getTypicalMoviePlanner;
+import static seedu.address.testutil.TypicalMovies.ABTM4;
+import static seedu.address.testutil.TypicalMovies.BLACK_PANTHER;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.MoviePlanner;
+import seedu.address.model.ReadOnlyMoviePlanner;
+import seedu.address.model.cinema.Cinema;
+import seedu.address.model.cinema.Phone;
+import seedu.address.model.cinema.Theater;
+import seedu.address.model.screening.Screening;
+import seedu.address.testutil.CinemaBuilder;
+
+public class XmlStreamMoviePlannerStorageTest {
+    private static final String TEST_DATA_FOLDER = FileUtil.getPath("./src/test/data/XmlMoviePlannerStorageTest/");
+    private static final File TYPICAL_CINEMAS_FILE = new File(
+            FileUtil.getPath("./src/test/data/XmlSerializableMoviePlannerTest/typicalCinemasMoviePlanner.xml"));
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Optional<ReadOnlyMoviePlanner> readMoviePlanner(String filePath) throws Exception {
+        return new XmlStreamMoviePlannerStorage(filePath).readMoviePlanner(TEST_DATA_FOLDER + filePath);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(readMoviePlanner("NonExistentFile.xml").isPresent());
+    }
+
+    @Test
+    public void read_notXmlFormat_exceptionThrown() throws Exception {
+        thrown.expect(DataConversionException.class);
+        readMoviePlanner("NotXmlFormatMoviePlanner.xml");
+    }
+
+    @Test
+    public void read_invalidAndValidCinemaMoviePlanner_exceptionThrown() throws Exception {
+        thrown.expect(DataConversionException.class);
+        readMoviePlanner("invalidAndValidCinemaMoviePlanner.xml");
+    }
+
+    @Test
+    public void read_typicalCinemasFile_success() throws Exception {
+        ReadOnlyMoviePlanner readBack = new XmlStreamMoviePlannerStorage(TYPICAL_CINEMAS_FILE.getPath())
+                .readMoviePlanner(TYPICAL_CINEMAS_FILE.getPath()).get();
+        assertEquals(getTypicalMoviePlanner(), readBack);
+    }
+
+    @Test
+    public void readAndSaveMoviePlanner_allInOrder_success() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempMoviePlanner.xml";
+        MoviePlanner original = getMoviePlannerWithScreeningsAndMovies();
+        XmlStreamMoviePlannerStorage storage = new XmlStreamMoviePlannerStorage(filePath);
+
+        storage.saveMoviePlanner(original, filePath);
+        ReadOnlyMoviePlanner readBack = storage.readMoviePlanner(filePath).get();
+        assertSameData(original, readBack);
+    }
+
+    @Test
+    public void saveMoviePlanner_readWithJaxb_sameFormat() throws Exception {
+        File file = testFolder.newFile("StreamedMoviePlanner.xml");
+        MoviePlanner original = getMoviePlannerWithScreeningsAndMovies();
+
+        XmlStreamFileStorage.saveDataToFile(file, original);
+        assertSameData(original, XmlFileStorage.loadDataFromSaveFile(file).toModelType());
+    }
+
+    @Test
+    public void loadDataFromSaveFile_writtenWithJaxb_sameFormat() throws Exception {
+        File file = testFolder.newFile("JaxbMoviePlanner.xml");
+        MoviePlanner original = getMoviePlannerWithScreeningsAndMovies();
+
+        XmlFileStorage.saveDataToFile(file, new XmlSerializableMoviePlanner(original));
+        assertSameData(original, XmlStreamFileStorage.loadDataFromSaveFile(file));
+    }
+
+    @Test
+    public void loadDataFromStream_moreCinemasThanOneBatch_success() throws Exception {
+        MoviePlanner original = getMoviePlannerWithManyCinemas();
+        assertSameData(original, XmlStreamFileStorage.loadDataFromStream(
+                new ByteArrayInputStream(toXml(original))));
+    }
+
+    @Test
+    public void loadDataFromStream_invalidCinemasInSeveralBatches_throwsFirstError() throws Exception {
+        String xml = new String(toXml(getMoviePlannerWithManyCinemas()), StandardCharsets.UTF_8)
+                .replace(">10000100<", ">invalid phone<")
+                .replace("cinema1100@example.com", "cinema1100@exam!ple");
+
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(Phone.MESSAGE_PHONE_CONSTRAINTS);
+        XmlStreamFileStorage.loadDataFromStream(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Returns {@code moviePlanner} as it is written to a file.
+     */
+    private byte[] toXml(ReadOnlyMoviePlanner moviePlanner) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        XmlStreamFileStorage.saveDataToStream(out, moviePlanner, Collections.emptyMap());
+        return out.toByteArray();
+    }
+
+    /**
+     * Returns a movie planner with enough cinemas for them to be converted in more than one batch.
+     */
+    private MoviePlanner getMoviePlannerWithManyCinemas() throws Exception {
+        MoviePlanner moviePlanner = new MoviePlanner();
+        for (int i = 0; i < 1200; i++) {
+            moviePlanner.addCinema(new CinemaBuilder().withName("Cinema " + i).withPhone(String.valueOf(10000000 + i))
+                    .withEmail("cinema" + i + "@example.com").build());
+        }
+        return moviePlanner;
+    }
+
+    /**
+     * Returns the typical movie planner, with two movies and a screening in the first theater of its first cinema.
+     */
+    private MoviePlanner getMoviePlannerWithScreeningsAndMovies() throws Exception {
+        MoviePlanner moviePlanner = getTypicalMoviePlanner();
+        Theater theater = ALJUNIED.getTheaters().get(0);
+        Screening screening = new Screening(ABTM4.getName().movieName, theater,
+                LocalDateTime.of(2030, 5, 1, 10, 0), LocalDateTime.of(2030, 5, 1, 12, 30));
+        moviePlanner.updateCinema(ALJUNIED, ALJUNIED.withTheater(theater.withScreening(screening)));
+        moviePlanner.addMovie(ABTM4);
+        moviePlanner.addMovie(BLACK_PANTHER);
+        return moviePlanner;
+    }
+
+    /**
+     * Asserts that {@code actual} has the same data as {@code expected}, including the screenings in every theater,
+     * which {@code MoviePlanner#equals(Object)} does not compare.
+     */
+    private void assertSameData(ReadOnlyMoviePlanner expected, ReadOnlyMoviePlanner actual) {
+        assertEquals(expected, new MoviePlanner(actual));
+        for (int i = 0; i < expected.getCinemaList().size(); i++) {
+            Cinema expectedCinema = expected.getCinemaList().get(i);
+            Cinema actualCinema = actual.getCinemaList().get(i);
+            for (int j = 0; j < expectedCinema.getTheaters().size(); j++) {
+                assertEquals(expectedCinema.getTheaters().get(j).getScreeningList(),
+                        actualCinema.getTheaters().get(j).getScreeningList());
+            }
+        }
+    }
+}